@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Messaging protocol encoder/decoder benchmarks.
+ * <p>
+ * The encoder and decoder are driven through embedded channels so that the Netty buffer allocation and release
+ * behavior matches the real pipeline without involving the network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MessagingCodecBenchmark {
+  private static final Address ADDRESS = Address.from("localhost", 5000);
+
+  @Param({"V2", "V3"})
+  private ProtocolVersion version;
+
+  @Param({"raft-partition-1-append"})
+  private String subject;
+
+  @Param({"64", "1024", "65536"})
+  private int payloadSize;
+
+  private EmbeddedChannel encoderChannel;
+  private EmbeddedChannel decoderChannel;
+  private byte[] payload;
+  private long messageId;
+
+  @Setup
+  public void setup() {
+    MessagingProtocol protocol = version.createProtocol(ADDRESS);
+    encoderChannel = new EmbeddedChannel(protocol.newEncoder());
+    decoderChannel = new EmbeddedChannel(protocol.newDecoder());
+    payload = new byte[payloadSize];
+    new Random().nextBytes(payload);
+  }
+
+  @TearDown
+  public void teardown() {
+    encoderChannel.finishAndReleaseAll();
+    decoderChannel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public int encode() {
+    encoderChannel.writeOutbound(new ProtocolRequest(++messageId, ADDRESS, subject, payload));
+    ByteBuf buffer = encoderChannel.readOutbound();
+    int length = buffer.readableBytes();
+    buffer.release();
+    return length;
+  }
+
+  @Benchmark
+  public Object roundTrip() {
+    encoderChannel.writeOutbound(new ProtocolRequest(++messageId, ADDRESS, subject, payload));
+    decoderChannel.writeInbound((ByteBuf) encoderChannel.readOutbound());
+    return decoderChannel.readInbound();
+  }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.atomix.cluster.ClusterMembershipEventListener;
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.PrimitiveBuilder;
+import io.atomix.primitive.PrimitiveManagementService;
+import io.atomix.primitive.PrimitiveType;
+import io.atomix.primitive.config.PrimitiveConfig;
+import io.atomix.primitive.operation.OperationId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.service.AbstractPrimitiveService;
+import io.atomix.primitive.service.BackupInput;
+import io.atomix.primitive.service.BackupOutput;
+import io.atomix.primitive.service.Commit;
+import io.atomix.primitive.service.PrimitiveService;
+import io.atomix.primitive.service.ServiceConfig;
+import io.atomix.primitive.service.ServiceExecutor;
+import io.atomix.primitive.session.SessionClient;
+import io.atomix.protocols.raft.partition.impl.RaftNamespaces;
+import io.atomix.protocols.raft.storage.RaftStorage;
+import io.atomix.protocols.raft.test.protocol.LocalRaftProtocolFactory;
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.atomix.primitive.operation.PrimitiveOperation.operation;
+
+/**
+ * Raft commit throughput benchmark.
+ * <p>
+ * Runs a three node cluster over the local Raft protocol so that the results are dominated by the leader's append
+ * path ({@code LeaderAppender}) and the journal rather than by the network stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RaftCommitBenchmark {
+  private static final int CLUSTER_SIZE = 3;
+  private static final int PIPELINE_DEPTH = 64;
+  private static final OperationId WRITE = OperationId.command("write");
+
+  @Param({"DISK", "MAPPED"})
+  private StorageLevel storageLevel;
+
+  @Param({"false", "true"})
+  private boolean flushOnCommit;
+
+  @Param({"128"})
+  private int valueSize;
+
+  private Path directory;
+  private final List<RaftServer> servers = new ArrayList<>();
+  private RaftClient client;
+  private SessionClient session;
+  private byte[] value;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("atomix-raft-benchmark");
+    LocalRaftProtocolFactory protocolFactory = new LocalRaftProtocolFactory(Serializer.using(RaftNamespaces.RAFT_PROTOCOL));
+
+    List<MemberId> members = new ArrayList<>();
+    for (int i = 1; i <= CLUSTER_SIZE; i++) {
+      members.add(MemberId.from(String.valueOf(i)));
+    }
+
+    List<CompletableFuture<RaftServer>> futures = new ArrayList<>();
+    for (MemberId memberId : members) {
+      RaftServer server = RaftServer.builder(memberId)
+          .withMembershipService(new LocalMembershipService(memberId))
+          .withProtocol(protocolFactory.newServerProtocol(memberId))
+          .withStorage(RaftStorage.builder()
+              .withStorageLevel(storageLevel)
+              .withDirectory(directory.resolve(memberId.id()).toFile())
+              .withNamespace(RaftNamespaces.RAFT_STORAGE)
+              .withMaxSegmentSize(1024 * 1024 * 32)
+              .withFlushOnCommit(flushOnCommit)
+              .build())
+          .build();
+      servers.add(server);
+      futures.add(server.bootstrap(members));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get(30, TimeUnit.SECONDS);
+
+    MemberId clientId = MemberId.from(String.valueOf(CLUSTER_SIZE + 1));
+    client = RaftClient.builder()
+        .withMemberId(clientId)
+        .withPartitionId(PartitionId.from("benchmark", 1))
+        .withProtocol(protocolFactory.newClientProtocol(clientId))
+        .build();
+    client.connect(members).get(30, TimeUnit.SECONDS);
+
+    session = client.sessionBuilder("raft-commit-benchmark", BenchmarkPrimitiveType.INSTANCE, new ServiceConfig())
+        .build()
+        .connect()
+        .get(30, TimeUnit.SECONDS);
+
+    byte[] bytes = new byte[valueSize];
+    new Random().nextBytes(bytes);
+    value = BenchmarkPrimitiveType.SERIALIZER.encode(bytes);
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    session.close().get(10, TimeUnit.SECONDS);
+    client.close().get(10, TimeUnit.SECONDS);
+    for (RaftServer server : servers) {
+      server.shutdown().get(10, TimeUnit.SECONDS);
+    }
+    deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public byte[] commit() {
+    return session.execute(operation(WRITE, value)).join();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PIPELINE_DEPTH)
+  public void pipelinedCommit() {
+    CompletableFuture[] futures = new CompletableFuture[PIPELINE_DEPTH];
+    for (int i = 0; i < PIPELINE_DEPTH; i++) {
+      futures[i] = session.execute(operation(WRITE, value));
+    }
+    CompletableFuture.allOf(futures).join();
+  }
+
+  private static void deleteDirectory(Path directory) throws IOException {
+    if (Files.exists(directory)) {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+          Files.delete(file);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+          Files.delete(dir);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+
+  /**
+   * Benchmark primitive type.
+   */
+  public static class BenchmarkPrimitiveType implements PrimitiveType {
+    private static final BenchmarkPrimitiveType INSTANCE = new BenchmarkPrimitiveType();
+    private static final Serializer SERIALIZER = Serializer.using(INSTANCE.namespace());
+
+    @Override
+    public String name() {
+      return "raft-commit-benchmark";
+    }
+
+    @Override
+    public PrimitiveConfig newConfig() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PrimitiveBuilder newBuilder(String primitiveName, PrimitiveConfig config, PrimitiveManagementService managementService) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public PrimitiveService newService(ServiceConfig config) {
+      return new BenchmarkService();
+    }
+  }
+
+  /**
+   * Benchmark state machine.
+   * <p>
+   * The state machine does no work of its own so that commit throughput is bounded by replication.
+   */
+  public static class BenchmarkService extends AbstractPrimitiveService {
+    private long lastIndex;
+
+    public BenchmarkService() {
+      super(BenchmarkPrimitiveType.INSTANCE);
+    }
+
+    @Override
+    protected void configure(ServiceExecutor executor) {
+      executor.register(WRITE, this::write);
+    }
+
+    @Override
+    public void backup(BackupOutput writer) {
+      writer.writeLong(lastIndex);
+    }
+
+    @Override
+    public void restore(BackupInput reader) {
+      lastIndex = reader.readLong();
+    }
+
+    protected long write(Commit<byte[]> commit) {
+      lastIndex = commit.index();
+      return lastIndex;
+    }
+  }
+
+  /**
+   * Membership service exposing only the local member.
+   */
+  private static class LocalMembershipService implements ClusterMembershipService {
+    private final Member member;
+
+    LocalMembershipService(MemberId memberId) {
+      this.member = Member.builder(memberId).build();
+    }
+
+    @Override
+    public Member getLocalMember() {
+      return member;
+    }
+
+    @Override
+    public Set<Member> getMembers() {
+      return Collections.singleton(member);
+    }
+
+    @Override
+    public Member getMember(MemberId memberId) {
+      return member.id().equals(memberId) ? member : null;
+    }
+
+    @Override
+    public void addListener(ClusterMembershipEventListener listener) {
+    }
+
+    @Override
+    public void removeListener(ClusterMembershipEventListener listener) {
+    }
+  }
+}
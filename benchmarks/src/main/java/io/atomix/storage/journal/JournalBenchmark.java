@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Segmented journal append and read benchmarks.
+ * <p>
+ * Appends are measured against a fresh journal for each iteration so that segment rollover is included in the
+ * results. Reads iterate over a pre-populated journal, resetting the reader to the head once it's exhausted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+  private static final Namespace NAMESPACE = Namespace.builder()
+      .register(Namespaces.BASIC)
+      .build();
+
+  private static final int READ_ENTRIES = 1024 * 64;
+
+  @Param({"DISK", "MAPPED"})
+  private StorageLevel storageLevel;
+
+  @Param({"64", "1024"})
+  private int entrySize;
+
+  @Param({"33554432"})
+  private int maxSegmentSize;
+
+  private File directory;
+  private byte[] entry;
+  private SegmentedJournal<byte[]> appendJournal;
+  private SegmentedJournalWriter<byte[]> writer;
+  private SegmentedJournal<byte[]> readJournal;
+  private SegmentedJournalReader<byte[]> reader;
+
+  @Setup(Level.Trial)
+  public void setupTrial() throws IOException {
+    directory = Files.createTempDirectory("atomix-journal-benchmark").toFile();
+    entry = new byte[entrySize];
+    new Random().nextBytes(entry);
+
+    readJournal = createJournal("read");
+    SegmentedJournalWriter<byte[]> readWriter = readJournal.writer();
+    for (int i = 0; i < READ_ENTRIES; i++) {
+      readWriter.append(entry);
+    }
+    readWriter.flush();
+    reader = readJournal.openReader(1);
+  }
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    appendJournal = createJournal("append");
+    writer = appendJournal.writer();
+  }
+
+  @TearDown(Level.Iteration)
+  public void teardownIteration() {
+    appendJournal.close();
+    appendJournal.segments().forEach(JournalSegment::delete);
+  }
+
+  @TearDown(Level.Trial)
+  public void teardownTrial() throws IOException {
+    reader.close();
+    readJournal.close();
+    deleteDirectory(directory.toPath());
+  }
+
+  private SegmentedJournal<byte[]> createJournal(String name) {
+    return SegmentedJournal.<byte[]>builder()
+        .withName(name)
+        .withDirectory(directory)
+        .withNamespace(NAMESPACE)
+        .withStorageLevel(storageLevel)
+        .withMaxSegmentSize(maxSegmentSize)
+        .build();
+  }
+
+  @Benchmark
+  public Indexed<byte[]> append() {
+    return writer.append(entry);
+  }
+
+  @Benchmark
+  public Indexed<byte[]> read() {
+    if (!reader.hasNext()) {
+      reader.reset();
+    }
+    return reader.next();
+  }
+
+  private static void deleteDirectory(Path directory) throws IOException {
+    if (Files.exists(directory)) {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+          Files.delete(file);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+          Files.delete(dir);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+}
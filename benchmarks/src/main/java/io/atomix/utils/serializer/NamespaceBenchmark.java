@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.serializer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.atomix.primitive.operation.OperationId;
+import io.atomix.primitive.operation.PrimitiveOperation;
+import io.atomix.protocols.raft.partition.impl.RaftNamespaces;
+import io.atomix.protocols.raft.protocol.AppendRequest;
+import io.atomix.protocols.raft.storage.log.entry.CommandEntry;
+import io.atomix.protocols.raft.storage.log.entry.RaftLogEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Namespace serialization benchmarks.
+ * <p>
+ * Entries are serialized using the Raft storage and protocol namespaces so the results reflect the cost of the
+ * journal and the append path rather than that of trivial types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NamespaceBenchmark {
+  private static final OperationId OPERATION = OperationId.command("put");
+  private static final int APPEND_BATCH_SIZE = 64;
+
+  @Param({"64", "1024"})
+  private int valueSize;
+
+  private Namespace storageNamespace;
+  private Namespace protocolNamespace;
+  private CommandEntry entry;
+  private byte[] entryBytes;
+  private AppendRequest request;
+  private byte[] requestBytes;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setup() {
+    storageNamespace = RaftNamespaces.RAFT_STORAGE;
+    protocolNamespace = RaftNamespaces.RAFT_PROTOCOL;
+
+    byte[] value = new byte[valueSize];
+    new Random().nextBytes(value);
+    entry = new CommandEntry(1, System.currentTimeMillis(), 1, 1, new PrimitiveOperation(OPERATION, value));
+    entryBytes = storageNamespace.serialize(entry);
+
+    List<RaftLogEntry> entries = new ArrayList<>(APPEND_BATCH_SIZE);
+    for (int i = 0; i < APPEND_BATCH_SIZE; i++) {
+      entries.add(entry);
+    }
+    request = new AppendRequest(1, "1", 1, 1, entries, 1);
+    requestBytes = protocolNamespace.serialize(request);
+
+    buffer = ByteBuffer.allocate(valueSize * 2 + 1024);
+  }
+
+  @Benchmark
+  public byte[] serializeEntry() {
+    return storageNamespace.serialize(entry);
+  }
+
+  @Benchmark
+  public ByteBuffer serializeEntryToBuffer() {
+    buffer.clear();
+    storageNamespace.serialize(entry, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public CommandEntry deserializeEntry() {
+    return storageNamespace.deserialize(entryBytes);
+  }
+
+  @Benchmark
+  public byte[] serializeAppendRequest() {
+    return protocolNamespace.serialize(request);
+  }
+
+  @Benchmark
+  public AppendRequest deserializeAppendRequest() {
+    return protocolNamespace.deserialize(requestBytes);
+  }
+}
@@ -31,6 +31,7 @@ import io.atomix.cluster.messaging.ManagedClusterEventService;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.ManagedUnicastService;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
 import io.atomix.cluster.messaging.UnicastService;
 import io.atomix.cluster.messaging.impl.DefaultClusterCommunicationService;
 import io.atomix.cluster.messaging.impl.DefaultClusterEventService;
@@ -198,8 +199,10 @@ public class AtomixCluster implements BootstrapService, Managed<Void> {
     this.discoveryProvider = buildLocationProvider(config);
     this.membershipProtocol = buildMembershipProtocol(config);
     this.membershipService = buildClusterMembershipService(config, this, discoveryProvider, membershipProtocol, version);
-    this.communicationService = buildClusterMessagingService(getMembershipService(), getMessagingService(), getUnicastService());
-    this.eventService = buildClusterEventService(getMembershipService(), getMessagingService());
+    this.communicationService = buildClusterMessagingService(
+        getMembershipService(), getMessagingService(), getUnicastService(), config.getMessagingConfig().getPlumtreeConfig());
+    this.eventService = buildClusterEventService(
+        getMembershipService(), getMessagingService(), config.getMessagingConfig().getPlumtreeConfig());
   }
 
   /**
@@ -446,15 +449,18 @@ public class AtomixCluster implements BootstrapService, Managed<Void> {
    * Builds a cluster messaging service.
    */
   protected static ManagedClusterCommunicationService buildClusterMessagingService(
-      ClusterMembershipService membershipService, MessagingService messagingService, UnicastService unicastService) {
-    return new DefaultClusterCommunicationService(membershipService, messagingService, unicastService);
+      ClusterMembershipService membershipService,
+      MessagingService messagingService,
+      UnicastService unicastService,
+      PlumtreeConfig plumtreeConfig) {
+    return new DefaultClusterCommunicationService(membershipService, messagingService, unicastService, plumtreeConfig);
   }
 
   /**
    * Builds a cluster event service.
    */
   protected static ManagedClusterEventService buildClusterEventService(
-      ClusterMembershipService membershipService, MessagingService messagingService) {
-    return new DefaultClusterEventService(membershipService, messagingService);
+      ClusterMembershipService membershipService, MessagingService messagingService, PlumtreeConfig plumtreeConfig) {
+    return new DefaultClusterEventService(membershipService, messagingService, plumtreeConfig);
   }
 }
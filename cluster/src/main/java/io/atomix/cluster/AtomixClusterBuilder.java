@@ -551,6 +551,30 @@ public class AtomixClusterBuilder implements Builder<AtomixCluster> {
     return this;
   }
 
+  /**
+   * Enables Plumtree broadcast for the cluster communication and event services.
+   * <p>
+   * By default, broadcasts are sent directly from the originating node to each member. With Plumtree broadcast
+   * enabled, messages are disseminated over an epidemic broadcast tree, spreading the cost of a broadcast across
+   * the cluster.
+   *
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withPlumtreeEnabled() {
+    return withPlumtreeEnabled(true);
+  }
+
+  /**
+   * Sets whether Plumtree broadcast is enabled for the cluster communication and event services.
+   *
+   * @param plumtreeEnabled whether Plumtree broadcast is enabled
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withPlumtreeEnabled(boolean plumtreeEnabled) {
+    config.getMessagingConfig().getPlumtreeConfig().setEnabled(plumtreeEnabled);
+    return this;
+  }
+
   /**
    * Sets the key store to use for TLS in the Atomix messaging service.
    *
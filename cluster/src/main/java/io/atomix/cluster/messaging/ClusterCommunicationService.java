@@ -16,6 +16,9 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.cluster.MemberId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 
 import java.time.Duration;
 import java.util.Set;
@@ -324,6 +327,37 @@ public interface ClusterCommunicationService {
       MemberId toMemberId,
       Duration timeout);
 
+  /**
+   * Sends a message and expects a reply, serializing the request and reply via buffers.
+   * <p>
+   * The encoder writes the request directly into a pooled buffer and the decoder reads the reply directly from the
+   * received buffer, avoiding intermediate copies for large messages. Buffers are owned and released by the
+   * communication service and must not be retained by the encoder or decoder.
+   *
+   * @param subject    message subject
+   * @param message    message to send
+   * @param encoder    function for encoding request to a buffer
+   * @param decoder    function for decoding response from a buffer
+   * @param toMemberId recipient node identifier
+   * @param timeout    response timeout
+   * @param <M>        request type
+   * @param <R>        reply type
+   * @return reply future
+   */
+  default <M, R> CompletableFuture<R> sendBuffer(
+      String subject,
+      M message,
+      BiConsumer<M, ByteBuf> encoder,
+      Function<ByteBuf, R> decoder,
+      MemberId toMemberId,
+      Duration timeout) {
+    return send(subject, message, m -> {
+      ByteBuf buffer = Unpooled.buffer();
+      encoder.accept(m, buffer);
+      return ByteBufUtil.getBytes(buffer);
+    }, bytes -> decoder.apply(Unpooled.wrappedBuffer(bytes)), toMemberId, timeout);
+  }
+
   /**
    * Adds a new subscriber for the specified message subject.
    *
@@ -392,6 +426,32 @@ public interface ClusterCommunicationService {
       Function<M, CompletableFuture<R>> handler,
       Function<R, byte[]> encoder);
 
+  /**
+   * Adds a new subscriber for the specified message subject, deserializing requests and serializing replies via
+   * buffers.
+   * <p>
+   * Buffers are owned and released by the communication service and must not be retained by the encoder or decoder.
+   *
+   * @param subject message subject
+   * @param decoder decoder for resurrecting incoming message from a buffer
+   * @param handler handler function that processes the incoming message and produces a reply
+   * @param encoder encoder for serializing reply to a buffer
+   * @param <M>     incoming message type
+   * @param <R>     reply message type
+   * @return future to be completed once the subscription has been propagated
+   */
+  default <M, R> CompletableFuture<Void> subscribeBuffer(
+      String subject,
+      Function<ByteBuf, M> decoder,
+      Function<M, CompletableFuture<R>> handler,
+      BiConsumer<R, ByteBuf> encoder) {
+    return subscribe(subject, bytes -> decoder.apply(Unpooled.wrappedBuffer(bytes)), handler, r -> {
+      ByteBuf buffer = Unpooled.buffer();
+      encoder.accept(r, buffer);
+      return ByteBufUtil.getBytes(buffer);
+    });
+  }
+
   /**
    * Adds a new subscriber for the specified message subject.
    *
@@ -30,6 +30,8 @@ public class MessagingConfig implements Config {
   private int connectionPoolSize = 8;
   private Duration connectTimeout = Duration.ofSeconds(10);
   private TlsConfig tlsConfig = new TlsConfig();
+  private TransportConfig transportConfig = new TransportConfig();
+  private PlumtreeConfig plumtreeConfig = new PlumtreeConfig();
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -130,4 +132,44 @@ public class MessagingConfig implements Config {
     this.tlsConfig = tlsConfig;
     return this;
   }
+
+  /**
+   * Returns the transport configuration.
+   *
+   * @return the transport configuration
+   */
+  public TransportConfig getTransportConfig() {
+    return transportConfig;
+  }
+
+  /**
+   * Sets the transport configuration.
+   *
+   * @param transportConfig the transport configuration
+   * @return the messaging configuration
+   */
+  public MessagingConfig setTransportConfig(TransportConfig transportConfig) {
+    this.transportConfig = transportConfig;
+    return this;
+  }
+
+  /**
+   * Returns the Plumtree broadcast configuration.
+   *
+   * @return the Plumtree broadcast configuration
+   */
+  public PlumtreeConfig getPlumtreeConfig() {
+    return plumtreeConfig;
+  }
+
+  /**
+   * Sets the Plumtree broadcast configuration.
+   *
+   * @param plumtreeConfig the Plumtree broadcast configuration
+   * @return the messaging configuration
+   */
+  public MessagingConfig setPlumtreeConfig(PlumtreeConfig plumtreeConfig) {
+    this.plumtreeConfig = plumtreeConfig;
+    return this;
+  }
 }
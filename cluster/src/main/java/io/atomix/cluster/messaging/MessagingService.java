@@ -16,6 +16,9 @@
 package io.atomix.cluster.messaging;
 
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
@@ -160,6 +163,29 @@ public interface MessagingService {
    */
   CompletableFuture<byte[]> sendAndReceive(Address address, String type, byte[] payload, boolean keepAlive, Duration timeout, Executor executor);
 
+  /**
+   * Sends a buffer payload asynchronously and expects a buffer response.
+   * <p>
+   * Buffer payloads allow large messages to be serialized into and deserialized from pooled buffers without copying
+   * them to intermediate byte arrays. Ownership of the given payload is transferred to the messaging service, which
+   * releases it once it has been sent. The caller must release the returned response buffer.
+   *
+   * @param address address to send the message to.
+   * @param type    type of message.
+   * @param payload message payload.
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<ByteBuf> sendAndReceiveBuffer(Address address, String type, ByteBuf payload, Duration timeout) {
+    byte[] bytes;
+    try {
+      bytes = ByteBufUtil.getBytes(payload);
+    } finally {
+      payload.release();
+    }
+    return sendAndReceive(address, type, bytes, timeout).thenApply(Unpooled::wrappedBuffer);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -186,6 +212,26 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new buffer message handler for message type.
+   * <p>
+   * The handler is responsible for releasing the request buffer. Ownership of the response buffer is transferred to
+   * the messaging service, which releases it once the response has been sent.
+   *
+   * @param type    message type.
+   * @param handler message handler
+   */
+  default void registerBufferHandler(String type, BiFunction<Address, ByteBuf, CompletableFuture<ByteBuf>> handler) {
+    registerHandler(type, (address, payload) -> handler.apply(address, Unpooled.wrappedBuffer(payload))
+        .thenApply(response -> {
+          try {
+            return ByteBufUtil.getBytes(response);
+          } finally {
+            response.release();
+          }
+        }));
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
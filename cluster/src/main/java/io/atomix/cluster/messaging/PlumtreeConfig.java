@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging;
+
+import java.time.Duration;
+
+/**
+ * Plumtree broadcast configuration.
+ * <p>
+ * When enabled, broadcasts from the cluster communication and event services are disseminated over an epidemic
+ * broadcast tree rather than sent directly from the originating node to every member. Each node has a logarithmic
+ * number of peers. Message payloads are pushed to eager peers, which form a spanning tree once duplicate deliveries
+ * have been pruned, and message identifiers are periodically announced to the remaining lazy peers, which request
+ * missing messages to repair the tree.
+ */
+public class PlumtreeConfig {
+  private static final Duration DEFAULT_LAZY_PUSH_INTERVAL = Duration.ofMillis(100);
+  private static final Duration DEFAULT_GRAFT_TIMEOUT = Duration.ofMillis(500);
+  private static final Duration DEFAULT_MESSAGE_EXPIRATION = Duration.ofSeconds(10);
+
+  private boolean enabled;
+  private Duration lazyPushInterval = DEFAULT_LAZY_PUSH_INTERVAL;
+  private Duration graftTimeout = DEFAULT_GRAFT_TIMEOUT;
+  private Duration messageExpiration = DEFAULT_MESSAGE_EXPIRATION;
+
+  /**
+   * Returns whether Plumtree broadcast is enabled.
+   *
+   * @return whether Plumtree broadcast is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether Plumtree broadcast is enabled.
+   *
+   * @param enabled whether Plumtree broadcast is enabled
+   * @return the Plumtree configuration
+   */
+  public PlumtreeConfig setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Returns the interval at which message identifiers are announced to lazy peers.
+   *
+   * @return the lazy push interval
+   */
+  public Duration getLazyPushInterval() {
+    return lazyPushInterval;
+  }
+
+  /**
+   * Sets the interval at which message identifiers are announced to lazy peers.
+   *
+   * @param lazyPushInterval the lazy push interval
+   * @return the Plumtree configuration
+   */
+  public PlumtreeConfig setLazyPushInterval(Duration lazyPushInterval) {
+    this.lazyPushInterval = lazyPushInterval;
+    return this;
+  }
+
+  /**
+   * Returns the time to wait for an announced message before requesting it from the announcing peer.
+   *
+   * @return the graft timeout
+   */
+  public Duration getGraftTimeout() {
+    return graftTimeout;
+  }
+
+  /**
+   * Sets the time to wait for an announced message before requesting it from the announcing peer.
+   *
+   * @param graftTimeout the graft timeout
+   * @return the Plumtree configuration
+   */
+  public PlumtreeConfig setGraftTimeout(Duration graftTimeout) {
+    this.graftTimeout = graftTimeout;
+    return this;
+  }
+
+  /**
+   * Returns the time for which received messages are retained to suppress duplicates and repair the tree.
+   *
+   * @return the message expiration
+   */
+  public Duration getMessageExpiration() {
+    return messageExpiration;
+  }
+
+  /**
+   * Sets the time for which received messages are retained to suppress duplicates and repair the tree.
+   *
+   * @param messageExpiration the message expiration
+   * @return the Plumtree configuration
+   */
+  public PlumtreeConfig setMessageExpiration(Duration messageExpiration) {
+    this.messageExpiration = messageExpiration;
+    return this;
+  }
+}
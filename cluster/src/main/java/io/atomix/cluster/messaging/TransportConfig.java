@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging;
+
+import io.atomix.utils.memory.MemorySize;
+
+/**
+ * Messaging transport configuration.
+ */
+public class TransportConfig {
+  private static final MemorySize DEFAULT_SOCKET_BUFFER_SIZE = MemorySize.from(1024 * 1024);
+  private static final MemorySize DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = MemorySize.from(10 * 32 * 1024);
+  private static final MemorySize DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = MemorySize.from(10 * 64 * 1024);
+
+  /**
+   * Transport type.
+   */
+  public enum Type {
+
+    /**
+     * Uses the native epoll transport if it's available and falls back to NIO otherwise.
+     */
+    AUTO,
+
+    /**
+     * Uses the native epoll transport, failing if it's not available.
+     */
+    EPOLL,
+
+    /**
+     * Uses the NIO transport.
+     */
+    NIO,
+  }
+
+  /**
+   * Buffer allocator type.
+   */
+  public enum Allocator {
+
+    /**
+     * Pooled buffer allocator.
+     */
+    POOLED,
+
+    /**
+     * Unpooled buffer allocator.
+     */
+    UNPOOLED,
+  }
+
+  private Type type = Type.AUTO;
+  private int serverThreads;
+  private int clientThreads;
+  private Allocator allocator = Allocator.POOLED;
+  private boolean tcpNoDelay = true;
+  private MemorySize sendBufferSize = DEFAULT_SOCKET_BUFFER_SIZE;
+  private MemorySize receiveBufferSize = DEFAULT_SOCKET_BUFFER_SIZE;
+  private MemorySize writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+  private MemorySize writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+
+  /**
+   * Returns the transport type.
+   *
+   * @return the transport type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Sets the transport type.
+   *
+   * @param type the transport type
+   * @return the transport configuration
+   */
+  public TransportConfig setType(Type type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * Returns the number of server event loop threads.
+   * <p>
+   * The server event loop threads handle I/O on connections accepted from other members.
+   *
+   * @return the number of server event loop threads, or {@code 0} to use the Netty default
+   */
+  public int getServerThreads() {
+    return serverThreads;
+  }
+
+  /**
+   * Sets the number of server event loop threads.
+   *
+   * @param serverThreads the number of server event loop threads, or {@code 0} to use the Netty default
+   * @return the transport configuration
+   */
+  public TransportConfig setServerThreads(int serverThreads) {
+    this.serverThreads = serverThreads;
+    return this;
+  }
+
+  /**
+   * Returns the number of client event loop threads.
+   * <p>
+   * The client event loop threads handle I/O on connections opened to other members.
+   *
+   * @return the number of client event loop threads, or {@code 0} to use the Netty default
+   */
+  public int getClientThreads() {
+    return clientThreads;
+  }
+
+  /**
+   * Sets the number of client event loop threads.
+   *
+   * @param clientThreads the number of client event loop threads, or {@code 0} to use the Netty default
+   * @return the transport configuration
+   */
+  public TransportConfig setClientThreads(int clientThreads) {
+    this.clientThreads = clientThreads;
+    return this;
+  }
+
+  /**
+   * Returns the buffer allocator type.
+   *
+   * @return the buffer allocator type
+   */
+  public Allocator getAllocator() {
+    return allocator;
+  }
+
+  /**
+   * Sets the buffer allocator type.
+   *
+   * @param allocator the buffer allocator type
+   * @return the transport configuration
+   */
+  public TransportConfig setAllocator(Allocator allocator) {
+    this.allocator = allocator;
+    return this;
+  }
+
+  /**
+   * Returns whether to disable Nagle's algorithm.
+   *
+   * @return whether to disable Nagle's algorithm
+   */
+  public boolean isTcpNoDelay() {
+    return tcpNoDelay;
+  }
+
+  /**
+   * Sets whether to disable Nagle's algorithm.
+   *
+   * @param tcpNoDelay whether to disable Nagle's algorithm
+   * @return the transport configuration
+   */
+  public TransportConfig setTcpNoDelay(boolean tcpNoDelay) {
+    this.tcpNoDelay = tcpNoDelay;
+    return this;
+  }
+
+  /**
+   * Returns the socket send buffer size.
+   *
+   * @return the socket send buffer size
+   */
+  public MemorySize getSendBufferSize() {
+    return sendBufferSize;
+  }
+
+  /**
+   * Sets the socket send buffer size.
+   *
+   * @param sendBufferSize the socket send buffer size
+   * @return the transport configuration
+   */
+  public TransportConfig setSendBufferSize(MemorySize sendBufferSize) {
+    this.sendBufferSize = sendBufferSize;
+    return this;
+  }
+
+  /**
+   * Returns the socket receive buffer size.
+   *
+   * @return the socket receive buffer size
+   */
+  public MemorySize getReceiveBufferSize() {
+    return receiveBufferSize;
+  }
+
+  /**
+   * Sets the socket receive buffer size.
+   *
+   * @param receiveBufferSize the socket receive buffer size
+   * @return the transport configuration
+   */
+  public TransportConfig setReceiveBufferSize(MemorySize receiveBufferSize) {
+    this.receiveBufferSize = receiveBufferSize;
+    return this;
+  }
+
+  /**
+   * Returns the channel write buffer low water mark.
+   *
+   * @return the size below which a channel becomes writable again
+   */
+  public MemorySize getWriteBufferLowWaterMark() {
+    return writeBufferLowWaterMark;
+  }
+
+  /**
+   * Sets the channel write buffer low water mark.
+   *
+   * @param writeBufferLowWaterMark the size below which a channel becomes writable again
+   * @return the transport configuration
+   */
+  public TransportConfig setWriteBufferLowWaterMark(MemorySize writeBufferLowWaterMark) {
+    this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    return this;
+  }
+
+  /**
+   * Returns the channel write buffer high water mark.
+   *
+   * @return the size above which a channel becomes unwritable
+   */
+  public MemorySize getWriteBufferHighWaterMark() {
+    return writeBufferHighWaterMark;
+  }
+
+  /**
+   * Sets the channel write buffer high water mark.
+   *
+   * @param writeBufferHighWaterMark the size above which a channel becomes unwritable
+   * @return the transport configuration
+   */
+  public TransportConfig setWriteBufferHighWaterMark(MemorySize writeBufferHighWaterMark) {
+    this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    return this;
+  }
+}
@@ -17,6 +17,8 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.collect.Maps;
 import io.atomix.cluster.messaging.MessagingException;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
 import org.slf4j.Logger;
@@ -27,8 +29,6 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,15 +45,24 @@ abstract class AbstractClientConnection implements ClientConnection {
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  private final ScheduledExecutorService executorService;
+  private final Timer timer;
   private final Map<Long, Callback> callbacks = Maps.newConcurrentMap();
 
   private final Map<String, DescriptiveStatistics> replySamples = new ConcurrentHashMap<>();
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
-  AbstractClientConnection(ScheduledExecutorService executorService) {
-    this.executorService = executorService;
+  AbstractClientConnection(Timer timer) {
+    this.timer = timer;
+  }
+
+  /**
+   * Returns the number of requests awaiting a reply on this connection.
+   *
+   * @return the number of outstanding request callbacks
+   */
+  int pendingRequests() {
+    return callbacks.size();
   }
 
   @Override
@@ -61,15 +70,19 @@ abstract class AbstractClientConnection implements ClientConnection {
     Callback callback = callbacks.remove(message.id());
     if (callback != null) {
       if (message.status() == ProtocolReply.Status.OK) {
-        callback.complete(message.payload());
-      } else if (message.status() == ProtocolReply.Status.ERROR_NO_HANDLER) {
-        callback.completeExceptionally(new MessagingException.NoRemoteHandler());
-      } else if (message.status() == ProtocolReply.Status.ERROR_HANDLER_EXCEPTION) {
-        callback.completeExceptionally(new MessagingException.RemoteHandlerFailure());
-      } else if (message.status() == ProtocolReply.Status.PROTOCOL_EXCEPTION) {
-        callback.completeExceptionally(new MessagingException.ProtocolException());
+        callback.complete(message);
+      } else {
+        message.release();
+        if (message.status() == ProtocolReply.Status.ERROR_NO_HANDLER) {
+          callback.completeExceptionally(new MessagingException.NoRemoteHandler());
+        } else if (message.status() == ProtocolReply.Status.ERROR_HANDLER_EXCEPTION) {
+          callback.completeExceptionally(new MessagingException.RemoteHandlerFailure());
+        } else if (message.status() == ProtocolReply.Status.PROTOCOL_EXCEPTION) {
+          callback.completeExceptionally(new MessagingException.ProtocolException());
+        }
       }
     } else {
+      message.release();
       log.debug("Received a reply for message id:[{}] but was unable to locate the request handle", message.id());
     }
   }
@@ -130,14 +143,14 @@ abstract class AbstractClientConnection implements ClientConnection {
     private final String type;
     private final long time = System.currentTimeMillis();
     private final long timeout;
-    private final ScheduledFuture<?> scheduledFuture;
-    private final CompletableFuture<byte[]> replyFuture;
+    private final Timeout scheduledTimeout;
+    private final CompletableFuture<ProtocolReply> replyFuture;
 
-    Callback(long id, String type, Duration timeout, CompletableFuture<byte[]> future) {
+    Callback(long id, String type, Duration timeout, CompletableFuture<ProtocolReply> future) {
       this.id = id;
       this.type = type;
       this.timeout = getTimeoutMillis(type, timeout);
-      this.scheduledFuture = executorService.schedule(this::timeout, this.timeout, TimeUnit.MILLISECONDS);
+      this.scheduledTimeout = timer.newTimeout(t -> timeout(), this.timeout, TimeUnit.MILLISECONDS);
       this.replyFuture = future;
       future.thenRun(() -> addReplyTime(type, System.currentTimeMillis() - time));
       callbacks.put(id, this);
@@ -161,13 +174,17 @@ abstract class AbstractClientConnection implements ClientConnection {
     }
 
     /**
-     * Completes the callback with the given value.
+     * Completes the callback with the given reply.
+     * <p>
+     * If the callback has already been completed, e.g. by a timeout, the reply is released.
      *
-     * @param value the value with which to complete the callback
+     * @param reply the reply with which to complete the callback
      */
-    void complete(byte[] value) {
-      scheduledFuture.cancel(false);
-      replyFuture.complete(value);
+    void complete(ProtocolReply reply) {
+      scheduledTimeout.cancel();
+      if (!replyFuture.complete(reply)) {
+        reply.release();
+      }
     }
 
     /**
@@ -176,7 +193,7 @@ abstract class AbstractClientConnection implements ClientConnection {
      * @param error the callback exception
      */
     void completeExceptionally(Throwable error) {
-      scheduledFuture.cancel(false);
+      scheduledTimeout.cancel();
       replyFuture.completeExceptionally(error);
       callbacks.remove(id);
     }
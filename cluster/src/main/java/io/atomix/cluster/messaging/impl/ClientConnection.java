@@ -36,9 +36,10 @@ interface ClientConnection extends Connection<ProtocolReply> {
    *
    * @param message the message to send
    * @param timeout the response timeout
-   * @return a completable future to be completed once a reply is received or the request times out
+   * @return a completable future to be completed with the reply once a reply is received or the request times out.
+   *     The caller is responsible for releasing the reply.
    */
-  CompletableFuture<byte[]> sendAndReceive(ProtocolRequest message, Duration timeout);
+  CompletableFuture<ProtocolReply> sendAndReceive(ProtocolRequest message, Duration timeout);
 
   /**
    * Closes the connection.
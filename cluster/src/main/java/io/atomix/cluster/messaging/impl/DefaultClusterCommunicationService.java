@@ -17,15 +17,20 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.cluster.Member;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.cluster.messaging.ManagedClusterCommunicationService;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
 import io.atomix.cluster.messaging.UnicastService;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,15 +65,29 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
   protected final MessagingService messagingService;
   protected final UnicastService unicastService;
   private final Map<String, BiConsumer<Address, byte[]>> unicastConsumers = Maps.newConcurrentMap();
+  private final Map<String, BroadcastConsumer> broadcastConsumers = Maps.newConcurrentMap();
   private final AtomicBoolean started = new AtomicBoolean();
+  private final PlumtreeBroadcaster broadcaster;
 
   public DefaultClusterCommunicationService(
       ClusterMembershipService membershipService,
       MessagingService messagingService,
       UnicastService unicastService) {
+    this(membershipService, messagingService, unicastService, new PlumtreeConfig());
+  }
+
+  public DefaultClusterCommunicationService(
+      ClusterMembershipService membershipService,
+      MessagingService messagingService,
+      UnicastService unicastService,
+      PlumtreeConfig plumtreeConfig) {
     this.membershipService = checkNotNull(membershipService, "clusterService cannot be null");
     this.messagingService = checkNotNull(messagingService, "messagingService cannot be null");
     this.unicastService = checkNotNull(unicastService, "unicastService cannot be null");
+    checkNotNull(plumtreeConfig, "plumtreeConfig cannot be null");
+    this.broadcaster = plumtreeConfig.isEnabled()
+        ? new PlumtreeBroadcaster("cluster-communication", membershipService, messagingService, plumtreeConfig, this::deliver)
+        : null;
   }
 
   @Override
@@ -77,6 +96,10 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
       M message,
       Function<M, byte[]> encoder,
       boolean reliable) {
+    if (broadcaster != null) {
+      broadcaster.broadcast(subject, encoder.apply(message));
+      return;
+    }
     multicast(subject, message, encoder, membershipService.getMembers()
         .stream()
         .filter(node -> !Objects.equal(node, membershipService.getLocalMember()))
@@ -91,6 +114,12 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
       M message,
       Function<M, byte[]> encoder,
       boolean reliable) {
+    if (broadcaster != null) {
+      byte[] payload = encoder.apply(message);
+      doUnicast(subject, payload, membershipService.getLocalMember().id(), reliable);
+      broadcaster.broadcast(subject, payload);
+      return;
+    }
     multicast(subject, message, encoder, membershipService.getMembers()
         .stream()
         .map(Member::id)
@@ -138,6 +167,56 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     }
   }
 
+  @Override
+  public <M, R> CompletableFuture<R> sendBuffer(
+      String subject,
+      M message,
+      BiConsumer<M, ByteBuf> encoder,
+      Function<ByteBuf, R> decoder,
+      MemberId toMemberId,
+      Duration timeout) {
+    Member member = membershipService.getMember(toMemberId);
+    if (member == null) {
+      return Futures.exceptionalFuture(CONNECT_EXCEPTION);
+    }
+
+    ByteBuf payload = ByteBufAllocator.DEFAULT.buffer();
+    try {
+      encoder.accept(message, payload);
+    } catch (Exception e) {
+      payload.release();
+      return Futures.exceptionalFuture(e);
+    }
+    return messagingService.sendAndReceiveBuffer(member.address(), subject, payload, timeout).thenApply(buffer -> {
+      try {
+        return decoder.apply(buffer);
+      } finally {
+        buffer.release();
+      }
+    });
+  }
+
+  /**
+   * Delivers a message received from the broadcast tree to the local subscriber.
+   *
+   * @param origin  the member that broadcast the message
+   * @param subject the message subject
+   * @param payload the message payload
+   */
+  private void deliver(MemberId origin, String subject, byte[] payload) {
+    BroadcastConsumer consumer = broadcastConsumers.get(subject);
+    Member member = membershipService.getMember(origin);
+    if (consumer != null && member != null) {
+      consumer.executor.execute(() -> {
+        try {
+          consumer.consumer.accept(member.address(), payload);
+        } catch (RuntimeException e) {
+          log.warn("Failed to deliver broadcast message on {}", subject, e);
+        }
+      });
+    }
+  }
+
   private CompletableFuture<Void> doUnicast(String subject, byte[] payload, MemberId toMemberId, boolean reliable) {
     Member member = membershipService.getMember(toMemberId);
     if (member == null) {
@@ -162,6 +241,7 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
   @Override
   public void unsubscribe(String subject) {
     messagingService.unregisterHandler(subject);
+    broadcastConsumers.remove(subject);
     BiConsumer<Address, byte[]> consumer = unicastConsumers.get(subject);
     if (consumer != null) {
       unicastService.removeListener(subject, consumer);
@@ -186,6 +266,9 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
           });
           return responseFuture;
         }));
+
+    // Broadcast messages are not replied to, so the handler's response is discarded
+    broadcastConsumers.put(subject, new BroadcastConsumer((sender, payload) -> handler.apply(decoder.apply(payload)), executor));
     return CompletableFuture.completedFuture(null);
   }
 
@@ -195,6 +278,44 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
                                                   Function<M, CompletableFuture<R>> handler,
                                                   Function<R, byte[]> encoder) {
     messagingService.registerHandler(subject, new InternalMessageResponder<>(decoder, encoder, handler));
+    broadcastConsumers.put(subject, new BroadcastConsumer(
+        (sender, payload) -> handler.apply(decoder.apply(payload)), MoreExecutors.directExecutor()));
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public <M, R> CompletableFuture<Void> subscribeBuffer(String subject,
+                                                        Function<ByteBuf, M> decoder,
+                                                        Function<M, CompletableFuture<R>> handler,
+                                                        BiConsumer<R, ByteBuf> encoder) {
+    messagingService.registerBufferHandler(subject, (sender, buffer) -> {
+      M request;
+      try {
+        request = decoder.apply(buffer);
+      } finally {
+        buffer.release();
+      }
+      return handler.apply(request).thenApply(response -> {
+        ByteBuf payload = ByteBufAllocator.DEFAULT.buffer();
+        try {
+          encoder.accept(response, payload);
+        } catch (RuntimeException e) {
+          payload.release();
+          throw e;
+        }
+        return payload;
+      });
+    });
+    broadcastConsumers.put(subject, new BroadcastConsumer((sender, payload) -> {
+      ByteBuf buffer = Unpooled.wrappedBuffer(payload);
+      M request;
+      try {
+        request = decoder.apply(buffer);
+      } finally {
+        buffer.release();
+      }
+      handler.apply(request);
+    }, MoreExecutors.directExecutor()));
     return CompletableFuture.completedFuture(null);
   }
 
@@ -207,6 +328,7 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     BiConsumer<Address, byte[]> unicastConsumer = new InternalMessageConsumer<>(decoder, handler);
     unicastConsumers.put(subject, unicastConsumer);
     unicastService.addListener(subject, unicastConsumer, executor);
+    broadcastConsumers.put(subject, new BroadcastConsumer(unicastConsumer, executor));
     return CompletableFuture.completedFuture(null);
   }
 
@@ -216,12 +338,16 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
     BiConsumer<Address, byte[]> unicastConsumer = new InternalMessageBiConsumer<>(decoder, handler);
     unicastConsumers.put(subject, unicastConsumer);
     unicastService.addListener(subject, unicastConsumer, executor);
+    broadcastConsumers.put(subject, new BroadcastConsumer(unicastConsumer, executor));
     return CompletableFuture.completedFuture(null);
   }
 
   @Override
   public CompletableFuture<ClusterCommunicationService> start() {
     if (started.compareAndSet(false, true)) {
+      if (broadcaster != null) {
+        broadcaster.start();
+      }
       log.info("Started");
     }
     return CompletableFuture.completedFuture(this);
@@ -235,6 +361,9 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
   @Override
   public CompletableFuture<Void> stop() {
     if (started.compareAndSet(true, false)) {
+      if (broadcaster != null) {
+        broadcaster.stop();
+      }
       log.info("Stopped");
     }
     return CompletableFuture.completedFuture(null);
@@ -291,4 +420,14 @@ public class DefaultClusterCommunicationService implements ManagedClusterCommuni
       consumer.accept(decoder.apply(bytes));
     }
   }
+
+  private static class BroadcastConsumer {
+    private final BiConsumer<Address, byte[]> consumer;
+    private final Executor executor;
+
+    BroadcastConsumer(BiConsumer<Address, byte[]> consumer, Executor executor) {
+      this.consumer = consumer;
+      this.executor = executor;
+    }
+  }
 }
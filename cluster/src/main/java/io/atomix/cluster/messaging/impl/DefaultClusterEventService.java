@@ -25,6 +25,7 @@ import io.atomix.cluster.messaging.ClusterEventService;
 import io.atomix.cluster.messaging.ManagedClusterEventService;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
 import io.atomix.cluster.messaging.Subscription;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.net.Address;
@@ -89,16 +90,31 @@ public class DefaultClusterEventService implements ManagedClusterEventService {
   private final Map<MemberId, Long> updateTimes = Maps.newConcurrentMap();
   private final Map<String, InternalTopic> topics = Maps.newConcurrentMap();
   private final AtomicBoolean started = new AtomicBoolean();
+  private final PlumtreeBroadcaster broadcaster;
 
   public DefaultClusterEventService(ClusterMembershipService membershipService, MessagingService messagingService) {
+    this(membershipService, messagingService, new PlumtreeConfig());
+  }
+
+  public DefaultClusterEventService(
+      ClusterMembershipService membershipService,
+      MessagingService messagingService,
+      PlumtreeConfig plumtreeConfig) {
     this.membershipService = membershipService;
     this.messagingService = messagingService;
     this.localMemberId = membershipService.getLocalMember().id();
+    this.broadcaster = plumtreeConfig.isEnabled()
+        ? new PlumtreeBroadcaster("cluster-event", membershipService, messagingService, plumtreeConfig, this::deliver)
+        : null;
   }
 
   @Override
   public <M> void broadcast(String topic, M message, Function<M, byte[]> encoder) {
     byte[] payload = SERIALIZER.encode(new InternalMessage(InternalMessage.Type.ALL, encoder.apply(message)));
+    if (broadcaster != null) {
+      broadcaster.broadcast(topic, payload);
+      return;
+    }
     getSubscriberNodes(topic).forEach(memberId -> {
       Member member = membershipService.getMember(memberId);
       if (member != null && member.isReachable()) {
@@ -133,6 +149,21 @@ public class DefaultClusterEventService implements ManagedClusterEventService {
     return Futures.exceptionalFuture(new MessagingException.NoRemoteHandler());
   }
 
+  /**
+   * Delivers a message received from the broadcast tree to local subscribers.
+   *
+   * @param origin  the member that broadcast the message
+   * @param topic   the message topic
+   * @param payload the message payload
+   */
+  private void deliver(MemberId origin, String topic, byte[] payload) {
+    InternalTopic internalTopic = topics.get(topic);
+    Member member = membershipService.getMember(origin);
+    if (internalTopic != null && member != null) {
+      internalTopic.localSubscriber().apply(member.address(), payload);
+    }
+  }
+
   /**
    * Returns a collection of nodes that subscribe to the given topic.
    *
@@ -306,6 +337,9 @@ public class DefaultClusterEventService implements ManagedClusterEventService {
         update(SERIALIZER.decode(payload));
         return new byte[0];
       }, gossipExecutor);
+      if (broadcaster != null) {
+        broadcaster.start();
+      }
       LOGGER.info("Started");
     }
     return CompletableFuture.completedFuture(this);
@@ -319,6 +353,9 @@ public class DefaultClusterEventService implements ManagedClusterEventService {
   @Override
   public CompletableFuture<Void> stop() {
     if (started.compareAndSet(true, false)) {
+      if (broadcaster != null) {
+        broadcaster.stop();
+      }
       if (gossipExecutor != null) {
         gossipExecutor.shutdown();
       }
@@ -15,9 +15,10 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.netty.util.Timer;
+
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Local client-side connection.
@@ -25,8 +26,8 @@ import java.util.concurrent.ScheduledExecutorService;
 final class LocalClientConnection extends AbstractClientConnection {
   private final LocalServerConnection serverConnection;
 
-  LocalClientConnection(ScheduledExecutorService executorService, HandlerRegistry handlers) {
-    super(executorService);
+  LocalClientConnection(Timer timer, HandlerRegistry handlers) {
+    super(timer);
     this.serverConnection = new LocalServerConnection(handlers, this);
   }
 
@@ -37,8 +38,8 @@ final class LocalClientConnection extends AbstractClientConnection {
   }
 
   @Override
-  public CompletableFuture<byte[]> sendAndReceive(ProtocolRequest message, Duration timeout) {
-    CompletableFuture<byte[]> future = new CompletableFuture<>();
+  public CompletableFuture<ProtocolReply> sendAndReceive(ProtocolRequest message, Duration timeout) {
+    CompletableFuture<ProtocolReply> future = new CompletableFuture<>();
     new Callback(message.id(), message.subject(), timeout, future);
     serverConnection.dispatch(message);
     return future;
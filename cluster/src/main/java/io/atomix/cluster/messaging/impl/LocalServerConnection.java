@@ -17,6 +17,8 @@ package io.atomix.cluster.messaging.impl;
 
 import java.util.Optional;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Local server-side connection.
  */
@@ -37,4 +39,14 @@ final class LocalServerConnection extends AbstractServerConnection {
       clientConnection.dispatch(new ProtocolReply(message.id(), payload.orElse(EMPTY_PAYLOAD), status));
     }
   }
+
+  @Override
+  public void reply(ProtocolRequest message, ProtocolReply.Status status, ByteBuf payload) {
+    LocalClientConnection clientConnection = this.clientConnection;
+    if (clientConnection != null) {
+      clientConnection.dispatch(new ProtocolReply(message.id(), payload, status));
+    } else {
+      payload.release();
+    }
+  }
 }
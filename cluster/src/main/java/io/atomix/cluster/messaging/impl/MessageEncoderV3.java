@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * V3 message encoder.
+ * <p>
+ * The V3 protocol interns request subjects per connection. The first time a subject is written to the connection it
+ * is assigned the next subject ID and sent along with its ID, after which only the ID is written. Once the subject
+ * table is full, new subjects are written as literal strings.
+ */
+class MessageEncoderV3 extends MessageEncoderV2 {
+  static final int MAX_SUBJECTS = 4096;
+
+  static final int SUBJECT_REFERENCE = 0;
+  static final int SUBJECT_DEFINITION = 1;
+  static final int SUBJECT_LITERAL = 2;
+  static final int SUBJECT_KIND_BITS = 2;
+  static final int SUBJECT_KIND_MASK = (1 << SUBJECT_KIND_BITS) - 1;
+
+  private final Map<String, Integer> subjects = new HashMap<>();
+
+  MessageEncoderV3(Address address) {
+    super(address);
+  }
+
+  @Override
+  protected void encodeRequest(ProtocolRequest request, ByteBuf out) {
+    final String subject = request.subject();
+    Integer id = subjects.get(subject);
+    if (id != null) {
+      writeInt(out, id << SUBJECT_KIND_BITS | SUBJECT_REFERENCE);
+    } else if (subjects.size() < MAX_SUBJECTS) {
+      id = subjects.size();
+      subjects.put(subject, id);
+      writeInt(out, id << SUBJECT_KIND_BITS | SUBJECT_DEFINITION);
+      writeString(out, subject);
+    } else {
+      writeInt(out, SUBJECT_LITERAL);
+      writeString(out, subject);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import javax.net.ssl.TrustManagerFactory;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.security.Key;
 import java.security.KeyStore;
 import java.security.MessageDigest;
@@ -34,9 +35,8 @@ import java.util.OptionalInt;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -52,6 +52,7 @@ import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.TransportConfig;
 import io.atomix.utils.AtomixRuntimeException;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.OrderedFuture;
@@ -59,7 +60,9 @@ import io.atomix.utils.net.Address;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -80,6 +83,7 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.util.HashedWheelTimer;
 import io.netty.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -90,6 +94,9 @@ import static io.atomix.utils.concurrent.Threads.namedThreads;
  * Netty based MessagingService.
  */
 public class NettyMessagingService implements ManagedMessagingService {
+  private static final long TIMEOUT_TICK_MILLIS = 10;
+  private static final int TIMEOUT_WHEEL_SIZE = 512;
+
   private final Logger log = LoggerFactory.getLogger(getClass());
 
   private final Address returnAddress;
@@ -103,11 +110,13 @@ public class NettyMessagingService implements ManagedMessagingService {
   private final AtomicLong messageIdGenerator = new AtomicLong(0);
   private final ChannelPool channelPool;
 
+  private EventLoopGroup bossGroup;
   private EventLoopGroup serverGroup;
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
   private Class<? extends Channel> clientChannelClass;
-  private ScheduledExecutorService timeoutExecutor;
+  private volatile TransportConfig.Type transport;
+  private HashedWheelTimer timeoutTimer;
   private Channel serverChannel;
 
   protected boolean enableNettyTls;
@@ -142,11 +151,11 @@ public class NettyMessagingService implements ManagedMessagingService {
     enableNettyTls = loadKeyStores();
     initEventLoopGroup();
     return bootstrapServer().thenRun(() -> {
-      timeoutExecutor = Executors.newScheduledThreadPool(
-          4, namedThreads("netty-messaging-timeout-%d", log));
-      localConnection = new LocalClientConnection(timeoutExecutor, handlers);
+      timeoutTimer = new HashedWheelTimer(
+          namedThreads("netty-messaging-timeout-%d", log), TIMEOUT_TICK_MILLIS, TimeUnit.MILLISECONDS, TIMEOUT_WHEEL_SIZE);
+      localConnection = new LocalClientConnection(timeoutTimer, handlers);
       started.set(true);
-      log.info("Started");
+      log.info("Started using {} transport", transport);
     }).thenApply(v -> this);
   }
 
@@ -155,6 +164,33 @@ public class NettyMessagingService implements ManagedMessagingService {
     return started.get();
   }
 
+  /**
+   * Returns the number of requests awaiting a reply from each connected address.
+   * <p>
+   * Requests sent over multiple pooled connections to the same address are summed. Requests sent to the local
+   * address are reported under this service's {@link #address() address}.
+   *
+   * @return the number of outstanding requests per address
+   */
+  public Map<Address, Integer> getPendingRequests() {
+    Map<Address, Integer> pendingRequests = Maps.newHashMap();
+    LocalClientConnection localConnection = this.localConnection;
+    if (localConnection != null) {
+      int count = localConnection.pendingRequests();
+      if (count > 0) {
+        pendingRequests.put(returnAddress, count);
+      }
+    }
+    for (Map.Entry<Channel, RemoteClientConnection> entry : connections.entrySet()) {
+      int count = entry.getValue().pendingRequests();
+      if (count > 0 && entry.getKey().remoteAddress() instanceof InetSocketAddress) {
+        InetSocketAddress remoteAddress = (InetSocketAddress) entry.getKey().remoteAddress();
+        pendingRequests.merge(Address.from(remoteAddress.getHostString(), remoteAddress.getPort()), count, Integer::sum);
+      }
+    }
+    return pendingRequests;
+  }
+
   private boolean loadKeyStores() {
     if (!config.getTlsConfig().isEnabled()) {
       return false;
@@ -227,21 +263,95 @@ public class NettyMessagingService implements ManagedMessagingService {
   }
 
   private void initEventLoopGroup() {
-    // try Epoll first and if that does work, use nio.
+    TransportConfig transportConfig = config.getTransportConfig();
+    switch (transportConfig.getType()) {
+      case EPOLL:
+        initEpollEventLoopGroup(transportConfig);
+        break;
+      case NIO:
+        initNioEventLoopGroup(transportConfig);
+        break;
+      default:
+        // try Epoll first and if that does work, use nio.
+        try {
+          initEpollEventLoopGroup(transportConfig);
+        } catch (Throwable e) {
+          log.debug("Failed to initialize native (epoll) transport. "
+              + "Reason: {}. Proceeding with nio.", e.getMessage());
+          initNioEventLoopGroup(transportConfig);
+        }
+        break;
+    }
+  }
+
+  private void initEpollEventLoopGroup(TransportConfig transportConfig) {
+    clientGroup = new EpollEventLoopGroup(
+        transportConfig.getClientThreads(), namedThreads("netty-messaging-event-epoll-client-%d", log));
     try {
-      clientGroup = new EpollEventLoopGroup(0, namedThreads("netty-messaging-event-epoll-client-%d", log));
-      serverGroup = new EpollEventLoopGroup(0, namedThreads("netty-messaging-event-epoll-server-%d", log));
-      serverChannelClass = EpollServerSocketChannel.class;
-      clientChannelClass = EpollSocketChannel.class;
-      return;
+      serverGroup = new EpollEventLoopGroup(
+          transportConfig.getServerThreads(), namedThreads("netty-messaging-event-epoll-server-%d", log));
     } catch (Throwable e) {
-      log.debug("Failed to initialize native (epoll) transport. "
-          + "Reason: {}. Proceeding with nio.", e.getMessage());
+      clientGroup.shutdownGracefully();
+      throw e;
     }
-    clientGroup = new NioEventLoopGroup(0, namedThreads("netty-messaging-event-nio-client-%d", log));
-    serverGroup = new NioEventLoopGroup(0, namedThreads("netty-messaging-event-nio-server-%d", log));
+    try {
+      bossGroup = new EpollEventLoopGroup(1, namedThreads("netty-messaging-event-epoll-boss-%d", log));
+    } catch (Throwable e) {
+      clientGroup.shutdownGracefully();
+      serverGroup.shutdownGracefully();
+      throw e;
+    }
+    serverChannelClass = EpollServerSocketChannel.class;
+    clientChannelClass = EpollSocketChannel.class;
+    transport = TransportConfig.Type.EPOLL;
+  }
+
+  private void initNioEventLoopGroup(TransportConfig transportConfig) {
+    clientGroup = new NioEventLoopGroup(
+        transportConfig.getClientThreads(), namedThreads("netty-messaging-event-nio-client-%d", log));
+    serverGroup = new NioEventLoopGroup(
+        transportConfig.getServerThreads(), namedThreads("netty-messaging-event-nio-server-%d", log));
+    bossGroup = new NioEventLoopGroup(1, namedThreads("netty-messaging-event-nio-boss-%d", log));
     serverChannelClass = NioServerSocketChannel.class;
     clientChannelClass = NioSocketChannel.class;
+    transport = TransportConfig.Type.NIO;
+  }
+
+  /**
+   * Returns the transport selected when the service was started.
+   *
+   * @return the selected transport, either {@link TransportConfig.Type#EPOLL} or {@link TransportConfig.Type#NIO},
+   *     or {@code null} if the service has not been started
+   */
+  public TransportConfig.Type getTransport() {
+    return transport;
+  }
+
+  /**
+   * Returns the configured buffer allocator.
+   *
+   * @return the buffer allocator with which to configure channels
+   */
+  private ByteBufAllocator allocator() {
+    switch (config.getTransportConfig().getAllocator()) {
+      case UNPOOLED:
+        return UnpooledByteBufAllocator.DEFAULT;
+      case POOLED:
+      default:
+        return PooledByteBufAllocator.DEFAULT;
+    }
+  }
+
+  /**
+   * Returns the configured channel write buffer water mark.
+   *
+   * @return the write buffer water mark with which to configure channels
+   */
+  private WriteBufferWaterMark writeBufferWaterMark() {
+    TransportConfig transportConfig = config.getTransportConfig();
+    return new WriteBufferWaterMark(
+        (int) transportConfig.getWriteBufferLowWaterMark().bytes(),
+        (int) transportConfig.getWriteBufferHighWaterMark().bytes());
   }
 
   @Override
@@ -279,9 +389,37 @@ public class NettyMessagingService implements ManagedMessagingService {
         type,
         payload);
     if (keepAlive) {
-      return executeOnPooledConnection(address, type, c -> c.sendAndReceive(message, timeout), executor);
+      return executeOnPooledConnection(address, type, c -> c.sendAndReceive(message, timeout)
+          .thenApply(NettyMessagingService::readPayload), executor);
     } else {
-      return executeOnTransientConnection(address, c -> c.sendAndReceive(message, timeout), executor);
+      return executeOnTransientConnection(address, c -> c.sendAndReceive(message, timeout)
+          .thenApply(NettyMessagingService::readPayload), executor);
+    }
+  }
+
+  @Override
+  public CompletableFuture<ByteBuf> sendAndReceiveBuffer(Address address, String type, ByteBuf payload, Duration timeout) {
+    long messageId = messageIdGenerator.incrementAndGet();
+    ProtocolRequest message = new ProtocolRequest(
+        messageId,
+        returnAddress,
+        type,
+        payload);
+    return executeOnPooledConnection(address, type, c -> c.sendAndReceive(message, timeout)
+        .thenApply(ProtocolMessage::buffer), MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Reads the payload of the given message as a byte array and releases the message.
+   *
+   * @param message the message from which to read the payload
+   * @return the message payload
+   */
+  private static byte[] readPayload(ProtocolMessage message) {
+    try {
+      return message.payload();
+    } finally {
+      message.release();
     }
   }
 
@@ -400,7 +538,7 @@ public class NettyMessagingService implements ManagedMessagingService {
   private RemoteClientConnection getOrCreateClientConnection(Channel channel) {
     RemoteClientConnection connection = connections.get(channel);
     if (connection == null) {
-      connection = connections.computeIfAbsent(channel, c -> new RemoteClientConnection(timeoutExecutor, c));
+      connection = connections.computeIfAbsent(channel, c -> new RemoteClientConnection(timeoutTimer, c));
       channel.closeFuture().addListener(f -> {
         RemoteClientConnection removedConnection = connections.remove(channel);
         if (removedConnection != null) {
@@ -413,29 +551,34 @@ public class NettyMessagingService implements ManagedMessagingService {
 
   @Override
   public void registerHandler(String type, BiConsumer<Address, byte[]> handler, Executor executor) {
-    handlers.register(type, (message, connection) -> executor.execute(() ->
-        handler.accept(message.sender(), message.payload())));
+    handlers.register(type, (message, connection) -> {
+      byte[] payload = readPayload(message);
+      executor.execute(() -> handler.accept(message.sender(), payload));
+    });
   }
 
   @Override
   public void registerHandler(String type, BiFunction<Address, byte[], byte[]> handler, Executor executor) {
-    handlers.register(type, (message, connection) -> executor.execute(() -> {
-      byte[] responsePayload = null;
-      ProtocolReply.Status status = ProtocolReply.Status.OK;
-      try {
-        responsePayload = handler.apply(message.sender(), message.payload());
-      } catch (Exception e) {
-        log.warn("An error occurred in a message handler: {}", e);
-        status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-      }
-      connection.reply(message, status, Optional.ofNullable(responsePayload));
-    }));
+    handlers.register(type, (message, connection) -> {
+      byte[] payload = readPayload(message);
+      executor.execute(() -> {
+        byte[] responsePayload = null;
+        ProtocolReply.Status status = ProtocolReply.Status.OK;
+        try {
+          responsePayload = handler.apply(message.sender(), payload);
+        } catch (Exception e) {
+          log.warn("An error occurred in a message handler: {}", e);
+          status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+        }
+        connection.reply(message, status, Optional.ofNullable(responsePayload));
+      });
+    });
   }
 
   @Override
   public void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler) {
     handlers.register(type, (message, connection) -> {
-      handler.apply(message.sender(), message.payload()).whenComplete((result, error) -> {
+      handler.apply(message.sender(), readPayload(message)).whenComplete((result, error) -> {
         ProtocolReply.Status status;
         if (error == null) {
           status = ProtocolReply.Status.OK;
@@ -448,6 +591,26 @@ public class NettyMessagingService implements ManagedMessagingService {
     });
   }
 
+  @Override
+  public void registerBufferHandler(String type, BiFunction<Address, ByteBuf, CompletableFuture<ByteBuf>> handler) {
+    handlers.register(type, (message, connection) -> {
+      CompletableFuture<ByteBuf> future;
+      try {
+        future = handler.apply(message.sender(), message.buffer());
+      } catch (Exception e) {
+        future = Futures.exceptionalFuture(e);
+      }
+      future.whenComplete((result, error) -> {
+        if (error == null) {
+          connection.reply(message, ProtocolReply.Status.OK, result);
+        } else {
+          log.warn("An error occurred in a message handler: {}", error);
+          connection.reply(message, ProtocolReply.Status.ERROR_HANDLER_EXCEPTION, Optional.empty());
+        }
+      });
+    });
+  }
+
   @Override
   public void unregisterHandler(String type) {
     handlers.unregister(type);
@@ -479,13 +642,13 @@ public class NettyMessagingService implements ManagedMessagingService {
     }
 
     Bootstrap bootstrap = new Bootstrap();
-    bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
-    bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK,
-        new WriteBufferWaterMark(10 * 32 * 1024, 10 * 64 * 1024));
-    bootstrap.option(ChannelOption.SO_RCVBUF, 1024 * 1024);
-    bootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 1024);
+    TransportConfig transportConfig = config.getTransportConfig();
+    bootstrap.option(ChannelOption.ALLOCATOR, allocator());
+    bootstrap.option(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark());
+    bootstrap.option(ChannelOption.SO_RCVBUF, (int) transportConfig.getReceiveBufferSize().bytes());
+    bootstrap.option(ChannelOption.SO_SNDBUF, (int) transportConfig.getSendBufferSize().bytes());
     bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
-    bootstrap.option(ChannelOption.TCP_NODELAY, true);
+    bootstrap.option(ChannelOption.TCP_NODELAY, transportConfig.isTcpNoDelay());
     bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000);
     bootstrap.group(clientGroup);
     // TODO: Make this faster:
@@ -518,14 +681,14 @@ public class NettyMessagingService implements ManagedMessagingService {
     ServerBootstrap b = new ServerBootstrap();
     b.option(ChannelOption.SO_REUSEADDR, true);
     b.option(ChannelOption.SO_BACKLOG, 128);
-    b.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
-        new WriteBufferWaterMark(8 * 1024, 32 * 1024));
-    b.childOption(ChannelOption.SO_RCVBUF, 1024 * 1024);
-    b.childOption(ChannelOption.SO_SNDBUF, 1024 * 1024);
+    TransportConfig transportConfig = config.getTransportConfig();
+    b.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark());
+    b.childOption(ChannelOption.SO_RCVBUF, (int) transportConfig.getReceiveBufferSize().bytes());
+    b.childOption(ChannelOption.SO_SNDBUF, (int) transportConfig.getSendBufferSize().bytes());
     b.childOption(ChannelOption.SO_KEEPALIVE, true);
-    b.childOption(ChannelOption.TCP_NODELAY, true);
-    b.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
-    b.group(serverGroup, clientGroup);
+    b.childOption(ChannelOption.TCP_NODELAY, transportConfig.isTcpNoDelay());
+    b.childOption(ChannelOption.ALLOCATOR, allocator());
+    b.group(bossGroup, serverGroup);
     b.channel(serverChannelClass);
     if (enableNettyTls) {
       try {
@@ -593,8 +756,14 @@ public class NettyMessagingService implements ManagedMessagingService {
           } catch (InterruptedException e) {
             interrupted = true;
           }
+          Future<?> bossShutdownFuture = bossGroup.shutdownGracefully();
           Future<?> serverShutdownFuture = serverGroup.shutdownGracefully();
           Future<?> clientShutdownFuture = clientGroup.shutdownGracefully();
+          try {
+            bossShutdownFuture.sync();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
           try {
             serverShutdownFuture.sync();
           } catch (InterruptedException e) {
@@ -605,7 +774,7 @@ public class NettyMessagingService implements ManagedMessagingService {
           } catch (InterruptedException e) {
             interrupted = true;
           }
-          timeoutExecutor.shutdown();
+          timeoutTimer.stop();
         } finally {
           log.info("Stopped");
           if (interrupted) {
@@ -817,6 +986,8 @@ public class NettyMessagingService implements ManagedMessagingService {
     private final Connection<M> connection;
 
     MessageDispatcher(Connection<M> connection) {
+      // Messages are released by the connection once their payloads have been consumed.
+      super(false);
       this.connection = connection;
     }
 
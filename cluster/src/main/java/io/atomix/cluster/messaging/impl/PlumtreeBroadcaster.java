@@ -0,0 +1,585 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEventListener;
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import io.atomix.utils.serializer.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+/**
+ * Plumtree (epidemic broadcast tree) broadcaster.
+ * <p>
+ * Each node's peers are the reachable members at power-of-two distances from it in the ring of members sorted by ID,
+ * which gives every node a logarithmic number of peers and a symmetric, connected overlay once membership views
+ * converge. All peers start out as eager peers, to which message payloads are pushed. A node that receives a
+ * duplicate message moves the sender to its lazy peers and asks the sender to do the same, pruning the eager links
+ * to a spanning tree. Message identifiers are periodically announced to lazy peers, and a node that learns of a
+ * message it has not received within the graft timeout requests it from the announcing peer, grafting that link
+ * back into the tree.
+ */
+final class PlumtreeBroadcaster {
+
+  /**
+   * Broadcast message handler.
+   */
+  @FunctionalInterface
+  interface Handler {
+
+    /**
+     * Handles a message delivered by the broadcast tree.
+     *
+     * @param origin  the member that broadcast the message
+     * @param subject the message subject
+     * @param payload the message payload
+     */
+    void handle(MemberId origin, String subject, byte[] payload);
+  }
+
+  private static final Serializer SERIALIZER = Serializer.using(Namespace.builder()
+      .register(Namespaces.BASIC)
+      .register(MemberId.class)
+      .register(MessageId.class)
+      .register(GossipMessage.class)
+      .register(Announcement.class)
+      .register(IHaveMessage.class)
+      .register(GraftMessage.class)
+      .register(PruneMessage.class)
+      .build());
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final String name;
+  private final ClusterMembershipService membershipService;
+  private final MessagingService messagingService;
+  private final PlumtreeConfig config;
+  private final Handler handler;
+  private final MemberId localMemberId;
+  private final long incarnation = ThreadLocalRandom.current().nextLong();
+  private final String gossipSubject;
+  private final String iHaveSubject;
+  private final String graftSubject;
+  private final String pruneSubject;
+  private final ClusterMembershipEventListener membershipListener = this::handleMembershipEvent;
+  private final Set<MemberId> eagerPeers = new LinkedHashSet<>();
+  private final Set<MemberId> lazyPeers = new LinkedHashSet<>();
+  private final Map<MessageId, ReceivedMessage> received = Maps.newLinkedHashMap();
+  private final Map<MemberId, List<Announcement>> lazyQueues = Maps.newHashMap();
+  private final Map<MessageId, MissingMessage> missing = Maps.newHashMap();
+  private volatile ScheduledExecutorService executor;
+  private volatile boolean started;
+  private ScheduledFuture<?> lazyPushFuture;
+  private long sequence;
+
+  PlumtreeBroadcaster(
+      String name,
+      ClusterMembershipService membershipService,
+      MessagingService messagingService,
+      PlumtreeConfig config,
+      Handler handler) {
+    this.name = name;
+    this.membershipService = membershipService;
+    this.messagingService = messagingService;
+    this.config = config;
+    this.handler = handler;
+    this.localMemberId = membershipService.getLocalMember().id();
+    this.gossipSubject = name + "-plumtree-gossip";
+    this.iHaveSubject = name + "-plumtree-ihave";
+    this.graftSubject = name + "-plumtree-graft";
+    this.pruneSubject = name + "-plumtree-prune";
+  }
+
+  /**
+   * Broadcasts a message to all members other than the local member.
+   * <p>
+   * Messages broadcast while the broadcaster is not running are dropped.
+   *
+   * @param subject the message subject
+   * @param payload the message payload
+   */
+  void broadcast(String subject, byte[] payload) {
+    boolean accepted = execute(() -> {
+      GossipMessage message = new GossipMessage(localMemberId, new MessageId(localMemberId, incarnation, ++sequence), 0, subject, payload);
+      received.put(message.id, new ReceivedMessage(message));
+      eagerPush(message, null);
+      lazyPush(message, null);
+    });
+    if (!accepted) {
+      log.debug("{} - Dropping broadcast to {}: broadcaster is not running", name, subject);
+    }
+  }
+
+  /**
+   * Executes the given task on the broadcaster's thread if the broadcaster is running.
+   *
+   * @param task the task to execute
+   * @return indicates whether the task was accepted for execution
+   */
+  private boolean execute(Runnable task) {
+    ScheduledExecutorService executor = this.executor;
+    if (!started || executor == null) {
+      return false;
+    }
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Pushes a message payload to all eager peers other than the given sender.
+   */
+  private void eagerPush(GossipMessage message, MemberId sender) {
+    GossipMessage forward = new GossipMessage(localMemberId, message.id, message.round + 1, message.subject, message.payload);
+    byte[] bytes = null;
+    for (MemberId peer : eagerPeers) {
+      if (!peer.equals(sender)) {
+        if (bytes == null) {
+          bytes = SERIALIZER.encode(forward);
+        }
+        send(peer, gossipSubject, bytes);
+      }
+    }
+  }
+
+  /**
+   * Queues an announcement of the given message for all lazy peers other than the given sender.
+   */
+  private void lazyPush(GossipMessage message, MemberId sender) {
+    Announcement announcement = new Announcement(message.id, message.round + 1);
+    for (MemberId peer : lazyPeers) {
+      if (!peer.equals(sender)) {
+        lazyQueues.computeIfAbsent(peer, p -> new ArrayList<>()).add(announcement);
+      }
+    }
+  }
+
+  /**
+   * Sends queued announcements to lazy peers and expires received messages.
+   */
+  private void flush() {
+    for (Map.Entry<MemberId, List<Announcement>> entry : lazyQueues.entrySet()) {
+      send(entry.getKey(), iHaveSubject, SERIALIZER.encode(new IHaveMessage(localMemberId, entry.getValue())));
+    }
+    lazyQueues.clear();
+
+    long expireTime = System.currentTimeMillis() - config.getMessageExpiration().toMillis();
+    Iterator<ReceivedMessage> iterator = received.values().iterator();
+    while (iterator.hasNext() && iterator.next().timestamp < expireTime) {
+      iterator.remove();
+    }
+  }
+
+  /**
+   * Handles a message payload pushed by a peer.
+   */
+  private void handleGossip(GossipMessage message) {
+    if (!received.containsKey(message.id)) {
+      received.put(message.id, new ReceivedMessage(message));
+      MissingMessage missingMessage = missing.remove(message.id);
+      if (missingMessage != null) {
+        missingMessage.cancel();
+      }
+
+      if (!message.id.origin.equals(localMemberId)) {
+        try {
+          handler.handle(message.id.origin, message.subject, message.payload);
+        } catch (Exception e) {
+          log.warn("Failed to handle broadcast message", e);
+        }
+      }
+
+      eagerPush(message, message.sender);
+      lazyPush(message, message.sender);
+      addEagerPeer(message.sender);
+    } else {
+      log.trace("{} - Pruning duplicate sender {}", name, message.sender);
+      addLazyPeer(message.sender);
+      send(message.sender, pruneSubject, SERIALIZER.encode(new PruneMessage(localMemberId)));
+    }
+  }
+
+  /**
+   * Handles message announcements from a lazy peer.
+   */
+  private void handleIHave(IHaveMessage message) {
+    for (Announcement announcement : message.announcements) {
+      if (!received.containsKey(announcement.id)) {
+        MissingMessage missingMessage = missing.computeIfAbsent(announcement.id, MissingMessage::new);
+        missingMessage.announcements.add(new Announcement(announcement.id, announcement.round, message.sender));
+        if (missingMessage.timer == null) {
+          missingMessage.schedule(config.getGraftTimeout().toMillis());
+        }
+      }
+    }
+    addPeer(message.sender);
+  }
+
+  /**
+   * Requests a missing message from the next peer that announced it.
+   */
+  private void graft(MissingMessage missingMessage) {
+    missingMessage.timer = null;
+    if (received.containsKey(missingMessage.id) || missingMessage.announcements.isEmpty()) {
+      missing.remove(missingMessage.id);
+      return;
+    }
+
+    Announcement announcement = missingMessage.announcements.remove(0);
+    log.trace("{} - Grafting {} from {}", name, missingMessage.id, announcement.sender);
+    addEagerPeer(announcement.sender);
+    send(announcement.sender, graftSubject, SERIALIZER.encode(new GraftMessage(localMemberId, missingMessage.id)));
+    missingMessage.schedule(config.getGraftTimeout().toMillis() / 2);
+  }
+
+  /**
+   * Handles a request for a missing message from a peer.
+   */
+  private void handleGraft(GraftMessage message) {
+    addEagerPeer(message.sender);
+    ReceivedMessage receivedMessage = received.get(message.id);
+    if (receivedMessage != null) {
+      GossipMessage gossip = receivedMessage.message;
+      send(message.sender, gossipSubject, SERIALIZER.encode(
+          new GossipMessage(localMemberId, gossip.id, gossip.round + 1, gossip.subject, gossip.payload)));
+    }
+  }
+
+  /**
+   * Handles a request from a peer to stop pushing message payloads to it.
+   */
+  private void handlePrune(PruneMessage message) {
+    addLazyPeer(message.sender);
+  }
+
+  /**
+   * Adds the given member as a peer if it's not already one.
+   */
+  private void addPeer(MemberId memberId) {
+    if (!eagerPeers.contains(memberId) && !lazyPeers.contains(memberId)) {
+      addEagerPeer(memberId);
+    }
+  }
+
+  /**
+   * Adds the given member as an eager peer.
+   */
+  private void addEagerPeer(MemberId memberId) {
+    if (!memberId.equals(localMemberId) && isReachable(memberId)) {
+      lazyPeers.remove(memberId);
+      eagerPeers.add(memberId);
+    }
+  }
+
+  /**
+   * Adds the given member as a lazy peer.
+   */
+  private void addLazyPeer(MemberId memberId) {
+    if (!memberId.equals(localMemberId) && isReachable(memberId)) {
+      eagerPeers.remove(memberId);
+      lazyPeers.add(memberId);
+    }
+  }
+
+  /**
+   * Returns whether the given member is reachable.
+   */
+  private boolean isReachable(MemberId memberId) {
+    Member member = membershipService.getMember(memberId);
+    return member != null && member.isReachable();
+  }
+
+  /**
+   * Handles a cluster membership event.
+   */
+  private void handleMembershipEvent(ClusterMembershipEvent event) {
+    execute(this::updatePeers);
+  }
+
+  /**
+   * Updates the set of peers from the current membership.
+   * <p>
+   * Peers that are no longer neighbors in the ring of reachable members are removed, and new neighbors are added as
+   * eager peers.
+   */
+  private void updatePeers() {
+    List<MemberId> members = membershipService.getMembers().stream()
+        .filter(member -> member.isReachable() || member.id().equals(localMemberId))
+        .map(Member::id)
+        .sorted(Comparator.comparing(MemberId::id))
+        .collect(Collectors.toList());
+
+    Set<MemberId> neighbors = Sets.newHashSet();
+    int index = members.indexOf(localMemberId);
+    int size = members.size();
+    if (index >= 0) {
+      for (int distance = 1; distance < size; distance <<= 1) {
+        neighbors.add(members.get((index + distance) % size));
+        neighbors.add(members.get((index - distance % size + size) % size));
+      }
+    }
+    neighbors.remove(localMemberId);
+
+    eagerPeers.retainAll(neighbors);
+    lazyPeers.retainAll(neighbors);
+    for (MemberId neighbor : neighbors) {
+      addPeer(neighbor);
+    }
+    lazyQueues.keySet().retainAll(lazyPeers);
+    log.debug("{} - Updated peers: eager {}, lazy {}", name, eagerPeers, lazyPeers);
+  }
+
+  /**
+   * Sends a message to the given peer.
+   */
+  private void send(MemberId memberId, String subject, byte[] payload) {
+    Member member = membershipService.getMember(memberId);
+    if (member != null && member.isReachable()) {
+      messagingService.sendAsync(member.address(), subject, payload);
+    }
+  }
+
+  /**
+   * Starts the broadcaster.
+   */
+  void start() {
+    executor = Executors.newSingleThreadScheduledExecutor(namedThreads("atomix-" + name + "-plumtree-%d", log));
+    messagingService.registerHandler(gossipSubject, (address, payload) -> {
+      handleGossip(SERIALIZER.decode(payload));
+    }, executor);
+    messagingService.registerHandler(iHaveSubject, (address, payload) -> {
+      handleIHave(SERIALIZER.decode(payload));
+    }, executor);
+    messagingService.registerHandler(graftSubject, (address, payload) -> {
+      handleGraft(SERIALIZER.decode(payload));
+    }, executor);
+    messagingService.registerHandler(pruneSubject, (address, payload) -> {
+      handlePrune(SERIALIZER.decode(payload));
+    }, executor);
+    membershipService.addListener(membershipListener);
+    executor.execute(this::updatePeers);
+    long interval = config.getLazyPushInterval().toMillis();
+    lazyPushFuture = executor.scheduleAtFixedRate(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    started = true;
+  }
+
+  /**
+   * Stops the broadcaster.
+   */
+  void stop() {
+    started = false;
+    membershipService.removeListener(membershipListener);
+    messagingService.unregisterHandler(gossipSubject);
+    messagingService.unregisterHandler(iHaveSubject);
+    messagingService.unregisterHandler(graftSubject);
+    messagingService.unregisterHandler(pruneSubject);
+    if (lazyPushFuture != null) {
+      lazyPushFuture.cancel(false);
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Broadcast message identifier.
+   * <p>
+   * Sequence numbers restart when a member restarts, so identifiers include a random incarnation number chosen when
+   * the broadcaster is created to prevent messages from a restarted member from being dropped as duplicates of
+   * messages sent before it restarted.
+   */
+  private static class MessageId {
+    private final MemberId origin;
+    private final long incarnation;
+    private final long sequence;
+
+    MessageId(MemberId origin, long incarnation, long sequence) {
+      this.origin = origin;
+      this.incarnation = incarnation;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(origin, incarnation, sequence);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (object instanceof MessageId) {
+        MessageId that = (MessageId) object;
+        return origin.equals(that.origin) && incarnation == that.incarnation && sequence == that.sequence;
+      }
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("origin", origin)
+          .add("incarnation", incarnation)
+          .add("sequence", sequence)
+          .toString();
+    }
+  }
+
+  /**
+   * Message carrying a broadcast payload.
+   */
+  private static class GossipMessage {
+    private final MemberId sender;
+    private final MessageId id;
+    private final int round;
+    private final String subject;
+    private final byte[] payload;
+
+    GossipMessage(MemberId sender, MessageId id, int round, String subject, byte[] payload) {
+      this.sender = sender;
+      this.id = id;
+      this.round = round;
+      this.subject = subject;
+      this.payload = payload;
+    }
+  }
+
+  /**
+   * Announcement of a received message.
+   */
+  private static class Announcement {
+    private final MessageId id;
+    private final int round;
+    private final transient MemberId sender;
+
+    Announcement(MessageId id, int round) {
+      this(id, round, null);
+    }
+
+    Announcement(MessageId id, int round, MemberId sender) {
+      this.id = id;
+      this.round = round;
+      this.sender = sender;
+    }
+  }
+
+  /**
+   * Message announcing received messages to a lazy peer.
+   */
+  private static class IHaveMessage {
+    private final MemberId sender;
+    private final List<Announcement> announcements;
+
+    IHaveMessage(MemberId sender, List<Announcement> announcements) {
+      this.sender = sender;
+      this.announcements = announcements;
+    }
+  }
+
+  /**
+   * Message requesting a missing message and grafting the link into the tree.
+   */
+  private static class GraftMessage {
+    private final MemberId sender;
+    private final MessageId id;
+
+    GraftMessage(MemberId sender, MessageId id) {
+      this.sender = sender;
+      this.id = id;
+    }
+  }
+
+  /**
+   * Message pruning the link from the tree.
+   */
+  private static class PruneMessage {
+    private final MemberId sender;
+
+    PruneMessage(MemberId sender) {
+      this.sender = sender;
+    }
+  }
+
+  /**
+   * Received message retained to suppress duplicates and answer graft requests.
+   */
+  private static class ReceivedMessage {
+    private final GossipMessage message;
+    private final long timestamp = System.currentTimeMillis();
+
+    ReceivedMessage(GossipMessage message) {
+      this.message = message;
+    }
+  }
+
+  /**
+   * Message that has been announced but not received.
+   */
+  private class MissingMessage {
+    private final MessageId id;
+    private final List<Announcement> announcements = Lists.newArrayList();
+    private ScheduledFuture<?> timer;
+
+    MissingMessage(MessageId id) {
+      this.id = id;
+    }
+
+    /**
+     * Schedules a graft request for the message after the given delay.
+     */
+    void schedule(long delay) {
+      timer = executor.schedule(() -> graft(this), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the pending graft request.
+     */
+    void cancel() {
+      if (timer != null) {
+        timer.cancel(false);
+      }
+    }
+  }
+}
@@ -15,10 +15,21 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+
 /**
  * Base class for internal messages.
+ * <p>
+ * The message payload is either a byte array or a reference counted buffer. Buffer payloads are released when the
+ * message is released, which happens once the message has been encoded or once the payload has been handed off via
+ * {@link #payload()} or {@link #buffer()}.
  */
-public abstract class ProtocolMessage {
+public abstract class ProtocolMessage extends AbstractReferenceCounted {
 
   /**
    * Internal message type.
@@ -61,11 +72,19 @@ public abstract class ProtocolMessage {
   }
 
   private final long id;
-  private final byte[] payload;
+  private byte[] payload;
+  private final ByteBuf buffer;
 
   protected ProtocolMessage(long id, byte[] payload) {
     this.id = id;
     this.payload = payload;
+    this.buffer = null;
+  }
+
+  protected ProtocolMessage(long id, ByteBuf buffer) {
+    this.id = id;
+    this.payload = null;
+    this.buffer = buffer;
   }
 
   public abstract Type type();
@@ -82,7 +101,75 @@ public abstract class ProtocolMessage {
     return id;
   }
 
+  /**
+   * Returns the message payload as a byte array.
+   * <p>
+   * If the payload is a buffer, the buffer is copied. The message must not have been released.
+   *
+   * @return the message payload
+   */
   public byte[] payload() {
+    if (payload == null) {
+      payload = ByteBufUtil.getBytes(buffer);
+    }
     return payload;
   }
+
+  /**
+   * Returns the message payload as a buffer.
+   * <p>
+   * Ownership of a buffer payload is transferred to the caller, which is responsible for releasing the buffer. The
+   * message itself must not be released after calling this method.
+   *
+   * @return the message payload
+   */
+  public ByteBuf buffer() {
+    return buffer != null ? buffer : Unpooled.wrappedBuffer(payload);
+  }
+
+  /**
+   * Returns the length of the message payload.
+   *
+   * @return the length of the message payload in bytes
+   */
+  public int payloadLength() {
+    return buffer != null ? buffer.readableBytes() : payload.length;
+  }
+
+  /**
+   * Writes the message payload to the given buffer.
+   *
+   * @param out the buffer to which to write the payload
+   */
+  void writePayload(ByteBuf out) {
+    if (buffer != null) {
+      out.writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+    } else {
+      out.writeBytes(payload);
+    }
+  }
+
+  /**
+   * Returns a printable representation of the payload.
+   *
+   * @return a printable representation of the payload
+   */
+  Object payloadToString() {
+    return buffer != null ? buffer : ArraySizeHashPrinter.of(payload);
+  }
+
+  @Override
+  protected void deallocate() {
+    if (buffer != null) {
+      buffer.release();
+    }
+  }
+
+  @Override
+  public ReferenceCounted touch(Object hint) {
+    if (buffer != null) {
+      buffer.touch(hint);
+    }
+    return this;
+  }
 }
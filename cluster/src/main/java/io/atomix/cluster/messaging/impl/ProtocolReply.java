@@ -16,7 +16,7 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Internal reply message.
@@ -94,6 +94,11 @@ public final class ProtocolReply extends ProtocolMessage {
     this.status = status;
   }
 
+  public ProtocolReply(long id, ByteBuf payload, Status status) {
+    super(id, payload);
+    this.status = status;
+  }
+
   @Override
   public Type type() {
     return Type.REPLY;
@@ -108,7 +113,7 @@ public final class ProtocolReply extends ProtocolMessage {
     return MoreObjects.toStringHelper(this)
         .add("id", id())
         .add("status", status())
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("payload", payloadToString())
         .toString();
   }
 }
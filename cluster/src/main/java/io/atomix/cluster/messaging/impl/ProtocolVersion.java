@@ -34,6 +34,12 @@ public enum ProtocolVersion {
     public MessagingProtocol createProtocol(Address address) {
       return new MessagingProtocolV2(address);
     }
+  },
+  V3(3) {
+    @Override
+    public MessagingProtocol createProtocol(Address address) {
+      return new MessagingProtocolV3(address);
+    }
   };
 
   /**
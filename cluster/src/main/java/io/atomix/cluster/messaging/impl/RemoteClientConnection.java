@@ -16,10 +16,10 @@
 package io.atomix.cluster.messaging.impl;
 
 import io.netty.channel.Channel;
+import io.netty.util.Timer;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Client-side Netty remote connection.
@@ -27,8 +27,8 @@ import java.util.concurrent.ScheduledExecutorService;
 final class RemoteClientConnection extends AbstractClientConnection {
   private final Channel channel;
 
-  RemoteClientConnection(ScheduledExecutorService executorService, Channel channel) {
-    super(executorService);
+  RemoteClientConnection(Timer timer, Channel channel) {
+    super(timer);
     this.channel = channel;
   }
 
@@ -46,8 +46,8 @@ final class RemoteClientConnection extends AbstractClientConnection {
   }
 
   @Override
-  public CompletableFuture<byte[]> sendAndReceive(ProtocolRequest message, Duration timeout) {
-    CompletableFuture<byte[]> future = new CompletableFuture<>();
+  public CompletableFuture<ProtocolReply> sendAndReceive(ProtocolRequest message, Duration timeout) {
+    CompletableFuture<ProtocolReply> future = new CompletableFuture<>();
     Callback callback = new Callback(message.id(), message.subject(), timeout, future);
     channel.writeAndFlush(message).addListener(channelFuture -> {
       if (!channelFuture.isSuccess()) {
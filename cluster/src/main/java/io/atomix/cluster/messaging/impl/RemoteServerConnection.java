@@ -15,6 +15,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 
 import java.util.Optional;
@@ -40,4 +41,9 @@ final class RemoteServerConnection extends AbstractServerConnection {
         status);
     channel.writeAndFlush(response, channel.voidPromise());
   }
+
+  @Override
+  public void reply(ProtocolRequest message, ProtocolReply.Status status, ByteBuf payload) {
+    channel.writeAndFlush(new ProtocolReply(message.id(), payload, status), channel.voidPromise());
+  }
 }
@@ -17,6 +17,8 @@ package io.atomix.cluster.messaging.impl;
 
 import java.util.Optional;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * Server-side connection interface which handles replying to messages.
  */
@@ -31,6 +33,17 @@ interface ServerConnection extends Connection<ProtocolRequest> {
    */
   void reply(ProtocolRequest message, ProtocolReply.Status status, Optional<byte[]> payload);
 
+  /**
+   * Sends a reply with a buffer payload to the other side of the connection.
+   * <p>
+   * Ownership of the payload is transferred to the connection, which releases it once the reply has been sent.
+   *
+   * @param message the message to which to reply
+   * @param status  the reply status
+   * @param payload the response payload
+   */
+  void reply(ProtocolRequest message, ProtocolReply.Status status, ByteBuf payload);
+
   /**
    * Closes the connection.
    */
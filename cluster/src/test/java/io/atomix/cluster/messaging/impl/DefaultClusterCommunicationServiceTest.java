@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.cluster.BootstrapService;
+import io.atomix.cluster.ManagedClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.TestBootstrapService;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.cluster.impl.DefaultClusterMembershipService;
+import io.atomix.cluster.impl.DefaultNodeDiscoveryService;
+import io.atomix.cluster.messaging.ManagedClusterCommunicationService;
+import io.atomix.cluster.messaging.ManagedMessagingService;
+import io.atomix.cluster.messaging.ManagedUnicastService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
+import io.atomix.cluster.protocol.HeartbeatMembershipProtocol;
+import io.atomix.cluster.protocol.HeartbeatMembershipProtocolConfig;
+import io.atomix.utils.Version;
+import io.atomix.utils.net.Address;
+import io.atomix.utils.serializer.Namespaces;
+import io.atomix.utils.serializer.Serializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Cluster communication service test.
+ */
+public class DefaultClusterCommunicationServiceTest {
+  private static final Serializer SERIALIZER = Serializer.using(Namespaces.BASIC);
+  private static final int SIZE = 3;
+
+  private TestMessagingServiceFactory messagingServiceFactory;
+  private TestUnicastServiceFactory unicastServiceFactory;
+  private TestBroadcastServiceFactory broadcastServiceFactory;
+  private List<ManagedMessagingService> messagingServices;
+  private List<ManagedUnicastService> unicastServices;
+  private List<ManagedClusterMembershipService> membershipServices;
+  private List<ManagedClusterCommunicationService> communicationServices;
+
+  private Member buildNode(int memberId) {
+    return Member.builder(String.valueOf(memberId))
+        .withHost("localhost")
+        .withPort(memberId)
+        .build();
+  }
+
+  private Collection<Node> buildBootstrapNodes(int nodes) {
+    return IntStream.range(1, nodes + 1)
+        .mapToObj(id -> Node.builder()
+            .withId(String.valueOf(id))
+            .withAddress(Address.from("localhost", id))
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  @Before
+  public void setupCluster() throws Exception {
+    messagingServiceFactory = new TestMessagingServiceFactory();
+    unicastServiceFactory = new TestUnicastServiceFactory();
+    broadcastServiceFactory = new TestBroadcastServiceFactory();
+    messagingServices = new ArrayList<>();
+    unicastServices = new ArrayList<>();
+    membershipServices = new ArrayList<>();
+    communicationServices = new ArrayList<>();
+
+    Collection<Node> bootstrapLocations = buildBootstrapNodes(SIZE);
+    for (int i = 1; i <= SIZE; i++) {
+      Member localMember = buildNode(i);
+      ManagedMessagingService messagingService = messagingServiceFactory.newMessagingService(localMember.address());
+      messagingService.start().join();
+      ManagedUnicastService unicastService = unicastServiceFactory.newUnicastService(localMember.address());
+      unicastService.start().join();
+      BootstrapService bootstrapService = new TestBootstrapService(
+          messagingService,
+          unicastService,
+          broadcastServiceFactory.newBroadcastService().start().join());
+      ManagedClusterMembershipService membershipService = new DefaultClusterMembershipService(
+          localMember,
+          Version.from("1.0.0"),
+          new DefaultNodeDiscoveryService(bootstrapService, localMember, new BootstrapDiscoveryProvider(bootstrapLocations)),
+          bootstrapService,
+          new HeartbeatMembershipProtocol(new HeartbeatMembershipProtocolConfig()));
+      membershipService.start().join();
+      messagingServices.add(messagingService);
+      unicastServices.add(unicastService);
+      membershipServices.add(membershipService);
+      communicationServices.add(newCommunicationService(i - 1));
+    }
+
+    for (int i = 0; i < 100 && !membershipServices.stream().allMatch(service -> service.getMembers().stream()
+        .filter(Member::isReachable).count() == SIZE); i++) {
+      Thread.sleep(100);
+    }
+  }
+
+  @After
+  public void teardownCluster() {
+    CompletableFuture.allOf(communicationServices.stream()
+        .map(ManagedClusterCommunicationService::stop)
+        .toArray(CompletableFuture[]::new)).join();
+    CompletableFuture.allOf(membershipServices.stream()
+        .map(ManagedClusterMembershipService::stop)
+        .toArray(CompletableFuture[]::new)).join();
+  }
+
+  private ManagedClusterCommunicationService newCommunicationService(int index) {
+    ManagedClusterCommunicationService communicationService = new DefaultClusterCommunicationService(
+        membershipServices.get(index),
+        messagingServices.get(index),
+        unicastServices.get(index),
+        new PlumtreeConfig().setEnabled(true));
+    communicationService.start().join();
+    return communicationService;
+  }
+
+  @Test
+  public void testPlumtreeBroadcastToReplySubscribers() throws Exception {
+    Map<Integer, AtomicInteger> messages = new ConcurrentHashMap<>();
+    for (int i = 1; i < SIZE; i++) {
+      int id = i;
+      communicationServices.get(i).<String, String>subscribe("test", SERIALIZER::decode, message -> {
+        assertEquals("Hello world!", message);
+        messages.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+        return message;
+      }, SERIALIZER::encode, MoreExecutors.directExecutor()).join();
+    }
+
+    communicationServices.get(0).broadcast("test", "Hello world!", SERIALIZER::encode);
+    Thread.sleep(1000);
+
+    for (int i = 1; i < SIZE; i++) {
+      assertEquals(1, messages.getOrDefault(i, new AtomicInteger()).get());
+    }
+  }
+
+  @Test
+  public void testPlumtreeBroadcastAfterRestart() throws Exception {
+    AtomicInteger messages = new AtomicInteger();
+    communicationServices.get(1).<String>subscribe("test", SERIALIZER::decode, message -> {
+      assertEquals("Hello world!", message);
+      messages.incrementAndGet();
+    }, MoreExecutors.directExecutor()).join();
+
+    communicationServices.get(0).broadcast("test", "Hello world!", SERIALIZER::encode);
+    Thread.sleep(1000);
+    assertEquals(1, messages.get());
+
+    // A restarted member's sequence numbers start over, but its messages must not be dropped as duplicates
+    communicationServices.get(0).stop().join();
+    communicationServices.set(0, newCommunicationService(0));
+    communicationServices.get(0).broadcast("test", "Hello world!", SERIALIZER::encode);
+    Thread.sleep(1000);
+    assertEquals(2, messages.get());
+  }
+
+  @Test
+  public void testPlumtreeBroadcastWhenNotRunning() throws Exception {
+    // Broadcasts before the service is started or after it is stopped are dropped rather than failing the caller
+    ManagedClusterCommunicationService communicationService = new DefaultClusterCommunicationService(
+        membershipServices.get(0),
+        messagingServices.get(0),
+        unicastServices.get(0),
+        new PlumtreeConfig().setEnabled(true));
+    communicationService.broadcast("test", "Hello world!", SERIALIZER::encode);
+
+    communicationServices.get(0).stop().join();
+    communicationServices.get(0).broadcast("test", "Hello world!", SERIALIZER::encode);
+  }
+}
@@ -28,6 +28,7 @@ import io.atomix.cluster.impl.DefaultNodeDiscoveryService;
 import io.atomix.cluster.messaging.ClusterEventService;
 import io.atomix.cluster.messaging.ManagedClusterEventService;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.PlumtreeConfig;
 import io.atomix.cluster.protocol.HeartbeatMembershipProtocol;
 import io.atomix.cluster.protocol.HeartbeatMembershipProtocolConfig;
 import io.atomix.utils.Version;
@@ -36,10 +37,15 @@ import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -203,4 +209,65 @@ public class DefaultClusterEventServiceTest {
     CompletableFuture.allOf(new CompletableFuture[]{clusterService1.stop(), clusterService2.stop(),
         clusterService3.stop()}).join();
   }
+
+  @Test
+  public void testPlumtreeClusterEventService() throws Exception {
+    TestMessagingServiceFactory messagingServiceFactory = new TestMessagingServiceFactory();
+    TestUnicastServiceFactory unicastServiceFactory = new TestUnicastServiceFactory();
+    TestBroadcastServiceFactory broadcastServiceFactory = new TestBroadcastServiceFactory();
+
+    int size = 10;
+    Collection<Node> bootstrapLocations = buildBootstrapNodes(size);
+    List<ManagedClusterMembershipService> membershipServices = new ArrayList<>();
+    List<ManagedClusterEventService> eventServices = new ArrayList<>();
+    for (int i = 1; i <= size; i++) {
+      Member localMember = buildNode(i);
+      MessagingService messagingService = messagingServiceFactory.newMessagingService(localMember.address()).start().join();
+      BootstrapService bootstrapService = new TestBootstrapService(
+          messagingService,
+          unicastServiceFactory.newUnicastService(localMember.address()).start().join(),
+          broadcastServiceFactory.newBroadcastService().start().join());
+      ManagedClusterMembershipService membershipService = new DefaultClusterMembershipService(
+          localMember,
+          Version.from("1.0.0"),
+          new DefaultNodeDiscoveryService(bootstrapService, localMember, new BootstrapDiscoveryProvider(bootstrapLocations)),
+          bootstrapService,
+          new HeartbeatMembershipProtocol(new HeartbeatMembershipProtocolConfig()));
+      membershipService.start().join();
+      membershipServices.add(membershipService);
+      ManagedClusterEventService eventService = new DefaultClusterEventService(
+          membershipService, messagingService, new PlumtreeConfig().setEnabled(true));
+      eventService.start().join();
+      eventServices.add(eventService);
+    }
+
+    for (int i = 0; i < 100 && !membershipServices.stream().allMatch(service -> service.getMembers().stream()
+        .filter(Member::isReachable).count() == size); i++) {
+      Thread.sleep(100);
+    }
+
+    Map<Integer, AtomicInteger> events = new ConcurrentHashMap<>();
+    for (int i = 0; i < size; i++) {
+      int id = i;
+      eventServices.get(i).<String>subscribe("test", SERIALIZER::decode, message -> {
+        assertEquals("Hello world!", message);
+        events.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+      }, MoreExecutors.directExecutor()).join();
+    }
+
+    int messages = 5;
+    for (int i = 0; i < messages; i++) {
+      eventServices.get(i).broadcast("test", "Hello world!", SERIALIZER::encode);
+      Thread.sleep(100);
+    }
+    Thread.sleep(1000);
+
+    for (int i = 0; i < size; i++) {
+      int expected = i < messages ? messages - 1 : messages;
+      assertEquals(expected, events.getOrDefault(i, new AtomicInteger()).get());
+    }
+
+    CompletableFuture.allOf(eventServices.stream().map(ManagedClusterEventService::stop).toArray(CompletableFuture[]::new)).join();
+    CompletableFuture.allOf(membershipServices.stream().map(ManagedClusterMembershipService::stop).toArray(CompletableFuture[]::new)).join();
+  }
 }
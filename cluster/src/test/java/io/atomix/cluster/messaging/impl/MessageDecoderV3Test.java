@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * V3 message encoder/decoder test.
+ */
+public class MessageDecoderV3Test {
+  private static final Address ADDRESS = Address.from("localhost", 5000);
+
+  @Test
+  public void testInternedSubjects() throws Exception {
+    EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoderV3(ADDRESS));
+    EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoderV3());
+    byte[] payload = "Hello world!".getBytes();
+
+    encoder.writeOutbound(new ProtocolRequest(1, ADDRESS, "raft-partition-1-append", payload));
+    ByteBuf first = encoder.readOutbound();
+    int firstLength = first.readableBytes();
+    decoder.writeInbound(first);
+    ProtocolRequest firstRequest = decoder.readInbound();
+    assertEquals(1, firstRequest.id());
+    assertEquals("raft-partition-1-append", firstRequest.subject());
+    assertArrayEquals(payload, firstRequest.payload());
+    assertEquals(ADDRESS, firstRequest.sender());
+    assertTrue(firstRequest.release());
+
+    encoder.writeOutbound(new ProtocolRequest(2, ADDRESS, "raft-partition-1-append", payload));
+    ByteBuf second = encoder.readOutbound();
+    assertTrue(second.readableBytes() < firstLength - "raft-partition-1-append".length());
+    decoder.writeInbound(second);
+    ProtocolRequest secondRequest = decoder.readInbound();
+    assertEquals(2, secondRequest.id());
+    assertSame(firstRequest.subject(), secondRequest.subject());
+
+    encoder.writeOutbound(new ProtocolRequest(3, ADDRESS, "raft-partition-2-append", payload));
+    decoder.writeInbound((ByteBuf) encoder.readOutbound());
+    ProtocolRequest thirdRequest = decoder.readInbound();
+    assertEquals("raft-partition-2-append", thirdRequest.subject());
+
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testSubjectTableOverflow() throws Exception {
+    EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoderV3(ADDRESS));
+    EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoderV3());
+    for (int i = 0; i < MessageEncoderV3.MAX_SUBJECTS + 10; i++) {
+      encoder.writeOutbound(new ProtocolRequest(i, ADDRESS, "subject-" + i, new byte[0]));
+      decoder.writeInbound((ByteBuf) encoder.readOutbound());
+      ProtocolRequest request = decoder.readInbound();
+      assertEquals("subject-" + i, request.subject());
+    }
+    encoder.writeOutbound(new ProtocolRequest(0, ADDRESS, "subject-0", new byte[0]));
+    decoder.writeInbound((ByteBuf) encoder.readOutbound());
+    assertEquals("subject-0", ((ProtocolRequest) decoder.readInbound()).subject());
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+}
@@ -19,7 +19,11 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TransportConfig;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -31,6 +35,7 @@ import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -226,6 +231,58 @@ public class NettyMessagingServiceTest {
     }
   }
 
+  @Test
+  public void testSendAndReceiveBuffer() throws Exception {
+    String subject = nextSubject();
+    AtomicReference<byte[]> request = new AtomicReference<>();
+    netty2.registerBufferHandler(subject, (ep, buffer) -> {
+      request.set(ByteBufUtil.getBytes(buffer));
+      buffer.release();
+      return CompletableFuture.completedFuture(Unpooled.copiedBuffer("hello there".getBytes()));
+    });
+
+    ByteBuf response = netty1.sendAndReceiveBuffer(
+        address2, subject, Unpooled.copiedBuffer("hello world".getBytes()), null).get(10, TimeUnit.SECONDS);
+    try {
+      assertArrayEquals("hello there".getBytes(), ByteBufUtil.getBytes(response));
+    } finally {
+      response.release();
+    }
+    assertArrayEquals("hello world".getBytes(), request.get());
+
+    // Buffer requests are also delivered to byte array handlers.
+    String bytesSubject = nextSubject();
+    netty2.registerHandler(bytesSubject, (ep, payload) -> CompletableFuture.completedFuture(payload));
+    response = netty1.sendAndReceiveBuffer(
+        address2, bytesSubject, Unpooled.copiedBuffer("hello world".getBytes()), null).get(10, TimeUnit.SECONDS);
+    try {
+      assertArrayEquals("hello world".getBytes(), ByteBufUtil.getBytes(response));
+    } finally {
+      response.release();
+    }
+  }
+
+  @Test
+  public void testPendingRequests() throws Exception {
+    String subject = nextSubject();
+    CountDownLatch latch = new CountDownLatch(1);
+    CompletableFuture<byte[]> reply = new CompletableFuture<>();
+    netty2.registerHandler(subject, (ep, payload) -> {
+      latch.countDown();
+      return reply;
+    });
+
+    CompletableFuture<byte[]> response = netty1.sendAndReceive(address2, subject, "hello world".getBytes());
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    Map<Address, Integer> pendingRequests = ((NettyMessagingService) netty1).getPendingRequests();
+    assertEquals(1, pendingRequests.size());
+    assertEquals(1, pendingRequests.values().iterator().next().intValue());
+
+    reply.complete("hello there".getBytes());
+    assertArrayEquals("hello there".getBytes(), response.join());
+    assertTrue(((NettyMessagingService) netty1).getPendingRequests().isEmpty());
+  }
+
   @Test
   @Ignore
   public void testSendAndReceiveWithExecutor() {
@@ -264,6 +321,31 @@ public class NettyMessagingServiceTest {
     assertEquals("handler-thread", handlerThreadName.get());
   }
 
+  @Test
+  public void testNioTransport() throws Exception {
+    MessagingConfig config = new MessagingConfig();
+    config.getTransportConfig()
+        .setType(TransportConfig.Type.NIO)
+        .setClientThreads(1)
+        .setServerThreads(1)
+        .setAllocator(TransportConfig.Allocator.UNPOOLED);
+    Address address = Address.from(findAvailablePort(5007));
+    NettyMessagingService netty = new NettyMessagingService("test", address, config);
+    netty.start().join();
+    try {
+      assertEquals(TransportConfig.Type.NIO, netty.getTransport());
+
+      String subject = nextSubject();
+      byte[] payload = "Hello world!".getBytes();
+      netty.registerHandler(subject, (ep, bytes) -> CompletableFuture.completedFuture(bytes));
+      netty1.registerHandler(subject, (ep, bytes) -> CompletableFuture.completedFuture(bytes));
+      assertArrayEquals(payload, netty1.sendAndReceive(address, subject, payload).get(10, TimeUnit.SECONDS));
+      assertArrayEquals(payload, netty.sendAndReceive(address1, subject, payload).get(10, TimeUnit.SECONDS));
+    } finally {
+      netty.stop().join();
+    }
+  }
+
   @Test
   public void testV1() throws Exception {
     String subject;
@@ -484,6 +484,18 @@ public class AtomixBuilder extends AtomixClusterBuilder {
     return this;
   }
 
+  @Override
+  public AtomixBuilder withPlumtreeEnabled() {
+    super.withPlumtreeEnabled();
+    return this;
+  }
+
+  @Override
+  public AtomixBuilder withPlumtreeEnabled(boolean plumtreeEnabled) {
+    super.withPlumtreeEnabled(plumtreeEnabled);
+    return this;
+  }
+
   @Override
   public AtomixBuilder withKeyStore(String keyStore) {
     super.withKeyStore(keyStore);
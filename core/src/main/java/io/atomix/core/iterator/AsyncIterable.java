@@ -40,4 +40,17 @@ public interface AsyncIterable<T> {
   default Stream<T> stream() {
     return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator().sync(), Spliterator.ORDERED), false);
   }
+
+  /**
+   * Returns a possibly parallel, unordered stream.
+   * <p>
+   * The items of partitioned primitives are streamed from all partitions concurrently. The stream should be closed if
+   * it's not fully consumed to release the iterators held by the partitions.
+   *
+   * @return a new parallel stream
+   */
+  default Stream<T> parallelStream() {
+    AsyncIterator<T> iterator = iterator();
+    return StreamSupport.stream(iterator.spliterator(), true).onClose(iterator::close);
+  }
 }
@@ -15,11 +15,15 @@
  */
 package io.atomix.core.iterator;
 
+import io.atomix.core.iterator.impl.AsyncIteratorSpliterator;
 import io.atomix.core.iterator.impl.BlockingIterator;
 import io.atomix.primitive.DistributedPrimitive;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -66,4 +70,38 @@ public interface AsyncIterator<T> {
   default Iterator<T> sync(Duration timeout) {
     return new BlockingIterator<>(this, timeout.toMillis());
   }
+
+  /**
+   * Splits the iterator into iterators that may be consumed independently.
+   * <p>
+   * Iterators over partitioned primitives are split into one iterator per remaining partition. Together, the returned
+   * iterators iterate all the remaining items in this iterator, which should no longer be used directly.
+   *
+   * @return the iterators over the remaining items in the iterator
+   */
+  default List<AsyncIterator<T>> split() {
+    return Collections.singletonList(this);
+  }
+
+  /**
+   * Returns an unordered spliterator over the remaining items in the iterator.
+   *
+   * @return the spliterator
+   */
+  default Spliterator<T> spliterator() {
+    return spliterator(Duration.ofMillis(DistributedPrimitive.DEFAULT_OPERATION_TIMEOUT_MILLIS));
+  }
+
+  /**
+   * Returns an unordered spliterator over the remaining items in the iterator.
+   * <p>
+   * The spliterator can be split across the iterators returned by {@link #split()}, allowing the partitions of a
+   * partitioned primitive to be consumed in parallel.
+   *
+   * @param timeout the iterator operation timeout
+   * @return the spliterator
+   */
+  default Spliterator<T> spliterator(Duration timeout) {
+    return new AsyncIteratorSpliterator<>(split(), timeout.toMillis());
+  }
 }
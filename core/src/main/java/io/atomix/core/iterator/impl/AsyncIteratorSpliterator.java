@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.iterator.impl;
+
+import io.atomix.core.iterator.AsyncIterator;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Unordered spliterator over a set of asynchronous iterators.
+ * <p>
+ * The spliterator is split by dividing the iterators that have not yet been started between the two spliterators.
+ */
+public class AsyncIteratorSpliterator<T> implements Spliterator<T> {
+  private final List<AsyncIterator<T>> iterators;
+  private final long operationTimeoutMillis;
+  private int index;
+  private BlockingIterator<T> iterator;
+
+  public AsyncIteratorSpliterator(List<AsyncIterator<T>> iterators, long operationTimeoutMillis) {
+    this.iterators = iterators;
+    this.operationTimeoutMillis = operationTimeoutMillis;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    while (true) {
+      if (iterator == null) {
+        if (index == iterators.size()) {
+          return false;
+        }
+        iterator = new BlockingIterator<>(iterators.get(index++), operationTimeoutMillis);
+      }
+      if (iterator.hasNext()) {
+        action.accept(iterator.next());
+        return true;
+      }
+      iterator = null;
+    }
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int remaining = iterators.size() - index;
+    if (remaining < 2) {
+      return null;
+    }
+    int split = index + remaining / 2;
+    Spliterator<T> spliterator = new AsyncIteratorSpliterator<>(iterators.subList(index, split), operationTimeoutMillis);
+    index = split;
+    return spliterator;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return 0;
+  }
+}
@@ -19,16 +19,21 @@ import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.primitive.proxy.ProxyClient;
 import io.atomix.utils.concurrent.Futures;
 
-import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * Partitioned proxy iterator iterator.
+ * <p>
+ * All partition iterators are opened concurrently, and each partition prefetches its next batch while the current
+ * batch is consumed. The iterator can be {@link #split() split} into its partition iterators to consume partitions
+ * in parallel.
  */
 public class PartitionedProxyIterator<S, T> implements AsyncIterator<T> {
-  private final Iterator<AsyncIterator<T>> partitions;
+  private final List<AsyncIterator<T>> partitions;
+  private volatile int index;
   private volatile AsyncIterator<T> iterator;
   private AtomicBoolean closed = new AtomicBoolean();
 
@@ -39,9 +44,8 @@ public class PartitionedProxyIterator<S, T> implements AsyncIterator<T> {
       CloseFunction<S> closeFunction) {
     this.partitions = client.getPartitionIds().stream()
         .<AsyncIterator<T>>map(partitionId -> new ProxyIterator<>(client, partitionId, openFunction, nextFunction, closeFunction))
-        .collect(Collectors.toList())
-        .iterator();
-    iterator = partitions.next();
+        .collect(Collectors.toList());
+    iterator = partitions.get(0);
   }
 
   @Override
@@ -49,11 +53,11 @@ public class PartitionedProxyIterator<S, T> implements AsyncIterator<T> {
     return iterator.hasNext()
         .thenCompose(hasNext -> {
           if (!hasNext) {
-            if (partitions.hasNext()) {
+            if (index < partitions.size() - 1) {
               if (closed.get()) {
                 return Futures.exceptionalFuture(new IllegalStateException("Iterator closed"));
               }
-              iterator = partitions.next();
+              iterator = partitions.get(++index);
               return hasNext();
             }
             return CompletableFuture.completedFuture(false);
@@ -67,9 +71,14 @@ public class PartitionedProxyIterator<S, T> implements AsyncIterator<T> {
     return iterator.next();
   }
 
+  @Override
+  public List<AsyncIterator<T>> split() {
+    return partitions.subList(index, partitions.size());
+  }
+
   @Override
   public CompletableFuture<Void> close() {
     closed.set(true);
-    return iterator.close();
+    return Futures.allOf(partitions.stream().map(AsyncIterator::close)).thenApply(v -> null);
   }
 }
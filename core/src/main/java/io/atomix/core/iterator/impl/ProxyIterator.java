@@ -24,7 +24,6 @@ import io.atomix.utils.concurrent.OrderedFuture;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
 
 /**
  * Collection partition iterator.
@@ -35,7 +34,8 @@ public class ProxyIterator<S, T> implements AsyncIterator<T> {
   private final NextFunction<S, T> nextFunction;
   private final CloseFunction<S> closeFunction;
   private final CompletableFuture<IteratorBatch<T>> openFuture;
-  private volatile CompletableFuture<IteratorBatch<T>> batch;
+  private CompletableFuture<IteratorBatch<T>> batch;
+  private CompletableFuture<IteratorBatch<T>> nextBatch;
   private volatile CompletableFuture<Void> closeFuture;
 
   public ProxyIterator(
@@ -50,23 +50,57 @@ public class ProxyIterator<S, T> implements AsyncIterator<T> {
     this.closeFunction = closeFunction;
     this.openFuture = OrderedFuture.wrap(client.applyOn(partitionId, openFunction::open));
     this.batch = openFuture;
+    this.nextBatch = prefetch(openFuture);
   }
 
   /**
-   * Returns the current batch iterator or lazily fetches the next batch from the cluster.
+   * Returns the current batch iterator or advances to the prefetched next batch.
    *
    * @return the next batch iterator
    */
   private CompletableFuture<Iterator<T>> batch() {
-    return batch.thenCompose(iterator -> {
+    CompletableFuture<IteratorBatch<T>> currentBatch;
+    synchronized (this) {
+      currentBatch = batch;
+    }
+    return currentBatch.thenCompose(iterator -> {
       if (iterator != null && !iterator.hasNext()) {
-        batch = fetch(iterator.position());
-        return batch.thenApply(Function.identity());
+        advance(currentBatch);
+        return batch();
       }
       return CompletableFuture.completedFuture(iterator);
     });
   }
 
+  /**
+   * Advances from the given exhausted batch to the next batch, and begins prefetching the batch after it.
+   *
+   * @param currentBatch the exhausted batch
+   */
+  private synchronized void advance(CompletableFuture<IteratorBatch<T>> currentBatch) {
+    if (batch == currentBatch) {
+      batch = nextBatch;
+      nextBatch = prefetch(batch);
+    }
+  }
+
+  /**
+   * Fetches the batch following the given batch once it has been received.
+   * <p>
+   * The next batch is requested as soon as the given batch arrives so it's fetched while the given batch is consumed.
+   *
+   * @param batch the batch after which to fetch the next batch
+   * @return the batch following the given batch
+   */
+  private CompletableFuture<IteratorBatch<T>> prefetch(CompletableFuture<IteratorBatch<T>> batch) {
+    return batch.thenCompose(iterator -> {
+      if (iterator != null && !iterator.complete()) {
+        return fetch(iterator.position());
+      }
+      return CompletableFuture.completedFuture(null);
+    });
+  }
+
   /**
    * Fetches the next batch of entries from the cluster.
    *
@@ -17,8 +17,10 @@ package io.atomix.core.iterator.impl;
 
 import io.atomix.core.iterator.AsyncIterator;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Transcoding iterator.
@@ -42,6 +44,13 @@ public class TranscodingIterator<T1, T2> implements AsyncIterator<T1> {
     return backingIterator.next().thenApply(elementDecoder);
   }
 
+  @Override
+  public List<AsyncIterator<T1>> split() {
+    return backingIterator.split().stream()
+        .<AsyncIterator<T1>>map(iterator -> new TranscodingIterator<>(iterator, elementDecoder))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public CompletableFuture<Void> close() {
     return backingIterator.close();
@@ -82,7 +82,7 @@ public abstract class AbstractAtomicLockService extends AbstractPrimitiveService
     timers.clear();
     for (LockHolder holder : queue) {
       if (holder.expire > 0) {
-        timers.put(holder.index, getScheduler().schedule(Duration.ofMillis(holder.expire - getWallClock().getTime().unixTimestamp()), () -> {
+        timers.put(holder.index, getScheduler().schedule(Duration.ofMillis(Math.max(holder.expire - getWallClock().getTime().unixTimestamp(), 0)), () -> {
           timers.remove(holder.index);
           queue.remove(holder);
           Session session = getSession(holder.session);
@@ -66,6 +66,18 @@ public interface AsyncDistributedLog<E> extends AsyncPrimitive {
    */
   CompletableFuture<Void> consume(Consumer<Record<E>> consumer);
 
+  /**
+   * Adds a consumer to all partitions as a member of the given consumer group.
+   * <p>
+   * Each partition is consumed by a single member of the group at a time, and the group resumes consuming a
+   * partition from its committed offset when the partition is reassigned to another member.
+   *
+   * @param group the consumer group
+   * @param consumer the log consumer
+   * @return a future to be completed once the consumer has been added
+   */
+  CompletableFuture<Void> consume(String group, Consumer<Record<E>> consumer);
+
   @Override
   default DistributedLog<E> sync() {
     return sync(Duration.ofMillis(DEFAULT_OPERATION_TIMEOUT_MILLIS));
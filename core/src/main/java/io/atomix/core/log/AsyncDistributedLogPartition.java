@@ -61,6 +61,18 @@ public interface AsyncDistributedLogPartition<E> extends AsyncPrimitive {
    */
   CompletableFuture<Void> consume(long offset, Consumer<Record<E>> consumer);
 
+  /**
+   * Adds a consumer to the log partition as a member of the given consumer group.
+   * <p>
+   * The partition is consumed by a single member of the group at a time. When the partition is reassigned to another
+   * member, that member resumes consuming from the group's committed offset.
+   *
+   * @param group the consumer group
+   * @param consumer the log partition consumer
+   * @return a future to be completed once the consumer has been added
+   */
+  CompletableFuture<Void> consume(String group, Consumer<Record<E>> consumer);
+
   /**
    * Returns a synchronous log partition.
    *
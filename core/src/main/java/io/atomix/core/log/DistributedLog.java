@@ -62,6 +62,17 @@ public interface DistributedLog<E> extends SyncPrimitive {
    */
   void consume(Consumer<Record<E>> consumer);
 
+  /**
+   * Adds a consumer to all partitions as a member of the given consumer group.
+   * <p>
+   * Each partition is consumed by a single member of the group at a time, and the group resumes consuming a
+   * partition from its committed offset when the partition is reassigned to another member.
+   *
+   * @param group the consumer group
+   * @param consumer the log consumer
+   */
+  void consume(String group, Consumer<Record<E>> consumer);
+
   @Override
   AsyncDistributedLog<E> async();
 
@@ -55,6 +55,14 @@ public interface DistributedLogPartition<E> extends SyncPrimitive {
    */
   void consume(long offset, Consumer<Record<E>> consumer);
 
+  /**
+   * Adds a consumer to the log partition as a member of the given consumer group.
+   *
+   * @param group the consumer group
+   * @param consumer the log partition consumer
+   */
+  void consume(String group, Consumer<Record<E>> consumer);
+
   /**
    * Returns an asynchronous API for the log partition.
    *
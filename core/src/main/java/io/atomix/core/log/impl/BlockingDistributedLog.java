@@ -78,6 +78,11 @@ public class BlockingDistributedLog<E> extends Synchronous<AsyncDistributedLog<E
     complete(asyncLog.consume(consumer));
   }
 
+  @Override
+  public void consume(String group, Consumer<Record<E>> consumer) {
+    complete(asyncLog.consume(group, consumer));
+  }
+
   @Override
   public AsyncDistributedLog<E> async() {
     return asyncLog;
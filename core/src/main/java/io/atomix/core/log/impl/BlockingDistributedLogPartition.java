@@ -56,6 +56,11 @@ public class BlockingDistributedLogPartition<E> extends Synchronous<AsyncDistrib
     complete(asyncPartition.consume(offset, consumer));
   }
 
+  @Override
+  public void consume(String group, Consumer<Record<E>> consumer) {
+    complete(asyncPartition.consume(group, consumer));
+  }
+
   @Override
   public AsyncDistributedLogPartition<E> async() {
     return asyncPartition;
@@ -123,6 +123,13 @@ public class DefaultAsyncDistributedLog<E> implements AsyncDistributedLog<E> {
         .thenApply(v -> null);
   }
 
+  @Override
+  public CompletableFuture<Void> consume(String group, Consumer<Record<E>> consumer) {
+    return Futures.allOf(getPartitions().stream()
+        .map(partition -> partition.consume(group, consumer)))
+        .thenApply(v -> null);
+  }
+
   @Override
   public DistributedLog<E> sync(Duration operationTimeout) {
     return new BlockingDistributedLog<>(this, operationTimeout.toMillis());
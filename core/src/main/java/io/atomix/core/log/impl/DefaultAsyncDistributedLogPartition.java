@@ -106,6 +106,12 @@ public class DefaultAsyncDistributedLogPartition<E> implements AsyncDistributedL
         consumer.accept(new Record<E>(record.index(), record.timestamp(), decode(record.value()))));
   }
 
+  @Override
+  public CompletableFuture<Void> consume(String group, Consumer<Record<E>> consumer) {
+    return session.consumer().consume(group, record ->
+        consumer.accept(new Record<E>(record.index(), record.timestamp(), decode(record.value()))));
+  }
+
   @Override
   public CompletableFuture<Void> close() {
     return session.close();
@@ -18,6 +18,7 @@ package io.atomix.core.map;
 
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.core.collection.AsyncDistributedCollection;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.set.AsyncDistributedSet;
 import io.atomix.core.map.impl.MapUpdate;
 import io.atomix.core.transaction.Transactional;
@@ -247,6 +248,35 @@ public interface AsyncAtomicMap<K, V> extends AsyncPrimitive, Transactional<MapU
    */
   CompletableFuture<Versioned<V>> putAndGet(K key, V value, Duration ttl);
 
+  /**
+   * Copies all of the mappings from the specified map to this map.
+   * <p>
+   * Keys are grouped by partition and the entries for each partition are applied atomically as a single
+   * operation. Updates to different partitions are not atomic with respect to each other. If any key in a
+   * partition is locked by a transaction, none of the entries for that partition are applied and the
+   * returned future will be completed exceptionally.
+   *
+   * @param entries mappings to be stored in this map
+   * @return future that will be successfully completed when the entries have been stored
+   */
+  default CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries) {
+    return putAll(entries, Duration.ZERO);
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map.
+   * <p>
+   * Keys are grouped by partition and the entries for each partition are applied atomically as a single
+   * operation. Updates to different partitions are not atomic with respect to each other. If any key in a
+   * partition is locked by a transaction, none of the entries for that partition are applied and the
+   * returned future will be completed exceptionally.
+   *
+   * @param entries mappings to be stored in this map
+   * @param ttl     the time to live after which to remove the values
+   * @return future that will be successfully completed when the entries have been stored
+   */
+  CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl);
+
   /**
    * Removes the mapping for a key from this map if it is present (optional operation).
    *
@@ -256,6 +286,18 @@ public interface AsyncAtomicMap<K, V> extends AsyncPrimitive, Transactional<MapU
    */
   CompletableFuture<Versioned<V>> remove(K key);
 
+  /**
+   * Removes the mappings for the specified keys from this map if they are present.
+   * <p>
+   * Keys are grouped by partition and the keys for each partition are removed atomically as a single
+   * operation. If any key in a partition is locked by a transaction, none of the keys for that partition are
+   * removed and the returned future will be completed exceptionally.
+   *
+   * @param keys the keys whose mappings are to be removed from the map
+   * @return the mapping of removed keys to the values (and versions) this map previously associated with them
+   */
+  CompletableFuture<Map<K, Versioned<V>>> removeAll(Iterable<K> keys);
+
   /**
    * Removes all of the mappings from this map (optional operation).
    * The map will be empty after this call returns.
@@ -297,6 +339,31 @@ public interface AsyncAtomicMap<K, V> extends AsyncPrimitive, Transactional<MapU
    */
   AsyncDistributedSet<Entry<K, Versioned<V>>> entrySet();
 
+  /**
+   * Scans the map for the entries whose keys match the given filter.
+   * <p>
+   * The filter is evaluated within each partition of the map, so only matching entries are transferred to the
+   * client. Entries are returned in no particular order.
+   *
+   * @param filter the filter with which to match entries
+   * @return an iterator over the matching entries
+   */
+  default AsyncIterator<Entry<K, Versioned<V>>> scan(AtomicMapFilter filter) {
+    return scan(filter, AtomicMapProjection.ENTRIES);
+  }
+
+  /**
+   * Scans the map for the entries whose keys match the given filter, returning the given projection of each entry.
+   * <p>
+   * The filter and projection are evaluated within each partition of the map, so only the projected matching
+   * entries are transferred to the client. Entries are returned in no particular order.
+   *
+   * @param filter the filter with which to match entries
+   * @param projection the projection to apply to matching entries
+   * @return an iterator over the projected matching entries
+   */
+  AsyncIterator<Entry<K, Versioned<V>>> scan(AtomicMapFilter filter, AtomicMapProjection projection);
+
   /**
    * If the specified key is not already associated with a value associates
    * it with the given value and returns null, else behaves as a get
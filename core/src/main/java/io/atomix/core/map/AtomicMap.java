@@ -18,6 +18,7 @@ package io.atomix.core.map;
 
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.core.collection.DistributedCollection;
+import io.atomix.core.iterator.SyncIterator;
 import io.atomix.core.set.DistributedSet;
 import io.atomix.primitive.SyncPrimitive;
 import io.atomix.utils.time.Versioned;
@@ -214,6 +215,29 @@ public interface AtomicMap<K, V> extends SyncPrimitive {
    */
   Versioned<V> putAndGet(K key, V value, Duration ttl);
 
+  /**
+   * Copies all of the mappings from the specified map to this map.
+   * <p>
+   * Keys are grouped by partition and the entries for each partition are applied atomically as a single
+   * operation. Updates to different partitions are not atomic with respect to each other.
+   *
+   * @param entries mappings to be stored in this map
+   */
+  default void putAll(Map<? extends K, ? extends V> entries) {
+    putAll(entries, Duration.ZERO);
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map.
+   * <p>
+   * Keys are grouped by partition and the entries for each partition are applied atomically as a single
+   * operation. Updates to different partitions are not atomic with respect to each other.
+   *
+   * @param entries mappings to be stored in this map
+   * @param ttl     the time to live after which to remove the values
+   */
+  void putAll(Map<? extends K, ? extends V> entries, Duration ttl);
+
   /**
    * Removes the mapping for a key from this map if it is present (optional operation).
    *
@@ -223,6 +247,17 @@ public interface AtomicMap<K, V> extends SyncPrimitive {
    */
   Versioned<V> remove(K key);
 
+  /**
+   * Removes the mappings for the specified keys from this map if they are present.
+   * <p>
+   * Keys are grouped by partition and the keys for each partition are removed atomically as a single
+   * operation.
+   *
+   * @param keys the keys whose mappings are to be removed from the map
+   * @return the mapping of removed keys to the values (and versions) this map previously associated with them
+   */
+  Map<K, Versioned<V>> removeAll(Iterable<K> keys);
+
   /**
    * Removes all of the mappings from this map (optional operation).
    * The map will be empty after this call returns.
@@ -262,6 +297,28 @@ public interface AtomicMap<K, V> extends SyncPrimitive {
    */
   DistributedSet<Entry<K, Versioned<V>>> entrySet();
 
+  /**
+   * Scans the map for the entries whose keys match the given filter.
+   * <p>
+   * The filter is evaluated within each partition of the map, so only matching entries are transferred to the
+   * client. Entries are returned in no particular order.
+   *
+   * @param filter the filter with which to match entries
+   * @return an iterator over the matching entries
+   */
+  default SyncIterator<Entry<K, Versioned<V>>> scan(AtomicMapFilter filter) {
+    return scan(filter, AtomicMapProjection.ENTRIES);
+  }
+
+  /**
+   * Scans the map for the entries whose keys match the given filter, returning the given projection of each entry.
+   *
+   * @param filter the filter with which to match entries
+   * @param projection the projection to apply to matching entries
+   * @return an iterator over the projected matching entries
+   */
+  SyncIterator<Entry<K, Versioned<V>>> scan(AtomicMapFilter filter, AtomicMapProjection projection);
+
   /**
    * If the specified key is not already associated with a value
    * associates it with the given value and returns null, else returns the current value.
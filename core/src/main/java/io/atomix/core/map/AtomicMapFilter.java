@@ -0,0 +1,303 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.map;
+
+import com.google.common.collect.Sets;
+
+import java.util.Collection;
+import java.util.Set;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Atomic map scan filter.
+ * <p>
+ * Filters are serialized to the map's partitions and evaluated against the keys stored in each partition, so only
+ * matching entries are returned to the client. Filters can match keys of the basic types supported by all nodes,
+ * such as strings and numbers. Keys of other types never match a filter.
+ */
+public abstract class AtomicMapFilter {
+
+  /**
+   * Returns a filter that matches all keys.
+   *
+   * @return a filter that matches all keys
+   */
+  public static AtomicMapFilter all() {
+    return new AllFilter();
+  }
+
+  /**
+   * Returns a filter that matches string keys with the given prefix.
+   *
+   * @param prefix the key prefix
+   * @return a filter that matches string keys with the given prefix
+   */
+  public static AtomicMapFilter keyPrefix(String prefix) {
+    return new KeyPrefixFilter(checkNotNull(prefix, "prefix cannot be null"));
+  }
+
+  /**
+   * Returns a filter that matches keys in the given range.
+   *
+   * @param lowerKey the lower bound of the range or {@code null} if the range has no lower bound
+   * @param lowerInclusive whether the lower bound is included in the range
+   * @param upperKey the upper bound of the range or {@code null} if the range has no upper bound
+   * @param upperInclusive whether the upper bound is included in the range
+   * @param <K> the key type
+   * @return a filter that matches keys in the given range
+   */
+  public static <K extends Comparable<K>> AtomicMapFilter keyRange(
+      K lowerKey, boolean lowerInclusive, K upperKey, boolean upperInclusive) {
+    return new KeyRangeFilter(lowerKey, lowerInclusive, upperKey, upperInclusive);
+  }
+
+  /**
+   * Returns a filter that matches the given keys.
+   *
+   * @param keys the keys to match
+   * @return a filter that matches the given keys
+   */
+  public static AtomicMapFilter keys(Collection<?> keys) {
+    return new KeysFilter(Sets.newHashSet(checkNotNull(keys, "keys cannot be null")));
+  }
+
+  /**
+   * Returns a filter that matches keys matched by both this filter and the given filter.
+   *
+   * @param filter the filter with which to combine this filter
+   * @return the combined filter
+   */
+  public AtomicMapFilter and(AtomicMapFilter filter) {
+    return new AndFilter(this, checkNotNull(filter, "filter cannot be null"));
+  }
+
+  /**
+   * Returns a filter that matches keys matched by either this filter or the given filter.
+   *
+   * @param filter the filter with which to combine this filter
+   * @return the combined filter
+   */
+  public AtomicMapFilter or(AtomicMapFilter filter) {
+    return new OrFilter(this, checkNotNull(filter, "filter cannot be null"));
+  }
+
+  /**
+   * Returns a filter that matches keys not matched by this filter.
+   *
+   * @return the negated filter
+   */
+  public AtomicMapFilter negate() {
+    return new NotFilter(this);
+  }
+
+  /**
+   * Returns whether the filter matches the given key.
+   *
+   * @param key the key to test
+   * @return whether the filter matches the given key
+   */
+  public abstract boolean test(Object key);
+
+  /**
+   * Filter that matches all keys.
+   */
+  static class AllFilter extends AtomicMapFilter {
+    @Override
+    public boolean test(Object key) {
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this).toString();
+    }
+  }
+
+  /**
+   * Filter that matches string keys by prefix.
+   */
+  static class KeyPrefixFilter extends AtomicMapFilter {
+    private final String prefix;
+
+    KeyPrefixFilter(String prefix) {
+      this.prefix = prefix;
+    }
+
+    @Override
+    public boolean test(Object key) {
+      return key instanceof String && ((String) key).startsWith(prefix);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("prefix", prefix)
+          .toString();
+    }
+  }
+
+  /**
+   * Filter that matches keys in a range.
+   */
+  static class KeyRangeFilter extends AtomicMapFilter {
+    private final Comparable lowerKey;
+    private final boolean lowerInclusive;
+    private final Comparable upperKey;
+    private final boolean upperInclusive;
+
+    KeyRangeFilter(Comparable lowerKey, boolean lowerInclusive, Comparable upperKey, boolean upperInclusive) {
+      this.lowerKey = lowerKey;
+      this.lowerInclusive = lowerInclusive;
+      this.upperKey = upperKey;
+      this.upperInclusive = upperInclusive;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean test(Object key) {
+      if (key == null) {
+        return false;
+      }
+      try {
+        if (lowerKey != null) {
+          int compare = lowerKey.compareTo(key);
+          if (compare > 0 || (compare == 0 && !lowerInclusive)) {
+            return false;
+          }
+        }
+        if (upperKey != null) {
+          int compare = upperKey.compareTo(key);
+          if (compare < 0 || (compare == 0 && !upperInclusive)) {
+            return false;
+          }
+        }
+        return true;
+      } catch (ClassCastException e) {
+        return false;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("lowerKey", lowerKey)
+          .add("lowerInclusive", lowerInclusive)
+          .add("upperKey", upperKey)
+          .add("upperInclusive", upperInclusive)
+          .toString();
+    }
+  }
+
+  /**
+   * Filter that matches a set of keys.
+   */
+  static class KeysFilter extends AtomicMapFilter {
+    private final Set<Object> keys;
+
+    KeysFilter(Set<Object> keys) {
+      this.keys = keys;
+    }
+
+    @Override
+    public boolean test(Object key) {
+      return key != null && keys.contains(key);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("keys", keys)
+          .toString();
+    }
+  }
+
+  /**
+   * Filter that matches keys matched by two filters.
+   */
+  static class AndFilter extends AtomicMapFilter {
+    private final AtomicMapFilter left;
+    private final AtomicMapFilter right;
+
+    AndFilter(AtomicMapFilter left, AtomicMapFilter right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean test(Object key) {
+      return left.test(key) && right.test(key);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("left", left)
+          .add("right", right)
+          .toString();
+    }
+  }
+
+  /**
+   * Filter that matches keys matched by either of two filters.
+   */
+  static class OrFilter extends AtomicMapFilter {
+    private final AtomicMapFilter left;
+    private final AtomicMapFilter right;
+
+    OrFilter(AtomicMapFilter left, AtomicMapFilter right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    @Override
+    public boolean test(Object key) {
+      return left.test(key) || right.test(key);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("left", left)
+          .add("right", right)
+          .toString();
+    }
+  }
+
+  /**
+   * Filter that matches keys not matched by another filter.
+   */
+  static class NotFilter extends AtomicMapFilter {
+    private final AtomicMapFilter filter;
+
+    NotFilter(AtomicMapFilter filter) {
+      this.filter = filter;
+    }
+
+    @Override
+    public boolean test(Object key) {
+      return key != null && !filter.test(key);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("filter", filter)
+          .toString();
+    }
+  }
+}
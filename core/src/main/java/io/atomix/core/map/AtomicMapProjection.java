@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.map;
+
+/**
+ * Atomic map scan projection.
+ * <p>
+ * The projection determines which parts of each matching entry are returned by a scan.
+ */
+public enum AtomicMapProjection {
+
+  /**
+   * Returns only the keys of matching entries. The values of the returned entries are {@code null}.
+   */
+  KEYS,
+
+  /**
+   * Returns the keys and versions of matching entries. The returned entries have {@link io.atomix.utils.time.Versioned}
+   * values with a {@code null} value.
+   */
+  VERSIONS,
+
+  /**
+   * Returns complete matching entries.
+   */
+  ENTRIES
+}
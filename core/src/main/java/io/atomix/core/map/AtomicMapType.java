@@ -81,6 +81,14 @@ public class AtomicMapType<K, V> implements PrimitiveType<AtomicMapBuilder<K, V>
         .register(IteratorBatch.class)
         .register(Versioned.class)
         .register(byte[].class)
+        .register(AtomicMapFilter.AllFilter.class)
+        .register(AtomicMapFilter.KeyPrefixFilter.class)
+        .register(AtomicMapFilter.KeyRangeFilter.class)
+        .register(AtomicMapFilter.KeysFilter.class)
+        .register(AtomicMapFilter.AndFilter.class)
+        .register(AtomicMapFilter.OrFilter.class)
+        .register(AtomicMapFilter.NotFilter.class)
+        .register(AtomicMapProjection.class)
         .build();
   }
 
@@ -15,6 +15,7 @@
  */
 package io.atomix.core.map.impl;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import io.atomix.core.collection.AsyncDistributedCollection;
@@ -28,6 +29,8 @@ import io.atomix.core.iterator.impl.ProxyIterator;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.core.map.AtomicMapEvent;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.set.AsyncDistributedSet;
 import io.atomix.core.set.DistributedSet;
 import io.atomix.core.set.DistributedSetType;
@@ -51,6 +54,8 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
@@ -126,6 +131,16 @@ public abstract class AbstractAtomicMapProxy<P extends AsyncPrimitive, S extends
     return new AtomicMapEntrySet();
   }
 
+  @Override
+  public AsyncIterator<Entry<K, Versioned<byte[]>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return new ProxyIterator<>(
+        getProxyClient(),
+        getProxyClient().getPartitionId(name()),
+        service -> service.scan(filter, projection),
+        AtomicMapService::nextScan,
+        AtomicMapService::closeScan);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> put(K key, byte[] value, Duration ttl) {
@@ -142,6 +157,14 @@ public abstract class AbstractAtomicMapProxy<P extends AsyncPrimitive, S extends
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends byte[]> entries, Duration ttl) {
+    Map<K, byte[]> uniqueEntries = new HashMap<>(entries);
+    return getProxyClient().applyBy(name(), service -> service.putAll(uniqueEntries, ttl.toMillis()))
+        .whenComplete((r, e) -> throwIfLocked(r))
+        .thenApply(v -> null);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> putIfAbsent(K key, byte[] value, Duration ttl) {
@@ -158,6 +181,19 @@ public abstract class AbstractAtomicMapProxy<P extends AsyncPrimitive, S extends
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<byte[]>>> removeAll(Iterable<K> keys) {
+    return getProxyClient().applyBy(name(), service -> service.removeAll(Sets.newHashSet(keys)))
+        .whenComplete((r, e) -> throwIfLocked(r))
+        .thenApply(results -> {
+          Map<K, Versioned<byte[]>> result = new HashMap<>();
+          for (MapEntryUpdateResult<K, byte[]> entry : results) {
+            result.put(entry.key(), entry.result());
+          }
+          return ImmutableMap.copyOf(result);
+        });
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Boolean> remove(K key, byte[] value) {
@@ -280,6 +316,12 @@ public abstract class AbstractAtomicMapProxy<P extends AsyncPrimitive, S extends
     }
   }
 
+  private void throwIfLocked(List<MapEntryUpdateResult<K, byte[]>> results) {
+    if (results != null) {
+      results.forEach(this::throwIfLocked);
+    }
+  }
+
   private void throwIfLocked(MapEntryUpdateResult.Status status) {
     if (status == MapEntryUpdateResult.Status.WRITE_LOCK) {
       throw new ConcurrentModificationException("Cannot update map: Another transaction in progress");
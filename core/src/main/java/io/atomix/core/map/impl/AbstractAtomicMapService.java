@@ -15,11 +15,15 @@
  */
 package io.atomix.core.map.impl;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.io.BaseEncoding;
 import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.map.AtomicMapEvent;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
 import io.atomix.core.transaction.impl.CommitResult;
@@ -29,10 +33,13 @@ import io.atomix.primitive.PrimitiveType;
 import io.atomix.primitive.service.AbstractPrimitiveService;
 import io.atomix.primitive.service.BackupInput;
 import io.atomix.primitive.service.BackupOutput;
+import io.atomix.primitive.service.ConcurrentBackup;
+import io.atomix.primitive.service.IncrementalBackup;
 import io.atomix.primitive.session.Session;
 import io.atomix.primitive.session.SessionId;
 import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.Versioned;
 
@@ -44,10 +51,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -56,9 +68,12 @@ import static com.google.common.base.Throwables.throwIfUnchecked;
 /**
  * State Machine for {@link AtomicMapProxy} resource.
  */
-public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveService<AtomicMapClient> implements AtomicMapService<K> {
+public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveService<AtomicMapClient>
+    implements AtomicMapService<K>, IncrementalBackup, ConcurrentBackup {
 
   private static final int MAX_ITERATOR_BATCH_SIZE = 1024 * 32;
+  private static final int PROJECTED_ENTRY_SIZE = 32;
+  private static final Serializer KEY_SERIALIZER = Serializer.using(Namespaces.BASIC);
 
   private final Serializer serializer;
   protected Set<SessionId> listeners = Sets.newLinkedHashSet();
@@ -68,6 +83,12 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
   protected Map<Long, IteratorContext> entryIterators = Maps.newHashMap();
   protected long currentVersion;
 
+  // The keys updated since the last backup, or null if delta backups are not enabled.
+  private Set<K> updatedKeys;
+
+  // Views of the entries captured by concurrent backups that have not yet been written.
+  private final List<EntriesView> backupViews = new CopyOnWriteArrayList<>();
+
   public AbstractAtomicMapService(PrimitiveType primitiveType) {
     super(primitiveType, AtomicMapClient.class);
     serializer = Serializer.using(Namespace.builder()
@@ -79,6 +100,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
         .register(MapEntryValue.Type.class)
         .register(new HashMap().keySet().getClass())
         .register(DefaultIterator.class)
+        .register(ScanIterator.class)
         .build());
     map = createMap();
   }
@@ -91,6 +113,32 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     return map;
   }
 
+  /**
+   * Records that the entry for the given key is about to be updated.
+   * <p>
+   * This method must be called before any change to the entries is made so that the changed entries can be
+   * included in the next delta backup.
+   *
+   * @param key the key to be updated
+   */
+  protected void recordUpdate(K key) {
+    if (updatedKeys != null) {
+      updatedKeys.add(key);
+    }
+    for (EntriesView view : backupViews) {
+      view.recordUpdate(key);
+    }
+  }
+
+  /**
+   * Resets the keys updated since the last backup.
+   */
+  private void resetUpdates() {
+    if (updatedKeys != null) {
+      updatedKeys = Sets.newHashSet();
+    }
+  }
+
   @Override
   public Serializer serializer() {
     return serializer;
@@ -98,12 +146,38 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
 
   @Override
   public void backup(BackupOutput writer) {
-    writer.writeObject(listeners);
-    writer.writeObject(preparedKeys);
-    writer.writeObject(Maps.newHashMap(entries()));
-    writer.writeObject(activeTransactions);
-    writer.writeLong(currentVersion);
-    writer.writeObject(entryIterators);
+    captureBackup().accept(writer);
+  }
+
+  @Override
+  public Consumer<BackupOutput> captureBackup() {
+    // Entry values are immutable, so a shallow copy of each collection is sufficient to freeze the service state.
+    // The entries are captured as a copy-on-write view which is copied when the backup is written.
+    // Iterator contexts are mutated as iterators progress and are therefore copied through the serializer.
+    Set<SessionId> listeners = Sets.newLinkedHashSet(this.listeners);
+    Set<K> preparedKeys = Sets.newHashSet(this.preparedKeys);
+    EntriesView entries = new EntriesView(entries());
+    backupViews.add(entries);
+    Map<TransactionId, TransactionScope<K>> activeTransactions = Maps.newHashMap(this.activeTransactions);
+    long currentVersion = this.currentVersion;
+    Map<Long, IteratorContext> entryIterators = this.entryIterators.isEmpty()
+        ? Maps.newHashMap()
+        : serializer.decode(serializer.encode(this.entryIterators));
+    resetUpdates();
+    return writer -> {
+      Map<K, MapEntryValue> entriesCopy;
+      try {
+        entriesCopy = entries.copy();
+      } finally {
+        backupViews.remove(entries);
+      }
+      writer.writeObject(listeners);
+      writer.writeObject(preparedKeys);
+      writer.writeObject(entriesCopy);
+      writer.writeObject(activeTransactions);
+      writer.writeLong(currentVersion);
+      writer.writeObject(entryIterators);
+    };
   }
 
   @Override
@@ -111,20 +185,88 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     listeners = reader.readObject();
     preparedKeys = reader.readObject();
     Map<K, MapEntryValue> map = reader.readObject();
+
+    // Cancel the timers of the replaced entries before scheduling new ones based on the state provided by the snapshot.
+    if (this.map != null) {
+      this.map.values().forEach(this::cancelTtl);
+    }
     this.map = createMap();
     this.map.putAll(map);
     activeTransactions = reader.readObject();
     currentVersion = reader.readLong();
     entryIterators = reader.readObject();
+    resetUpdates();
+
+    map.forEach(this::restoreTtl);
+  }
+
+  @Override
+  public void enableDeltas() {
+    if (updatedKeys == null) {
+      updatedKeys = Sets.newHashSet();
+    }
+  }
 
-    map.forEach((key, value) -> {
-      if (value.ttl() > 0) {
-        value.timer = getScheduler().schedule(Duration.ofMillis(value.ttl() - (getWallClock().getTime().unixTimestamp() - value.created())), () -> {
-          entries().remove(key, value);
-          publish(new AtomicMapEvent<>(AtomicMapEvent.Type.REMOVE, key, null, toVersioned(value)));
-        });
+  @Override
+  public void backupDelta(BackupOutput writer) {
+    checkState(updatedKeys != null, "delta backups are not enabled");
+    Map<K, MapEntryValue> updatedEntries = Maps.newHashMap();
+    Set<K> removedKeys = Sets.newHashSet();
+    for (K key : updatedKeys) {
+      MapEntryValue value = entries().get(key);
+      if (value != null) {
+        updatedEntries.put(key, value);
+      } else {
+        removedKeys.add(key);
       }
+    }
+
+    writer.writeObject(listeners);
+    writer.writeObject(preparedKeys);
+    writer.writeObject(updatedEntries);
+    writer.writeObject(removedKeys);
+    writer.writeObject(activeTransactions);
+    writer.writeLong(currentVersion);
+    writer.writeObject(entryIterators);
+    resetUpdates();
+  }
+
+  @Override
+  public void restoreDelta(BackupInput reader) {
+    listeners = reader.readObject();
+    preparedKeys = reader.readObject();
+    Map<K, MapEntryValue> updatedEntries = reader.readObject();
+    Set<K> removedKeys = reader.readObject();
+    for (K key : removedKeys) {
+      recordUpdate(key);
+      cancelTtl(entries().remove(key));
+    }
+    updatedEntries.forEach((key, value) -> {
+      recordUpdate(key);
+      cancelTtl(entries().put(key, value));
+      restoreTtl(key, value);
     });
+    activeTransactions = reader.readObject();
+    currentVersion = reader.readLong();
+    entryIterators = reader.readObject();
+    resetUpdates();
+  }
+
+  /**
+   * Schedules the remaining TTL for the given restored value.
+   *
+   * @param key the key for which to schedule the TTL
+   * @param value the value for which to schedule the TTL
+   */
+  private void restoreTtl(K key, MapEntryValue value) {
+    if (value.ttl() > 0) {
+      long remaining = value.ttl() - (getWallClock().getTime().unixTimestamp() - value.created());
+      value.timer = getScheduler().schedule(Duration.ofMillis(Math.max(remaining, 0)), () -> {
+        recordUpdate(key);
+        entries().remove(key, value);
+        publish(new AtomicMapEvent<>(AtomicMapEvent.Type.REMOVE, key, null, toVersioned(value)));
+      });
+    }
   }
 
   @Override
@@ -157,10 +299,14 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
 
   @Override
   public Map<K, Versioned<byte[]>> getAllPresent(Set<K> keys) {
-    return entries().entrySet().stream()
-        .filter(entry -> entry.getValue().type() != MapEntryValue.Type.TOMBSTONE
-            && keys.contains(entry.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, o -> toVersioned(o.getValue())));
+    Map<K, Versioned<byte[]>> result = Maps.newHashMapWithExpectedSize(keys.size());
+    for (K key : keys) {
+      MapEntryValue value = entries().get(key);
+      if (!valueIsNull(value)) {
+        result.put(key, toVersioned(value));
+      }
+    }
+    return result;
   }
 
   @Override
@@ -253,6 +399,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
    * @param value the value to update
    */
   protected void putValue(K key, MapEntryValue value) {
+    recordUpdate(key);
     MapEntryValue oldValue = entries().put(key, value);
     cancelTtl(oldValue);
     scheduleTtl(key, value);
@@ -266,6 +413,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
   protected void scheduleTtl(K key, MapEntryValue value) {
     if (value.ttl() > 0) {
       value.timer = getScheduler().schedule(Duration.ofMillis(value.ttl()), () -> {
+        recordUpdate(key);
         entries().remove(key, value);
         publish(new AtomicMapEvent<>(AtomicMapEvent.Type.REMOVE, key, null, toVersioned(value)));
       });
@@ -395,6 +543,41 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.NOOP, getCurrentIndex(), key, toVersioned(oldValue));
   }
 
+  @Override
+  public MapEntryUpdateResult.Status putAll(Map<K, byte[]> entries, long ttl) {
+    // If any of the keys has been locked by a transaction, return a WRITE_LOCK error without applying the batch.
+    for (K key : entries.keySet()) {
+      if (preparedKeys.contains(key)) {
+        return MapEntryUpdateResult.Status.WRITE_LOCK;
+      }
+    }
+
+    long timestamp = getWallClock().getTime().unixTimestamp();
+    List<AtomicMapEvent<K, byte[]>> events = new ArrayList<>(entries.size());
+    for (Map.Entry<K, byte[]> entry : entries.entrySet()) {
+      K key = entry.getKey();
+      MapEntryValue oldValue = entries().get(key);
+      MapEntryValue newValue = new MapEntryValue(
+          MapEntryValue.Type.VALUE,
+          getCurrentIndex(),
+          entry.getValue(),
+          timestamp,
+          ttl);
+
+      // If the value is null or a tombstone, this is an insert.
+      // Otherwise, only update the value if it has changed to reduce the number of events.
+      if (valueIsNull(oldValue)) {
+        putValue(key, newValue);
+        events.add(new AtomicMapEvent<>(AtomicMapEvent.Type.INSERT, key, toVersioned(newValue), null));
+      } else if (!valuesEqual(oldValue, newValue)) {
+        putValue(key, newValue);
+        events.add(new AtomicMapEvent<>(AtomicMapEvent.Type.UPDATE, key, toVersioned(newValue), toVersioned(oldValue)));
+      }
+    }
+    publish(events);
+    return MapEntryUpdateResult.Status.OK;
+  }
+
   /**
    * Handles a remove commit.
    *
@@ -417,6 +600,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     }
 
     // If no transactions are active, remove the key. Otherwise, replace it with a tombstone.
+    recordUpdate(key);
     if (activeTransactions.isEmpty()) {
       entries().remove(key);
     } else {
@@ -436,6 +620,45 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     return removeIf(getCurrentIndex(), key, v -> true);
   }
 
+  @Override
+  public List<MapEntryUpdateResult<K, byte[]>> removeAll(Set<K> keys) {
+    long index = getCurrentIndex();
+
+    // If any of the present keys has been locked by a transaction, return WRITE_LOCK errors without removing any keys.
+    List<MapEntryUpdateResult<K, byte[]>> results = new ArrayList<>();
+    for (K key : keys) {
+      if (preparedKeys.contains(key) && !valueIsNull(entries().get(key))) {
+        results.add(new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.WRITE_LOCK, index, key, null));
+      }
+    }
+    if (!results.isEmpty()) {
+      return results;
+    }
+
+    List<AtomicMapEvent<K, byte[]>> events = new ArrayList<>();
+    for (K key : keys) {
+      MapEntryValue value = entries().get(key);
+      if (valueIsNull(value)) {
+        continue;
+      }
+
+      // If no transactions are active, remove the key. Otherwise, replace it with a tombstone.
+      recordUpdate(key);
+      if (activeTransactions.isEmpty()) {
+        entries().remove(key);
+      } else {
+        entries().put(key, new MapEntryValue(MapEntryValue.Type.TOMBSTONE, index, null, 0, 0));
+      }
+      cancelTtl(value);
+
+      Versioned<byte[]> result = toVersioned(value);
+      events.add(new AtomicMapEvent<>(AtomicMapEvent.Type.REMOVE, key, null, result));
+      results.add(new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.OK, index, key, result));
+    }
+    publish(events);
+    return results;
+  }
+
   @Override
   public MapEntryUpdateResult<K, byte[]> remove(K key, byte[] value) {
     return removeIf(getCurrentIndex(), key, v ->
@@ -527,6 +750,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
         Versioned<byte[]> removedValue = new Versioned<>(value.value(), value.version());
         publish(new AtomicMapEvent<>(AtomicMapEvent.Type.REMOVE, key, null, removedValue));
         cancelTtl(value);
+        recordUpdate(key);
         if (activeTransactions.isEmpty()) {
           iterator.remove();
         } else {
@@ -582,9 +806,99 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     close(iteratorId);
   }
 
+  @Override
+  public IteratorBatch<Map.Entry<K, Versioned<byte[]>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return iterate(
+        sessionId -> new ScanIterator(sessionId, filter, projection), projection(projection), projectedSize(projection));
+  }
+
+  @Override
+  public IteratorBatch<Map.Entry<K, Versioned<byte[]>>> nextScan(long iteratorId, int position) {
+    IteratorContext context = entryIterators.get(iteratorId);
+    if (!(context instanceof AbstractAtomicMapService.ScanIterator)) {
+      return null;
+    }
+    AtomicMapProjection projection = ((ScanIterator) context).projection;
+    return next(iteratorId, position, projection(projection), projectedSize(projection));
+  }
+
+  @Override
+  public void closeScan(long iteratorId) {
+    close(iteratorId);
+  }
+
+  /**
+   * Returns the function with which to project scanned entries.
+   *
+   * @param projection the scan projection
+   * @return the projection function
+   */
+  private BiFunction<K, Versioned<byte[]>, Map.Entry<K, Versioned<byte[]>>> projection(AtomicMapProjection projection) {
+    switch (projection) {
+      case KEYS:
+        return (key, value) -> Maps.immutableEntry(key, null);
+      case VERSIONS:
+        return (key, value) -> Maps.immutableEntry(key, new Versioned<>(null, value.version(), value.creationTime()));
+      case ENTRIES:
+      default:
+        return Maps::immutableEntry;
+    }
+  }
+
+  /**
+   * Returns the function with which to size scanned entries for batching.
+   * <p>
+   * Projections that drop values are sized by their keys, so scans of maps with large values are not limited to a
+   * few keys per batch.
+   *
+   * @param projection the scan projection
+   * @return the function with which to size projected entries
+   */
+  private ToIntBiFunction<K, MapEntryValue> projectedSize(AtomicMapProjection projection) {
+    switch (projection) {
+      case KEYS:
+      case VERSIONS:
+        return (key, value) -> key.toString().length() + PROJECTED_ENTRY_SIZE;
+      case ENTRIES:
+      default:
+        return (key, value) -> value.value().length;
+    }
+  }
+
+  /**
+   * Decodes the given key for evaluation by scan filters.
+   *
+   * @param key the key to decode
+   * @return the decoded key or {@code null} if the key cannot be decoded
+   */
+  protected Object decodeKey(K key) {
+    return key;
+  }
+
+  /**
+   * Decodes a key that was encoded by the client as a base16 string of the basic namespace serialization.
+   *
+   * @param key the key to decode
+   * @return the decoded key or {@code null} if the key is not of a basic type
+   */
+  protected static Object decodeBase16Key(String key) {
+    try {
+      return KEY_SERIALIZER.decode(BaseEncoding.base16().decode(key));
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
   protected <T> IteratorBatch<T> iterate(
       Function<Long, IteratorContext> contextFactory,
       BiFunction<K, Versioned<byte[]>, T> function) {
+    return iterate(contextFactory, function, (key, value) -> value.value().length);
+  }
+
+  protected <T> IteratorBatch<T> iterate(
+      Function<Long, IteratorContext> contextFactory,
+      BiFunction<K, Versioned<byte[]>, T> function,
+      ToIntBiFunction<K, MapEntryValue> sizer) {
     IteratorContext iterator = contextFactory.apply(getCurrentSession().sessionId().id());
     if (!iterator.iterator().hasNext()) {
       return null;
@@ -592,7 +906,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
 
     long iteratorId = getCurrentIndex();
     entryIterators.put(iteratorId, iterator);
-    IteratorBatch<T> batch = next(iteratorId, 0, function);
+    IteratorBatch<T> batch = next(iteratorId, 0, function, sizer);
     if (batch.complete()) {
       entryIterators.remove(iteratorId);
     }
@@ -600,6 +914,14 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
   }
 
   protected <T> IteratorBatch<T> next(long iteratorId, int position, BiFunction<K, Versioned<byte[]>, T> function) {
+    return next(iteratorId, position, function, (key, value) -> value.value().length);
+  }
+
+  protected <T> IteratorBatch<T> next(
+      long iteratorId,
+      int position,
+      BiFunction<K, Versioned<byte[]>, T> function,
+      ToIntBiFunction<K, MapEntryValue> sizer) {
     IteratorContext context = entryIterators.get(iteratorId);
     if (context == null) {
       return null;
@@ -612,7 +934,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
       if (context.position() > position) {
         Map.Entry<K, MapEntryValue> entry = context.iterator().next();
         entries.add(function.apply(entry.getKey(), toVersioned(entry.getValue())));
-        size += entry.getValue().value().length;
+        size += sizer.applyAsInt(entry.getKey(), entry.getValue());
 
         if (size >= MAX_ITERATOR_BATCH_SIZE) {
           break;
@@ -768,6 +1090,7 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
         continue;
       }
 
+      recordUpdate(key);
       MapEntryValue previousValue = entries().remove(key);
 
       // Cancel the previous timer if set.
@@ -850,8 +1173,9 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     if (activeTransactions.isEmpty()) {
       Iterator<Map.Entry<K, MapEntryValue>> iterator = entries().entrySet().iterator();
       while (iterator.hasNext()) {
-        MapEntryValue value = iterator.next().getValue();
-        if (value.type() == MapEntryValue.Type.TOMBSTONE) {
+        Map.Entry<K, MapEntryValue> entry = iterator.next();
+        if (entry.getValue().type() == MapEntryValue.Type.TOMBSTONE) {
+          recordUpdate(entry.getKey());
           iterator.remove();
         }
       }
@@ -861,8 +1185,10 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
           .min().getAsLong();
       Iterator<Map.Entry<K, MapEntryValue>> iterator = entries().entrySet().iterator();
       while (iterator.hasNext()) {
-        MapEntryValue value = iterator.next().getValue();
+        Map.Entry<K, MapEntryValue> entry = iterator.next();
+        MapEntryValue value = entry.getValue();
         if (value.type() == MapEntryValue.Type.TOMBSTONE && value.version < lowWaterMark) {
+          recordUpdate(entry.getKey());
           iterator.remove();
         }
       }
@@ -910,6 +1236,55 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
     entryIterators.entrySet().removeIf(entry -> entry.getValue().sessionId == session.sessionId().id());
   }
 
+  /**
+   * Copy-on-write view of the entries as of a concurrent backup.
+   * <p>
+   * The view reads through to the live entries. Before an entry is first updated after the view was captured, its
+   * prior value is recorded in the view, so the view can be copied on any thread while the state thread continues
+   * to update the entries.
+   */
+  private final class EntriesView {
+    private final Map<K, MapEntryValue> entries;
+    private final Map<K, Optional<MapEntryValue>> priorValues = new ConcurrentHashMap<>();
+
+    EntriesView(Map<K, MapEntryValue> entries) {
+      this.entries = entries;
+    }
+
+    /**
+     * Records the value of the given key prior to its first update.
+     *
+     * @param key the key to be updated
+     */
+    void recordUpdate(K key) {
+      priorValues.computeIfAbsent(key, k -> Optional.ofNullable(entries.get(k)));
+    }
+
+    /**
+     * Copies the entries as of the time the view was captured.
+     *
+     * @return a copy of the captured entries
+     */
+    Map<K, MapEntryValue> copy() {
+      // An entry's prior value is always recorded before the entry is updated, so any value read from the live
+      // entries is only current as of the capture if no prior value has been recorded for its key.
+      Map<K, MapEntryValue> copy = Maps.newHashMapWithExpectedSize(entries.size());
+      for (Map.Entry<K, MapEntryValue> entry : entries.entrySet()) {
+        if (!priorValues.containsKey(entry.getKey())) {
+          copy.put(entry.getKey(), entry.getValue());
+        }
+      }
+      priorValues.forEach((key, value) -> {
+        if (value.isPresent()) {
+          copy.put(key, value.get());
+        } else {
+          copy.remove(key);
+        }
+      });
+      return copy;
+    }
+  }
+
   /**
    * Interface implemented by map values.
    */
@@ -1079,4 +1454,20 @@ public abstract class AbstractAtomicMapService<K> extends AbstractPrimitiveServi
       return entries().entrySet().iterator();
     }
   }
+
+  protected class ScanIterator extends IteratorContext {
+    private final AtomicMapFilter filter;
+    private final AtomicMapProjection projection;
+
+    public ScanIterator(long sessionId, AtomicMapFilter filter, AtomicMapProjection projection) {
+      super(sessionId);
+      this.filter = filter;
+      this.projection = projection;
+    }
+
+    @Override
+    protected Iterator<Map.Entry<K, MapEntryValue>> create() {
+      return Iterators.filter(entries().entrySet().iterator(), entry -> filter.test(decodeKey(entry.getKey())));
+    }
+  }
 }
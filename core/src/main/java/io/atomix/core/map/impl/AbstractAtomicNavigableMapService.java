@@ -52,6 +52,7 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
         .register(MapEntryValue.Type.class)
         .register(new HashMap().keySet().getClass())
         .register(DefaultIterator.class)
+        .register(ScanIterator.class)
         .register(AscendingIterator.class)
         .register(DescendingIterator.class)
         .build());
@@ -99,12 +100,12 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
 
   @Override
   public Map.Entry<K, Versioned<byte[]>> pollFirstEntry() {
-    return isEmpty() ? null : toVersionedEntry(entries().pollFirstEntry());
+    return isEmpty() ? null : toVersionedEntry(pollEntry(entries().firstEntry()));
   }
 
   @Override
   public Map.Entry<K, Versioned<byte[]>> pollLastEntry() {
-    return isEmpty() ? null : toVersionedEntry(entries().pollLastEntry());
+    return isEmpty() ? null : toVersionedEntry(pollEntry(entries().lastEntry()));
   }
 
   @Override
@@ -144,13 +145,13 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
 
   @Override
   public K pollFirstKey() {
-    Map.Entry<K, MapEntryValue> entry = entries().pollFirstEntry();
+    Map.Entry<K, MapEntryValue> entry = pollEntry(entries().firstEntry());
     return entry != null ? entry.getKey() : null;
   }
 
   @Override
   public K pollLastKey() {
-    Map.Entry<K, MapEntryValue> entry = entries().pollLastEntry();
+    Map.Entry<K, MapEntryValue> entry = pollEntry(entries().lastEntry());
     return entry != null ? entry.getKey() : null;
   }
 
@@ -196,12 +197,12 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
 
   @Override
   public Map.Entry<K, Versioned<byte[]>> subMapPollFirstEntry(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
-    return subMapApply(map -> toVersionedEntry(map.pollFirstEntry()), fromKey, fromInclusive, toKey, toInclusive);
+    return subMapApply(map -> toVersionedEntry(pollEntry(map.firstEntry())), fromKey, fromInclusive, toKey, toInclusive);
   }
 
   @Override
   public Map.Entry<K, Versioned<byte[]>> subMapPollLastEntry(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
-    return subMapApply(map -> toVersionedEntry(map.pollLastEntry()), fromKey, fromInclusive, toKey, toInclusive);
+    return subMapApply(map -> toVersionedEntry(pollEntry(map.lastEntry())), fromKey, fromInclusive, toKey, toInclusive);
   }
 
   @Override
@@ -227,7 +228,7 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
   @Override
   public K subMapPollFirstKey(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
     return subMapApply(map -> {
-      Map.Entry<K, MapEntryValue> entry = map.pollFirstEntry();
+      Map.Entry<K, MapEntryValue> entry = pollEntry(map.firstEntry());
       return entry != null ? entry.getKey() : null;
     }, fromKey, fromInclusive, toKey, toInclusive);
   }
@@ -235,7 +236,7 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
   @Override
   public K subMapPollLastKey(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
     return subMapApply(map -> {
-      Map.Entry<K, MapEntryValue> entry = map.pollLastEntry();
+      Map.Entry<K, MapEntryValue> entry = pollEntry(map.lastEntry());
       return entry != null ? entry.getKey() : null;
     }, fromKey, fromInclusive, toKey, toInclusive);
   }
@@ -280,7 +281,33 @@ public abstract class AbstractAtomicNavigableMapService<K extends Comparable<K>>
 
   @Override
   public void subMapClear(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
-    subMapAccept(NavigableMap::clear, fromKey, fromInclusive, toKey, toInclusive);
+    subMapAccept(this::clearEntries, fromKey, fromInclusive, toKey, toInclusive);
+  }
+
+  /**
+   * Removes the given entry from the map.
+   *
+   * @param entry the entry to remove
+   * @return the removed entry
+   */
+  private Map.Entry<K, MapEntryValue> pollEntry(Map.Entry<K, MapEntryValue> entry) {
+    if (entry != null) {
+      recordUpdate(entry.getKey());
+      entries().remove(entry.getKey());
+    }
+    return entry;
+  }
+
+  /**
+   * Removes all entries in the given view of the map.
+   *
+   * @param map the view of the map to clear
+   */
+  private void clearEntries(NavigableMap<K, MapEntryValue> map) {
+    for (K key : map.keySet()) {
+      recordUpdate(key);
+      map.remove(key);
+    }
   }
 
   private void subMapAccept(Consumer<NavigableMap<K, MapEntryValue>> function, K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
@@ -16,6 +16,8 @@
 package io.atomix.core.map.impl;
 
 import io.atomix.core.iterator.impl.IteratorBatch;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
 import io.atomix.core.transaction.impl.CommitResult;
@@ -26,6 +28,7 @@ import io.atomix.primitive.operation.Query;
 import io.atomix.utils.time.Versioned;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -164,6 +167,17 @@ public interface AtomicMapService<K> {
   @Command("putAndGetWithTtl")
   MapEntryUpdateResult<K, byte[]> putAndGet(K key, byte[] value, long ttl);
 
+  /**
+   * Associates the specified values with the specified keys in this map as a single operation. If any of the keys has
+   * been locked by a transaction, none of the entries are applied.
+   *
+   * @param entries mappings to be stored in this map
+   * @param ttl the time to live after which to remove the values
+   * @return the update status
+   */
+  @Command
+  MapEntryUpdateResult.Status putAll(Map<K, byte[]> entries, long ttl);
+
   /**
    * Removes the mapping for a key from this map if it is present (optional operation).
    *
@@ -174,6 +188,16 @@ public interface AtomicMapService<K> {
   @Command
   MapEntryUpdateResult<K, byte[]> remove(K key);
 
+  /**
+   * Removes the mappings for the specified keys from this map as a single operation. If any of the present keys has
+   * been locked by a transaction, none of the keys are removed.
+   *
+   * @param keys keys whose values are to be removed from the map
+   * @return the results for the removed keys, or the {@code WRITE_LOCK} results for the locked keys
+   */
+  @Command
+  List<MapEntryUpdateResult<K, byte[]>> removeAll(Set<K> keys);
+
   /**
    * Removes all of the mappings from this map (optional operation). The map will be empty after this call returns.
    */
@@ -367,6 +391,34 @@ public interface AtomicMapService<K> {
   @Command
   void closeEntries(long iteratorId);
 
+  /**
+   * Returns a scan iterator over the entries matching the given filter.
+   *
+   * @param filter the filter with which to match entries
+   * @param projection the projection to apply to matching entries
+   * @return the first batch of matching entries or {@code null} if no entries match
+   */
+  @Command
+  IteratorBatch<Map.Entry<K, Versioned<byte[]>>> scan(AtomicMapFilter filter, AtomicMapProjection projection);
+
+  /**
+   * Returns the next batch of matching entries for the given scan iterator.
+   *
+   * @param iteratorId the iterator identifier
+   * @param position the iterator position
+   * @return the next batch of matching entries for the iterator or {@code null} if the iterator is complete
+   */
+  @Query
+  IteratorBatch<Map.Entry<K, Versioned<byte[]>>> nextScan(long iteratorId, int position);
+
+  /**
+   * Closes a scan iterator.
+   *
+   * @param iteratorId the iterator identifier
+   */
+  @Command
+  void closeScan(long iteratorId);
+
   /**
    * Adds a listener to the service.
    */
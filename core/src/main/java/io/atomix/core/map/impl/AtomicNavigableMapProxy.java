@@ -27,6 +27,8 @@ import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.iterator.impl.ProxyIterator;
 import io.atomix.core.map.AsyncAtomicNavigableMap;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.map.AtomicNavigableMap;
 import io.atomix.core.set.AsyncDistributedNavigableSet;
 import io.atomix.core.set.AsyncDistributedSet;
@@ -49,6 +51,7 @@ import io.atomix.utils.time.Versioned;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -697,11 +700,27 @@ public class AtomicNavigableMapProxy<K extends Comparable<K>> extends AbstractAt
       return !isInBounds(key) ? CompletableFuture.completedFuture(null) : AtomicNavigableMapProxy.this.putAndGet(key, value, ttl);
     }
 
+    @Override
+    public CompletableFuture<Void> putAll(Map<? extends K, ? extends byte[]> entries, Duration ttl) {
+      Map<K, byte[]> boundedEntries = new HashMap<>();
+      entries.forEach((key, value) -> {
+        if (isInBounds(key)) {
+          boundedEntries.put(key, value);
+        }
+      });
+      return AtomicNavigableMapProxy.this.putAll(boundedEntries, ttl);
+    }
+
     @Override
     public CompletableFuture<Versioned<byte[]>> remove(K key) {
       return !isInBounds(key) ? CompletableFuture.completedFuture(null) : AtomicNavigableMapProxy.this.remove(key);
     }
 
+    @Override
+    public CompletableFuture<Map<K, Versioned<byte[]>>> removeAll(Iterable<K> keys) {
+      return AtomicNavigableMapProxy.this.removeAll(Lists.newArrayList(keys).stream().filter(this::isInBounds).collect(Collectors.toList()));
+    }
+
     @Override
     public CompletableFuture<Void> clear() {
       return getProxyClient().acceptBy(name(), service -> service.subMapClear(fromKey, fromInclusive, toKey, toInclusive));
@@ -722,6 +741,12 @@ public class AtomicNavigableMapProxy<K extends Comparable<K>> extends AbstractAt
       return new EntrySet(fromKey, fromInclusive, toKey, toInclusive);
     }
 
+    @Override
+    public AsyncIterator<Map.Entry<K, Versioned<byte[]>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+      return AtomicNavigableMapProxy.this.scan(
+          filter.and(AtomicMapFilter.keyRange(fromKey, fromInclusive, toKey, toInclusive)), projection);
+    }
+
     @Override
     public CompletableFuture<Versioned<byte[]>> putIfAbsent(K key, byte[] value, Duration ttl) {
       return !isInBounds(key) ? CompletableFuture.completedFuture(null) : AtomicNavigableMapProxy.this.putIfAbsent(key, value, ttl);
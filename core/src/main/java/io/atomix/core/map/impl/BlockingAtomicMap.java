@@ -18,9 +18,13 @@ package io.atomix.core.map.impl;
 import com.google.common.base.Throwables;
 import io.atomix.core.collection.DistributedCollection;
 import io.atomix.core.collection.impl.BlockingDistributedCollection;
+import io.atomix.core.iterator.SyncIterator;
+import io.atomix.core.iterator.impl.BlockingIterator;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.core.map.AtomicMap;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.set.DistributedSet;
 import io.atomix.core.set.impl.BlockingDistributedSet;
 import io.atomix.primitive.PrimitiveException;
@@ -133,11 +137,21 @@ public class BlockingAtomicMap<K, V> extends Synchronous<AsyncAtomicMap<K, V>> i
     return complete(asyncMap.putAndGet(key, value, ttl));
   }
 
+  @Override
+  public void putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    complete(asyncMap.putAll(entries, ttl));
+  }
+
   @Override
   public Versioned<V> remove(K key) {
     return complete(asyncMap.remove(key));
   }
 
+  @Override
+  public Map<K, Versioned<V>> removeAll(Iterable<K> keys) {
+    return complete(asyncMap.removeAll(keys));
+  }
+
   @Override
   public void clear() {
     complete(asyncMap.clear());
@@ -158,6 +172,11 @@ public class BlockingAtomicMap<K, V> extends Synchronous<AsyncAtomicMap<K, V>> i
     return new BlockingDistributedSet<>(asyncMap.entrySet(), operationTimeoutMillis);
   }
 
+  @Override
+  public SyncIterator<Map.Entry<K, Versioned<V>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return new BlockingIterator<>(asyncMap.scan(filter, projection), operationTimeoutMillis);
+  }
+
   @Override
   public Versioned<V> putIfAbsent(K key, V value, Duration ttl) {
     return complete(asyncMap.putIfAbsent(key, value, ttl));
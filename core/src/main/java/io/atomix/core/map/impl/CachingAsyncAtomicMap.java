@@ -26,6 +26,7 @@ import io.atomix.primitive.PrimitiveState;
 import io.atomix.utils.time.Versioned;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -151,12 +152,24 @@ public class CachingAsyncAtomicMap<K, V> extends DelegatingAsyncAtomicMap<K, V>
         .whenComplete((r, e) -> cache.invalidate(key));
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    return super.putAll(entries, ttl)
+        .whenComplete((r, e) -> cache.invalidateAll(entries.keySet()));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return super.remove(key)
         .whenComplete((r, e) -> cache.invalidate(key));
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<V>>> removeAll(Iterable<K> keys) {
+    return super.removeAll(keys)
+        .whenComplete((r, e) -> cache.invalidateAll(keys));
+  }
+
   @Override
   public CompletableFuture<Boolean> containsKey(K key) {
     return cache.getUnchecked(key).thenApply(Objects::nonNull)
@@ -24,4 +24,9 @@ public class DefaultAtomicMapService extends AbstractAtomicMapService {
   public DefaultAtomicMapService() {
     super(AtomicMapType.instance());
   }
+
+  @Override
+  protected Object decodeKey(Object key) {
+    return decodeBase16Key((String) key);
+  }
 }
@@ -24,4 +24,9 @@ public class DefaultDistributedMapService extends AbstractAtomicMapService {
   public DefaultDistributedMapService() {
     super(DistributedMapType.instance());
   }
+
+  @Override
+  protected Object decodeKey(Object key) {
+    return decodeBase16Key((String) key);
+  }
 }
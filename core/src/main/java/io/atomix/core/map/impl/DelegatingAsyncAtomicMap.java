@@ -26,9 +26,12 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import io.atomix.core.collection.AsyncDistributedCollection;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.core.map.AtomicMap;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.set.AsyncDistributedSet;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
@@ -97,11 +100,21 @@ public class DelegatingAsyncAtomicMap<K, V>
     return delegate().putAndGet(key, value, ttl);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    return delegate().putAll(entries, ttl);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return delegate().remove(key);
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<V>>> removeAll(Iterable<K> keys) {
+    return delegate().removeAll(keys);
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return delegate().clear();
@@ -122,6 +135,11 @@ public class DelegatingAsyncAtomicMap<K, V>
     return delegate().entrySet();
   }
 
+  @Override
+  public AsyncIterator<Entry<K, Versioned<V>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return delegate().scan(filter, projection);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value, Duration ttl) {
     return delegate().putIfAbsent(key, value, ttl);
@@ -109,7 +109,7 @@ public class DelegatingAsyncDistributedMap<K, V> extends DelegatingAsyncPrimitiv
 
   @Override
   public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> m) {
-    return Futures.exceptionalFuture(new UnsupportedOperationException());
+    return atomicMap.putAll(m);
   }
 
   @Override
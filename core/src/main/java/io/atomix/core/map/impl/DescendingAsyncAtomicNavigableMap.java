@@ -16,8 +16,11 @@
 package io.atomix.core.map.impl;
 
 import io.atomix.core.collection.AsyncDistributedCollection;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.AsyncAtomicNavigableMap;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.map.AtomicNavigableMap;
 import io.atomix.core.set.AsyncDistributedNavigableSet;
 import io.atomix.core.set.AsyncDistributedSet;
@@ -189,11 +192,21 @@ public class DescendingAsyncAtomicNavigableMap<K extends Comparable<K>, V>
     return delegate().putAndGet(key, value, ttl);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    return delegate().putAll(entries, ttl);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return delegate().remove(key);
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<V>>> removeAll(Iterable<K> keys) {
+    return delegate().removeAll(keys);
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return delegate().clear();
@@ -214,6 +227,11 @@ public class DescendingAsyncAtomicNavigableMap<K extends Comparable<K>, V>
     return delegate().entrySet();
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<K, Versioned<V>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return delegate().scan(filter, projection);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value, Duration ttl) {
     return delegate().putIfAbsent(key, value, ttl);
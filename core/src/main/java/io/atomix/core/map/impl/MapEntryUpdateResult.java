@@ -92,6 +92,15 @@ public class MapEntryUpdateResult<K, V> {
     return version;
   }
 
+  /**
+   * Returns the key.
+   *
+   * @return the key to which the update applied
+   */
+  public K key() {
+    return key;
+  }
+
   /**
    * Returns the value.
    *
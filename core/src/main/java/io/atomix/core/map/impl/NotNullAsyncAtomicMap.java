@@ -16,9 +16,13 @@
 package io.atomix.core.map.impl;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.utils.time.Versioned;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -66,6 +70,25 @@ public class NotNullAsyncAtomicMap<K, V> extends DelegatingAsyncAtomicMap<K, V>
     return super.put(key, value);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    Map<K, V> values = Maps.newHashMapWithExpectedSize(entries.size());
+    List<K> nullKeys = new ArrayList<>();
+    entries.forEach((key, value) -> {
+      if (value == null) {
+        nullKeys.add(key);
+      } else {
+        values.put(key, value);
+      }
+    });
+    if (nullKeys.isEmpty()) {
+      return super.putAll(values, ttl);
+    } else if (values.isEmpty()) {
+      return super.removeAll(nullKeys).thenApply(v -> null);
+    }
+    return CompletableFuture.allOf(super.putAll(values, ttl), super.removeAll(nullKeys));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putAndGet(K key, V value) {
     if (value == null) {
@@ -29,6 +29,8 @@ import io.atomix.core.iterator.impl.PartitionedProxyIterator;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.core.map.AtomicMapEvent;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.set.AsyncDistributedSet;
 import io.atomix.core.set.DistributedSet;
 import io.atomix.core.set.DistributedSetType;
@@ -113,15 +115,9 @@ public abstract class PartitionedAtomicMapProxy<P extends AsyncPrimitive, S exte
 
   @Override
   public CompletableFuture<Map<K, Versioned<byte[]>>> getAllPresent(Iterable<K> keys) {
-    return Futures.allOf(getProxyClient().getPartitions()
+    return Futures.allOf(groupByPartition(keys).entrySet()
         .stream()
-        .map(partition -> {
-          Set<K> uniqueKeys = new HashSet<>();
-          for (K key : keys) {
-            uniqueKeys.add(key);
-          }
-          return partition.apply(service -> service.getAllPresent(uniqueKeys));
-        })
+        .map(entry -> getProxyClient().applyOn(entry.getKey(), service -> service.getAllPresent(entry.getValue())))
         .collect(Collectors.toList()))
         .thenApply(maps -> {
           Map<K, Versioned<byte[]>> result = new HashMap<>();
@@ -152,6 +148,15 @@ public abstract class PartitionedAtomicMapProxy<P extends AsyncPrimitive, S exte
     return new AtomicMapEntrySet();
   }
 
+  @Override
+  public AsyncIterator<Entry<K, Versioned<byte[]>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return new PartitionedProxyIterator<>(
+        getProxyClient(),
+        service -> service.scan(filter, projection),
+        AtomicMapService::nextScan,
+        AtomicMapService::closeScan);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> put(K key, byte[] value, Duration ttl) {
@@ -168,6 +173,20 @@ public abstract class PartitionedAtomicMapProxy<P extends AsyncPrimitive, S exte
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends byte[]> entries, Duration ttl) {
+    Map<PartitionId, Map<K, byte[]>> entriesByPartition = Maps.newHashMap();
+    entries.forEach((key, value) -> entriesByPartition.computeIfAbsent(
+        getProxyClient().getPartitionId(key.toString()), partitionId -> Maps.newHashMap()).put(key, value));
+    return Futures.allOf(entriesByPartition.entrySet()
+        .stream()
+        .map(entry -> getProxyClient()
+            .applyOn(entry.getKey(), service -> service.putAll(entry.getValue(), ttl.toMillis()))
+            .whenComplete((r, e) -> throwIfLocked(r)))
+        .collect(Collectors.toList()))
+        .thenApply(v -> null);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> putIfAbsent(K key, byte[] value, Duration ttl) {
@@ -184,6 +203,39 @@ public abstract class PartitionedAtomicMapProxy<P extends AsyncPrimitive, S exte
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<byte[]>>> removeAll(Iterable<K> keys) {
+    return Futures.allOf(groupByPartition(keys).entrySet()
+        .stream()
+        .map(entry -> getProxyClient().applyOn(entry.getKey(), service -> service.removeAll(entry.getValue()))
+            .whenComplete((r, e) -> throwIfLocked(r)))
+        .collect(Collectors.toList()))
+        .thenApply(partitionResults -> {
+          Map<K, Versioned<byte[]>> result = new HashMap<>();
+          for (List<MapEntryUpdateResult<K, byte[]>> results : partitionResults) {
+            for (MapEntryUpdateResult<K, byte[]> entry : results) {
+              result.put(entry.key(), entry.result());
+            }
+          }
+          return ImmutableMap.copyOf(result);
+        });
+  }
+
+  /**
+   * Groups the given keys by the partition to which they belong.
+   *
+   * @param keys the keys to group
+   * @return the unique keys for each partition that owns at least one key
+   */
+  private Map<PartitionId, Set<K>> groupByPartition(Iterable<K> keys) {
+    Map<PartitionId, Set<K>> keysByPartition = Maps.newHashMap();
+    for (K key : keys) {
+      keysByPartition.computeIfAbsent(getProxyClient().getPartitionId(key.toString()), partitionId -> new HashSet<>())
+          .add(key);
+    }
+    return keysByPartition;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Boolean> remove(K key, byte[] value) {
@@ -306,6 +358,12 @@ public abstract class PartitionedAtomicMapProxy<P extends AsyncPrimitive, S exte
     }
   }
 
+  private void throwIfLocked(List<MapEntryUpdateResult<K, byte[]>> results) {
+    if (results != null) {
+      results.forEach(this::throwIfLocked);
+    }
+  }
+
   private void throwIfLocked(MapEntryUpdateResult.Status status) {
     if (status == MapEntryUpdateResult.Status.WRITE_LOCK) {
       throw new ConcurrentModificationException("Cannot update map: Another transaction in progress");
@@ -20,10 +20,14 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.atomix.core.collection.AsyncDistributedCollection;
 import io.atomix.core.collection.impl.TranscodingAsyncDistributedCollection;
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.TranscodingIterator;
 import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.core.map.AtomicMap;
 import io.atomix.core.map.AtomicMapEvent;
 import io.atomix.core.map.AtomicMapEventListener;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.set.AsyncDistributedSet;
 import io.atomix.core.set.impl.TranscodingAsyncDistributedSet;
 import io.atomix.core.transaction.TransactionId;
@@ -178,6 +182,17 @@ public class TranscodingAsyncAtomicMap<K1, V1, K2, V2> extends DelegatingAsyncPr
     }
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K1, ? extends V1> entries, Duration ttl) {
+    try {
+      Map<K2, V2> encodedEntries = Maps.newHashMapWithExpectedSize(entries.size());
+      entries.forEach((key, value) -> encodedEntries.put(keyEncoder.apply(key), valueEncoder.apply(value)));
+      return backingMap.putAll(encodedEntries, ttl);
+    } catch (Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> remove(K1 key) {
     try {
@@ -187,6 +202,22 @@ public class TranscodingAsyncAtomicMap<K1, V1, K2, V2> extends DelegatingAsyncPr
     }
   }
 
+  @Override
+  public CompletableFuture<Map<K1, Versioned<V1>>> removeAll(Iterable<K1> keys) {
+    try {
+      Set<K2> uniqueKeys = new HashSet<>();
+      for (K1 key : keys) {
+        uniqueKeys.add(keyEncoder.apply(key));
+      }
+      return backingMap.removeAll(uniqueKeys).thenApply(
+          entries -> ImmutableMap.copyOf(entries.entrySet().stream()
+              .collect(Collectors.toMap(o -> keyDecoder.apply(o.getKey()),
+                  o -> versionedValueDecoder.apply(o.getValue())))));
+    } catch (Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return backingMap.clear();
@@ -207,6 +238,11 @@ public class TranscodingAsyncAtomicMap<K1, V1, K2, V2> extends DelegatingAsyncPr
     return new TranscodingAsyncDistributedSet<>(backingMap.entrySet(), entryEncoder, entryDecoder);
   }
 
+  @Override
+  public AsyncIterator<Entry<K1, Versioned<V1>>> scan(AtomicMapFilter filter, AtomicMapProjection projection) {
+    return new TranscodingIterator<>(backingMap.scan(filter, projection), entryDecoder);
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> putIfAbsent(K1 key, V1 value, Duration ttl) {
     try {
@@ -20,6 +20,8 @@ import io.atomix.core.map.AsyncAtomicMap;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.time.Versioned;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -58,11 +60,21 @@ public class UnmodifiableAsyncAtomicMap<K, V> extends DelegatingAsyncAtomicMap<K
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries, Duration ttl) {
+    return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
   }
 
+  @Override
+  public CompletableFuture<Map<K, Versioned<V>>> removeAll(Iterable<K> keys) {
+    return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
@@ -72,7 +72,7 @@ public abstract class AbstractAtomicSemaphoreService extends AbstractPrimitiveSe
     for (Waiter waiter : waiterQueue) {
       if (waiter.expire > 0) {
         timers.put(waiter.index, getScheduler()
-            .schedule(Duration.ofMillis(waiter.expire - getWallClock().getTime().unixTimestamp()), () -> {
+            .schedule(Duration.ofMillis(Math.max(waiter.expire - getWallClock().getTime().unixTimestamp(), 0)), () -> {
               timers.remove(waiter.index);
               waiterQueue.remove(waiter);
               fail(waiter.session, waiter.id);
@@ -25,6 +25,7 @@ import io.atomix.cluster.MulticastConfig;
 import io.atomix.cluster.discovery.MulticastDiscoveryConfig;
 import io.atomix.cluster.discovery.MulticastDiscoveryProvider;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TransportConfig;
 import io.atomix.cluster.protocol.HeartbeatMembershipProtocolConfig;
 import io.atomix.core.log.DistributedLogConfig;
 import io.atomix.core.map.AtomicMapConfig;
@@ -52,6 +53,7 @@ import io.atomix.utils.memory.MemorySize;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -113,12 +115,20 @@ public class AtomixConfigTest {
     assertEquals("foo", messaging.getTlsConfig().getKeyStorePassword());
     assertEquals("truststore.jks", messaging.getTlsConfig().getTrustStore());
     assertEquals("bar", messaging.getTlsConfig().getTrustStorePassword());
+    assertEquals(TransportConfig.Type.NIO, messaging.getTransportConfig().getType());
+    assertEquals(2, messaging.getTransportConfig().getClientThreads());
+    assertEquals(4, messaging.getTransportConfig().getServerThreads());
+    assertEquals(TransportConfig.Allocator.UNPOOLED, messaging.getTransportConfig().getAllocator());
+    assertFalse(messaging.getTransportConfig().isTcpNoDelay());
+    assertEquals(1024 * 1024 * 2, messaging.getTransportConfig().getSendBufferSize().bytes());
+    assertEquals(1024 * 1024, messaging.getTransportConfig().getWriteBufferHighWaterMark().bytes());
 
     RaftPartitionGroupConfig managementGroup = (RaftPartitionGroupConfig) config.getManagementGroup();
     assertEquals(RaftPartitionGroup.TYPE, managementGroup.getType());
     assertEquals(1, managementGroup.getPartitions());
     assertEquals(Duration.ofSeconds(5), managementGroup.getElectionTimeout());
     assertEquals(Duration.ofMillis(500), managementGroup.getHeartbeatInterval());
+    assertEquals(Duration.ofMillis(5), managementGroup.getHeartbeatCoalescingWindow());
     assertEquals(Duration.ofSeconds(10), managementGroup.getDefaultSessionTimeout());
     assertEquals(new MemorySize(1024 * 1024 * 16), managementGroup.getStorageConfig().getSegmentSize());
 
@@ -126,6 +136,7 @@ public class AtomixConfigTest {
     assertEquals(RaftPartitionGroup.TYPE, groupOne.getType());
     assertEquals("one", groupOne.getName());
     assertEquals(7, groupOne.getPartitions());
+    assertTrue(groupOne.getStorageConfig().isSharedJournal());
 
     PrimaryBackupPartitionGroupConfig groupTwo = (PrimaryBackupPartitionGroupConfig) config.getPartitionGroups().get("two");
     assertEquals(PrimaryBackupPartitionGroup.TYPE, groupTwo.getType());
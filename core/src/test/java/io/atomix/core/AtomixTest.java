@@ -53,7 +53,10 @@ import io.atomix.core.tree.AtomicDocumentTreeType;
 import io.atomix.core.value.AtomicValueType;
 import io.atomix.core.value.DistributedValueType;
 import io.atomix.core.workqueue.WorkQueueType;
+import io.atomix.primitive.partition.Partition;
+import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.protocol.ProxyProtocol;
+import io.atomix.protocols.gossip.AntiEntropyProtocol;
 import io.atomix.protocols.log.DistributedLogProtocol;
 import io.atomix.protocols.log.partition.LogPartitionGroup;
 import io.atomix.protocols.raft.MultiRaftProtocol;
@@ -66,9 +69,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -333,6 +339,135 @@ public class AtomixTest extends AbstractAtomixTest {
     assertEquals(2, counter2.incrementAndGet());
   }
 
+  @Test
+  public void testCoalescedRaftHeartbeats() throws Exception {
+    List<CompletableFuture<Atomix>> futures = new ArrayList<>();
+    for (int id : Arrays.asList(1, 2, 3)) {
+      futures.add(startAtomix(id, Arrays.asList(1, 2, 3), builder ->
+          builder.withManagementGroup(RaftPartitionGroup.builder("system")
+              .withNumPartitions(1)
+              .withMembers("1", "2", "3")
+              .withHeartbeatCoalescingWindow(Duration.ofMillis(5))
+              .withDataDirectory(new File(new File(DATA_DIR, "coalesce-system"), String.valueOf(id)))
+              .build())
+              .withPartitionGroups(RaftPartitionGroup.builder("raft")
+                  .withNumPartitions(7)
+                  .withMembers("1", "2", "3")
+                  .withHeartbeatInterval(Duration.ofMillis(100))
+                  .withElectionTimeout(Duration.ofMillis(1000))
+                  .withHeartbeatCoalescingWindow(Duration.ofMillis(5))
+                  .withDataDirectory(new File(new File(DATA_DIR, "coalesce-raft"), String.valueOf(id)))
+                  .build())
+              .build()));
+    }
+    Futures.allOf(futures).get(30, TimeUnit.SECONDS);
+
+    Atomix atomix = futures.get(0).get();
+    DistributedMap<String, String> map = atomix.<String, String>mapBuilder("test-coalesced-map")
+        .withProtocol(MultiRaftProtocol.builder("raft").build())
+        .build();
+    for (int i = 0; i < 10; i++) {
+      map.put("foo" + i, "bar" + i);
+    }
+
+    Map<PartitionId, Long> terms = atomix.getPartitionService().getPartitionGroup("raft").getPartitions().stream()
+        .collect(Collectors.toMap(Partition::id, Partition::term));
+
+    // Keep reading while several election timeouts elapse. Followers only hear from their leaders through coalesced
+    // heartbeats, so no partition may elect a new leader in the meantime.
+    long endTime = System.currentTimeMillis() + 3000;
+    while (System.currentTimeMillis() < endTime) {
+      for (int i = 0; i < 10; i++) {
+        assertEquals("bar" + i, map.get("foo" + i));
+      }
+      Thread.sleep(100);
+    }
+
+    for (Partition partition : atomix.getPartitionService().getPartitionGroup("raft").getPartitions()) {
+      assertEquals(terms.get(partition.id()), Long.valueOf(partition.term()));
+    }
+  }
+
+  @Test
+  public void testSharedJournal() throws Exception {
+    List<CompletableFuture<Atomix>> futures = new ArrayList<>();
+    for (int id : Arrays.asList(1, 2, 3)) {
+      futures.add(startAtomix(id, Arrays.asList(1, 2, 3), builder ->
+          builder.withManagementGroup(RaftPartitionGroup.builder("system")
+              .withNumPartitions(1)
+              .withMembers("1", "2", "3")
+              .withDataDirectory(new File(new File(DATA_DIR, "shared-system"), String.valueOf(id)))
+              .build())
+              .withPartitionGroups(RaftPartitionGroup.builder("raft")
+                  .withNumPartitions(7)
+                  .withMembers("1", "2", "3")
+                  .withSharedJournal()
+                  .withGroupCommit()
+                  .withDataDirectory(new File(new File(DATA_DIR, "shared-raft"), String.valueOf(id)))
+                  .build())
+              .build()));
+    }
+    Futures.allOf(futures).get(30, TimeUnit.SECONDS);
+
+    Atomix atomix = futures.get(0).get();
+    DistributedMap<String, String> map = atomix.<String, String>mapBuilder("test-shared-journal-map")
+        .withProtocol(MultiRaftProtocol.builder("raft").build())
+        .build();
+    for (int i = 0; i < 100; i++) {
+      map.put("foo" + i, "bar" + i);
+    }
+    for (int i = 0; i < 100; i++) {
+      assertEquals("bar" + i, map.get("foo" + i));
+    }
+    assertTrue(new File(new File(new File(DATA_DIR, "shared-raft"), "1"), "journal").isDirectory());
+  }
+
+  /**
+   * Tests that gossip maps converge via hash tree anti-entropy.
+   */
+  @Test
+  public void testMerkleTreeAntiEntropy() throws Exception {
+    Atomix atomix1 = startAtomix(1, Arrays.asList(2), Profile.dataGrid()).get(30, TimeUnit.SECONDS);
+    Atomix atomix2 = startAtomix(2, Arrays.asList(1), Profile.dataGrid()).get(30, TimeUnit.SECONDS);
+
+    // Disable gossip of individual updates so replicas can only converge via anti-entropy
+    AntiEntropyProtocol protocol = AntiEntropyProtocol.builder()
+        .withPeerSelector((entry, membership) -> Collections.emptyList())
+        .withAntiEntropyInterval(Duration.ofMillis(100))
+        .withMerkleTreeEnabled(true)
+        .build();
+    DistributedMap<String, String> map1 = atomix1.<String, String>mapBuilder("test-merkle-tree-map")
+        .withProtocol(protocol)
+        .build();
+    DistributedMap<String, String> map2 = atomix2.<String, String>mapBuilder("test-merkle-tree-map")
+        .withProtocol(protocol)
+        .build();
+
+    for (int i = 0; i < 1000; i++) {
+      map1.put(String.valueOf(i), String.valueOf(i));
+    }
+    awaitSize(map2, 1000);
+    assertEquals("500", map2.get("500"));
+
+    for (int i = 0; i < 100; i++) {
+      map2.remove(String.valueOf(i));
+    }
+    map2.put("500", "foo");
+    awaitSize(map1, 900);
+    assertNull(map1.get("0"));
+    for (int i = 0; i < 100 && !"foo".equals(map1.get("500")); i++) {
+      Thread.sleep(100);
+    }
+    assertEquals("foo", map1.get("500"));
+  }
+
+  private static void awaitSize(DistributedMap<String, String> map, int size) throws InterruptedException {
+    for (int i = 0; i < 300 && map.size() != size; i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(size, map.size());
+  }
+
   @Test
   public void testStopStartConsensus() throws Exception {
     Atomix atomix1 = startAtomix(1, Arrays.asList(1), ConsensusProfile.builder()
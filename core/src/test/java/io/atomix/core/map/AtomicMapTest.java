@@ -32,9 +32,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -341,6 +343,134 @@ public class AtomicMapTest extends AbstractPrimitiveTest {
     assertEquals(String.valueOf(100), map.get(String.valueOf(100)).value());
   }
 
+  @Test
+  public void testParallelIteration() throws Exception {
+    AtomicMap<String, String> map = atomix().<String, String>atomicMapBuilder("testParallelIteration")
+        .withProtocol(protocol())
+        .build();
+
+    assertEquals(0, map.async().keySet().parallelStream().count());
+
+    char[] chars = new char[1024 * 4];
+    Arrays.fill(chars, 'a');
+    String value = new String(chars);
+    for (int i = 0; i < 100; i++) {
+      map.put(String.valueOf(i), value);
+    }
+
+    try (Stream<String> stream = map.async().keySet().parallelStream()) {
+      assertEquals(100, stream.collect(Collectors.toSet()).size());
+    }
+    assertEquals(100, map.async().values().parallelStream()
+        .filter(versioned -> versioned.value().equals(value))
+        .count());
+
+    Iterator<Map.Entry<String, Versioned<String>>> iterator = map.entrySet().iterator();
+    Set<String> keys = Sets.newHashSet();
+    while (iterator.hasNext()) {
+      keys.add(iterator.next().getKey());
+    }
+    assertEquals(100, keys.size());
+  }
+
+  @Test
+  public void testScan() throws Exception {
+    AtomicMap<String, String> map = atomix().<String, String>atomicMapBuilder("testScan")
+        .withProtocol(protocol())
+        .build();
+
+    assertFalse(map.scan(AtomicMapFilter.all()).hasNext());
+
+    for (int i = 0; i < 100; i++) {
+      map.put("tenant" + (i % 4) + "/" + i, String.valueOf(i));
+    }
+
+    Map<String, Versioned<String>> entries = scan(map.scan(AtomicMapFilter.keyPrefix("tenant1/")));
+    assertEquals(25, entries.size());
+    entries.forEach((key, value) -> {
+      assertTrue(key.startsWith("tenant1/"));
+      assertEquals(key.substring("tenant1/".length()), value.value());
+    });
+
+    entries = scan(map.scan(AtomicMapFilter.keyPrefix("tenant1/"), AtomicMapProjection.KEYS));
+    assertEquals(25, entries.size());
+    entries.values().forEach(value -> assertNull(value));
+
+    entries = scan(map.scan(AtomicMapFilter.keyPrefix("tenant1/"), AtomicMapProjection.VERSIONS));
+    assertEquals(25, entries.size());
+    entries.forEach((key, value) -> {
+      assertNull(value.value());
+      assertEquals(map.get(key).version(), value.version());
+    });
+
+    entries = scan(map.scan(AtomicMapFilter.keyRange("tenant1/", true, "tenant3/", false)));
+    assertEquals(50, entries.size());
+
+    entries = scan(map.scan(AtomicMapFilter.keys(Arrays.asList("tenant0/0", "tenant1/1", "foo"))));
+    assertEquals(Sets.newHashSet("tenant0/0", "tenant1/1"), entries.keySet());
+
+    entries = scan(map.scan(AtomicMapFilter.keyPrefix("tenant0/")
+        .or(AtomicMapFilter.keyPrefix("tenant1/"))
+        .and(AtomicMapFilter.keys(Arrays.asList("tenant1/1", "tenant1/5")).negate())));
+    assertEquals(48, entries.size());
+    assertFalse(entries.containsKey("tenant1/1"));
+    assertFalse(entries.containsKey("tenant1/5"));
+  }
+
+  private <K, V> Map<K, Versioned<V>> scan(Iterator<Map.Entry<K, Versioned<V>>> iterator) {
+    Map<K, Versioned<V>> entries = Maps.newHashMap();
+    while (iterator.hasNext()) {
+      Map.Entry<K, Versioned<V>> entry = iterator.next();
+      assertNull(entries.put(entry.getKey(), entry.getValue()));
+    }
+    return entries;
+  }
+
+  @Test
+  public void testBatchOperations() throws Throwable {
+    AtomicMap<String, String> map = atomix().<String, String>atomicMapBuilder("testBatchOperations")
+        .withProtocol(protocol())
+        .build();
+    TestAtomicMapEventListener listener = new TestAtomicMapEventListener();
+    map.addListener(listener);
+
+    Map<String, String> entries = Maps.newHashMap();
+    for (int i = 0; i < 100; i++) {
+      entries.put(String.valueOf(i), String.valueOf(i));
+    }
+    map.putAll(entries);
+    assertEquals(100, map.size());
+    for (int i = 0; i < 100; i++) {
+      AtomicMapEvent<String, String> event = listener.event();
+      assertEquals(AtomicMapEvent.Type.INSERT, event.type());
+      assertEquals(event.key(), event.newValue().value());
+    }
+
+    Map<String, Versioned<String>> values = map.getAllPresent(Arrays.asList("1", "2", "3", "100", "101"));
+    assertEquals(3, values.size());
+    assertEquals("1", values.get("1").value());
+    assertEquals("2", values.get("2").value());
+    assertEquals("3", values.get("3").value());
+
+    // Unchanged values are not updated.
+    map.putAll(Collections.singletonMap("1", "1"));
+    assertFalse(listener.eventReceived());
+
+    Map<String, Versioned<String>> removed = map.removeAll(Arrays.asList("1", "2", "100"));
+    assertEquals(2, removed.size());
+    assertEquals("1", removed.get("1").value());
+    assertEquals("2", removed.get("2").value());
+    assertEquals(98, map.size());
+    assertNull(map.get("1"));
+    assertNull(map.get("2"));
+    for (int i = 0; i < 2; i++) {
+      assertEquals(AtomicMapEvent.Type.REMOVE, listener.event().type());
+    }
+
+    assertTrue(map.removeAll(Collections.singleton("1")).isEmpty());
+    map.removeListener(listener);
+  }
+
   @Test
   public void testTransaction() throws Throwable {
     Transaction transaction1 = atomix().transactionBuilder()
@@ -21,6 +21,7 @@ import io.atomix.core.map.impl.AtomicNavigableMapProxy;
 import org.junit.Test;
 
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -159,6 +160,30 @@ public class AtomicNavigableMapTest extends AbstractPrimitiveTest {
     assertEquals(Sets.newHashSet("h", "i", "j", "k", "n"), Sets.newHashSet(map.navigableKeySet()));
   }
 
+  @Test
+  public void testScan() throws Throwable {
+    AtomicNavigableMap<String, String> map = createResource("testScan").sync();
+
+    for (char letter = 'a'; letter <= 'z'; letter++) {
+      map.put(letter + "1", String.valueOf(letter));
+      map.put(letter + "2", String.valueOf(letter));
+    }
+
+    Set<String> keys = Sets.newHashSet();
+    map.scan(AtomicMapFilter.keyPrefix("c"), AtomicMapProjection.KEYS).forEachRemaining(entry -> keys.add(entry.getKey()));
+    assertEquals(Sets.newHashSet("c1", "c2"), keys);
+
+    keys.clear();
+    map.subMap("c", true, "f", false).scan(AtomicMapFilter.keyPrefix("c").or(AtomicMapFilter.keyPrefix("x")))
+        .forEachRemaining(entry -> keys.add(entry.getKey()));
+    assertEquals(Sets.newHashSet("c1", "c2"), keys);
+
+    keys.clear();
+    map.async().descendingMap().scan(AtomicMapFilter.keyRange("y", false, null, true)).sync()
+        .forEachRemaining(entry -> keys.add(entry.getKey()));
+    assertEquals(Sets.newHashSet("y1", "y2", "z1", "z2"), keys);
+  }
+
   @Test
   public void testKeySetOperations() throws Throwable {
     AtomicNavigableMap<String, String> map = createResource("testKeySetOperations").sync();
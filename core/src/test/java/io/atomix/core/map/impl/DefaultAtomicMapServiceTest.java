@@ -15,8 +15,13 @@
  */
 package io.atomix.core.map.impl;
 
+import com.google.common.collect.Sets;
+import io.atomix.core.iterator.impl.IteratorBatch;
+import io.atomix.core.map.AtomicMapFilter;
+import io.atomix.core.map.AtomicMapProjection;
 import io.atomix.core.map.AtomicMapType;
 import io.atomix.primitive.PrimitiveId;
+import io.atomix.primitive.service.BackupOutput;
 import io.atomix.primitive.service.ServiceContext;
 import io.atomix.primitive.service.impl.DefaultBackupInput;
 import io.atomix.primitive.service.impl.DefaultBackupOutput;
@@ -31,9 +36,17 @@ import io.atomix.utils.time.WallClock;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,6 +83,132 @@ public class DefaultAtomicMapServiceTest {
     assertArrayEquals("Hello world!".getBytes(), value.value());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testDeltaSnapshot() throws Exception {
+    ServiceContext context = mock(ServiceContext.class);
+    when(context.serviceType()).thenReturn(AtomicMapType.instance());
+    when(context.serviceName()).thenReturn("test");
+    when(context.serviceId()).thenReturn(PrimitiveId.from(1));
+    when(context.wallClock()).thenReturn(new WallClock());
+
+    AbstractAtomicMapService service = new TestAtomicMapService();
+    service.init(context);
+    service.enableDeltas();
+
+    service.put("foo", "foo".getBytes());
+    service.put("bar", "bar".getBytes());
+
+    Buffer fullBuffer = HeapBuffer.allocate();
+    service.backup(new DefaultBackupOutput(fullBuffer, service.serializer()));
+
+    service.remove("foo");
+    service.put("bar", "baz".getBytes());
+    service.put("baz", "baz".getBytes());
+
+    Buffer deltaBuffer = HeapBuffer.allocate();
+    service.backupDelta(new DefaultBackupOutput(deltaBuffer, service.serializer()));
+
+    service = new TestAtomicMapService();
+    service.restore(new DefaultBackupInput(fullBuffer.flip(), service.serializer()));
+    service.restoreDelta(new DefaultBackupInput(deltaBuffer.flip(), service.serializer()));
+
+    assertNull(service.get("foo"));
+    Versioned<byte[]> value = service.get("bar");
+    assertArrayEquals("baz".getBytes(), value.value());
+    value = service.get("baz");
+    assertArrayEquals("baz".getBytes(), value.value());
+    assertEquals(2, service.size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testConcurrentSnapshot() throws Exception {
+    ServiceContext context = mock(ServiceContext.class);
+    when(context.serviceType()).thenReturn(AtomicMapType.instance());
+    when(context.serviceName()).thenReturn("test");
+    when(context.serviceId()).thenReturn(PrimitiveId.from(1));
+    when(context.wallClock()).thenReturn(new WallClock());
+
+    AbstractAtomicMapService service = new TestAtomicMapService();
+    service.init(context);
+
+    service.put("foo", "foo".getBytes());
+    Consumer<BackupOutput> backup = service.captureBackup();
+
+    service.remove("foo");
+    service.put("bar", "bar".getBytes());
+
+    Buffer buffer = HeapBuffer.allocate();
+    backup.accept(new DefaultBackupOutput(buffer, service.serializer()));
+
+    service = new TestAtomicMapService();
+    service.restore(new DefaultBackupInput(buffer.flip(), service.serializer()));
+
+    Versioned<byte[]> value = service.get("foo");
+    assertArrayEquals("foo".getBytes(), value.value());
+    assertNull(service.get("bar"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testScan() throws Exception {
+    ServiceContext context = mock(ServiceContext.class);
+    when(context.serviceType()).thenReturn(AtomicMapType.instance());
+    when(context.serviceName()).thenReturn("test");
+    when(context.serviceId()).thenReturn(PrimitiveId.from(1));
+    when(context.wallClock()).thenReturn(new WallClock());
+    when(context.currentIndex()).thenReturn(1L);
+
+    Session session = mock(Session.class);
+    when(session.sessionId()).thenReturn(SessionId.from(1));
+
+    AbstractAtomicMapService service = new TestAtomicMapService() {
+      @Override
+      protected Session getCurrentSession() {
+        return session;
+      }
+    };
+    service.init(context);
+
+    byte[] value = new byte[1024 * 20];
+    service.put("foo", value);
+    service.put("bar1", value);
+    service.put("bar2", value);
+    service.put("bar3", value);
+
+    // Key scans are batched by the size of the keys rather than the values they omit.
+    IteratorBatch<Map.Entry<String, Versioned<byte[]>>> batch = service.scan(
+        AtomicMapFilter.keyPrefix("bar"), AtomicMapProjection.KEYS);
+    assertTrue(batch.complete());
+    Set<String> keys = Sets.newHashSet();
+    batch.entries().forEach(entry -> {
+      assertNull(entry.getValue());
+      keys.add(entry.getKey());
+    });
+    assertEquals(Sets.newHashSet("bar1", "bar2", "bar3"), keys);
+
+    // Entry scans are batched by the size of the values.
+    batch = service.scan(AtomicMapFilter.keyPrefix("bar"), AtomicMapProjection.ENTRIES);
+    assertFalse(batch.complete());
+    keys.clear();
+    batch.entries().forEach(entry -> keys.add(entry.getKey()));
+    batch = service.nextScan(batch.id(), batch.position());
+    assertTrue(batch.complete());
+    batch.entries().forEach(entry -> keys.add(entry.getKey()));
+    assertEquals(Sets.newHashSet("bar1", "bar2", "bar3"), keys);
+    assertNull(service.nextScan(batch.id(), batch.position()));
+
+    batch = service.scan(AtomicMapFilter.keys(Collections.singleton("foo")), AtomicMapProjection.VERSIONS);
+    assertTrue(batch.complete());
+    assertEquals(1, batch.entries().size());
+    Map.Entry<String, Versioned<byte[]>> entry = batch.entries().iterator().next();
+    assertNull(entry.getValue().value());
+    assertEquals(service.get("foo").version(), entry.getValue().version());
+
+    assertNull(service.scan(AtomicMapFilter.keyPrefix("baz"), AtomicMapProjection.ENTRIES));
+  }
+
   private static class TestAtomicMapService extends AbstractAtomicMapService {
     TestAtomicMapService() {
       super(AtomicMapType.instance());
@@ -42,4 +42,16 @@ public interface LogConsumer {
    */
   CompletableFuture<Void> consume(long index, Consumer<LogRecord> consumer);
 
+  /**
+   * Adds a new consumer to the given consumer group.
+   * <p>
+   * Each partition is consumed by a single member of the group at a time. The consumer's position is committed as the
+   * group's offset, and when the partition is reassigned the new member resumes from the committed offset.
+   *
+   * @param group the consumer group to join
+   * @param consumer the consumer to add
+   * @return a future to be completed once the consumer has been added
+   */
+  CompletableFuture<Void> consume(String group, Consumer<LogRecord> consumer);
+
 }
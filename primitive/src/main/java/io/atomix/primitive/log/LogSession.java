@@ -23,6 +23,8 @@ import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.session.SessionId;
 import io.atomix.utils.concurrent.ThreadContext;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * Log session.
  */
@@ -102,5 +104,37 @@ public interface LogSession {
    * Log session builder.
    */
   abstract class Builder implements io.atomix.utils.Builder<LogSession> {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    private static final int DEFAULT_CONSUMER_CREDITS = 1024;
+
+    protected int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    protected int consumerCredits = DEFAULT_CONSUMER_CREDITS;
+
+    /**
+     * Sets the maximum number of records to deliver to the consumer in a single batch.
+     *
+     * @param maxBatchSize the maximum number of records per batch
+     * @return the log session builder
+     */
+    public Builder withMaxBatchSize(int maxBatchSize) {
+      checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the number of records the consumer may have outstanding before the leader stops sending.
+     * <p>
+     * The consumer grants credits back to the leader as it processes records, so this bounds the number of records
+     * in flight to or buffered by the consumer at any time.
+     *
+     * @param consumerCredits the number of outstanding records allowed
+     * @return the log session builder
+     */
+    public Builder withConsumerCredits(int consumerCredits) {
+      checkArgument(consumerCredits > 0, "consumerCredits must be positive");
+      this.consumerCredits = consumerCredits;
+      return this;
+    }
   }
 }
@@ -28,12 +28,12 @@ import io.atomix.primitive.proxy.ProxySession;
 import io.atomix.primitive.session.SessionClient;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.misc.MethodInvoker;
 import io.atomix.utils.serializer.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -89,10 +89,11 @@ public class DefaultProxySession<S> implements ProxySession<S> {
   @Override
   public void register(Object client) {
     Events.getEventMap(client.getClass()).forEach((eventType, method) -> {
+      MethodInvoker invoker = MethodInvoker.of(method);
       session.addEventListener(eventType, event -> {
         try {
-          method.invoke(client, (Object[]) decode(event.value()));
-        } catch (IllegalAccessException | InvocationTargetException e) {
+          invoker.invoke(client, (Object[]) decode(event.value()));
+        } catch (Throwable e) {
           log.warn("Failed to handle event", e);
         }
       });
@@ -42,6 +42,7 @@ import io.atomix.primitive.session.SessionId;
 import io.atomix.primitive.session.impl.AbstractSession;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.misc.MethodInvoker;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
@@ -53,7 +54,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.LinkedList;
 import java.util.Map;
@@ -91,7 +91,7 @@ public class LogProxySession<S> implements ProxySession<S> {
   private volatile Object client;
   private volatile CompletableFuture<ProxySession<S>> connectFuture;
   private final AtomicLong operationIndex = new AtomicLong();
-  private final Map<EventType, Method> eventMethods = Maps.newConcurrentMap();
+  private final Map<EventType, MethodInvoker> eventMethods = Maps.newConcurrentMap();
   private final Map<Long, CompletableFuture> writeFutures = Maps.newConcurrentMap();
   private final Queue<PendingRead> pendingReads = new LinkedList<>();
   private final Map<SessionId, Session> sessions = Maps.newConcurrentMap();
@@ -142,7 +142,7 @@ public class LogProxySession<S> implements ProxySession<S> {
   @Override
   public void register(Object client) {
     this.client = client;
-    Events.getEventMap(client.getClass()).forEach((eventType, method) -> eventMethods.put(eventType, method));
+    Events.getEventMap(client.getClass()).forEach((eventType, method) -> eventMethods.put(eventType, MethodInvoker.of(method)));
   }
 
   @Override
@@ -406,11 +406,11 @@ public class LogProxySession<S> implements ProxySession<S> {
     @Override
     public void publish(PrimitiveEvent event) {
       if (sessionId().equals(session.sessionId())) {
-        Method method = eventMethods.get(event.type());
-        if (method != null) {
+        MethodInvoker invoker = eventMethods.get(event.type());
+        if (invoker != null) {
           try {
-            method.invoke(client, (Object[]) decode(event.value()));
-          } catch (IllegalAccessException | InvocationTargetException e) {
+            invoker.invoke(client, (Object[]) decode(event.value()));
+          } catch (Throwable e) {
             log.warn("Failed to handle event", e);
           }
         }
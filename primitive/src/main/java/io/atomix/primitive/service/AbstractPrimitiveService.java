@@ -29,6 +29,7 @@ import io.atomix.primitive.session.impl.ClientSession;
 import io.atomix.utils.concurrent.Scheduler;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
+import io.atomix.utils.misc.MethodInvoker;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.Clock;
 import io.atomix.utils.time.LogicalClock;
@@ -36,7 +37,6 @@ import io.atomix.utils.time.WallClock;
 import io.atomix.utils.time.WallClockTimestamp;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
@@ -134,45 +134,45 @@ public abstract class AbstractPrimitiveService<C> implements PrimitiveService {
    * @param executor    the service executor
    */
   private void configure(OperationId operationId, Method method, ServiceExecutor executor) {
+    MethodInvoker invoker = MethodInvoker.of(method);
     if (method.getReturnType() == Void.TYPE) {
       if (method.getParameterTypes().length == 0) {
         executor.register(operationId, () -> {
-          try {
-            method.invoke(this);
-          } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new PrimitiveException.ServiceException(e);
-          }
+          invoke(invoker, null);
         });
       } else {
         executor.register(operationId, args -> {
-          try {
-            method.invoke(this, (Object[]) args.value());
-          } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new PrimitiveException.ServiceException(e);
-          }
+          invoke(invoker, (Object[]) args.value());
         });
       }
     } else {
       if (method.getParameterTypes().length == 0) {
         executor.register(operationId, () -> {
-          try {
-            return method.invoke(this);
-          } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new PrimitiveException.ServiceException(e);
-          }
+          return invoke(invoker, null);
         });
       } else {
         executor.register(operationId, args -> {
-          try {
-            return method.invoke(this, (Object[]) args.value());
-          } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new PrimitiveException.ServiceException(e);
-          }
+          return invoke(invoker, (Object[]) args.value());
         });
       }
     }
   }
 
+  /**
+   * Invokes an operation method on this service.
+   *
+   * @param invoker the operation method invoker
+   * @param args    the operation arguments
+   * @return the operation result
+   */
+  private Object invoke(MethodInvoker invoker, Object[] args) {
+    try {
+      return invoker.invoke(this, args);
+    } catch (Throwable e) {
+      throw new PrimitiveException.ServiceException(e);
+    }
+  }
+
   /**
    * Returns the primitive type.
    *
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.primitive.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Primitive service that supports backing up its state concurrently with the application of operations.
+ * <p>
+ * Backups are taken in two phases. The service state is first {@link #captureBackup() captured} on the service
+ * thread, after which the returned writer may be invoked on any thread while the service continues to apply
+ * operations. Implementations must ensure the captured view is not affected by subsequent operations, e.g. by
+ * copying mutable collections or by copy-on-write. Writing the captured view must produce the same output as
+ * {@link PrimitiveService#backup(BackupOutput)} would have produced at the time the backup was captured.
+ */
+public interface ConcurrentBackup {
+
+  /**
+   * Captures a consistent view of the service state.
+   *
+   * @return a writer that backs up the captured service state to the given buffer
+   */
+  Consumer<BackupOutput> captureBackup();
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.primitive.service;
+
+/**
+ * Primitive service that supports incremental backups.
+ * <p>
+ * Services implementing this interface can back up only the state that changed since the last call to
+ * {@link PrimitiveService#backup(BackupOutput)}, {@link PrimitiveService#restore(BackupInput)},
+ * {@link #backupDelta(BackupOutput)} or {@link #restoreDelta(BackupInput)}. Protocols that support incremental
+ * snapshots only request a delta when the service's prior backup is retained, and restore deltas in the order in
+ * which they were written on top of the last full backup.
+ */
+public interface IncrementalBackup {
+
+  /**
+   * Enables delta backups of the service.
+   * <p>
+   * Services need not track the state changed between backups until delta backups are enabled. This method must be
+   * called before the backup on which the first delta is based.
+   */
+  void enableDeltas();
+
+  /**
+   * Backs up the service state changed since the last backup to the given buffer.
+   *
+   * @param output the buffer to which to back up the changed service state
+   */
+  void backupDelta(BackupOutput output);
+
+  /**
+   * Restores the service state changes from the given buffer on top of the current service state.
+   *
+   * @param input the buffer from which to restore the changed service state
+   */
+  void restoreDelta(BackupInput input);
+
+}
@@ -26,13 +26,13 @@ import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import io.atomix.utils.serializer.Serializer;
+import io.atomix.utils.time.WallClock;
 import io.atomix.utils.time.WallClockTimestamp;
 import org.slf4j.Logger;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -47,17 +47,24 @@ import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Default operation executor.
+ * <p>
+ * Scheduled callbacks are stored in a deterministic {@link TimerWheel} driven by the timestamps of the operations
+ * and ticks applied to the service, so scheduling and cancelling a callback are constant time operations regardless
+ * of the number of scheduled callbacks.
  */
 public class DefaultServiceExecutor implements ServiceExecutor {
   private final Serializer serializer;
   private final ServiceContext context;
   private final Logger log;
   private final Queue<Runnable> tasks = new LinkedList<>();
-  private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
+  private final TimerWheel<ScheduledTask> scheduledTasks = new TimerWheel<>();
   private final List<ScheduledTask> complete = new ArrayList<>();
+  private final List<ScheduledTask> deferred = new ArrayList<>();
   private final Map<String, Function<Commit<byte[]>, byte[]>> operations = new HashMap<>();
   private OperationType operationType;
   private long timestamp;
+  private boolean executing;
+  private boolean ticking;
 
   public DefaultServiceExecutor(ServiceContext context, Serializer serializer) {
     this.serializer = checkNotNull(serializer);
@@ -95,22 +102,23 @@ public class DefaultServiceExecutor implements ServiceExecutor {
   public void tick(WallClockTimestamp timestamp) {
     long unixTimestamp = timestamp.unixTimestamp();
     this.operationType = OperationType.COMMAND;
-    if (!scheduledTasks.isEmpty()) {
-      // Iterate through scheduled tasks until we reach a task that has not met its scheduled time.
-      // The tasks list is sorted by time on insertion.
-      Iterator<ScheduledTask> iterator = scheduledTasks.iterator();
-      while (iterator.hasNext()) {
-        ScheduledTask task = iterator.next();
-        if (task.isRunnable(unixTimestamp)) {
+    if (scheduledTasks.size() > 0) {
+      // Expire scheduled tasks in time order until we reach a task that has not met its scheduled time.
+      // Tasks scheduled by expired tasks are deferred until all expired tasks have been executed.
+      ticking = true;
+      executing = true;
+      try {
+        ScheduledTask task;
+        while ((task = scheduledTasks.poll(unixTimestamp)) != null) {
           this.timestamp = task.time;
           this.operationType = OperationType.COMMAND;
           log.trace("Executing scheduled task {}", task);
           task.execute();
           complete.add(task);
-          iterator.remove();
-        } else {
-          break;
         }
+      } finally {
+        ticking = false;
+        executing = false;
       }
 
       // Iterate through tasks that were completed and reschedule them.
@@ -118,6 +126,13 @@ public class DefaultServiceExecutor implements ServiceExecutor {
         task.reschedule(this.timestamp);
       }
       complete.clear();
+
+      for (ScheduledTask task : deferred) {
+        task.schedule();
+      }
+      deferred.clear();
+    } else {
+      scheduledTasks.poll(unixTimestamp);
     }
   }
 
@@ -128,7 +143,22 @@ public class DefaultServiceExecutor implements ServiceExecutor {
    * @param message the message to print if the current operation does not match the given type
    */
   private void checkOperation(OperationType type, String message) {
-    checkState(operationType == type, message);
+    checkState(!executing || operationType == type, message);
+  }
+
+  /**
+   * Returns the time from which to compute the delay of a newly scheduled task.
+   * <p>
+   * While an operation or scheduled task is being executed, delays are relative to its timestamp. Between operations,
+   * e.g. while a service is being restored from a snapshot, the service clock may have moved past the last executed
+   * operation, so the delay is relative to the latest of the two.
+   */
+  private long scheduleTime() {
+    if (executing) {
+      return timestamp;
+    }
+    WallClock wallClock = context.wallClock();
+    return wallClock != null ? Math.max(timestamp, wallClock.getTime().unixTimestamp()) : timestamp;
   }
 
   @Override
@@ -169,6 +199,7 @@ public class DefaultServiceExecutor implements ServiceExecutor {
 
     this.operationType = commit.operation().type();
     this.timestamp = commit.wallClockTime().unixTimestamp();
+    this.executing = true;
 
     // Look up the registered callback for the operation.
     Function<Commit<byte[]>, byte[]> operation = operations.get(commit.operation().id());
@@ -185,6 +216,7 @@ public class DefaultServiceExecutor implements ServiceExecutor {
         throw new PrimitiveException.ServiceException(e);
       } finally {
         runTasks();
+        executing = false;
       }
     }
   }
@@ -232,10 +264,10 @@ public class DefaultServiceExecutor implements ServiceExecutor {
   /**
    * Scheduled task.
    */
-  private class ScheduledTask implements Scheduled {
+  private class ScheduledTask extends TimerWheel.Timer implements Scheduled {
     private final long interval;
     private final Runnable callback;
-    private long time;
+    private boolean cancelled;
 
     private ScheduledTask(Runnable callback, long delay) {
       this(callback, delay, 0);
@@ -244,40 +276,20 @@ public class DefaultServiceExecutor implements ServiceExecutor {
     private ScheduledTask(Runnable callback, long delay, long interval) {
       this.interval = interval;
       this.callback = callback;
-      this.time = timestamp + delay;
+      this.time = scheduleTime() + delay;
     }
 
     /**
      * Schedules the task.
      */
     private Scheduled schedule() {
-      // Perform binary search to insert the task at the appropriate position in the tasks list.
-      if (scheduledTasks.isEmpty()) {
-        scheduledTasks.add(this);
+      if (cancelled) {
+        return this;
+      }
+      if (ticking) {
+        deferred.add(this);
       } else {
-        int l = 0;
-        int u = scheduledTasks.size() - 1;
-        int i;
-        while (true) {
-          i = (u + l) / 2;
-          long t = scheduledTasks.get(i).time;
-          if (t == time) {
-            scheduledTasks.add(i, this);
-            return this;
-          } else if (t < time) {
-            l = i + 1;
-            if (l > u) {
-              scheduledTasks.add(i + 1, this);
-              return this;
-            }
-          } else {
-            u = i - 1;
-            if (l > u) {
-              scheduledTasks.add(i, this);
-              return this;
-            }
-          }
-        }
+        scheduledTasks.add(this);
       }
       return this;
     }
@@ -292,13 +304,6 @@ public class DefaultServiceExecutor implements ServiceExecutor {
       }
     }
 
-    /**
-     * Returns a boolean value indicating whether the task delay has been met.
-     */
-    private boolean isRunnable(long timestamp) {
-      return timestamp > time;
-    }
-
     /**
      * Executes the task.
      */
@@ -312,6 +317,7 @@ public class DefaultServiceExecutor implements ServiceExecutor {
 
     @Override
     public synchronized void cancel() {
+      cancelled = true;
       scheduledTasks.remove(this);
     }
   }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.primitive.service.impl;
+
+/**
+ * Deterministic hierarchical timer wheel.
+ * <p>
+ * The wheel has no notion of real time. It's advanced explicitly by {@link #poll(long)} with the logical time of the
+ * state machine, so replicas that schedule and poll the same timers in the same order expire them in the same order.
+ * Each level has {@link #SLOTS} slots, and each slot at level {@code n} covers {@code SLOTS^n} milliseconds. Enough
+ * levels are used to cover the entire range of a {@code long}, so no overflow list is required. Adding and removing
+ * a timer are constant time operations, and timers in a higher level slot are cascaded into lower levels once the
+ * wheel reaches that slot.
+ * <p>
+ * Timers that expire at the same time are expired in the order in which they were added.
+ */
+final class TimerWheel<T extends TimerWheel.Timer> {
+  private static final int BITS = 6;
+  private static final int SLOTS = 1 << BITS;
+  private static final int LEVELS = (Long.SIZE + BITS - 1) / BITS;
+
+  private final Timer[][] heads = new Timer[LEVELS][SLOTS];
+  private final Timer[][] tails = new Timer[LEVELS][SLOTS];
+  private final long[] occupied = new long[LEVELS];
+  private long time;
+  private int size;
+
+  /**
+   * Returns the number of timers in the wheel.
+   *
+   * @return the number of timers in the wheel
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Adds a timer to the wheel.
+   * <p>
+   * Timers scheduled for a time the wheel has already passed are expired on the next call to {@link #poll(long)}
+   * with a time later than the current wheel time.
+   *
+   * @param timer the timer to add
+   */
+  void add(T timer) {
+    if (((Timer) timer).level != -1) {
+      throw new IllegalStateException("timer already scheduled");
+    }
+    place(timer);
+    size++;
+  }
+
+  /**
+   * Removes a timer from the wheel.
+   *
+   * @param timer the timer to remove
+   * @return whether the timer was removed
+   */
+  boolean remove(T timer) {
+    if (((Timer) timer).level == -1) {
+      return false;
+    }
+    unlink(timer);
+    size--;
+    return true;
+  }
+
+  /**
+   * Advances the wheel towards the given time and returns the next timer that expires before it.
+   *
+   * @param now the time up to which to advance the wheel
+   * @return the next timer with a time earlier than {@code now}, or {@code null} if no timers remain to be expired
+   */
+  @SuppressWarnings("unchecked")
+  T poll(long now) {
+    while (time < now) {
+      Timer head = heads[0][index(time, 0)];
+      if (head != null) {
+        unlink(head);
+        size--;
+        return (T) head;
+      }
+
+      // Find the slot holding the next timers. On ties prefer the highest level to cascade timers before expiring them.
+      long next = Long.MAX_VALUE;
+      int level = -1;
+      for (int i = 0; i < LEVELS; i++) {
+        long bits = occupied[i] & (-1L << index(time, i));
+        if (bits != 0) {
+          long start = (time & ~mask(i + 1)) | ((long) Long.numberOfTrailingZeros(bits) << (BITS * i));
+          if (start <= next) {
+            next = start;
+            level = i;
+          }
+        }
+      }
+
+      if (level == -1 || next >= now) {
+        time = now;
+        return null;
+      }
+
+      time = next;
+      if (level > 0) {
+        cascade(level, index(time, level));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Moves the timers in the given slot into lower levels of the wheel.
+   */
+  private void cascade(int level, int slot) {
+    Timer timer = heads[level][slot];
+    heads[level][slot] = null;
+    tails[level][slot] = null;
+    occupied[level] &= ~(1L << slot);
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.prev = null;
+      timer.next = null;
+      place(timer);
+      timer = next;
+    }
+  }
+
+  /**
+   * Appends the given timer to the slot for its time relative to the current wheel time.
+   */
+  private void place(Timer timer) {
+    long expiration = Math.max(timer.time, time);
+    long diff = expiration ^ time;
+    int level = diff == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / BITS;
+    int slot = index(expiration, level);
+    timer.level = level;
+    timer.slot = slot;
+    Timer tail = tails[level][slot];
+    if (tail == null) {
+      heads[level][slot] = timer;
+      occupied[level] |= 1L << slot;
+    } else {
+      tail.next = timer;
+      timer.prev = tail;
+    }
+    tails[level][slot] = timer;
+  }
+
+  /**
+   * Unlinks the given timer from its slot.
+   */
+  private void unlink(Timer timer) {
+    int level = timer.level;
+    int slot = timer.slot;
+    if (timer.prev == null) {
+      heads[level][slot] = timer.next;
+    } else {
+      timer.prev.next = timer.next;
+    }
+    if (timer.next == null) {
+      tails[level][slot] = timer.prev;
+    } else {
+      timer.next.prev = timer.prev;
+    }
+    if (heads[level][slot] == null) {
+      occupied[level] &= ~(1L << slot);
+    }
+    timer.prev = null;
+    timer.next = null;
+    timer.level = -1;
+  }
+
+  /**
+   * Returns the slot index for the given time at the given level.
+   */
+  private static int index(long time, int level) {
+    return (int) (time >>> (BITS * level)) & (SLOTS - 1);
+  }
+
+  /**
+   * Returns a mask for the bits of a time covered by the given number of levels.
+   */
+  private static long mask(int levels) {
+    return levels * BITS >= Long.SIZE ? -1L : (1L << (BITS * levels)) - 1;
+  }
+
+  /**
+   * Timer wheel entry.
+   */
+  static class Timer {
+    long time;
+    private int level = -1;
+    private int slot;
+    private Timer prev;
+    private Timer next;
+  }
+}
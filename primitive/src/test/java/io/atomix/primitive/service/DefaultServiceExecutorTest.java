@@ -22,15 +22,23 @@ import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.service.impl.DefaultCommit;
 import io.atomix.primitive.service.impl.DefaultServiceExecutor;
 import io.atomix.primitive.session.Session;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
+import io.atomix.utils.time.WallClock;
 import io.atomix.utils.time.WallClockTimestamp;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -92,13 +100,86 @@ public class DefaultServiceExecutorTest {
     assertTrue(calls.contains("a"));
   }
 
+  @Test
+  public void testSchedulingOrder() throws Exception {
+    ServiceExecutor executor = executor();
+    executor.register(OperationId.command("a"), () -> {
+    });
+    executor.apply(commit(OperationId.command("a"), 1, null, 1000));
+
+    List<Long> times = new ArrayList<>();
+    List<Long> expected = new ArrayList<>();
+    Random random = new Random(1);
+    for (int i = 0; i < 10000; i++) {
+      long delay = random.nextInt(4) == 0 ? random.nextInt(100) : random.nextInt(10000000);
+      expected.add(1000 + delay);
+      executor.schedule(Duration.ofMillis(delay), () -> times.add(1000 + delay));
+    }
+
+    Scheduled cancelled = executor.schedule(Duration.ofMillis(50), () -> times.add(-1L));
+    cancelled.cancel();
+
+    long now = 1000;
+    while (times.size() < expected.size()) {
+      now += random.nextInt(100000);
+      executor.tick(new WallClockTimestamp(now));
+      for (long time : times) {
+        assertTrue(time < now);
+      }
+    }
+
+    Collections.sort(expected);
+    assertEquals(expected, times);
+  }
+
+  @Test
+  public void testRepeatingScheduling() throws Exception {
+    ServiceExecutor executor = executor();
+    executor.register(OperationId.command("a"), () -> {
+    });
+    executor.apply(commit(OperationId.command("a"), 1, null, 0));
+
+    AtomicInteger count = new AtomicInteger();
+    Scheduled scheduled = executor.schedule(Duration.ofMillis(10), Duration.ofMillis(10), count::incrementAndGet);
+    executor.tick(new WallClockTimestamp(11));
+    assertEquals(1, count.get());
+    executor.tick(new WallClockTimestamp(15));
+    assertEquals(1, count.get());
+    executor.tick(new WallClockTimestamp(21));
+    assertEquals(2, count.get());
+    scheduled.cancel();
+    executor.tick(new WallClockTimestamp(100));
+    assertEquals(2, count.get());
+  }
+
+  @Test
+  public void testSchedulingOnRestore() throws Exception {
+    ServiceContext context = context();
+    WallClock wallClock = mock(WallClock.class);
+    when(wallClock.getTime()).thenReturn(new WallClockTimestamp(1000));
+    when(context.wallClock()).thenReturn(wallClock);
+    ServiceExecutor executor = new DefaultServiceExecutor(context, Serializer.using(Namespaces.BASIC));
+
+    // Tasks scheduled outside of an operation, e.g. while restoring a snapshot, are relative to the service clock.
+    Set<String> calls = new HashSet<>();
+    executor.schedule(Duration.ofMillis(100), () -> calls.add("a"));
+    executor.tick(new WallClockTimestamp(1100));
+    assertFalse(calls.contains("a"));
+    executor.tick(new WallClockTimestamp(1101));
+    assertTrue(calls.contains("a"));
+  }
+
   private ServiceExecutor executor() {
+    return new DefaultServiceExecutor(context(), Serializer.using(Namespaces.BASIC));
+  }
+
+  private ServiceContext context() {
     ServiceContext context = mock(ServiceContext.class);
     when(context.serviceId()).thenReturn(PrimitiveId.from(1));
     when(context.serviceType()).thenReturn(TestPrimitiveType.instance());
     when(context.serviceName()).thenReturn("test");
     when(context.currentOperation()).thenReturn(OperationType.COMMAND);
-    return new DefaultServiceExecutor(context, Serializer.using(Namespaces.BASIC));
+    return context;
   }
 
   @SuppressWarnings("unchecked")
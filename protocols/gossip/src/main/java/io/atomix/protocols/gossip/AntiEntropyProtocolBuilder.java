@@ -96,6 +96,17 @@ public class AntiEntropyProtocolBuilder extends PrimitiveProtocolBuilder<AntiEnt
     return this;
   }
 
+  /**
+   * Sets whether anti-entropy advertisements are exchanged via hash trees.
+   *
+   * @param merkleTreeEnabled whether anti-entropy advertisements are exchanged via hash trees
+   * @return the anti-entropy protocol configuration
+   */
+  public AntiEntropyProtocolBuilder withMerkleTreeEnabled(boolean merkleTreeEnabled) {
+    config.setMerkleTreeEnabled(merkleTreeEnabled);
+    return this;
+  }
+
   @Override
   public AntiEntropyProtocol build() {
     return new AntiEntropyProtocol(config);
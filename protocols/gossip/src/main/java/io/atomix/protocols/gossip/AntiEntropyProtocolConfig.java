@@ -35,6 +35,7 @@ public class AntiEntropyProtocolConfig extends PrimitiveProtocolConfig<AntiEntro
   private boolean tombstonesDisabled;
   private Duration gossipInterval = Duration.ofMillis(50);
   private Duration antiEntropyInterval = Duration.ofMillis(500);
+  private boolean merkleTreeEnabled;
 
   @Override
   public PrimitiveProtocol.Type getType() {
@@ -180,4 +181,27 @@ public class AntiEntropyProtocolConfig extends PrimitiveProtocolConfig<AntiEntro
     this.antiEntropyInterval = checkNotNull(antiEntropyInterval);
     return this;
   }
+
+  /**
+   * Returns whether anti-entropy advertisements are exchanged via hash trees.
+   *
+   * @return whether anti-entropy advertisements are exchanged via hash trees
+   */
+  public boolean isMerkleTreeEnabled() {
+    return merkleTreeEnabled;
+  }
+
+  /**
+   * Sets whether anti-entropy advertisements are exchanged via hash trees.
+   * <p>
+   * When enabled, peers compare hash trees of their maps level by level and exchange digests only for the keys in
+   * buckets that differ, rather than a digest for every key in the map. The setting must be the same on all members.
+   *
+   * @param merkleTreeEnabled whether anti-entropy advertisements are exchanged via hash trees
+   * @return the anti-entropy protocol configuration
+   */
+  public AntiEntropyProtocolConfig setMerkleTreeEnabled(boolean merkleTreeEnabled) {
+    this.merkleTreeEnabled = merkleTreeEnabled;
+    return this;
+  }
 }
@@ -51,6 +51,17 @@ public class CrdtProtocolBuilder extends PrimitiveProtocolBuilder<CrdtProtocolBu
     return this;
   }
 
+  /**
+   * Sets whether delta-state replication is enabled.
+   *
+   * @param deltaStateEnabled whether delta-state replication is enabled
+   * @return the CRDT protocol builder
+   */
+  public CrdtProtocolBuilder withDeltaStateEnabled(boolean deltaStateEnabled) {
+    config.setDeltaStateEnabled(deltaStateEnabled);
+    return this;
+  }
+
   @Override
   public CrdtProtocol build() {
     return new CrdtProtocol(config);
@@ -30,6 +30,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public class CrdtProtocolConfig extends PrimitiveProtocolConfig<CrdtProtocolConfig> {
   private TimestampProvider timestampProvider = TimestampProviders.WALL_CLOCK;
   private Duration gossipInterval = Duration.ofMillis(50);
+  private boolean deltaStateEnabled;
 
   @Override
   public PrimitiveProtocol.Type getType() {
@@ -85,4 +86,28 @@ public class CrdtProtocolConfig extends PrimitiveProtocolConfig<CrdtProtocolConf
     this.gossipInterval = checkNotNull(gossipInterval);
     return this;
   }
+
+  /**
+   * Returns whether delta-state replication is enabled.
+   *
+   * @return whether delta-state replication is enabled
+   */
+  public boolean isDeltaStateEnabled() {
+    return deltaStateEnabled;
+  }
+
+  /**
+   * Sets whether delta-state replication is enabled.
+   * <p>
+   * When enabled, each gossip round sends peers only the changes made since the last round they acknowledged, falling
+   * back to the full state for new peers and on gaps. When disabled, the full state is broadcast on every round. The
+   * setting must be the same on all members.
+   *
+   * @param deltaStateEnabled whether delta-state replication is enabled
+   * @return the CRDT protocol configuration
+   */
+  public CrdtProtocolConfig setDeltaStateEnabled(boolean deltaStateEnabled) {
+    this.deltaStateEnabled = deltaStateEnabled;
+    return this;
+  }
 }
@@ -15,6 +15,7 @@
  */
 package io.atomix.protocols.gossip.counter;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.AtomicLongMap;
@@ -23,6 +24,8 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.primitive.PrimitiveManagementService;
 import io.atomix.primitive.protocol.counter.CounterDelegate;
 import io.atomix.protocols.gossip.CrdtProtocolConfig;
+import io.atomix.protocols.gossip.delta.DeltaMessage;
+import io.atomix.protocols.gossip.delta.DeltaReplicator;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
@@ -40,6 +43,7 @@ public class CrdtCounterDelegate implements CounterDelegate {
   private static final Serializer SERIALIZER = Serializer.using(Namespace.builder()
       .register(Namespaces.BASIC)
       .register(MemberId.class)
+      .register(DeltaMessage.class)
       .build());
 
   private final MemberId localMemberId;
@@ -47,6 +51,7 @@ public class CrdtCounterDelegate implements CounterDelegate {
   private final ScheduledExecutorService executorService;
   private final String subject;
   private volatile ScheduledFuture<?> broadcastFuture;
+  private final DeltaReplicator<List<Map<MemberId, Long>>> replicator;
   private final AtomicLongMap<MemberId> increments = AtomicLongMap.create();
   private final AtomicLongMap<MemberId> decrements = AtomicLongMap.create();
 
@@ -55,9 +60,21 @@ public class CrdtCounterDelegate implements CounterDelegate {
     this.clusterCommunicator = managementService.getCommunicationService();
     this.executorService = managementService.getExecutorService();
     this.subject = String.format("atomix-crdt-counter-%s", name);
-    clusterCommunicator.subscribe(subject, SERIALIZER::decode, this::updateCounters, executorService);
-    broadcastFuture = executorService.scheduleAtFixedRate(
-        this::broadcastCounters, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    if (config.isDeltaStateEnabled()) {
+      replicator = new DeltaReplicator<>(
+          subject + "-delta",
+          SERIALIZER,
+          this::counters,
+          CrdtCounterDelegate::joinCounters,
+          this::updateCounters,
+          config.getGossipInterval(),
+          managementService);
+    } else {
+      replicator = null;
+      clusterCommunicator.subscribe(subject, SERIALIZER::decode, this::updateCounters, executorService);
+      broadcastFuture = executorService.scheduleAtFixedRate(
+          this::broadcastCounters, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
@@ -67,32 +84,56 @@ public class CrdtCounterDelegate implements CounterDelegate {
 
   @Override
   public long incrementAndGet() {
-    return getIncrement(increments.incrementAndGet(localMemberId));
+    long local = increments.incrementAndGet(localMemberId);
+    recordIncrement(local);
+    return getIncrement(local);
   }
 
   @Override
   public long decrementAndGet() {
-    return getDecrement(decrements.incrementAndGet(localMemberId));
+    long local = decrements.incrementAndGet(localMemberId);
+    recordDecrement(local);
+    return getDecrement(local);
   }
 
   @Override
   public long getAndIncrement() {
-    return getIncrement(increments.getAndIncrement(localMemberId));
+    long local = increments.getAndIncrement(localMemberId);
+    recordIncrement(local + 1);
+    return getIncrement(local);
   }
 
   @Override
   public long getAndDecrement() {
-    return getDecrement(decrements.getAndIncrement(localMemberId));
+    long local = decrements.getAndIncrement(localMemberId);
+    recordDecrement(local + 1);
+    return getDecrement(local);
   }
 
   @Override
   public long getAndAdd(long delta) {
-    return getIncrement(increments.getAndAdd(localMemberId, delta));
+    long local = increments.getAndAdd(localMemberId, delta);
+    recordIncrement(local + delta);
+    return getIncrement(local);
   }
 
   @Override
   public long addAndGet(long delta) {
-    return getIncrement(increments.addAndGet(localMemberId, delta));
+    long local = increments.addAndGet(localMemberId, delta);
+    recordIncrement(local);
+    return getIncrement(local);
+  }
+
+  private void recordIncrement(long local) {
+    if (replicator != null) {
+      replicator.record(Lists.newArrayList(ImmutableMap.of(localMemberId, local), ImmutableMap.of()));
+    }
+  }
+
+  private void recordDecrement(long local) {
+    if (replicator != null) {
+      replicator.record(Lists.newArrayList(ImmutableMap.of(), ImmutableMap.of(localMemberId, local)));
+    }
   }
 
   private long getIncrement(long local) {
@@ -111,26 +152,55 @@ public class CrdtCounterDelegate implements CounterDelegate {
         .sum() + local);
   }
 
-  private void updateCounters(List<Map<MemberId, Long>> counters) {
-    Map<MemberId, Long> increments = counters.get(0);
-    for (Map.Entry<MemberId, Long> entry : increments.entrySet()) {
-      this.increments.accumulateAndGet(entry.getKey(), entry.getValue(), Math::max);
-    }
+  /**
+   * Merges the given counters into the local counters.
+   *
+   * @param counters the increment and decrement counters to merge
+   * @return the counters that were changed by the merge or {@code null} if no counters were changed
+   */
+  private List<Map<MemberId, Long>> updateCounters(List<Map<MemberId, Long>> counters) {
+    Map<MemberId, Long> incrementChanges = updateCounter(this.increments, counters.get(0));
+    Map<MemberId, Long> decrementChanges = updateCounter(this.decrements, counters.get(1));
+    return incrementChanges.isEmpty() && decrementChanges.isEmpty()
+        ? null : Lists.newArrayList(incrementChanges, decrementChanges);
+  }
 
-    Map<MemberId, Long> decrements = counters.get(1);
-    for (Map.Entry<MemberId, Long> entry : decrements.entrySet()) {
-      this.decrements.accumulateAndGet(entry.getKey(), entry.getValue(), Math::max);
+  private static Map<MemberId, Long> updateCounter(AtomicLongMap<MemberId> counter, Map<MemberId, Long> values) {
+    Map<MemberId, Long> changes = Maps.newHashMap();
+    for (Map.Entry<MemberId, Long> entry : values.entrySet()) {
+      long previous = counter.getAndAccumulate(entry.getKey(), entry.getValue(), Math::max);
+      if (entry.getValue() > previous) {
+        changes.put(entry.getKey(), entry.getValue());
+      }
     }
+    return changes;
+  }
+
+  /**
+   * Joins two sets of counter deltas.
+   */
+  private static List<Map<MemberId, Long>> joinCounters(List<Map<MemberId, Long>> a, List<Map<MemberId, Long>> b) {
+    List<Map<MemberId, Long>> joined = Lists.newArrayList(Maps.newHashMap(a.get(0)), Maps.newHashMap(a.get(1)));
+    b.get(0).forEach((id, value) -> joined.get(0).merge(id, value, Math::max));
+    b.get(1).forEach((id, value) -> joined.get(1).merge(id, value, Math::max));
+    return joined;
+  }
+
+  private List<Map<MemberId, Long>> counters() {
+    return Lists.newArrayList(Maps.newHashMap(increments.asMap()), Maps.newHashMap(decrements.asMap()));
   }
 
   private void broadcastCounters() {
-    List<Map<MemberId, Long>> changes = Lists.newArrayList(Maps.newHashMap(increments.asMap()), Maps.newHashMap(decrements.asMap()));
-    clusterCommunicator.broadcast(subject, changes, SERIALIZER::encode);
+    clusterCommunicator.broadcast(subject, counters(), SERIALIZER::encode);
   }
 
   @Override
   public void close() {
-    broadcastFuture.cancel(false);
-    clusterCommunicator.unsubscribe(subject);
+    if (replicator != null) {
+      replicator.close();
+    } else {
+      broadcastFuture.cancel(false);
+      clusterCommunicator.unsubscribe(subject);
+    }
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.delta;
+
+import io.atomix.cluster.MemberId;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Delta-state gossip message.
+ * <p>
+ * A message either carries the full state of the sender or the join of all deltas recorded by the sender after the
+ * {@link #base() base} sequence number last acknowledged by the receiver.
+ */
+public final class DeltaMessage<T> {
+  private final MemberId sender;
+  private final boolean full;
+  private final long base;
+  private final long sequence;
+  private final T value;
+
+  DeltaMessage(MemberId sender, boolean full, long base, long sequence, T value) {
+    this.sender = checkNotNull(sender);
+    this.full = full;
+    this.base = base;
+    this.sequence = sequence;
+    this.value = checkNotNull(value);
+  }
+
+  /**
+   * Returns the sender's member ID.
+   *
+   * @return the sender's member ID
+   */
+  public MemberId sender() {
+    return sender;
+  }
+
+  /**
+   * Returns whether the message carries the full state of the sender.
+   *
+   * @return whether the message carries the full state of the sender
+   */
+  public boolean isFull() {
+    return full;
+  }
+
+  /**
+   * Returns the sequence number after which the deltas in this message were recorded.
+   *
+   * @return the base sequence number
+   */
+  public long base() {
+    return base;
+  }
+
+  /**
+   * Returns the sequence number of the last delta included in this message.
+   *
+   * @return the message sequence number
+   */
+  public long sequence() {
+    return sequence;
+  }
+
+  /**
+   * Returns the delta or full state.
+   *
+   * @return the delta or full state
+   */
+  public T value() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("sender", sender)
+        .add("full", full)
+        .add("base", base)
+        .add("sequence", sequence)
+        .toString();
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.delta;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEventListener;
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.primitive.PrimitiveManagementService;
+import io.atomix.utils.serializer.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Delta-state CRDT replicator.
+ * <p>
+ * Rather than periodically broadcasting the full state of a CRDT, the replicator records each change to the local
+ * state as a delta with a monotonically increasing sequence number. On each gossip round, each peer is sent the join
+ * of the deltas recorded since the last sequence number it acknowledged. Peers that have never acknowledged a message
+ * from this member, or whose acknowledged deltas have since been discarded from the buffer, are sent the full state.
+ * A receiver that detects a gap (a delta based on a sequence number it has not seen from the sender) rejects the
+ * message, in which case the sender falls back to full state sync on the next round.
+ * <p>
+ * Changes applied from received deltas are themselves recorded, so updates propagate transitively.
+ */
+public class DeltaReplicator<T> {
+  private static final Logger LOGGER = LoggerFactory.getLogger(DeltaReplicator.class);
+  private static final int MAX_DELTAS = 1024;
+  private static final long GAP = -1;
+
+  private final String subject;
+  private final Serializer serializer;
+  private final Supplier<T> state;
+  private final BinaryOperator<T> join;
+  private final Function<T, T> merge;
+  private final MemberId localMemberId;
+  private final ClusterMembershipService membershipService;
+  private final ClusterCommunicationService clusterCommunicator;
+  private final ClusterMembershipEventListener membershipListener = this::handleMembershipEvent;
+  private final NavigableMap<Long, T> deltas = new TreeMap<>();
+  private final Map<MemberId, Long> acks = Maps.newConcurrentMap();
+  private final Map<MemberId, Long> received = Maps.newConcurrentMap();
+  private final Set<MemberId> inFlight = Sets.newConcurrentHashSet();
+  private final ScheduledFuture<?> gossipFuture;
+  private long sequence;
+
+  /**
+   * Creates a new delta replicator.
+   *
+   * @param subject           the subject on which to gossip
+   * @param serializer        the serializer with which to encode messages; {@link DeltaMessage} and the state type
+   *                          must be registered with the serializer
+   * @param state             supplies a snapshot of the full local state
+   * @param join              joins two deltas into a single delta
+   * @param merge             merges a remote delta or state into the local state, returning the changes that were
+   *                          applied or {@code null} if the local state was not changed
+   * @param gossipInterval    the interval at which to gossip with peers
+   * @param managementService the primitive management service
+   */
+  public DeltaReplicator(
+      String subject,
+      Serializer serializer,
+      Supplier<T> state,
+      BinaryOperator<T> join,
+      Function<T, T> merge,
+      Duration gossipInterval,
+      PrimitiveManagementService managementService) {
+    this.subject = subject;
+    this.serializer = serializer;
+    this.state = state;
+    this.join = join;
+    this.merge = merge;
+    this.localMemberId = managementService.getMembershipService().getLocalMember().id();
+    this.membershipService = managementService.getMembershipService();
+    this.clusterCommunicator = managementService.getCommunicationService();
+    ScheduledExecutorService executorService = managementService.getExecutorService();
+    clusterCommunicator.subscribe(subject, serializer::decode, this::handleMessage, serializer::encode, executorService);
+    membershipService.addListener(membershipListener);
+    gossipFuture = executorService.scheduleAtFixedRate(
+        this::gossip, gossipInterval.toMillis(), gossipInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records a change to the local state.
+   *
+   * @param delta the delta describing the change
+   */
+  public synchronized void record(T delta) {
+    deltas.put(++sequence, delta);
+    if (deltas.size() > MAX_DELTAS) {
+      // Peers that have not acknowledged the discarded delta will be sent the full state
+      deltas.pollFirstEntry();
+    }
+  }
+
+  /**
+   * Sends pending deltas to all reachable peers.
+   */
+  private void gossip() {
+    try {
+      for (Member member : membershipService.getReachableMembers()) {
+        MemberId peer = member.id();
+        if (!peer.equals(localMemberId) && !inFlight.contains(peer)) {
+          DeltaMessage<T> message = nextMessage(peer);
+          if (message != null) {
+            send(peer, message);
+          }
+        }
+      }
+    } catch (Exception e) {
+      // Catch all exceptions to avoid the scheduled task being suppressed.
+      LOGGER.error("Exception thrown while gossiping deltas", e);
+    }
+  }
+
+  /**
+   * Returns the next message to send to the given peer.
+   *
+   * @param peer the peer to which to send the message
+   * @return the next message or {@code null} if the peer is up to date
+   */
+  private synchronized DeltaMessage<T> nextMessage(MemberId peer) {
+    Long ack = acks.get(peer);
+    if (ack != null && ack == sequence) {
+      return null;
+    }
+
+    if (ack == null || deltas.isEmpty() || deltas.firstKey() > ack + 1) {
+      T value = state.get();
+      return value != null ? new DeltaMessage<>(localMemberId, true, 0, sequence, value) : null;
+    }
+
+    T delta = deltas.tailMap(ack, false).values().stream().reduce(join).orElse(null);
+    return delta != null ? new DeltaMessage<>(localMemberId, false, ack, sequence, delta) : null;
+  }
+
+  /**
+   * Sends the given message to the given peer.
+   */
+  private void send(MemberId peer, DeltaMessage<T> message) {
+    inFlight.add(peer);
+    clusterCommunicator.<DeltaMessage<T>, Long>send(
+        subject,
+        message,
+        serializer::encode,
+        serializer::decode,
+        peer)
+        .whenComplete((ack, error) -> {
+          inFlight.remove(peer);
+          if (error != null) {
+            LOGGER.debug("Failed to send deltas to {}: {}", peer, error.getMessage());
+          } else if (ack == GAP) {
+            LOGGER.debug("{} detected a gap in deltas; falling back to full state", peer);
+            acks.remove(peer);
+          } else {
+            acks.merge(peer, ack, Math::max);
+            compact();
+          }
+        });
+  }
+
+  /**
+   * Discards deltas that have been acknowledged by all reachable peers.
+   */
+  private synchronized void compact() {
+    // Peers that have not acknowledged any message will be sent the full state
+    long safeSequence = membershipService.getReachableMembers()
+        .stream()
+        .map(Member::id)
+        .filter(id -> !id.equals(localMemberId))
+        .map(acks::get)
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .min()
+        .orElse(sequence);
+    deltas.headMap(safeSequence, true).clear();
+  }
+
+  /**
+   * Handles a delta message from a peer.
+   *
+   * @param message the message to handle
+   * @return the acknowledged sequence number or {@code -1} if a gap was detected
+   */
+  private Long handleMessage(DeltaMessage<T> message) {
+    MemberId sender = message.sender();
+    if (!message.isFull()) {
+      Long last = received.get(sender);
+      if (last == null || last < message.base()) {
+        return GAP;
+      }
+    }
+
+    T changes = merge.apply(message.value());
+    if (changes != null) {
+      record(changes);
+    }
+
+    if (message.isFull()) {
+      received.put(sender, message.sequence());
+    } else {
+      received.merge(sender, message.sequence(), Math::max);
+    }
+    return message.sequence();
+  }
+
+  /**
+   * Handles a cluster membership event.
+   */
+  private void handleMembershipEvent(ClusterMembershipEvent event) {
+    if (event.type() == ClusterMembershipEvent.Type.MEMBER_REMOVED) {
+      acks.remove(event.subject().id());
+      received.remove(event.subject().id());
+    }
+  }
+
+  /**
+   * Closes the replicator.
+   */
+  public void close() {
+    gossipFuture.cancel(false);
+    membershipService.removeListener(membershipListener);
+    clusterCommunicator.unsubscribe(subject);
+  }
+}
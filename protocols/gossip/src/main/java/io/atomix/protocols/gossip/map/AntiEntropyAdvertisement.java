@@ -17,9 +17,11 @@ package io.atomix.protocols.gossip.map;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.atomix.cluster.MemberId;
 
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -30,6 +32,7 @@ public class AntiEntropyAdvertisement {
 
   private final MemberId sender;
   private final Map<String, MapValue.Digest> digest;
+  private final Set<Integer> buckets;
 
   /**
    * Creates a new anti entropy advertisement message.
@@ -39,8 +42,22 @@ public class AntiEntropyAdvertisement {
    */
   public AntiEntropyAdvertisement(MemberId sender,
       Map<String, MapValue.Digest> digest) {
+    this(sender, digest, null);
+  }
+
+  /**
+   * Creates a new anti entropy advertisement message limited to a set of hash tree buckets.
+   *
+   * @param sender the sender's node ID
+   * @param digest for map entries in the given buckets
+   * @param buckets the hash tree buckets covered by the digest, or {@code null} if the digest covers all entries
+   */
+  public AntiEntropyAdvertisement(MemberId sender,
+      Map<String, MapValue.Digest> digest,
+      Set<Integer> buckets) {
     this.sender = checkNotNull(sender);
     this.digest = ImmutableMap.copyOf(checkNotNull(digest));
+    this.buckets = buckets != null ? ImmutableSet.copyOf(buckets) : null;
   }
 
   /**
@@ -61,11 +78,21 @@ public class AntiEntropyAdvertisement {
     return digest;
   }
 
+  /**
+   * Returns the hash tree buckets covered by the digest.
+   *
+   * @return the hash tree buckets covered by the digest, or {@code null} if the digest covers all entries
+   */
+  public Set<Integer> buckets() {
+    return buckets;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(getClass())
         .add("sender", sender)
         .add("totalEntries", digest.size())
+        .add("buckets", buckets != null ? buckets.size() : null)
         .toString();
   }
 }
@@ -18,6 +18,7 @@ package io.atomix.protocols.gossip.map;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -66,6 +67,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -100,6 +102,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
   private final String initializeMessageSubject;
   private final String updateMessageSubject;
   private final String antiEntropyAdvertisementSubject;
+  private final String merkleTreeAdvertisementSubject;
   private final String updateRequestSubject;
   private final Set<MapDelegateEventListener<K, V>> listeners = Sets.newCopyOnWriteArraySet();
   private final ExecutorService executor;
@@ -115,6 +118,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
   private final Supplier<List<MemberId>> peersSupplier;
   private final Supplier<List<MemberId>> bootstrapPeersSupplier;
   private final MemberId localMemberId;
+  private final MerkleTree merkleTree;
   private long previousTombstonePurgeTime;
   private volatile boolean closed = false;
   private SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_SIZE);
@@ -135,8 +139,11 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         .register(MapValue.Digest.class)
         .register(UpdateRequest.class)
         .register(MemberId.class)
+        .register(MerkleTreeAdvertisement.class)
+        .register(MerkleTreeResponse.class)
         .build(name + "-anti-entropy-map"));
     this.items = Maps.newConcurrentMap();
+    this.merkleTree = config.isMerkleTreeEnabled() ? new MerkleTree() : null;
     senderPending = Maps.newConcurrentMap();
     destroyedMessage = mapName + ERROR_DESTROYED;
 
@@ -212,6 +219,17 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         this.backgroundExecutor
     );
 
+    merkleTreeAdvertisementSubject = "atomix-gossip-map-" + mapName + "-merkle-tree";
+    if (merkleTree != null) {
+      clusterCommunicator.subscribe(
+          merkleTreeAdvertisementSubject,
+          serializer::decode,
+          this::handleMerkleTreeAdvertisement,
+          serializer::encode,
+          this.backgroundExecutor
+      );
+    }
+
     updateRequestSubject = "atomix-gossip-map-" + mapName + "-update-request";
     clusterCommunicator.subscribe(
         updateRequestSubject,
@@ -252,6 +270,20 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     return value != null ? entrySerializer.decode(value) : null;
   }
 
+  /**
+   * Computes the value for the given key, keeping the hash tree (if enabled) in sync with the items map.
+   */
+  private MapValue computeItem(String key, BiFunction<String, MapValue, MapValue> function) {
+    if (merkleTree == null) {
+      return items.compute(key, function);
+    }
+    return items.compute(key, (k, existing) -> {
+      MapValue value = function.apply(k, existing);
+      merkleTree.update(k, existing, value);
+      return value;
+    });
+  }
+
   @Override
   public int size() {
     checkState(!closed, destroyedMessage);
@@ -305,7 +337,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     counter.incrementCount();
     AtomicReference<byte[]> oldValue = new AtomicReference<>();
     AtomicBoolean updated = new AtomicBoolean(false);
-    items.compute(encodedKey, (k, existing) -> {
+    computeItem(encodedKey, (k, existing) -> {
       if (existing == null || newValue.isNewerThan(existing)) {
         updated.set(true);
         oldValue.set(existing != null ? existing.get() : null);
@@ -369,7 +401,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     counter.incrementCount();
     AtomicBoolean updated = new AtomicBoolean(false);
     AtomicReference<MapValue> previousValue = new AtomicReference<>();
-    items.compute(key, (k, existing) -> {
+    computeItem(key, (k, existing) -> {
       boolean valueMatches = true;
       if (value.isPresent() && existing != null && existing.isAlive()) {
         valueMatches = Arrays.equals(value.get(), existing.get());
@@ -403,7 +435,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     String encodedKey = encodeKey(key);
     AtomicReference<MapDelegateEvent.Type> update = new AtomicReference<>();
     AtomicReference<MapValue> previousValue = new AtomicReference<>();
-    MapValue computedValue = items.compute(encodedKey, (k, mv) -> {
+    MapValue computedValue = computeItem(encodedKey, (k, mv) -> {
       previousValue.set(mv);
       V newRawValue = recomputeFunction.apply(key, mv == null ? null : mv.get(this::decodeValue));
       byte[] newEncodedValue = encodeValue(newRawValue);
@@ -508,6 +540,9 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     clusterCommunicator.unsubscribe(updateMessageSubject);
     clusterCommunicator.unsubscribe(updateRequestSubject);
     clusterCommunicator.unsubscribe(antiEntropyAdvertisementSubject);
+    if (merkleTree != null) {
+      clusterCommunicator.unsubscribe(merkleTreeAdvertisementSubject);
+    }
   }
 
   private void notifyListeners(MapDelegateEvent<K, V> event) {
@@ -552,7 +587,14 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
 
   private void sendAdvertisementToPeer(MemberId peer) {
     long adCreationTime = System.currentTimeMillis();
-    AntiEntropyAdvertisement ad = createAdvertisement();
+    if (merkleTree != null) {
+      sendMerkleTreeAdvertisementToPeer(peer, 0, ImmutableMap.of(0, merkleTree.hash(0, 0)), adCreationTime);
+    } else {
+      sendAdvertisementToPeer(peer, createAdvertisement(), adCreationTime);
+    }
+  }
+
+  private void sendAdvertisementToPeer(MemberId peer, AntiEntropyAdvertisement ad, long adCreationTime) {
     clusterCommunicator.send(
         antiEntropyAdvertisementSubject,
         ad,
@@ -584,11 +626,75 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         });
   }
 
+  /**
+   * Sends a single level of the hash tree to the given peer.
+   * <p>
+   * The peer responds with the nodes whose hashes differ from its own. The children of those nodes are then sent
+   * until the leaf level is reached, at which point a digest is sent for only the keys in divergent leaf buckets.
+   */
+  private void sendMerkleTreeAdvertisementToPeer(MemberId peer, int level, Map<Integer, Long> hashes, long adCreationTime) {
+    clusterCommunicator.<MerkleTreeAdvertisement, MerkleTreeResponse>send(
+        merkleTreeAdvertisementSubject,
+        new MerkleTreeAdvertisement(localMemberId, level, hashes),
+        serializer::encode,
+        serializer::decode,
+        peer)
+        .whenCompleteAsync((result, error) -> {
+          if (error != null) {
+            LOGGER.debug("Failed to send hash tree advertisement to {}: {}",
+                peer, error.getMessage());
+          } else if (result.status() == AntiEntropyResponse.PROCESSED && !closed) {
+            if (result.divergent().isEmpty()) {
+              antiEntropyTimes.put(peer, adCreationTime);
+            } else if (level < MerkleTree.DEPTH) {
+              sendMerkleTreeAdvertisementToPeer(
+                  peer, level + 1, merkleTree.children(level, result.divergent()), adCreationTime);
+            } else {
+              sendAdvertisementToPeer(peer, createAdvertisement(result.divergent()), adCreationTime);
+            }
+          }
+        }, backgroundExecutor);
+  }
+
   private AntiEntropyAdvertisement createAdvertisement() {
     return new AntiEntropyAdvertisement(localMemberId,
         ImmutableMap.copyOf(Maps.transformValues(items, MapValue::digest)));
   }
 
+  private AntiEntropyAdvertisement createAdvertisement(Set<Integer> buckets) {
+    Map<String, MapValue.Digest> digest = Maps.newHashMap();
+    for (int bucket : buckets) {
+      for (String key : merkleTree.keys(bucket)) {
+        MapValue value = items.get(key);
+        if (value != null) {
+          digest.put(key, value.digest());
+        }
+      }
+    }
+    return new AntiEntropyAdvertisement(localMemberId, digest, buckets);
+  }
+
+  private MerkleTreeResponse handleMerkleTreeAdvertisement(MerkleTreeAdvertisement ad) {
+    if (closed || underHighLoad()) {
+      return new MerkleTreeResponse(AntiEntropyResponse.IGNORED, ImmutableSet.of());
+    }
+    try {
+      Set<Integer> divergent = ad.hashes().entrySet()
+          .stream()
+          .filter(e -> merkleTree.hash(ad.level(), e.getKey()) != e.getValue())
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toSet());
+      if (LOGGER.isTraceEnabled()) {
+        LOGGER.trace("Received hash tree advertisement from {} for {} at level {} with {} of {} nodes divergent",
+            ad.sender(), mapName, ad.level(), divergent.size(), ad.hashes().size());
+      }
+      return new MerkleTreeResponse(AntiEntropyResponse.PROCESSED, divergent);
+    } catch (Exception e) {
+      LOGGER.warn("Error handling hash tree advertisement", e);
+      return new MerkleTreeResponse(AntiEntropyResponse.FAILED, ImmutableSet.of());
+    }
+  }
+
   private AntiEntropyResponse handleAntiEntropyAdvertisement(AntiEntropyAdvertisement ad) {
     if (closed || underHighLoad()) {
       return AntiEntropyResponse.IGNORED;
@@ -617,7 +723,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
     Set<String> staleOrMissing = new HashSet<>();
     Set<String> locallyUnknown = new HashSet<>(ad.digest().keySet());
 
-    items.forEach((key, localValue) -> {
+    BiConsumer<String, MapValue> checkLocalItem = (key, localValue) -> {
       locallyUnknown.remove(key);
       MapValue.Digest remoteValueDigest = ad.digest().get(key);
       if (remoteValueDigest == null || localValue.isNewerThan(remoteValueDigest.timestamp())) {
@@ -636,7 +742,20 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         // Not a tombstone and remote is newer
         staleOrMissing.add(key);
       }
-    });
+    };
+    if (ad.buckets() == null || merkleTree == null) {
+      items.forEach(checkLocalItem);
+    } else {
+      // Only compare the buckets covered by the advertisement
+      for (int bucket : ad.buckets()) {
+        for (String key : merkleTree.keys(bucket)) {
+          MapValue localValue = items.get(key);
+          if (localValue != null) {
+            checkLocalItem.accept(key, localValue);
+          }
+        }
+      }
+    }
     // Keys missing in local map
     staleOrMissing.addAll(locallyUnknown);
     // Request updates that we missed out on
@@ -675,7 +794,8 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         .filter(e -> e.getValue().creationTime() <= currentSafeTombstonePurgeTime)
         .collect(Collectors.toList());
     previousTombstonePurgeTime = currentSafeTombstonePurgeTime;
-    tombStonesToDelete.forEach(entry -> items.remove(entry.getKey(), entry.getValue()));
+    tombStonesToDelete.forEach(entry -> computeItem(entry.getKey(), (k, existing) ->
+        entry.getValue().equals(existing) ? null : existing));
   }
 
   private void processUpdates(Collection<UpdateEntry> updates) {
@@ -694,7 +814,7 @@ public class AntiEntropyMapDelegate<K, V> implements MapDelegate<K, V> {
         counter.incrementCount();
         AtomicReference<byte[]> oldValue = new AtomicReference<>();
         AtomicBoolean updated = new AtomicBoolean(false);
-        items.compute(key, (k, existing) -> {
+        computeItem(key, (k, existing) -> {
           if (existing == null || value.isNewerThan(existing)) {
             updated.set(true);
             oldValue.set(existing != null ? existing.get() : null);
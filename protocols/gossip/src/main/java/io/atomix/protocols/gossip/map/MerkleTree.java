@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.map;
+
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hash tree over the keys of an anti-entropy map.
+ * <p>
+ * Keys are hashed into a fixed number of leaf buckets, and each bucket hash is the XOR of the hashes of the
+ * key/digest pairs it contains. Each inner node is the XOR of its children. Since XOR is commutative, the tree
+ * is maintained incrementally by applying the same delta to a leaf and all of its ancestors on every update, and
+ * two replicas with identical contents always produce identical trees regardless of the order of updates.
+ */
+final class MerkleTree {
+  static final int FANOUT = 16;
+  static final int DEPTH = 3;
+  static final int LEAVES = (int) Math.pow(FANOUT, DEPTH);
+
+  private static final HashFunction KEY_HASH = Hashing.murmur3_32();
+  private static final HashFunction ENTRY_HASH = Hashing.murmur3_128();
+
+  private final AtomicLongArray[] levels = new AtomicLongArray[DEPTH + 1];
+  private final Set<String>[] buckets;
+
+  @SuppressWarnings("unchecked")
+  MerkleTree() {
+    for (int level = 0; level <= DEPTH; level++) {
+      levels[level] = new AtomicLongArray((int) Math.pow(FANOUT, level));
+    }
+    buckets = new Set[LEAVES];
+    for (int i = 0; i < LEAVES; i++) {
+      buckets[i] = ConcurrentHashMap.newKeySet();
+    }
+  }
+
+  /**
+   * Returns the leaf bucket for the given key.
+   *
+   * @param key the key
+   * @return the leaf bucket for the key
+   */
+  static int bucket(String key) {
+    return KEY_HASH.hashString(key, StandardCharsets.UTF_8).asInt() & (LEAVES - 1);
+  }
+
+  /**
+   * Updates the tree for a change to the given key.
+   * <p>
+   * Updates to a single key must be serialized by the caller.
+   *
+   * @param key the key that changed
+   * @param previous the previous value or {@code null} if the key was absent
+   * @param current the current value or {@code null} if the key was removed
+   */
+  void update(String key, MapValue previous, MapValue current) {
+    int index = bucket(key);
+    if (current == null) {
+      buckets[index].remove(key);
+    } else {
+      buckets[index].add(key);
+    }
+
+    long delta = hash(key, previous) ^ hash(key, current);
+    if (delta == 0) {
+      return;
+    }
+    for (int level = DEPTH; level >= 0; level--) {
+      levels[level].accumulateAndGet(index, delta, (a, b) -> a ^ b);
+      index /= FANOUT;
+    }
+  }
+
+  /**
+   * Returns the hash of the given node.
+   *
+   * @param level the node level, where {@code 0} is the root
+   * @param index the index of the node within the level
+   * @return the node hash
+   */
+  long hash(int level, int index) {
+    return levels[level].get(index);
+  }
+
+  /**
+   * Returns the hashes of the children of the given nodes.
+   *
+   * @param level the level of the parent nodes
+   * @param indexes the indexes of the parent nodes
+   * @return the child hashes indexed by their position in the next level
+   */
+  Map<Integer, Long> children(int level, Collection<Integer> indexes) {
+    Map<Integer, Long> hashes = Maps.newHashMapWithExpectedSize(indexes.size() * FANOUT);
+    for (int index : indexes) {
+      for (int child = index * FANOUT; child < (index + 1) * FANOUT; child++) {
+        hashes.put(child, levels[level + 1].get(child));
+      }
+    }
+    return hashes;
+  }
+
+  /**
+   * Returns the keys in the given leaf bucket.
+   *
+   * @param bucket the leaf bucket
+   * @return the keys in the bucket
+   */
+  Set<String> keys(int bucket) {
+    return buckets[bucket];
+  }
+
+  private static long hash(String key, MapValue value) {
+    if (value == null) {
+      return 0;
+    }
+    return ENTRY_HASH.newHasher()
+        .putString(key, StandardCharsets.UTF_8)
+        .putInt(value.timestamp().hashCode())
+        .putBoolean(value.isTombstone())
+        .hash()
+        .asLong();
+  }
+}
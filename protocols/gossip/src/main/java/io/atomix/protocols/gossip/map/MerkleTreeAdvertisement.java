@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.map;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import io.atomix.cluster.MemberId;
+
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Hash tree advertisement for a single level of an anti-entropy map's {@link MerkleTree}.
+ */
+final class MerkleTreeAdvertisement {
+
+  private final MemberId sender;
+  private final int level;
+  private final Map<Integer, Long> hashes;
+
+  /**
+   * Creates a new hash tree advertisement.
+   *
+   * @param sender the sender's node ID
+   * @param level  the tree level being advertised
+   * @param hashes the advertised node hashes indexed by node
+   */
+  MerkleTreeAdvertisement(MemberId sender, int level, Map<Integer, Long> hashes) {
+    this.sender = checkNotNull(sender);
+    this.level = level;
+    this.hashes = ImmutableMap.copyOf(checkNotNull(hashes));
+  }
+
+  /**
+   * Returns the sender's node ID.
+   *
+   * @return the sender's node ID
+   */
+  MemberId sender() {
+    return sender;
+  }
+
+  /**
+   * Returns the advertised tree level.
+   *
+   * @return the advertised tree level
+   */
+  int level() {
+    return level;
+  }
+
+  /**
+   * Returns the advertised node hashes.
+   *
+   * @return the advertised node hashes indexed by node
+   */
+  Map<Integer, Long> hashes() {
+    return hashes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(getClass())
+        .add("sender", sender)
+        .add("level", level)
+        .add("totalNodes", hashes.size())
+        .toString();
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.map;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Response to a {@link MerkleTreeAdvertisement}.
+ */
+final class MerkleTreeResponse {
+
+  private final AntiEntropyResponse status;
+  private final Set<Integer> divergent;
+
+  /**
+   * Creates a new hash tree response.
+   *
+   * @param status    the response status
+   * @param divergent the advertised nodes whose hashes differ from the receiver's
+   */
+  MerkleTreeResponse(AntiEntropyResponse status, Set<Integer> divergent) {
+    this.status = checkNotNull(status);
+    this.divergent = ImmutableSet.copyOf(checkNotNull(divergent));
+  }
+
+  /**
+   * Returns the response status.
+   *
+   * @return the response status
+   */
+  AntiEntropyResponse status() {
+    return status;
+  }
+
+  /**
+   * Returns the advertised nodes whose hashes differ from the receiver's.
+   *
+   * @return the divergent node indexes
+   */
+  Set<Integer> divergent() {
+    return divergent;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(getClass())
+        .add("status", status)
+        .add("divergent", divergent.size())
+        .toString();
+  }
+}
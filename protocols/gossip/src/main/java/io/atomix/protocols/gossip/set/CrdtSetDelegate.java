@@ -15,9 +15,11 @@
  */
 package io.atomix.protocols.gossip.set;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.io.BaseEncoding;
+import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.primitive.PrimitiveManagementService;
 import io.atomix.primitive.protocol.set.SetDelegate;
@@ -25,6 +27,8 @@ import io.atomix.primitive.protocol.set.SetDelegateEvent;
 import io.atomix.primitive.protocol.set.SetDelegateEventListener;
 import io.atomix.protocols.gossip.CrdtProtocolConfig;
 import io.atomix.protocols.gossip.TimestampProvider;
+import io.atomix.protocols.gossip.delta.DeltaMessage;
+import io.atomix.protocols.gossip.delta.DeltaReplicator;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
@@ -46,6 +50,8 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
   private static final Serializer SERIALIZER = Serializer.using(Namespace.builder()
       .register(Namespaces.BASIC)
       .register(SetElement.class)
+      .register(MemberId.class)
+      .register(DeltaMessage.class)
       .build());
 
   private final ClusterCommunicationService clusterCommunicator;
@@ -54,6 +60,7 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
   private final TimestampProvider<E> timestampProvider;
   private final String subject;
   private volatile ScheduledFuture<?> broadcastFuture;
+  private final DeltaReplicator<Map<String, SetElement>> replicator;
   protected final Map<String, SetElement> elements = Maps.newConcurrentMap();
   private final Set<SetDelegateEventListener<E>> eventListeners = Sets.newCopyOnWriteArraySet();
 
@@ -63,9 +70,21 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
     this.elementSerializer = serializer;
     this.timestampProvider = config.getTimestampProvider();
     this.subject = String.format("atomix-crdt-set-%s", name);
-    clusterCommunicator.subscribe(subject, SERIALIZER::decode, this::updateElements, executorService);
-    broadcastFuture = executorService.scheduleAtFixedRate(
-        this::broadcastElements, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    if (config.isDeltaStateEnabled()) {
+      replicator = new DeltaReplicator<>(
+          subject + "-delta",
+          SERIALIZER,
+          () -> Maps.newHashMap(elements),
+          CrdtSetDelegate::joinElements,
+          this::updateElements,
+          config.getGossipInterval(),
+          managementService);
+    } else {
+      replicator = null;
+      clusterCommunicator.subscribe(subject, SERIALIZER::decode, this::updateElements, executorService);
+      broadcastFuture = executorService.scheduleAtFixedRate(
+          this::broadcastElements, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
@@ -102,6 +121,7 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
   public boolean add(E e) {
     SetElement element = new SetElement(encode(e), timestampProvider.get(e), false);
     if (add(element)) {
+      recordElement(element);
       eventListeners.forEach(listener -> listener.event(new SetDelegateEvent<>(SetDelegateEvent.Type.ADD, e)));
       return true;
     }
@@ -113,12 +133,19 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
   public boolean remove(Object o) {
     SetElement element = new SetElement(encode(o), timestampProvider.get((E) o), true);
     if (remove(element)) {
+      recordElement(element);
       eventListeners.forEach(listener -> listener.event(new SetDelegateEvent<>(SetDelegateEvent.Type.REMOVE, (E) o)));
       return true;
     }
     return false;
   }
 
+  private void recordElement(SetElement element) {
+    if (replicator != null) {
+      replicator.record(ImmutableMap.of(element.value(), element));
+    }
+  }
+
   private boolean add(SetElement element) {
     AtomicBoolean added = new AtomicBoolean();
     elements.compute(element.value(), (k, v) -> {
@@ -222,19 +249,33 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
    * Updates the set elements.
    *
    * @param elements the elements to update
+   * @return the elements that were changed by the update or {@code null} if no elements were changed
    */
-  private void updateElements(Map<String, SetElement> elements) {
+  private Map<String, SetElement> updateElements(Map<String, SetElement> elements) {
+    Map<String, SetElement> changes = Maps.newHashMap();
     for (SetElement element : elements.values()) {
       if (element.isTombstone()) {
         if (remove(element)) {
+          changes.put(element.value(), element);
           eventListeners.forEach(listener -> listener.event(new SetDelegateEvent<>(SetDelegateEvent.Type.REMOVE, decode(element.value()))));
         }
       } else {
         if (add(element)) {
+          changes.put(element.value(), element);
           eventListeners.forEach(listener -> listener.event(new SetDelegateEvent<>(SetDelegateEvent.Type.ADD, decode(element.value()))));
         }
       }
     }
+    return changes.isEmpty() ? null : changes;
+  }
+
+  /**
+   * Joins two sets of element deltas, keeping the newest element for each value.
+   */
+  private static Map<String, SetElement> joinElements(Map<String, SetElement> a, Map<String, SetElement> b) {
+    Map<String, SetElement> joined = Maps.newHashMap(a);
+    b.forEach((value, element) -> joined.merge(value, element, (x, y) -> y.isNewerThan(x) ? y : x));
+    return joined;
   }
 
   /**
@@ -246,7 +287,11 @@ public class CrdtSetDelegate<E> implements SetDelegate<E> {
 
   @Override
   public void close() {
-    broadcastFuture.cancel(false);
-    clusterCommunicator.unsubscribe(subject);
+    if (replicator != null) {
+      replicator.close();
+    } else {
+      broadcastFuture.cancel(false);
+      clusterCommunicator.unsubscribe(subject);
+    }
   }
 }
@@ -17,6 +17,7 @@ package io.atomix.protocols.gossip.value;
 
 import com.google.common.collect.Sets;
 import com.google.common.io.BaseEncoding;
+import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterEventService;
 import io.atomix.cluster.messaging.Subscription;
 import io.atomix.primitive.PrimitiveManagementService;
@@ -25,6 +26,8 @@ import io.atomix.primitive.protocol.value.ValueDelegateEvent;
 import io.atomix.primitive.protocol.value.ValueDelegateEventListener;
 import io.atomix.protocols.gossip.CrdtProtocolConfig;
 import io.atomix.protocols.gossip.TimestampProvider;
+import io.atomix.protocols.gossip.delta.DeltaMessage;
+import io.atomix.protocols.gossip.delta.DeltaReplicator;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 import io.atomix.utils.serializer.Serializer;
@@ -44,6 +47,8 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
   private static final Serializer SERIALIZER = Serializer.using(Namespace.builder()
       .register(Namespaces.BASIC)
       .register(Value.class)
+      .register(MemberId.class)
+      .register(DeltaMessage.class)
       .build());
 
   private final ClusterEventService clusterEventService;
@@ -53,6 +58,7 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
   private final String subject;
   private volatile CompletableFuture<Subscription> subscribeFuture;
   private volatile ScheduledFuture<?> broadcastFuture;
+  private final DeltaReplicator<Value> replicator;
   private final AtomicReference<Value> currentValue = new AtomicReference<>();
   private final Set<ValueDelegateEventListener<V>> eventListeners = Sets.newCopyOnWriteArraySet();
 
@@ -62,9 +68,21 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
     this.valueSerializer = serializer;
     this.timestampProvider = config.getTimestampProvider();
     this.subject = String.format("atomix-crdt-value-%s", name);
-    subscribeFuture = clusterEventService.subscribe(subject, SERIALIZER::decode, this::updateValue, executorService);
-    broadcastFuture = executorService.scheduleAtFixedRate(
-        this::broadcastValue, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    if (config.isDeltaStateEnabled()) {
+      replicator = new DeltaReplicator<>(
+          subject + "-delta",
+          SERIALIZER,
+          currentValue::get,
+          (a, b) -> b.isNewerThan(a) ? b : a,
+          this::updateValue,
+          config.getGossipInterval(),
+          managementService);
+    } else {
+      replicator = null;
+      subscribeFuture = clusterEventService.subscribe(subject, SERIALIZER::decode, this::updateValue, executorService);
+      broadcastFuture = executorService.scheduleAtFixedRate(
+          this::broadcastValue, config.getGossipInterval().toMillis(), config.getGossipInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
   }
 
   @Override
@@ -80,6 +98,7 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
       Value oldValue = currentValue.get();
       if (newValue.isNewerThan(oldValue)) {
         if (currentValue.compareAndSet(oldValue, newValue)) {
+          recordValue(newValue);
           if (oldValue == null || !Objects.equals(oldValue.value(), newValue.value())) {
             eventListeners.forEach(listener -> listener.event(new ValueDelegateEvent<>(ValueDelegateEvent.Type.UPDATE, value)));
           }
@@ -98,6 +117,7 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
       Value oldValue = currentValue.get();
       if (newValue.isNewerThan(oldValue)) {
         if (currentValue.compareAndSet(oldValue, newValue)) {
+          recordValue(newValue);
           if (oldValue == null || !Objects.equals(oldValue.value(), newValue.value())) {
             eventListeners.forEach(listener -> listener.event(new ValueDelegateEvent<>(ValueDelegateEvent.Type.UPDATE, value)));
           }
@@ -109,6 +129,12 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
     }
   }
 
+  private void recordValue(Value value) {
+    if (replicator != null) {
+      replicator.record(value);
+    }
+  }
+
   @Override
   public void addListener(ValueDelegateEventListener<V> listener) {
     eventListeners.add(listener);
@@ -143,8 +169,9 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
    * Updates the value.
    *
    * @param value the value
+   * @return the value if it was updated or {@code null} if the current value is newer
    */
-  private void updateValue(Value value) {
+  private Value updateValue(Value value) {
     while (true) {
       Value current = currentValue.get();
       if (value.isNewerThan(current)) {
@@ -152,10 +179,10 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
           if (current == null || !Objects.equals(current.value(), value.value())) {
             eventListeners.forEach(listener -> listener.event(new ValueDelegateEvent<>(ValueDelegateEvent.Type.UPDATE, decode(value.value()))));
           }
-          break;
+          return value;
         }
       } else {
-        break;
+        return null;
       }
     }
   }
@@ -169,7 +196,11 @@ public class CrdtValueDelegate<V> implements ValueDelegate<V> {
 
   @Override
   public void close() {
-    broadcastFuture.cancel(false);
-    subscribeFuture.thenAccept(subscription -> subscription.close());
+    if (replicator != null) {
+      replicator.close();
+    } else {
+      broadcastFuture.cancel(false);
+      subscribeFuture.thenAccept(subscription -> subscription.close());
+    }
   }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.primitive.PrimitiveManagementService;
+import io.atomix.protocols.gossip.counter.CrdtCounterDelegate;
+import io.atomix.protocols.gossip.set.CrdtSetDelegate;
+import io.atomix.protocols.gossip.value.CrdtValueDelegate;
+import io.atomix.utils.serializer.Namespaces;
+import io.atomix.utils.serializer.Serializer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Delta-state CRDT replication test.
+ */
+public class CrdtDeltaStateTest {
+  private static final Serializer SERIALIZER = Serializer.using(Namespaces.BASIC);
+
+  private final Set<Member> members = Sets.newConcurrentHashSet();
+  private final Map<MemberId, Map<String, Function<byte[], CompletableFuture<byte[]>>>> handlers = Maps.newConcurrentMap();
+  private final List<ScheduledExecutorService> executors = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+    executors.forEach(ScheduledExecutorService::shutdownNow);
+  }
+
+  @Test
+  public void testDeltaCounter() throws Exception {
+    CrdtCounterDelegate counter1 = new CrdtCounterDelegate("test", config(), newMember(1));
+    CrdtCounterDelegate counter2 = new CrdtCounterDelegate("test", config(), newMember(2));
+    for (int i = 0; i < 10; i++) {
+      counter1.incrementAndGet();
+    }
+    for (int i = 0; i < 3; i++) {
+      counter2.decrementAndGet();
+    }
+    assertEventually(7L, counter1::get);
+    assertEventually(7L, counter2::get);
+
+    // A new member is brought up to date with the full state
+    CrdtCounterDelegate counter3 = new CrdtCounterDelegate("test", config(), newMember(3));
+    assertEventually(7L, counter3::get);
+  }
+
+  @Test
+  public void testDeltaSet() throws Exception {
+    CrdtSetDelegate<String> set1 = new CrdtSetDelegate<>("test", SERIALIZER, config(), newMember(1));
+    CrdtSetDelegate<String> set2 = new CrdtSetDelegate<>("test", SERIALIZER, config(), newMember(2));
+    for (int i = 0; i < 100; i++) {
+      set1.add(String.valueOf(i));
+    }
+    assertEventually(100, set2::size);
+    for (int i = 0; i < 10; i++) {
+      set2.remove(String.valueOf(i));
+    }
+    assertEventually(90, set1::size);
+    assertFalse(set1.contains("0"));
+
+    // A new member is brought up to date with the full state
+    CrdtSetDelegate<String> set3 = new CrdtSetDelegate<>("test", SERIALIZER, config(), newMember(3));
+    assertEventually(90, set3::size);
+    assertFalse(set3.contains("0"));
+  }
+
+  @Test
+  public void testDeltaValue() throws Exception {
+    CrdtValueDelegate<String> value1 = new CrdtValueDelegate<>("test", SERIALIZER, config(), newMember(1));
+    CrdtValueDelegate<String> value2 = new CrdtValueDelegate<>("test", SERIALIZER, config(), newMember(2));
+    value1.set("foo");
+    assertEventually("foo", value2::get);
+    value2.set("bar");
+    assertEventually("bar", value1::get);
+  }
+
+  private static CrdtProtocolConfig config() {
+    return new CrdtProtocolConfig()
+        .setDeltaStateEnabled(true)
+        .setGossipInterval(Duration.ofMillis(10));
+  }
+
+  /**
+   * Creates a management service for a new member whose messages are delivered in memory to the other members.
+   */
+  @SuppressWarnings("unchecked")
+  private PrimitiveManagementService newMember(int id) {
+    Member member = Member.member(String.valueOf(id), "localhost:" + (5000 + id));
+    Map<String, Function<byte[], CompletableFuture<byte[]>>> subscriptions = Maps.newConcurrentMap();
+    handlers.put(member.id(), subscriptions);
+    members.add(member);
+
+    ClusterMembershipService membershipService = mock(ClusterMembershipService.class);
+    when(membershipService.getLocalMember()).thenReturn(member);
+    when(membershipService.getReachableMembers()).thenAnswer(invocation -> Sets.newHashSet(members));
+
+    ClusterCommunicationService communicationService = mock(ClusterCommunicationService.class);
+    when(communicationService.subscribe(anyString(), any(), any(), any(), any(Executor.class))).thenAnswer(invocation -> {
+      Object[] args = invocation.getArguments();
+      Function<byte[], Object> decoder = (Function<byte[], Object>) args[1];
+      Function<Object, Object> handler = (Function<Object, Object>) args[2];
+      Function<Object, byte[]> encoder = (Function<Object, byte[]>) args[3];
+      Executor executor = (Executor) args[4];
+      subscriptions.put((String) args[0], bytes -> CompletableFuture.supplyAsync(
+          () -> encoder.apply(handler.apply(decoder.apply(bytes))), executor));
+      return CompletableFuture.completedFuture(null);
+    });
+    when(communicationService.send(anyString(), any(), any(), any(), any(MemberId.class))).thenAnswer(invocation -> {
+      Object[] args = invocation.getArguments();
+      Function<Object, byte[]> encoder = (Function<Object, byte[]>) args[2];
+      Function<byte[], Object> decoder = (Function<byte[], Object>) args[3];
+      Function<byte[], CompletableFuture<byte[]>> handler = handlers.get((MemberId) args[4]).get((String) args[0]);
+      if (handler == null) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        future.completeExceptionally(new ConnectException());
+        return future;
+      }
+      return handler.apply(encoder.apply(args[1])).thenApply(decoder);
+    });
+
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    executors.add(executor);
+
+    PrimitiveManagementService managementService = mock(PrimitiveManagementService.class);
+    when(managementService.getMembershipService()).thenReturn(membershipService);
+    when(managementService.getCommunicationService()).thenReturn(communicationService);
+    when(managementService.getExecutorService()).thenReturn(executor);
+    return managementService;
+  }
+
+  private static <T> void assertEventually(T expected, Supplier<T> actual) throws InterruptedException {
+    for (int i = 0; i < 300 && !expected.equals(actual.get()); i++) {
+      Thread.sleep(100);
+    }
+    assertEquals(expected, actual.get());
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.gossip.map;
+
+import com.google.common.collect.Sets;
+import io.atomix.utils.time.LogicalTimestamp;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Merkle tree test.
+ */
+public class MerkleTreeTest {
+
+  @Test
+  public void testInsertionOrderIndependence() throws Exception {
+    MerkleTree tree1 = new MerkleTree();
+    MerkleTree tree2 = new MerkleTree();
+    for (int i = 0; i < 1000; i++) {
+      tree1.update(String.valueOf(i), null, value(i));
+    }
+    for (int i = 999; i >= 0; i--) {
+      tree2.update(String.valueOf(i), null, value(i));
+    }
+
+    assertNotEquals(0, tree1.hash(0, 0));
+    assertEquals(tree1.hash(0, 0), tree2.hash(0, 0));
+    for (int bucket = 0; bucket < MerkleTree.LEAVES; bucket++) {
+      assertEquals(tree1.hash(MerkleTree.DEPTH, bucket), tree2.hash(MerkleTree.DEPTH, bucket));
+      assertEquals(tree1.keys(bucket), tree2.keys(bucket));
+    }
+  }
+
+  @Test
+  public void testAddRemove() throws Exception {
+    MerkleTree tree = new MerkleTree();
+    tree.update("foo", null, value(1));
+    tree.update("foo", value(1), null);
+    assertEquals(0, tree.hash(0, 0));
+    assertTrue(tree.keys(MerkleTree.bucket("foo")).isEmpty());
+
+    for (int i = 0; i < 100; i++) {
+      tree.update(String.valueOf(i), null, value(i));
+    }
+    long root = tree.hash(0, 0);
+    long leaf = tree.hash(MerkleTree.DEPTH, MerkleTree.bucket("foo"));
+
+    tree.update("foo", null, value(1));
+    assertNotEquals(root, tree.hash(0, 0));
+    tree.update("foo", value(1), value(2));
+    tree.update("foo", value(2), null);
+    assertEquals(root, tree.hash(0, 0));
+    assertEquals(leaf, tree.hash(MerkleTree.DEPTH, MerkleTree.bucket("foo")));
+    assertFalse(tree.keys(MerkleTree.bucket("foo")).contains("foo"));
+  }
+
+  @Test
+  public void testDivergentBuckets() throws Exception {
+    MerkleTree tree1 = new MerkleTree();
+    MerkleTree tree2 = new MerkleTree();
+    for (int i = 0; i < 1000; i++) {
+      tree1.update(String.valueOf(i), null, value(i));
+      tree2.update(String.valueOf(i), null, value(i));
+    }
+    tree2.update("500", value(500), value(1500));
+    tree2.update("foo", null, value(1));
+    assertNotEquals(tree1.hash(0, 0), tree2.hash(0, 0));
+
+    // Descend from the root through the children whose hashes differ.
+    Set<Integer> divergent = Collections.singleton(0);
+    for (int level = 0; level < MerkleTree.DEPTH; level++) {
+      Map<Integer, Long> children1 = tree1.children(level, divergent);
+      Map<Integer, Long> children2 = tree2.children(level, divergent);
+      assertEquals(children1.keySet(), children2.keySet());
+      divergent = children1.keySet().stream()
+          .filter(index -> !children1.get(index).equals(children2.get(index)))
+          .collect(Collectors.toSet());
+    }
+
+    assertEquals(Sets.newHashSet(MerkleTree.bucket("500"), MerkleTree.bucket("foo")), divergent);
+    assertTrue(tree2.keys(MerkleTree.bucket("foo")).contains("foo"));
+    assertFalse(tree1.keys(MerkleTree.bucket("foo")).contains("foo"));
+  }
+
+  private static MapValue value(long timestamp) {
+    return new MapValue(String.valueOf(timestamp).getBytes(), LogicalTimestamp.of(timestamp));
+  }
+}
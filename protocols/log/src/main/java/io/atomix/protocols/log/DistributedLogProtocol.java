@@ -109,7 +109,10 @@ public class DistributedLogProtocol implements LogProtocol {
     Collection<LogSession> partitions = partitionService.getPartitionGroup(this)
         .getPartitions()
         .stream()
-        .map(partition -> ((LogPartition) partition).getClient().logSessionBuilder().build())
+        .map(partition -> ((LogPartition) partition).getClient().logSessionBuilder()
+            .withMaxBatchSize(config.getMaxBatchSize())
+            .withConsumerCredits(config.getConsumerCredits())
+            .build())
         .collect(Collectors.toList());
     return new DistributedLogClient(this, partitions, config.getPartitioner());
   }
@@ -76,6 +76,28 @@ public class DistributedLogProtocolBuilder extends PrimitiveProtocolBuilder<Dist
     return this;
   }
 
+  /**
+   * Sets the maximum number of records delivered to a consumer in a single batch.
+   *
+   * @param maxBatchSize the maximum number of records per batch
+   * @return the protocol builder
+   */
+  public DistributedLogProtocolBuilder withMaxBatchSize(int maxBatchSize) {
+    config.setMaxBatchSize(maxBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets the number of records a consumer may have outstanding before the leader stops sending.
+   *
+   * @param consumerCredits the number of consumer credits
+   * @return the protocol builder
+   */
+  public DistributedLogProtocolBuilder withConsumerCredits(int consumerCredits) {
+    config.setConsumerCredits(consumerCredits);
+    return this;
+  }
+
   /**
    * Sets the maximum number of retries before an operation can be failed.
    *
@@ -35,6 +35,8 @@ public class DistributedLogProtocolConfig extends PrimitiveProtocolConfig<Distri
   private Recovery recovery = Recovery.RECOVER;
   private int maxRetries = 0;
   private Duration retryDelay = Duration.ofMillis(100);
+  private int maxBatchSize = 128;
+  private int consumerCredits = 1024;
 
   @Override
   public PrimitiveProtocol.Type getType() {
@@ -190,4 +192,47 @@ public class DistributedLogProtocolConfig extends PrimitiveProtocolConfig<Distri
     this.retryDelay = retryDelay;
     return this;
   }
+
+  /**
+   * Returns the maximum number of records delivered to a consumer in a single batch.
+   *
+   * @return the maximum number of records per batch
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of records delivered to a consumer in a single batch.
+   *
+   * @param maxBatchSize the maximum number of records per batch
+   * @return the protocol configuration
+   */
+  public DistributedLogProtocolConfig setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Returns the number of records a consumer may have outstanding before the leader stops sending.
+   *
+   * @return the number of consumer credits
+   */
+  public int getConsumerCredits() {
+    return consumerCredits;
+  }
+
+  /**
+   * Sets the number of records a consumer may have outstanding before the leader stops sending.
+   * <p>
+   * Consumers return credits to the leader as records are processed, so this bounds the number of records buffered
+   * by a consumer that is catching up on the log.
+   *
+   * @param consumerCredits the number of consumer credits
+   * @return the protocol configuration
+   */
+  public DistributedLogProtocolConfig setConsumerCredits(int consumerCredits) {
+    this.consumerCredits = consumerCredits;
+    return this;
+  }
 }
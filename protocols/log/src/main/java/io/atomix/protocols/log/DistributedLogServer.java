@@ -117,6 +117,9 @@ public class DistributedLogServer implements Managed<DistributedLogServer> {
     private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
     private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+    private static final boolean DEFAULT_GROUP_COMMIT = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+    private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
     private static final long DEFAULT_MAX_LOG_SIZE = 1024 * 1024 * 1024;
     private static final Duration DEFAULT_MAX_LOG_AGE = null;
     private static final double DEFAULT_INDEX_DENSITY = .005;
@@ -137,6 +140,9 @@ public class DistributedLogServer implements Managed<DistributedLogServer> {
     protected int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
     protected double indexDensity = DEFAULT_INDEX_DENSITY;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+    private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+    private int groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
     protected long maxLogSize = DEFAULT_MAX_LOG_SIZE;
     protected Duration maxLogAge = DEFAULT_MAX_LOG_AGE;
 
@@ -373,6 +379,57 @@ public class DistributedLogServer implements Managed<DistributedLogServer> {
       return this;
     }
 
+    /**
+     * Enables group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, appends are acknowledged only once committed entries have been flushed to disk,
+     * but flushes for many commits are coalesced into a single flush which occurs once either the group commit
+     * interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to enable group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, appends are acknowledged only once committed entries have been flushed to disk,
+     * but flushes for many commits are coalesced into a single flush which occurs once either the group commit
+     * interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @param groupCommit Whether to coalesce flushes for committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      this.groupCommit = groupCommit;
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which a group commit may be delayed.
+     *
+     * @param groupCommitInterval The maximum amount of time for which to delay flushing committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitInterval(Duration groupCommitInterval) {
+      this.groupCommitInterval = checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the number of unflushed bytes after which a group commit is flushed immediately.
+     *
+     * @param groupCommitBytes The number of unflushed bytes after which to flush committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitBytes(int groupCommitBytes) {
+      checkArgument(groupCommitBytes > 0, "groupCommitBytes must be positive");
+      this.groupCommitBytes = groupCommitBytes;
+      return this;
+    }
+
     /**
      * Sets the maximum log size.
      *
@@ -425,6 +482,9 @@ public class DistributedLogServer implements Managed<DistributedLogServer> {
           .withMaxEntrySize(maxEntrySize)
           .withIndexDensity(indexDensity)
           .withFlushOnCommit(flushOnCommit)
+          .withGroupCommit(groupCommit)
+          .withGroupCommitInterval(groupCommitInterval)
+          .withGroupCommitBytes(groupCommitBytes)
           .build();
 
       return new DistributedLogServer(new DistributedLogServerContext(
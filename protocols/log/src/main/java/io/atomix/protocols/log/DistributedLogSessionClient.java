@@ -94,7 +94,9 @@ public class DistributedLogSessionClient {
             clusterMembershipService,
             protocol,
             primaryElection,
-            threadContextFactory.createContext());
+            threadContextFactory.createContext(),
+            maxBatchSize,
+            consumerCredits);
       }
     };
   }
@@ -15,15 +15,29 @@
  */
 package io.atomix.protocols.log.impl;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.ImmutableMap;
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEventListener;
 import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.cluster.MemberId;
 import io.atomix.primitive.Replication;
@@ -40,18 +54,23 @@ import io.atomix.protocols.log.protocol.BackupRequest;
 import io.atomix.protocols.log.protocol.BackupResponse;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogEntry;
 import io.atomix.protocols.log.protocol.LogResponse;
 import io.atomix.protocols.log.protocol.LogServerProtocol;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.protocols.log.roles.FollowerRole;
 import io.atomix.protocols.log.roles.LeaderRole;
 import io.atomix.protocols.log.roles.LogServerRole;
 import io.atomix.protocols.log.roles.NoneRole;
+import io.atomix.storage.StorageException;
+import io.atomix.storage.StorageLevel;
 import io.atomix.storage.journal.JournalReader;
 import io.atomix.storage.journal.JournalSegment;
 import io.atomix.storage.journal.JournalWriter;
 import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.storage.journal.SegmentedJournalWriter;
 import io.atomix.utils.Managed;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.Scheduled;
@@ -86,12 +105,17 @@ public class DistributedLogServerContext implements Managed<Void> {
   private long currentTerm;
   private long commitIndex;
   private final SegmentedJournal<LogEntry> journal;
-  private final JournalWriter<LogEntry> writer;
+  private final SegmentedJournalWriter<LogEntry> writer;
   private final JournalReader<LogEntry> reader;
   private final long maxLogSize;
   private final Duration maxLogAge;
   private Scheduled compactTimer;
+  private Scheduled offsetsTimer;
+  private final Map<String, Long> offsets = new HashMap<>();
+  private final File offsetsFile;
+  private boolean offsetsChanged;
   private final PrimaryElectionEventListener primaryElectionListener = event -> changeRole(event.term());
+  private final ClusterMembershipEventListener membershipEventListener = this::handleMembershipEvent;
   private final AtomicBoolean started = new AtomicBoolean();
 
   public DistributedLogServerContext(
@@ -127,6 +151,10 @@ public class DistributedLogServerContext implements Managed<Void> {
         LoggerContext.builder(getClass())
             .addValue(serverName)
             .build());
+    this.offsetsFile = journal.storageLevel() != StorageLevel.MEMORY
+        ? new File(journal.directory(), String.format("%s.offsets", serverName))
+        : null;
+    loadOffsets();
   }
 
   /**
@@ -280,6 +308,103 @@ public class DistributedLogServerContext implements Managed<Void> {
     return commitIndex;
   }
 
+  /**
+   * Returns a future to be completed on the server thread once entries up to the given index have been flushed.
+   * <p>
+   * If group commit is not enabled, the returned future is completed immediately.
+   *
+   * @param index the committed index to await
+   * @return a future to be completed once the entries up to the given index are durable
+   */
+  public CompletableFuture<Long> awaitFlush(long index) {
+    CompletableFuture<Long> future = writer.commitAsync(index);
+    return future.isDone() ? future : Futures.asyncFuture(future, threadContext);
+  }
+
+  /**
+   * Returns the committed offset for the given consumer group.
+   *
+   * @param group the consumer group
+   * @return the index of the last record committed by the group, or {@code 0} if the group has not committed
+   */
+  public long getOffset(String group) {
+    return offsets.getOrDefault(group, 0L);
+  }
+
+  /**
+   * Commits the offset for the given consumer group.
+   * <p>
+   * Offsets only move forward: committing an index lower than the group's current offset has no effect.
+   *
+   * @param group the consumer group
+   * @param index the index of the last record processed by the group
+   * @return indicates whether the group's offset was updated
+   */
+  public boolean commitOffset(String group, long index) {
+    Long offset = offsets.get(group);
+    if (offset == null || index > offset) {
+      offsets.put(group, index);
+      offsetsChanged = true;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns a copy of the committed consumer group offsets.
+   *
+   * @return the committed consumer group offsets
+   */
+  public Map<String, Long> getOffsets() {
+    return ImmutableMap.copyOf(offsets);
+  }
+
+  /**
+   * Loads committed offsets from disk.
+   */
+  private void loadOffsets() {
+    if (offsetsFile != null && offsetsFile.exists()) {
+      Properties properties = new Properties();
+      try (InputStream input = new FileInputStream(offsetsFile)) {
+        properties.load(input);
+      } catch (IOException e) {
+        throw new StorageException(e);
+      }
+      properties.stringPropertyNames().forEach(group -> offsets.put(group, Long.parseLong(properties.getProperty(group))));
+    }
+  }
+
+  /**
+   * Writes committed offsets to disk if they've changed.
+   */
+  private void persistOffsets() {
+    if (offsetsFile != null && offsetsChanged) {
+      Properties properties = new Properties();
+      offsets.forEach((group, offset) -> properties.setProperty(group, String.valueOf(offset)));
+      File tempFile = new File(offsetsFile.getParentFile(), offsetsFile.getName() + ".tmp");
+      try (OutputStream output = new FileOutputStream(tempFile)) {
+        properties.store(output, null);
+        Files.move(tempFile.toPath(), offsetsFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        offsetsChanged = false;
+      } catch (IOException e) {
+        log.warn("Failed to persist consumer group offsets", e);
+      }
+    }
+  }
+
+  /**
+   * Handles a cluster membership event.
+   */
+  private void handleMembershipEvent(ClusterMembershipEvent event) {
+    if (event.type() == ClusterMembershipEvent.Type.MEMBER_REMOVED) {
+      threadContext.execute(() -> {
+        if (role != null) {
+          role.removeMember(event.subject().id());
+        }
+      });
+    }
+  }
+
   /**
    * Compacts logs if necessary.
    */
@@ -343,6 +468,8 @@ public class DistributedLogServerContext implements Managed<Void> {
   public CompletableFuture<Void> start() {
     registerListeners();
     compactTimer = threadContext.schedule(Duration.ofSeconds(30), this::compact);
+    offsetsTimer = threadContext.schedule(Duration.ofSeconds(1), Duration.ofSeconds(1), this::persistOffsets);
+    clusterMembershipService.addListener(membershipEventListener);
     return memberGroupService.start().thenComposeAsync(v -> {
       MemberGroup group = memberGroupService.getMemberGroup(clusterMembershipService.getLocalMember());
       primaryElection.addListener(primaryElectionListener);
@@ -434,6 +561,20 @@ public class DistributedLogServerContext implements Managed<Void> {
     role.reset(request);
   }
 
+  /**
+   * Handles a credit request.
+   */
+  private void credit(CreditRequest request) {
+    role.credit(request);
+  }
+
+  /**
+   * Handles an unsubscribe request.
+   */
+  private void unsubscribe(UnsubscribeRequest request) {
+    role.unsubscribe(request);
+  }
+
   private <R extends LogResponse> CompletableFuture<R> runOnContext(Supplier<CompletableFuture<R>> function) {
     CompletableFuture<R> future = new CompletableFuture<>();
     threadContext.execute(() -> {
@@ -456,6 +597,8 @@ public class DistributedLogServerContext implements Managed<Void> {
     protocol.registerBackupHandler(this::backup);
     protocol.registerConsumeHandler(this::consume);
     protocol.registerResetConsumer(this::reset, threadContext);
+    protocol.registerCreditConsumer(this::credit, threadContext);
+    protocol.registerUnsubscribeConsumer(this::unsubscribe, threadContext);
   }
 
   /**
@@ -466,6 +609,8 @@ public class DistributedLogServerContext implements Managed<Void> {
     protocol.unregisterBackupHandler();
     protocol.unregisterConsumeHandler();
     protocol.unregisterResetConsumer();
+    protocol.unregisterCreditConsumer();
+    protocol.unregisterUnsubscribeConsumer();
   }
 
   @Override
@@ -477,9 +622,14 @@ public class DistributedLogServerContext implements Managed<Void> {
   public CompletableFuture<Void> stop() {
     unregisterListeners();
     primaryElection.removeListener(primaryElectionListener);
+    clusterMembershipService.removeListener(membershipEventListener);
     if (compactTimer != null) {
       compactTimer.cancel();
     }
+    if (offsetsTimer != null) {
+      offsetsTimer.cancel();
+    }
+    threadContext.execute(this::persistOffsets);
     journal.close();
     started.set(false);
     return memberGroupService.stop().exceptionally(throwable -> {
@@ -15,6 +15,8 @@
  */
 package io.atomix.protocols.log.impl;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -37,10 +39,13 @@ import io.atomix.primitive.partition.PrimaryTerm;
 import io.atomix.primitive.session.SessionId;
 import io.atomix.protocols.log.protocol.AppendRequest;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogClientProtocol;
 import io.atomix.protocols.log.protocol.LogResponse;
 import io.atomix.protocols.log.protocol.RecordsRequest;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
@@ -52,6 +57,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Distributed log session.
  */
 public class DistributedLogSession implements LogSession {
+  private static final Duration COMMIT_INTERVAL = Duration.ofSeconds(1);
+
   private final PartitionId partitionId;
   private final SessionId sessionId;
   private final LogClientProtocol protocol;
@@ -64,6 +71,8 @@ public class DistributedLogSession implements LogSession {
   private final DistributedLogConsumer consumer = new DistributedLogConsumer();
   private final MemberId memberId;
   private final String subject;
+  private final int maxBatchSize;
+  private final int consumerCredits;
   private PrimaryTerm term;
   private volatile PrimitiveState state = PrimitiveState.CONNECTED;
   private final Logger log;
@@ -74,12 +83,16 @@ public class DistributedLogSession implements LogSession {
       ClusterMembershipService clusterMembershipService,
       LogClientProtocol protocol,
       PrimaryElection primaryElection,
-      ThreadContext threadContext) {
+      ThreadContext threadContext,
+      int maxBatchSize,
+      int consumerCredits) {
     this.partitionId = checkNotNull(partitionId, "partitionId cannot be null");
     this.sessionId = checkNotNull(sessionId, "sessionId cannot be null");
     this.protocol = checkNotNull(protocol, "protocol cannot be null");
     this.primaryElection = checkNotNull(primaryElection, "primaryElection cannot be null");
     this.threadContext = checkNotNull(threadContext, "threadContext cannot be null");
+    this.maxBatchSize = maxBatchSize;
+    this.consumerCredits = consumerCredits;
     this.memberId = clusterMembershipService.getLocalMember().id();
     this.subject = String.format("%s-%s-%s", partitionId.group(), partitionId.id(), sessionId);
     clusterMembershipService.addListener(membershipEventListener);
@@ -140,7 +153,9 @@ public class DistributedLogSession implements LogSession {
     threadContext.execute(() -> {
       if (this.term == null || term.term() > this.term.term()) {
         this.term = term;
-        consumer.register(term.primary().memberId());
+        if (consumer.consumer != null) {
+          consumer.register(term.primary().memberId());
+        }
       }
     });
   }
@@ -178,6 +193,7 @@ public class DistributedLogSession implements LogSession {
   public CompletableFuture<Void> close() {
     CompletableFuture<Void> future = new CompletableFuture<>();
     threadContext.execute(() -> {
+      consumer.close();
       changeState(PrimitiveState.CLOSED);
       future.complete(null);
     });
@@ -233,10 +249,22 @@ public class DistributedLogSession implements LogSession {
 
   /**
    * Distributed log consumer.
+   * <p>
+   * The consumer grants the leader a window of {@code consumerCredits} records when it registers, and returns credits
+   * to the leader in bulk once half the window has been received, allowing the leader to continue sending.
+   * <p>
+   * Credits also carry the index of the last record processed by the consumer. For consumers that belong to a group,
+   * the leader commits that index as the group's offset, and the consumer commits periodically and when it's closed
+   * so that the group resumes close to where it left off after a failure. Records processed after the last commit
+   * may be redelivered to another member of the group.
    */
   private class DistributedLogConsumer implements LogConsumer {
     private MemberId leader;
+    private String group;
     private long index;
+    private long commitIndex;
+    private int received;
+    private Scheduled commitTimer;
     private volatile Consumer<LogRecord> consumer;
 
     /**
@@ -247,7 +275,8 @@ public class DistributedLogSession implements LogSession {
     private CompletableFuture<Void> register(MemberId leader) {
       CompletableFuture<Void> future = new CompletableFuture<>();
       this.leader = leader;
-      protocol.consume(leader, ConsumeRequest.request(memberId, subject, index + 1))
+      this.received = 0;
+      protocol.consume(leader, ConsumeRequest.request(memberId, subject, group, index + 1, maxBatchSize, consumerCredits))
           .whenCompleteAsync((response, error) -> {
             if (error == null) {
               if (response.status() == LogResponse.Status.OK) {
@@ -268,17 +297,48 @@ public class DistributedLogSession implements LogSession {
      * @param request the request to handle
      */
     private void handleRecords(RecordsRequest request) {
+      List<LogRecord> records = request.records();
+      if (records.isEmpty()) {
+        return;
+      }
       if (request.reset()) {
-        index = request.record().index() - 1;
+        index = records.get(0).index() - 1;
       }
-      if (request.record().index() == index + 1) {
-        Consumer<LogRecord> consumer = this.consumer;
-        if (consumer != null) {
-          consumer.accept(request.record());
-          index = request.record().index();
+      for (LogRecord record : records) {
+        if (record.index() == index + 1) {
+          Consumer<LogRecord> consumer = this.consumer;
+          if (consumer != null) {
+            consumer.accept(record);
+            index = record.index();
+          }
+        } else {
+          protocol.reset(leader, ResetRequest.request(memberId, subject, index + 1));
+          break;
         }
-      } else {
-        protocol.reset(leader, ResetRequest.request(memberId, subject, index + 1));
+      }
+      grant(records.size());
+    }
+
+    /**
+     * Returns credits for received records to the leader once half the credit window has been consumed.
+     *
+     * @param count the number of records received
+     */
+    private void grant(int count) {
+      received += count;
+      if (received >= Math.max(consumerCredits / 2, 1)) {
+        commit();
+      }
+    }
+
+    /**
+     * Returns outstanding credits to the leader and commits the index of the last processed record.
+     */
+    private void commit() {
+      if (leader != null && (received > 0 || index > commitIndex)) {
+        protocol.credit(leader, CreditRequest.request(memberId, subject, received, index));
+        received = 0;
+        commitIndex = index;
       }
     }
 
@@ -288,8 +348,42 @@ public class DistributedLogSession implements LogSession {
         protocol.registerRecordsConsumer(subject, this::handleRecords, threadContext);
         this.consumer = consumer;
         this.index = index - 1;
+        this.commitIndex = this.index;
         return register(term.primary().memberId());
       });
     }
+
+    @Override
+    public CompletableFuture<Void> consume(String group, Consumer<LogRecord> consumer) {
+      return term().thenComposeAsync(term -> {
+        protocol.registerRecordsConsumer(subject, this::handleRecords, threadContext);
+        this.group = checkNotNull(group, "group cannot be null");
+        this.consumer = consumer;
+        this.index = 0;
+        this.commitIndex = 0;
+        if (commitTimer == null) {
+          commitTimer = threadContext.schedule(COMMIT_INTERVAL, COMMIT_INTERVAL, this::commit);
+        }
+        return register(term.primary().memberId());
+      }, threadContext);
+    }
+
+    /**
+     * Commits the consumer's position and unsubscribes from the leader.
+     */
+    private void close() {
+      if (consumer != null) {
+        if (commitTimer != null) {
+          commitTimer.cancel();
+          commitTimer = null;
+        }
+        commit();
+        if (leader != null) {
+          protocol.unsubscribe(leader, UnsubscribeRequest.request(memberId, subject));
+        }
+        protocol.unregisterRecordsConsumer(subject);
+        consumer = null;
+      }
+    }
   }
 }
@@ -333,6 +333,26 @@ public class LogPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Enables group commit.
+     *
+     * @return the log partition group builder
+     */
+    public Builder withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to coalesce flushes for committed entries into group commits.
+     *
+     * @param groupCommit whether to enable group commit
+     * @return the log partition group builder
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      config.getStorageConfig().setGroupCommit(groupCommit);
+      return this;
+    }
+
     /**
      * Sets the maximum size of the log.
      *
@@ -18,6 +18,8 @@ package io.atomix.protocols.log.partition;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 
+import java.time.Duration;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -29,12 +31,18 @@ public class LogStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final boolean DEFAULT_GROUP_COMMIT = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+  private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
 
   private String directory;
   private StorageLevel level = DEFAULT_STORAGE_LEVEL;
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+  private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+  private long groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
 
   /**
    * Returns the partition storage level.
@@ -116,6 +124,69 @@ public class LogStorageConfig {
     return this;
   }
 
+  /**
+   * Returns whether to coalesce flushes for committed entries into group commits.
+   *
+   * @return whether group commit is enabled
+   */
+  public boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Sets whether to coalesce flushes for committed entries into group commits.
+   * <p>
+   * When group commit is enabled, commits are completed only once committed entries have been flushed to disk,
+   * but a single flush is performed for all the entries committed within the group commit interval.
+   *
+   * @param groupCommit whether to enable group commit
+   * @return the log storage configuration
+   */
+  public LogStorageConfig setGroupCommit(boolean groupCommit) {
+    this.groupCommit = groupCommit;
+    return this;
+  }
+
+  /**
+   * Returns the maximum amount of time for which a group commit may be delayed.
+   *
+   * @return the group commit interval
+   */
+  public Duration getGroupCommitInterval() {
+    return groupCommitInterval;
+  }
+
+  /**
+   * Sets the maximum amount of time for which a group commit may be delayed.
+   *
+   * @param groupCommitInterval the group commit interval
+   * @return the log storage configuration
+   */
+  public LogStorageConfig setGroupCommitInterval(Duration groupCommitInterval) {
+    this.groupCommitInterval = checkNotNull(groupCommitInterval);
+    return this;
+  }
+
+  /**
+   * Returns the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @return the group commit byte threshold
+   */
+  public MemorySize getGroupCommitBytes() {
+    return MemorySize.from(groupCommitBytes);
+  }
+
+  /**
+   * Sets the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @param groupCommitBytes the group commit byte threshold
+   * @return the log storage configuration
+   */
+  public LogStorageConfig setGroupCommitBytes(MemorySize groupCommitBytes) {
+    this.groupCommitBytes = groupCommitBytes.bytes();
+    return this;
+  }
+
   /**
    * Returns the partition data directory.
    *
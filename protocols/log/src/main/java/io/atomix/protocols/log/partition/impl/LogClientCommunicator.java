@@ -29,9 +29,11 @@ import io.atomix.protocols.log.protocol.AppendRequest;
 import io.atomix.protocols.log.protocol.AppendResponse;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogClientProtocol;
 import io.atomix.protocols.log.protocol.RecordsRequest;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.utils.serializer.Serializer;
 
 /**
@@ -84,6 +86,16 @@ public class LogClientCommunicator implements LogClientProtocol {
     unicast(context.resetSubject, request, memberId);
   }
 
+  @Override
+  public void credit(MemberId memberId, CreditRequest request) {
+    unicast(context.creditSubject, request, memberId);
+  }
+
+  @Override
+  public void unsubscribe(MemberId memberId, UnsubscribeRequest request) {
+    unicast(context.unsubscribeSubject, request, memberId);
+  }
+
   @Override
   public void registerRecordsConsumer(String subject, Consumer<RecordsRequest> handler, Executor executor) {
     clusterCommunicator.subscribe(subject, serializer::decode, handler, executor);
@@ -22,12 +22,16 @@ class LogMessageContext {
   final String appendSubject;
   final String consumeSubject;
   final String resetSubject;
+  final String creditSubject;
+  final String unsubscribeSubject;
   final String backupSubject;
 
   LogMessageContext(String prefix) {
     this.appendSubject = getSubject(prefix, "append");
     this.consumeSubject = getSubject(prefix, "consume");
     this.resetSubject = getSubject(prefix, "reset");
+    this.creditSubject = getSubject(prefix, "credit");
+    this.unsubscribeSubject = getSubject(prefix, "unsubscribe");
     this.backupSubject = getSubject(prefix, "backup");
   }
 
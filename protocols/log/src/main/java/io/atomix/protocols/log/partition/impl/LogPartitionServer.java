@@ -84,6 +84,9 @@ public class LogPartitionServer implements Managed<LogPartitionServer> {
         .withMaxSegmentSize((int) config.getStorageConfig().getSegmentSize().bytes())
         .withMaxEntrySize((int) config.getStorageConfig().getMaxEntrySize().bytes())
         .withFlushOnCommit(config.getStorageConfig().isFlushOnCommit())
+        .withGroupCommit(config.getStorageConfig().isGroupCommit())
+        .withGroupCommitInterval(config.getStorageConfig().getGroupCommitInterval())
+        .withGroupCommitBytes((int) config.getStorageConfig().getGroupCommitBytes().bytes())
         .withMaxLogSize(config.getCompactionConfig().getSize().bytes())
         .withMaxLogAge(config.getCompactionConfig().getAge())
         .withThreadContextFactory(threadFactory)
@@ -29,9 +29,11 @@ import io.atomix.protocols.log.protocol.BackupRequest;
 import io.atomix.protocols.log.protocol.BackupResponse;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogServerProtocol;
 import io.atomix.protocols.log.protocol.RecordsRequest;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.utils.serializer.Serializer;
 
 /**
@@ -105,4 +107,24 @@ public class LogServerCommunicator implements LogServerProtocol {
   public void unregisterResetConsumer() {
     clusterCommunicator.unsubscribe(context.resetSubject);
   }
+
+  @Override
+  public void registerCreditConsumer(Consumer<CreditRequest> consumer, Executor executor) {
+    clusterCommunicator.subscribe(context.creditSubject, serializer::decode, consumer, executor);
+  }
+
+  @Override
+  public void unregisterCreditConsumer() {
+    clusterCommunicator.unsubscribe(context.creditSubject);
+  }
+
+  @Override
+  public void registerUnsubscribeConsumer(Consumer<UnsubscribeRequest> consumer, Executor executor) {
+    clusterCommunicator.subscribe(context.unsubscribeSubject, serializer::decode, consumer, executor);
+  }
+
+  @Override
+  public void unregisterUnsubscribeConsumer() {
+    clusterCommunicator.unsubscribe(context.unsubscribeSubject);
+  }
 }
@@ -17,7 +17,9 @@ package io.atomix.protocols.log.protocol;
 
 import io.atomix.cluster.MemberId;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
@@ -27,19 +29,31 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 public class BackupRequest extends LogRequest {
 
   public static BackupRequest request(MemberId leader, long term, long index, List<BackupOperation> batch) {
-    return new BackupRequest(leader, term, index, batch);
+    return new BackupRequest(leader, term, index, batch, Collections.emptyMap());
+  }
+
+  public static BackupRequest request(
+      MemberId leader, long term, long index, List<BackupOperation> batch, Map<String, Long> offsets) {
+    return new BackupRequest(leader, term, index, batch, offsets);
   }
 
   private final MemberId leader;
   private final long term;
   private final long commitIndex;
   private final List<BackupOperation> batch;
+  private final Map<String, Long> offsets;
 
   public BackupRequest(MemberId leader, long term, long commitIndex, List<BackupOperation> batch) {
+    this(leader, term, commitIndex, batch, Collections.emptyMap());
+  }
+
+  public BackupRequest(
+      MemberId leader, long term, long commitIndex, List<BackupOperation> batch, Map<String, Long> offsets) {
     this.leader = leader;
     this.term = term;
     this.commitIndex = commitIndex;
     this.batch = batch;
+    this.offsets = offsets;
   }
 
   public MemberId leader() {
@@ -58,6 +72,15 @@ public class BackupRequest extends LogRequest {
     return batch;
   }
 
+  /**
+   * Returns the committed consumer group offsets to replicate.
+   *
+   * @return the committed consumer group offsets
+   */
+  public Map<String, Long> offsets() {
+    return offsets;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
@@ -65,6 +88,7 @@ public class BackupRequest extends LogRequest {
         .add("term", term())
         .add("index", index())
         .add("batch", batch())
+        .add("offsets", offsets())
         .toString();
   }
 }
@@ -24,18 +24,29 @@ import static com.google.common.base.MoreObjects.toStringHelper;
  */
 public class ConsumeRequest extends LogRequest {
 
-  public static ConsumeRequest request(MemberId memberId, String subject, long index) {
-    return new ConsumeRequest(memberId, subject, index);
+  public static ConsumeRequest request(MemberId memberId, String subject, long index, int maxBatchSize, int credits) {
+    return new ConsumeRequest(memberId, subject, null, index, maxBatchSize, credits);
+  }
+
+  public static ConsumeRequest request(
+      MemberId memberId, String subject, String group, long index, int maxBatchSize, int credits) {
+    return new ConsumeRequest(memberId, subject, group, index, maxBatchSize, credits);
   }
 
   private final MemberId memberId;
   private final String subject;
+  private final String group;
   private final long index;
+  private final int maxBatchSize;
+  private final int credits;
 
-  private ConsumeRequest(MemberId memberId, String subject, long index) {
+  private ConsumeRequest(MemberId memberId, String subject, String group, long index, int maxBatchSize, int credits) {
     this.memberId = memberId;
     this.subject = subject;
+    this.group = group;
     this.index = index;
+    this.maxBatchSize = maxBatchSize;
+    this.credits = credits;
   }
 
   public MemberId memberId() {
@@ -46,16 +57,36 @@ public class ConsumeRequest extends LogRequest {
     return subject;
   }
 
+  /**
+   * Returns the consumer group, or {@code null} if the consumer does not belong to a group.
+   *
+   * @return the consumer group
+   */
+  public String group() {
+    return group;
+  }
+
   public long index() {
     return index;
   }
 
+  public int maxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public int credits() {
+    return credits;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("memberId", memberId())
         .add("subject", subject())
+        .add("group", group())
         .add("index", index())
+        .add("maxBatchSize", maxBatchSize())
+        .add("credits", credits())
         .toString();
   }
 }
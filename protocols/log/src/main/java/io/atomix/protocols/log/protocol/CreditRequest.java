@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.log.protocol;
+
+import io.atomix.cluster.MemberId;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Credit request, sent by a log consumer to allow the leader to send additional records.
+ * <p>
+ * The request also carries the index of the last record processed by the consumer, which is committed as the
+ * consumer group's offset if the consumer belongs to a group.
+ */
+public class CreditRequest extends LogRequest {
+
+  public static CreditRequest request(MemberId memberId, String subject, int credits, long index) {
+    return new CreditRequest(memberId, subject, credits, index);
+  }
+
+  private final MemberId memberId;
+  private final String subject;
+  private final int credits;
+  private final long index;
+
+  private CreditRequest(MemberId memberId, String subject, int credits, long index) {
+    this.memberId = memberId;
+    this.subject = subject;
+    this.credits = credits;
+    this.index = index;
+  }
+
+  public MemberId memberId() {
+    return memberId;
+  }
+
+  public String subject() {
+    return subject;
+  }
+
+  public int credits() {
+    return credits;
+  }
+
+  public long index() {
+    return index;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("memberId", memberId())
+        .add("subject", subject())
+        .add("credits", credits())
+        .add("index", index())
+        .toString();
+  }
+}
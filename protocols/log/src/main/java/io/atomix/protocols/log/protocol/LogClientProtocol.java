@@ -52,6 +52,22 @@ public interface LogClientProtocol {
    */
   void reset(MemberId memberId, ResetRequest request);
 
+  /**
+   * Sends a credit request to the given node.
+   *
+   * @param memberId  the node to which to send the request
+   * @param request the request to send
+   */
+  void credit(MemberId memberId, CreditRequest request);
+
+  /**
+   * Sends an unsubscribe request to the given node.
+   *
+   * @param memberId  the node to which to send the request
+   * @param request the request to send
+   */
+  void unsubscribe(MemberId memberId, UnsubscribeRequest request);
+
   /**
    * Registers a records request callback.
    *
@@ -82,6 +82,32 @@ public interface LogServerProtocol {
    */
   void unregisterResetConsumer();
 
+  /**
+   * Registers a credit consumer.
+   *
+   * @param consumer the consumer to register
+   * @param executor the consumer executor
+   */
+  void registerCreditConsumer(Consumer<CreditRequest> consumer, Executor executor);
+
+  /**
+   * Unregisters the credit request handler.
+   */
+  void unregisterCreditConsumer();
+
+  /**
+   * Registers an unsubscribe consumer.
+   *
+   * @param consumer the consumer to register
+   * @param executor the consumer executor
+   */
+  void registerUnsubscribeConsumer(Consumer<UnsubscribeRequest> consumer, Executor executor);
+
+  /**
+   * Unregisters the unsubscribe request handler.
+   */
+  void unregisterUnsubscribeConsumer();
+
   /**
    * Registers a backup request callback.
    *
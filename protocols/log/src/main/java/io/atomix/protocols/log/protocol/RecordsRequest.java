@@ -15,29 +15,31 @@
  */
 package io.atomix.protocols.log.protocol;
 
+import java.util.List;
+
 import io.atomix.primitive.log.LogRecord;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
 /**
- * Records request.
+ * Records request, sent by the leader to deliver a batch of sequential records to a consumer.
  */
 public class RecordsRequest extends LogRequest {
 
-  public static RecordsRequest request(LogRecord record, boolean reset) {
-    return new RecordsRequest(record, reset);
+  public static RecordsRequest request(List<LogRecord> records, boolean reset) {
+    return new RecordsRequest(records, reset);
   }
 
-  private final LogRecord record;
+  private final List<LogRecord> records;
   private final boolean reset;
 
-  private RecordsRequest(LogRecord record, boolean reset) {
-    this.record = record;
+  private RecordsRequest(List<LogRecord> records, boolean reset) {
+    this.records = records;
     this.reset = reset;
   }
 
-  public LogRecord record() {
-    return record;
+  public List<LogRecord> records() {
+    return records;
   }
 
   public boolean reset() {
@@ -47,7 +49,7 @@ public class RecordsRequest extends LogRequest {
   @Override
   public String toString() {
     return toStringHelper(this)
-        .add("record", record)
+        .add("records", records.size())
         .add("reset", reset)
         .toString();
   }
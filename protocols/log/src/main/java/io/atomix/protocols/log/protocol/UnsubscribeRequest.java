@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.log.protocol;
+
+import io.atomix.cluster.MemberId;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Unsubscribe request, sent by a log consumer to stop consuming a distributed log.
+ */
+public class UnsubscribeRequest extends LogRequest {
+
+  public static UnsubscribeRequest request(MemberId memberId, String subject) {
+    return new UnsubscribeRequest(memberId, subject);
+  }
+
+  private final MemberId memberId;
+  private final String subject;
+
+  private UnsubscribeRequest(MemberId memberId, String subject) {
+    this.memberId = memberId;
+    this.subject = subject;
+  }
+
+  public MemberId memberId() {
+    return memberId;
+  }
+
+  public String subject() {
+    return subject;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("memberId", memberId())
+        .add("subject", subject())
+        .toString();
+  }
+}
@@ -48,6 +48,9 @@ public class FollowerRole extends LogServerRole {
       return CompletableFuture.completedFuture(BackupResponse.error());
     }
 
+    // Update committed consumer group offsets replicated by the leader.
+    request.offsets().forEach(context::commitOffset);
+
     JournalWriter<LogEntry> writer = context.writer();
     JournalReader<LogEntry> reader = context.reader();
 
@@ -15,25 +15,37 @@
  */
 package io.atomix.protocols.log.roles;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import io.atomix.cluster.MemberId;
 import io.atomix.primitive.log.LogRecord;
 import io.atomix.protocols.log.impl.DistributedLogServerContext;
 import io.atomix.protocols.log.protocol.AppendRequest;
 import io.atomix.protocols.log.protocol.AppendResponse;
 import io.atomix.protocols.log.protocol.BackupOperation;
+import io.atomix.protocols.log.protocol.BackupRequest;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogEntry;
 import io.atomix.protocols.log.protocol.RecordsRequest;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.storage.journal.JournalReader;
+import io.atomix.utils.concurrent.Scheduled;
 
 import static io.atomix.protocols.log.DistributedLogServer.Role;
 
@@ -41,8 +53,13 @@ import static io.atomix.protocols.log.DistributedLogServer.Role;
  * Primary role.
  */
 public class LeaderRole extends LogServerRole {
+  private static final Duration OFFSET_REPLICATION_INTERVAL = Duration.ofMillis(100);
+
   private final Replicator replicator;
   private final Map<ConsumerKey, ConsumerSender> consumers = Maps.newHashMap();
+  private final Map<String, ConsumerGroup> groups = Maps.newHashMap();
+  private final Scheduled offsetTimer;
+  private boolean offsetsChanged;
 
   public LeaderRole(DistributedLogServerContext context) {
     super(Role.LEADER, context);
@@ -56,6 +73,8 @@ public class LeaderRole extends LogServerRole {
       default:
         throw new AssertionError();
     }
+    this.offsetTimer = context.threadContext()
+        .schedule(OFFSET_REPLICATION_INTERVAL, OFFSET_REPLICATION_INTERVAL, this::replicateOffsets);
   }
 
   @Override
@@ -66,6 +85,7 @@ public class LeaderRole extends LogServerRole {
           new LogEntry(context.currentTerm(), System.currentTimeMillis(), request.value()));
       return replicator.replicate(new BackupOperation(
           entry.index(), entry.entry().term(), entry.entry().timestamp(), entry.entry().value()))
+          .thenCompose(v -> context.awaitFlush(entry.index()))
           .thenApply(v -> {
             consumers.values().forEach(consumer -> consumer.next());
             return logResponse(AppendResponse.ok(entry.index()));
@@ -79,9 +99,29 @@ public class LeaderRole extends LogServerRole {
   public CompletableFuture<ConsumeResponse> consume(ConsumeRequest request) {
     logRequest(request);
     JournalReader<LogEntry> reader = context.journal().openReader(request.index(), JournalReader.Mode.COMMITS);
-    ConsumerSender consumer = new ConsumerSender(request.memberId(), request.subject(), reader);
-    consumers.put(new ConsumerKey(request.memberId(), request.subject()), consumer);
-    consumer.next();
+    ConsumerSender consumer = new ConsumerSender(
+        request.memberId(),
+        request.subject(),
+        request.group(),
+        request.index(),
+        reader,
+        request.maxBatchSize(),
+        request.credits());
+    ConsumerSender previous = consumers.put(new ConsumerKey(request.memberId(), request.subject()), consumer);
+    if (previous != null && previous.group != null && previous.group.equals(consumer.group)) {
+      // Swap the consumer into its group in place to avoid reassigning the partition to another member.
+      previous.close();
+      groups.get(consumer.group).replace(previous, consumer);
+    } else {
+      if (previous != null) {
+        removeConsumer(previous);
+      }
+      if (consumer.group != null) {
+        groups.computeIfAbsent(consumer.group, ConsumerGroup::new).join(consumer);
+      } else {
+        consumer.next();
+      }
+    }
     return CompletableFuture.completedFuture(logResponse(ConsumeResponse.ok()));
   }
 
@@ -94,25 +134,252 @@ public class LeaderRole extends LogServerRole {
     }
   }
 
+  @Override
+  public void credit(CreditRequest request) {
+    logRequest(request);
+    ConsumerSender consumer = consumers.get(new ConsumerKey(request.memberId(), request.subject()));
+    if (consumer != null) {
+      if (consumer.group != null && context.commitOffset(consumer.group, request.index())) {
+        offsetsChanged = true;
+      }
+      consumer.credit(request.credits());
+    }
+  }
+
+  @Override
+  public void unsubscribe(UnsubscribeRequest request) {
+    logRequest(request);
+    ConsumerSender consumer = consumers.remove(new ConsumerKey(request.memberId(), request.subject()));
+    if (consumer != null) {
+      removeConsumer(consumer);
+    }
+  }
+
+  @Override
+  public void removeMember(MemberId memberId) {
+    List<ConsumerKey> keys = consumers.keySet().stream()
+        .filter(key -> key.memberId.equals(memberId))
+        .collect(Collectors.toList());
+    for (ConsumerKey key : keys) {
+      removeConsumer(consumers.remove(key));
+    }
+  }
+
+  /**
+   * Closes the given consumer and removes it from its group, if any.
+   *
+   * @param consumer the consumer to remove
+   */
+  private void removeConsumer(ConsumerSender consumer) {
+    consumer.close();
+    if (consumer.group != null) {
+      ConsumerGroup group = groups.get(consumer.group);
+      if (group != null) {
+        group.leave(consumer);
+        if (group.isEmpty()) {
+          groups.remove(consumer.group);
+        }
+      }
+    }
+  }
+
+  /**
+   * Replicates committed consumer group offsets to followers if they've changed.
+   */
+  private void replicateOffsets() {
+    if (offsetsChanged) {
+      BackupRequest request = BackupRequest.request(
+          context.memberId(),
+          context.currentTerm(),
+          context.getCommitIndex(),
+          Collections.emptyList(),
+          context.getOffsets());
+      for (MemberId follower : context.followers()) {
+        log.trace("Sending {} to {}", request, follower);
+        context.protocol().backup(follower, request);
+      }
+      offsetsChanged = false;
+    }
+  }
+
   @Override
   public void close() {
     replicator.close();
+    offsetTimer.cancel();
     consumers.values().forEach(consumer -> consumer.close());
   }
 
+  /**
+   * Consumer group.
+   * <p>
+   * Each partition of a log is assigned to a single member of a consumer group, chosen by rendezvous hashing of the
+   * partition and member identifiers. Because every member of a group consumes every partition, assignments are
+   * spread across the group's members, and when a member joins or leaves only the partitions assigned to that member
+   * are reassigned. A newly assigned member resumes from the group's committed offset.
+   */
+  class ConsumerGroup {
+    private final String name;
+    private final List<ConsumerSender> members = new ArrayList<>();
+    private ConsumerSender active;
+
+    ConsumerGroup(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Adds the given consumer to the group.
+     *
+     * @param consumer the consumer to add
+     */
+    void join(ConsumerSender consumer) {
+      members.add(consumer);
+      rebalance();
+    }
+
+    /**
+     * Removes the given consumer from the group.
+     *
+     * @param consumer the consumer to remove
+     */
+    void leave(ConsumerSender consumer) {
+      members.remove(consumer);
+      if (active == consumer) {
+        active = null;
+      }
+      rebalance();
+    }
+
+    /**
+     * Replaces a member of the group with a new consumer for the same member.
+     * <p>
+     * The replacement takes over the partition only if the previous consumer was assigned it, in which case it
+     * resumes from the group's committed offset.
+     *
+     * @param previous the consumer to replace
+     * @param consumer the replacement consumer
+     */
+    void replace(ConsumerSender previous, ConsumerSender consumer) {
+      int index = members.indexOf(previous);
+      if (index == -1) {
+        join(consumer);
+        return;
+      }
+      members.set(index, consumer);
+      if (active == previous) {
+        active = null;
+      }
+      rebalance();
+    }
+
+    /**
+     * Returns a boolean indicating whether the group has no members.
+     *
+     * @return indicates whether the group has no members
+     */
+    boolean isEmpty() {
+      return members.isEmpty();
+    }
+
+    /**
+     * Assigns the partition to the member with the highest weight.
+     */
+    private void rebalance() {
+      ConsumerSender assigned = members.stream()
+          .max(Comparator.comparingInt(this::weight))
+          .orElse(null);
+      if (assigned != active) {
+        if (active != null) {
+          active.deactivate();
+        }
+        active = assigned;
+        if (assigned != null) {
+          long offset = context.getOffset(name);
+          long index = offset > 0 ? offset + 1 : assigned.initialIndex;
+          log.debug("Assigning consumer group {} to {} at {}", name, assigned.memberId, index);
+          assigned.activate(index);
+        }
+      }
+    }
+
+    /**
+     * Returns the rendezvous hashing weight of the given consumer for this partition.
+     */
+    private int weight(ConsumerSender consumer) {
+      return Hashing.murmur3_32().newHasher()
+          .putString(context.serverName(), StandardCharsets.UTF_8)
+          .putString(consumer.memberId.id(), StandardCharsets.UTF_8)
+          .putString(consumer.subject, StandardCharsets.UTF_8)
+          .hash()
+          .asInt();
+    }
+  }
+
   /**
    * Consumer sender.
+   * <p>
+   * Records are sent to the consumer in batches of up to {@code maxBatchSize} records. The number of records in
+   * flight is bounded by the credits granted by the consumer: each record sent consumes a credit, and sending stops
+   * once credits are exhausted until the consumer grants more.
+   * <p>
+   * Consumers that belong to a group only receive records while the partition is assigned to them.
    */
   class ConsumerSender {
     private final MemberId memberId;
     private final String subject;
+    private final String group;
+    private final long initialIndex;
     private final JournalReader<LogEntry> reader;
+    private final int maxBatchSize;
+    private long credits;
+    private boolean active;
+    private boolean resetNext = true;
     private boolean open = true;
 
-    ConsumerSender(MemberId memberId, String subject, JournalReader<LogEntry> reader) {
+    ConsumerSender(
+        MemberId memberId,
+        String subject,
+        String group,
+        long initialIndex,
+        JournalReader<LogEntry> reader,
+        int maxBatchSize,
+        int credits) {
       this.memberId = memberId;
       this.subject = subject;
+      this.group = group;
+      this.initialIndex = initialIndex;
       this.reader = reader;
+      this.maxBatchSize = Math.max(maxBatchSize, 1);
+      this.credits = credits;
+      this.active = group == null;
+    }
+
+    /**
+     * Assigns the partition to the consumer, starting at the given index.
+     *
+     * @param index the index from which to begin sending records
+     */
+    void activate(long index) {
+      active = true;
+      reader.reset(index);
+      resetNext = true;
+      next();
+    }
+
+    /**
+     * Revokes the partition from the consumer.
+     */
+    void deactivate() {
+      active = false;
+    }
+
+    /**
+     * Grants additional credits to the consumer.
+     *
+     * @param credits the number of additional records the consumer is prepared to receive
+     */
+    void credit(int credits) {
+      this.credits += credits;
+      next();
     }
 
     /**
@@ -121,23 +388,34 @@ public class LeaderRole extends LogServerRole {
      * @param index the index to which to reset the consumer
      */
     void reset(long index) {
-      reader.reset(index);
-      next();
+      if (active) {
+        reader.reset(index);
+        next();
+      }
     }
 
     /**
      * Sends the next batch to the consumer.
      */
     void next() {
-      if (!open) {
+      if (!open || !active) {
         return;
       }
       context.threadContext().execute(() -> {
-        if (reader.hasNext()) {
-          Indexed<LogEntry> entry = reader.next();
-          LogRecord record = new LogRecord(entry.index(), entry.entry().timestamp(), entry.entry().value());
-          boolean reset = reader.getFirstIndex() == entry.index();
-          RecordsRequest request = RecordsRequest.request(record, reset);
+        if (open && active && credits > 0 && reader.hasNext()) {
+          int batchSize = (int) Math.min(maxBatchSize, credits);
+          List<LogRecord> records = new ArrayList<>(batchSize);
+          boolean reset = resetNext;
+          while (records.size() < batchSize && reader.hasNext()) {
+            Indexed<LogEntry> entry = reader.next();
+            if (records.isEmpty()) {
+              reset = reset || reader.getFirstIndex() == entry.index();
+            }
+            records.add(new LogRecord(entry.index(), entry.entry().timestamp(), entry.entry().value()));
+          }
+          resetNext = false;
+          credits -= records.size();
+          RecordsRequest request = RecordsRequest.request(records, reset);
           log.trace("Sending {} to {} at {}", request, memberId, subject);
           context.protocol().produce(memberId, subject, request);
           next();
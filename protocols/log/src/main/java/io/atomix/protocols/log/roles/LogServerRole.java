@@ -17,6 +17,7 @@ package io.atomix.protocols.log.roles;
 
 import java.util.concurrent.CompletableFuture;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.protocols.log.impl.DistributedLogServerContext;
 import io.atomix.protocols.log.protocol.AppendRequest;
 import io.atomix.protocols.log.protocol.AppendResponse;
@@ -24,9 +25,11 @@ import io.atomix.protocols.log.protocol.BackupRequest;
 import io.atomix.protocols.log.protocol.BackupResponse;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.LogRequest;
 import io.atomix.protocols.log.protocol.LogResponse;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
@@ -107,6 +110,32 @@ public abstract class LogServerRole {
     logRequest(request);
   }
 
+  /**
+   * Handles a credit request.
+   *
+   * @param request the credit request
+   */
+  public void credit(CreditRequest request) {
+    logRequest(request);
+  }
+
+  /**
+   * Handles an unsubscribe request.
+   *
+   * @param request the unsubscribe request
+   */
+  public void unsubscribe(UnsubscribeRequest request) {
+    logRequest(request);
+  }
+
+  /**
+   * Handles the removal of a member from the cluster.
+   *
+   * @param memberId the identifier of the member that was removed
+   */
+  public void removeMember(MemberId memberId) {
+  }
+
   /**
    * Handles a backup request.
    *
@@ -26,8 +26,10 @@ import io.atomix.protocols.log.protocol.LogEntry;
 import io.atomix.protocols.log.protocol.LogResponse;
 import io.atomix.protocols.log.protocol.ConsumeRequest;
 import io.atomix.protocols.log.protocol.ConsumeResponse;
+import io.atomix.protocols.log.protocol.CreditRequest;
 import io.atomix.protocols.log.protocol.RecordsRequest;
 import io.atomix.protocols.log.protocol.ResetRequest;
+import io.atomix.protocols.log.protocol.UnsubscribeRequest;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
 
@@ -55,6 +57,8 @@ public final class LogNamespaces {
       .register(BackupOperation.class)
       .register(LogEntry.class)
       .register(LogRecord.class)
+      .register(CreditRequest.class)
+      .register(UnsubscribeRequest.class)
       .build("LogProtocol");
 
   private LogNamespaces() {
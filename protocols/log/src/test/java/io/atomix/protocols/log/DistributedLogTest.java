@@ -27,11 +27,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -68,6 +73,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Raft test.
@@ -119,6 +125,103 @@ public class DistributedLogTest extends ConcurrentTestCase {
     await(5000);
   }
 
+  @Test
+  public void testBatchedConsumer() throws Throwable {
+    createServers(3);
+    DistributedLogSessionClient client1 = createClient();
+    LogSession session1 = createSession(client1.sessionBuilder()
+        .withMaxBatchSize(10)
+        .withConsumerCredits(25));
+    DistributedLogSessionClient client2 = createClient();
+    LogSession session2 = createSession(client2);
+
+    int count = 500;
+    List<CompletableFuture<Long>> futures = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      futures.add(session2.producer().append(String.valueOf(i).getBytes()));
+    }
+    Futures.allOf(futures).get(30, TimeUnit.SECONDS);
+
+    AtomicLong index = new AtomicLong();
+    session1.consumer().consume(1, record -> {
+      threadAssertEquals(index.incrementAndGet(), record.index());
+      threadAssertTrue(Arrays.equals(String.valueOf(record.index()).getBytes(), record.value()));
+      if (record.index() == count) {
+        resume();
+      }
+    });
+    await(10000);
+  }
+
+  @Test
+  public void testConsumerGroup() throws Throwable {
+    createServers(3);
+    LogSession session1 = createSession(createClient());
+    LogSession session2 = createSession(createClient());
+    LogSession producer = createSession(createClient());
+
+    Map<LogSession, List<Long>> consumed = new ConcurrentHashMap<>();
+    for (LogSession session : Arrays.asList(session1, session2)) {
+      List<Long> indexes = new CopyOnWriteArrayList<>();
+      consumed.put(session, indexes);
+      session.consumer().consume("test", record -> indexes.add(record.index())).get(5, TimeUnit.SECONDS);
+    }
+
+    append(producer, 1, 10);
+    awaitCondition(() -> consumed.values().stream().anyMatch(indexes -> indexes.contains(10L)));
+
+    // Only one member of the group should be assigned the partition.
+    LogSession active = consumed.get(session1).isEmpty() ? session2 : session1;
+    LogSession standby = active == session1 ? session2 : session1;
+    List<Long> activeIndexes = consumed.get(active);
+    List<Long> standbyIndexes = consumed.get(standby);
+    assertEquals(10, activeIndexes.size());
+    assertTrue(standbyIndexes.isEmpty());
+
+    // Resubscribing the standby member does not reassign the partition.
+    standby.consumer().consume("test", record -> standbyIndexes.add(record.index())).get(5, TimeUnit.SECONDS);
+    append(producer, 11, 15);
+    awaitCondition(() -> activeIndexes.contains(15L));
+    assertTrue(standbyIndexes.isEmpty());
+
+    // Resubscribing the active member resumes from the committed offset without handing the partition over.
+    int resubscribed = activeIndexes.size();
+    active.consumer().consume("test", record -> activeIndexes.add(record.index())).get(5, TimeUnit.SECONDS);
+    append(producer, 16, 20);
+    awaitCondition(() -> activeIndexes.contains(20L));
+    assertTrue(standbyIndexes.isEmpty());
+    assertTrue(activeIndexes.get(resubscribed) <= 16);
+    for (long i = 1; i <= 20; i++) {
+      assertTrue(activeIndexes.contains(i));
+    }
+
+    // Closing the active member commits its offset and hands the partition over to the standby member.
+    active.close().get(5, TimeUnit.SECONDS);
+    append(producer, 21, 30);
+    awaitCondition(() -> standbyIndexes.contains(30L));
+    assertEquals(21, standbyIndexes.get(0).longValue());
+    assertEquals(10, standbyIndexes.size());
+  }
+
+  /**
+   * Appends the given range of records to the log.
+   */
+  private void append(LogSession session, int from, int to) throws Exception {
+    for (int i = from; i <= to; i++) {
+      session.producer().append(String.valueOf(i).getBytes()).get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Waits for the given condition to be met.
+   */
+  private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+    for (int i = 0; i < 50 && !condition.getAsBoolean(); i++) {
+      Thread.sleep(100);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+
   @Test
   public void testConsumeAfterSizeCompact() throws Throwable {
     List<DistributedLogServer> servers = createServers(3);
@@ -238,9 +341,15 @@ public class DistributedLogTest extends ConcurrentTestCase {
    * Creates a new log session.
    */
   private LogSession createSession(DistributedLogSessionClient client) {
+    return createSession(client.sessionBuilder());
+  }
+
+  /**
+   * Creates a new log session from the given builder.
+   */
+  private LogSession createSession(LogSession.Builder builder) {
     try {
-      return client.sessionBuilder()
-          .build()
+      return builder.build()
           .connect()
           .get(30, TimeUnit.SECONDS);
     } catch (InterruptedException | ExecutionException | TimeoutException e) {
@@ -60,6 +60,16 @@ public class TestLogClientProtocol extends TestLogProtocol implements LogClientP
     getServer(memberId).thenAccept(server -> server.reset(request));
   }
 
+  @Override
+  public void credit(MemberId memberId, CreditRequest request) {
+    getServer(memberId).thenAccept(server -> server.credit(request));
+  }
+
+  @Override
+  public void unsubscribe(MemberId memberId, UnsubscribeRequest request) {
+    getServer(memberId).thenAccept(server -> server.unsubscribe(request));
+  }
+
   @Override
   public void registerRecordsConsumer(String subject, Consumer<RecordsRequest> handler, Executor executor) {
     consumers.put(subject, request -> executor.execute(() -> handler.accept(request)));
@@ -33,6 +33,8 @@ public class TestLogServerProtocol extends TestLogProtocol implements LogServerP
   private volatile Function<BackupRequest, CompletableFuture<BackupResponse>> backupHandler;
   private volatile Function<ConsumeRequest, CompletableFuture<ConsumeResponse>> consumeHandler;
   private volatile Consumer<ResetRequest> resetConsumer;
+  private volatile Consumer<CreditRequest> creditConsumer;
+  private volatile Consumer<UnsubscribeRequest> unsubscribeConsumer;
 
   public TestLogServerProtocol(MemberId memberId, Map<MemberId, TestLogServerProtocol> servers, Map<MemberId, TestLogClientProtocol> clients) {
     super(servers, clients);
@@ -92,6 +94,20 @@ public class TestLogServerProtocol extends TestLogProtocol implements LogServerP
     }
   }
 
+  void credit(CreditRequest request) {
+    Consumer<CreditRequest> creditConsumer = this.creditConsumer;
+    if (creditConsumer != null) {
+      creditConsumer.accept(request);
+    }
+  }
+
+  void unsubscribe(UnsubscribeRequest request) {
+    Consumer<UnsubscribeRequest> unsubscribeConsumer = this.unsubscribeConsumer;
+    if (unsubscribeConsumer != null) {
+      unsubscribeConsumer.accept(request);
+    }
+  }
+
   CompletableFuture<BackupResponse> backup(BackupRequest request) {
     Function<BackupRequest, CompletableFuture<BackupResponse>> backupHandler = this.backupHandler;
     if (backupHandler != null) {
@@ -140,4 +156,24 @@ public class TestLogServerProtocol extends TestLogProtocol implements LogServerP
   public void unregisterResetConsumer() {
     this.resetConsumer = null;
   }
+
+  @Override
+  public void registerCreditConsumer(Consumer<CreditRequest> consumer, Executor executor) {
+    this.creditConsumer = request -> executor.execute(() -> consumer.accept(request));
+  }
+
+  @Override
+  public void unregisterCreditConsumer() {
+    this.creditConsumer = null;
+  }
+
+  @Override
+  public void registerUnsubscribeConsumer(Consumer<UnsubscribeRequest> consumer, Executor executor) {
+    this.unsubscribeConsumer = request -> executor.execute(() -> consumer.accept(request));
+  }
+
+  @Override
+  public void unregisterUnsubscribeConsumer() {
+    this.unsubscribeConsumer = null;
+  }
 }
@@ -120,6 +120,9 @@ public class MultiPrimaryProtocol implements ProxyProtocol {
             .withNumBackups(config.getBackups())
             .withMaxRetries(config.getMaxRetries())
             .withRetryDelay(config.getRetryDelay())
+            .withMaxBatchSize(config.getMaxBatchSize())
+            .withMaxBatchDelay(config.getMaxBatchDelay())
+            .withMaxInFlightBatches(config.getMaxInFlightBatches())
             .build())
         .collect(Collectors.toList());
     return new DefaultProxyClient<>(primitiveName, primitiveType, this, serviceType, partitions, config.getPartitioner());
@@ -133,6 +133,39 @@ public class MultiPrimaryProtocolBuilder extends PrimitiveProtocolBuilder<MultiP
     return this;
   }
 
+  /**
+   * Sets the maximum number of operations to send to a backup in a single batch.
+   *
+   * @param maxBatchSize the maximum number of operations to send to a backup in a single batch
+   * @return the protocol builder
+   */
+  public MultiPrimaryProtocolBuilder withMaxBatchSize(int maxBatchSize) {
+    config.setMaxBatchSize(maxBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum time for which an asynchronously replicated operation is batched before being sent.
+   *
+   * @param maxBatchDelay the maximum batch delay
+   * @return the protocol builder
+   */
+  public MultiPrimaryProtocolBuilder withMaxBatchDelay(Duration maxBatchDelay) {
+    config.setMaxBatchDelay(maxBatchDelay);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of unacknowledged batches per backup for synchronous replication.
+   *
+   * @param maxInFlightBatches the maximum number of unacknowledged batches per backup
+   * @return the protocol builder
+   */
+  public MultiPrimaryProtocolBuilder withMaxInFlightBatches(int maxInFlightBatches) {
+    config.setMaxInFlightBatches(maxInFlightBatches);
+    return this;
+  }
+
   @Override
   public MultiPrimaryProtocol build() {
     return new MultiPrimaryProtocol(config);
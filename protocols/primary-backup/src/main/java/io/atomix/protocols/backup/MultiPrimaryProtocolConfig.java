@@ -36,6 +36,9 @@ public class MultiPrimaryProtocolConfig extends PrimitiveProtocolConfig<MultiPri
   private int backups = 1;
   private int maxRetries = 0;
   private Duration retryDelay = Duration.ofMillis(100);
+  private int maxBatchSize = 100;
+  private Duration maxBatchDelay = Duration.ofMillis(100);
+  private int maxInFlightBatches = 1;
 
   @Override
   public PrimitiveProtocol.Type getType() {
@@ -211,4 +214,71 @@ public class MultiPrimaryProtocolConfig extends PrimitiveProtocolConfig<MultiPri
     this.retryDelay = retryDelay;
     return this;
   }
+
+  /**
+   * Returns the maximum number of operations to send to a backup in a single batch.
+   *
+   * @return the maximum number of operations to send to a backup in a single batch
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of operations to send to a backup in a single batch.
+   *
+   * @param maxBatchSize the maximum number of operations to send to a backup in a single batch
+   * @return the protocol configuration
+   */
+  public MultiPrimaryProtocolConfig setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Returns the maximum time for which an asynchronously replicated operation is batched before being sent.
+   *
+   * @return the maximum batch delay
+   */
+  public Duration getMaxBatchDelay() {
+    return maxBatchDelay;
+  }
+
+  /**
+   * Sets the maximum time for which an asynchronously replicated operation is batched before being sent.
+   * <p>
+   * A batch is sent to a backup as soon as it reaches the maximum batch size or its oldest operation has waited for
+   * the maximum batch delay. Synchronously replicated operations are sent as soon as an in-flight slot is available.
+   *
+   * @param maxBatchDelay the maximum batch delay
+   * @return the protocol configuration
+   */
+  public MultiPrimaryProtocolConfig setMaxBatchDelay(Duration maxBatchDelay) {
+    this.maxBatchDelay = maxBatchDelay;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of unacknowledged batches per backup.
+   *
+   * @return the maximum number of unacknowledged batches per backup
+   */
+  public int getMaxInFlightBatches() {
+    return maxInFlightBatches;
+  }
+
+  /**
+   * Sets the maximum number of unacknowledged batches per backup.
+   * <p>
+   * Allowing more than one batch in flight pipelines synchronous replication so that write latency is not bounded by
+   * serialized round trips to each backup. Asynchronously replicated batches are sent without waiting for
+   * acknowledgement and are not limited by this setting.
+   *
+   * @param maxInFlightBatches the maximum number of unacknowledged batches per backup
+   * @return the protocol configuration
+   */
+  public MultiPrimaryProtocolConfig setMaxInFlightBatches(int maxInFlightBatches) {
+    this.maxInFlightBatches = maxInFlightBatches;
+    return this;
+  }
 }
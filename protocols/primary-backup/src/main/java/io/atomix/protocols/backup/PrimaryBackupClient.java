@@ -112,7 +112,10 @@ public class PrimaryBackupClient {
                     primitiveType.name(),
                     configBytes,
                     numBackups,
-                    replication),
+                    replication,
+                    maxBatchSize,
+                    maxBatchDelay.toMillis(),
+                    maxInFlightBatches),
                 clusterMembershipService,
                 PrimaryBackupClient.this.protocol,
                 primaryElection,
@@ -16,6 +16,7 @@
 package io.atomix.protocols.backup;
 
 import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.MemberId;
 import io.atomix.primitive.PrimitiveTypeRegistry;
 import io.atomix.primitive.impl.ClasspathScanningPrimitiveTypeRegistry;
 import io.atomix.primitive.partition.MemberGroupProvider;
@@ -30,6 +31,7 @@ import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -85,6 +87,16 @@ public class PrimaryBackupServer implements Managed<PrimaryBackupServer> {
     return context.getRole();
   }
 
+  /**
+   * Returns the replication lag of each backup of the given primitive if this server is its primary.
+   *
+   * @param primitiveName the primitive name
+   * @return future to be completed with the number of operations not yet acknowledged by each backup
+   */
+  public CompletableFuture<Map<MemberId, Long>> getBackupLag(String primitiveName) {
+    return context.getBackupLag(primitiveName);
+  }
+
   @Override
   public CompletableFuture<PrimaryBackupServer> start() {
     return context.start().thenApply(v -> this);
@@ -15,8 +15,10 @@
  */
 package io.atomix.protocols.backup.impl;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.cluster.MemberId;
 import io.atomix.primitive.PrimitiveId;
 import io.atomix.primitive.PrimitiveType;
 import io.atomix.primitive.PrimitiveTypeRegistry;
@@ -170,6 +172,20 @@ public class PrimaryBackupServerContext implements Managed<Void> {
     });
   }
 
+  /**
+   * Returns the replication lag of each backup of the given primitive if this node is its primary.
+   *
+   * @param primitiveName the primitive name
+   * @return future to be completed with the number of operations not yet acknowledged by each backup
+   */
+  public CompletableFuture<Map<MemberId, Long>> getBackupLag(String primitiveName) {
+    CompletableFuture<PrimaryBackupServiceContext> service = services.get(primitiveName);
+    if (service == null) {
+      return CompletableFuture.completedFuture(ImmutableMap.of());
+    }
+    return service.thenCompose(PrimaryBackupServiceContext::getBackupLag);
+  }
+
   /**
    * Handles a metadata request.
    */
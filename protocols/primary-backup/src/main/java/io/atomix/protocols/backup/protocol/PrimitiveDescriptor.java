@@ -23,18 +23,40 @@ import static com.google.common.base.MoreObjects.toStringHelper;
  * Primitive descriptor.
  */
 public class PrimitiveDescriptor {
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  private static final long DEFAULT_MAX_BATCH_DELAY = 100;
+  private static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 1;
+
   private final String name;
   private final String type;
   private final byte[] config;
   private final int backups;
   private final Replication replication;
+  private final int maxBatchSize;
+  private final long maxBatchDelay;
+  private final int maxInFlightBatches;
 
   public PrimitiveDescriptor(String name, String type, byte[] config, int backups, Replication replication) {
+    this(name, type, config, backups, replication, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_DELAY, DEFAULT_MAX_IN_FLIGHT_BATCHES);
+  }
+
+  public PrimitiveDescriptor(
+      String name,
+      String type,
+      byte[] config,
+      int backups,
+      Replication replication,
+      int maxBatchSize,
+      long maxBatchDelay,
+      int maxInFlightBatches) {
     this.name = name;
     this.type = type;
     this.config = config;
     this.backups = backups;
     this.replication = replication;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchDelay = maxBatchDelay;
+    this.maxInFlightBatches = maxInFlightBatches;
   }
 
   /**
@@ -82,6 +104,33 @@ public class PrimitiveDescriptor {
     return replication;
   }
 
+  /**
+   * Returns the maximum number of operations to send to a backup in a single batch.
+   *
+   * @return the maximum number of operations to send to a backup in a single batch
+   */
+  public int maxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Returns the maximum time in milliseconds for which an asynchronously replicated operation is batched.
+   *
+   * @return the maximum batch delay in milliseconds
+   */
+  public long maxBatchDelay() {
+    return maxBatchDelay;
+  }
+
+  /**
+   * Returns the maximum number of unacknowledged batches per backup.
+   *
+   * @return the maximum number of unacknowledged batches per backup
+   */
+  public int maxInFlightBatches() {
+    return maxInFlightBatches;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
@@ -89,6 +138,9 @@ public class PrimitiveDescriptor {
         .add("type", type)
         .add("backups", backups)
         .add("replication", replication)
+        .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchDelay", maxBatchDelay)
+        .add("maxInFlightBatches", maxInFlightBatches)
         .toString();
   }
 }
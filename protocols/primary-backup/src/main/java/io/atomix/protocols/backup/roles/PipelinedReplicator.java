@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.backup.roles;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.protocols.backup.protocol.BackupOperation;
+import io.atomix.protocols.backup.protocol.BackupRequest;
+import io.atomix.protocols.backup.protocol.PrimaryBackupResponse.Status;
+import io.atomix.protocols.backup.service.impl.PrimaryBackupServiceContext;
+import io.atomix.utils.concurrent.Scheduled;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+/**
+ * Base class for replicators that pipeline batches of operations to each backup.
+ * <p>
+ * Operations are queued per backup and sent in batches of up to {@link #maxBatchSize} operations. Up to
+ * {@code maxInFlightBatches} batches may be awaiting acknowledgement from a backup at any time. Backups receive
+ * batches in the order in which they're sent and request a restore from the primary if they detect a gap.
+ */
+abstract class PipelinedReplicator implements Replicator {
+  protected final PrimaryBackupServiceContext context;
+  protected final Logger log;
+  protected final Map<MemberId, BackupQueue> queues = new HashMap<>();
+  private final int maxBatchSize;
+  private final long maxBatchDelay;
+  private final int maxInFlightBatches;
+
+  PipelinedReplicator(PrimaryBackupServiceContext context, Logger log, int maxInFlightBatches) {
+    this.context = context;
+    this.log = log;
+    this.maxBatchSize = context.descriptor().maxBatchSize();
+    this.maxBatchDelay = context.descriptor().maxBatchDelay();
+    this.maxInFlightBatches = maxInFlightBatches;
+  }
+
+  /**
+   * Queues the given operation for replication to all backups.
+   *
+   * @param operation the operation to queue
+   */
+  protected void enqueue(BackupOperation operation) {
+    for (MemberId backup : context.backups()) {
+      queues.computeIfAbsent(backup, BackupQueue::new).add(operation);
+    }
+  }
+
+  /**
+   * Returns whether queued operations should be sent as soon as an in-flight slot is available rather than waiting
+   * for a full batch or for the batch delay to expire.
+   *
+   * @return whether to send queued operations immediately
+   */
+  protected abstract boolean sendImmediately();
+
+  /**
+   * Returns the commit index to send to backups.
+   *
+   * @return the commit index to send to backups
+   */
+  protected abstract long commitIndex();
+
+  /**
+   * Called when a backup acknowledges a batch.
+   *
+   * @param memberId the backup that acknowledged the batch
+   * @param index    the highest index acknowledged by the backup
+   */
+  protected void acknowledge(MemberId memberId, long index) {
+  }
+
+  /**
+   * Returns the highest index acknowledged by all current backups.
+   *
+   * @return the highest index acknowledged by all current backups
+   */
+  protected long ackedIndex() {
+    return context.backups().stream()
+        .map(queues::get)
+        .mapToLong(queue -> queue != null ? queue.ackedIndex : 0)
+        .min()
+        .orElse(context.currentIndex());
+  }
+
+  @Override
+  public Map<MemberId, Long> lag() {
+    long currentIndex = context.currentIndex();
+    return queues.values().stream()
+        .collect(Collectors.toMap(queue -> queue.memberId, queue -> Math.max(currentIndex - queue.ackedIndex, 0)));
+  }
+
+  @Override
+  public void close() {
+    queues.values().forEach(BackupQueue::close);
+  }
+
+  /**
+   * Pipelined backup queue.
+   */
+  protected final class BackupQueue {
+    private final Queue<BackupOperation> operations = new LinkedList<>();
+    private final MemberId memberId;
+    private Scheduled batchTimer;
+    private int inFlight;
+    private long ackedIndex;
+
+    BackupQueue(MemberId memberId) {
+      this.memberId = memberId;
+    }
+
+    /**
+     * Adds an operation to the queue.
+     *
+     * @param operation the operation to add
+     */
+    void add(BackupOperation operation) {
+      operations.add(operation);
+      maybeBackup();
+    }
+
+    /**
+     * Sends batches while in-flight slots are available and a batch is ready to be sent.
+     */
+    private void maybeBackup() {
+      while (inFlight < maxInFlightBatches && !operations.isEmpty()) {
+        if (sendImmediately()
+            || operations.size() >= maxBatchSize
+            || System.currentTimeMillis() - operations.peek().timestamp() >= maxBatchDelay) {
+          backup();
+        } else {
+          break;
+        }
+      }
+
+      // If operations are waiting for the batch delay, ensure they're sent once it expires. If no in-flight slot is
+      // available, the queue is checked again once a response is received instead.
+      if (inFlight < maxInFlightBatches && !operations.isEmpty() && !sendImmediately() && batchTimer == null) {
+        long delay = Math.max(maxBatchDelay - (System.currentTimeMillis() - operations.peek().timestamp()), 0);
+        batchTimer = context.threadContext().schedule(Duration.ofMillis(delay), () -> {
+          batchTimer = null;
+          maybeBackup();
+        });
+      }
+    }
+
+    /**
+     * Sends the next batch of operations to the backup.
+     */
+    private void backup() {
+      List<BackupOperation> batch = new LinkedList<>();
+      long index = 0;
+      while (batch.size() < maxBatchSize && !operations.isEmpty()) {
+        BackupOperation operation = operations.remove();
+        batch.add(operation);
+        index = operation.index();
+      }
+
+      long lastIndex = index;
+      BackupRequest request = BackupRequest.request(
+          context.descriptor(),
+          context.memberId(),
+          context.currentTerm(),
+          commitIndex(),
+          batch);
+
+      log.trace("Sending {} to {}", request, memberId);
+      inFlight++;
+      context.protocol().backup(memberId, request).whenCompleteAsync((response, error) -> {
+        inFlight--;
+        if (error == null) {
+          log.trace("Received {} from {}", response, memberId);
+          if (response.status() == Status.OK) {
+            ackedIndex = Math.max(ackedIndex, lastIndex);
+            acknowledge(memberId, ackedIndex);
+          } else {
+            log.trace("Replication to {} failed!", memberId);
+          }
+        } else {
+          log.trace("Replication to {} failed! {}", memberId, error);
+        }
+        maybeBackup();
+      }, context.threadContext());
+    }
+
+    /**
+     * Closes the queue.
+     */
+    void close() {
+      if (batchTimer != null) {
+        batchTimer.cancel();
+      }
+    }
+  }
+}
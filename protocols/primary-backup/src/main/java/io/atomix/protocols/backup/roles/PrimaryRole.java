@@ -15,6 +15,7 @@
  */
 package io.atomix.protocols.backup.roles;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.service.impl.DefaultBackupOutput;
 import io.atomix.primitive.service.impl.DefaultCommit;
@@ -36,6 +37,7 @@ import io.atomix.utils.concurrent.Scheduled;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -201,6 +203,15 @@ public class PrimaryRole extends PrimaryBackupRole {
         });
   }
 
+  /**
+   * Returns the replication lag of each backup.
+   *
+   * @return the number of operations not yet acknowledged by each backup
+   */
+  public Map<MemberId, Long> backupLag() {
+    return replicator.lag();
+  }
+
   @Override
   public void close() {
     replicator.close();
@@ -15,8 +15,10 @@
  */
 package io.atomix.protocols.backup.roles;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.protocols.backup.protocol.BackupOperation;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -32,6 +34,13 @@ interface Replicator {
    */
   CompletableFuture<Void> replicate(BackupOperation operation);
 
+  /**
+   * Returns the replication lag of each backup.
+   *
+   * @return the number of operations not yet acknowledged by each backup
+   */
+  Map<MemberId, Long> lag();
+
   /**
    * Closes the replicator.
    */
@@ -17,6 +17,7 @@
 package io.atomix.protocols.backup.service.impl;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEventListener;
@@ -437,6 +438,23 @@ public class PrimaryBackupServiceContext implements ServiceContext {
     return future;
   }
 
+  /**
+   * Returns the replication lag of each backup if this node is the primary.
+   *
+   * @return future to be completed with the number of operations not yet acknowledged by each backup
+   */
+  public CompletableFuture<Map<MemberId, Long>> getBackupLag() {
+    CompletableFuture<Map<MemberId, Long>> future = new CompletableFuture<>();
+    threadContext.execute(() -> {
+      if (role instanceof PrimaryRole) {
+        future.complete(((PrimaryRole) role).backupLag());
+      } else {
+        future.complete(ImmutableMap.of());
+      }
+    });
+    return future;
+  }
+
   /**
    * Handles a backup request.
    *
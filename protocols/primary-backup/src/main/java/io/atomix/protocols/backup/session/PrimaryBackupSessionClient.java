@@ -344,6 +344,9 @@ public class PrimaryBackupSessionClient implements SessionClient {
     protected int numBackups = 1;
     protected int maxRetries = 0;
     protected Duration retryDelay = Duration.ofMillis(100);
+    protected int maxBatchSize = 100;
+    protected Duration maxBatchDelay = Duration.ofMillis(100);
+    protected int maxInFlightBatches = 1;
 
     /**
      * Sets the protocol consistency model.
@@ -435,5 +438,41 @@ public class PrimaryBackupSessionClient implements SessionClient {
       this.retryDelay = checkNotNull(retryDelay, "retryDelay cannot be null");
       return this;
     }
+  
+    /**
+     * Sets the maximum number of operations to send to a backup in a single batch.
+     *
+     * @param maxBatchSize the maximum number of operations to send to a backup in a single batch
+     * @return the proxy builder
+     */
+    public Builder withMaxBatchSize(int maxBatchSize) {
+      checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum time for which an asynchronously replicated operation is batched before being sent.
+     *
+     * @param maxBatchDelay the maximum batch delay
+     * @return the proxy builder
+     * @throws NullPointerException if the delay is null
+     */
+    public Builder withMaxBatchDelay(Duration maxBatchDelay) {
+      this.maxBatchDelay = checkNotNull(maxBatchDelay, "maxBatchDelay cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of unacknowledged batches per backup for synchronous replication.
+     *
+     * @param maxInFlightBatches the maximum number of unacknowledged batches per backup
+     * @return the proxy builder
+     */
+    public Builder withMaxInFlightBatches(int maxInFlightBatches) {
+      checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be positive");
+      this.maxInFlightBatches = maxInFlightBatches;
+      return this;
+    }
   }
 }
@@ -52,6 +52,7 @@ import org.junit.Test;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -62,6 +63,7 @@ import java.util.stream.Collectors;
 
 import static io.atomix.primitive.operation.PrimitiveOperation.operation;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Raft test.
@@ -104,6 +106,90 @@ public class PrimaryBackupTest extends ConcurrentTestCase {
     await(5000);
   }
 
+  @Test
+  public void testPipelinedSynchronousCommands() throws Throwable {
+    testPipelinedCommands(Replication.SYNCHRONOUS);
+  }
+
+  @Test
+  public void testPipelinedAsynchronousCommands() throws Throwable {
+    testPipelinedCommands(Replication.ASYNCHRONOUS);
+  }
+
+  /**
+   * Tests submitting many concurrent commands with multiple replication batches in flight.
+   */
+  private void testPipelinedCommands(Replication replication) throws Throwable {
+    createServers(3);
+    protocolFactory.backupMonitor().setBackupDelay(Duration.ofMillis(50));
+
+    PrimaryBackupClient client = createClient();
+    SessionClient session;
+    try {
+      session = client.sessionBuilder("primary-backup-test", TestPrimitiveType.INSTANCE, new ServiceConfig())
+          .withNumBackups(2)
+          .withReplication(replication)
+          .withMaxBatchSize(10)
+          .withMaxBatchDelay(Duration.ofMillis(10))
+          .withMaxInFlightBatches(4)
+          .build()
+          .connect()
+          .get(30, TimeUnit.SECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(e);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      session.execute(operation(WRITE)).thenRun(this::resume);
+    }
+    await(10000, 100);
+
+    long timeout = System.currentTimeMillis() + 10000;
+    while (protocolFactory.backupMonitor().getMaxInFlightBackups() <= 1 && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+    assertTrue(protocolFactory.backupMonitor().getMaxInFlightBackups() > 1);
+  }
+
+  /**
+   * Tests reporting the replication lag of each backup.
+   */
+  @Test
+  public void testBackupLag() throws Throwable {
+    List<PrimaryBackupServer> servers = createServers(3);
+    protocolFactory.backupMonitor().setBackupDelay(Duration.ofMillis(500));
+
+    PrimaryBackupClient client = createClient();
+    SessionClient session = createProxy(client, 2, Replication.ASYNCHRONOUS);
+    for (int i = 0; i < 10; i++) {
+      session.execute(operation(WRITE)).thenRun(this::resume);
+    }
+    await(5000, 10);
+
+    PrimaryBackupServer primary = servers.stream()
+        .filter(server -> server.getRole() == Role.PRIMARY)
+        .findFirst()
+        .get();
+    Map<MemberId, Long> lag = primary.getBackupLag("primary-backup-test").get(5, TimeUnit.SECONDS);
+    assertEquals(2, lag.size());
+    lag.values().forEach(value -> assertTrue(value > 0));
+
+    long timeout = System.currentTimeMillis() + 10000;
+    while (primary.getBackupLag("primary-backup-test").get(5, TimeUnit.SECONDS).values().stream().anyMatch(value -> value > 0)
+        && System.currentTimeMillis() < timeout) {
+      Thread.sleep(10);
+    }
+    primary.getBackupLag("primary-backup-test").get(5, TimeUnit.SECONDS)
+        .values()
+        .forEach(value -> assertEquals(0, value.longValue()));
+
+    for (PrimaryBackupServer server : servers) {
+      if (server != primary) {
+        assertTrue(server.getBackupLag("primary-backup-test").get(5, TimeUnit.SECONDS).isEmpty());
+      }
+    }
+  }
+
   @Test
   public void testOneNodeQuery() throws Throwable {
     testSubmitQuery(1, 0, Replication.SYNCHRONOUS);
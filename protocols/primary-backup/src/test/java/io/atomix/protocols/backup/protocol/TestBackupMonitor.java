@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.backup.protocol;
+
+import com.google.common.collect.Maps;
+import io.atomix.cluster.MemberId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Test backup monitor which tracks the number of in-flight backup requests to each backup.
+ */
+public class TestBackupMonitor {
+  private static final ScheduledExecutorService DELAY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "test-backup-delay");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final Map<MemberId, AtomicInteger> inFlightBackups = Maps.newConcurrentMap();
+  private final AtomicInteger maxInFlightBackups = new AtomicInteger();
+  private volatile long backupDelay;
+
+  /**
+   * Sets the delay with which backup requests are delivered.
+   *
+   * @param backupDelay the backup delay
+   */
+  public void setBackupDelay(Duration backupDelay) {
+    this.backupDelay = backupDelay.toMillis();
+  }
+
+  /**
+   * Returns the maximum number of backup requests observed in flight to a single backup.
+   *
+   * @return the maximum number of in-flight backup requests
+   */
+  public int getMaxInFlightBackups() {
+    return maxInFlightBackups.get();
+  }
+
+  /**
+   * Sends a backup request, tracking the number of requests in flight to the backup.
+   *
+   * @param memberId the backup to which to send the request
+   * @param request  the backup request supplier
+   * @return future to be completed with the backup response
+   */
+  CompletableFuture<BackupResponse> backup(MemberId memberId, Supplier<CompletableFuture<BackupResponse>> request) {
+    AtomicInteger inFlight = inFlightBackups.computeIfAbsent(memberId, id -> new AtomicInteger());
+    maxInFlightBackups.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    CompletableFuture<BackupResponse> future = new CompletableFuture<>();
+    Runnable send = () -> request.get().whenComplete((response, error) -> {
+      inFlight.decrementAndGet();
+      if (error == null) {
+        future.complete(response);
+      } else {
+        future.completeExceptionally(error);
+      }
+    });
+    if (backupDelay > 0) {
+      DELAY_EXECUTOR.schedule(send, backupDelay, TimeUnit.MILLISECONDS);
+    } else {
+      send.run();
+    }
+    return future;
+  }
+}
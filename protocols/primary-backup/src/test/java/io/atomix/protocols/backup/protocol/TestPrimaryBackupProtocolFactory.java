@@ -26,6 +26,16 @@ import java.util.Map;
 public class TestPrimaryBackupProtocolFactory {
   private final Map<MemberId, TestPrimaryBackupServerProtocol> servers = Maps.newConcurrentMap();
   private final Map<MemberId, TestPrimaryBackupClientProtocol> clients = Maps.newConcurrentMap();
+  private final TestBackupMonitor backupMonitor = new TestBackupMonitor();
+
+  /**
+   * Returns the monitor for backup requests sent between servers.
+   *
+   * @return the backup monitor
+   */
+  public TestBackupMonitor backupMonitor() {
+    return backupMonitor;
+  }
 
   /**
    * Returns a new test client protocol.
@@ -44,6 +54,6 @@ public class TestPrimaryBackupProtocolFactory {
    * @return a new test server protocol
    */
   public PrimaryBackupServerProtocol newServerProtocol(MemberId memberId) {
-    return new TestPrimaryBackupServerProtocol(memberId, servers, clients);
+    return new TestPrimaryBackupServerProtocol(memberId, servers, clients, backupMonitor);
   }
 }
@@ -34,9 +34,11 @@ public class TestPrimaryBackupServerProtocol extends TestPrimaryBackupProtocol i
   private Function<BackupRequest, CompletableFuture<BackupResponse>> backupHandler;
   private Function<RestoreRequest, CompletableFuture<RestoreResponse>> restoreHandler;
   private Function<MetadataRequest, CompletableFuture<MetadataResponse>> metadataHandler;
+  private final TestBackupMonitor backupMonitor;
 
-  public TestPrimaryBackupServerProtocol(MemberId memberId, Map<MemberId, TestPrimaryBackupServerProtocol> servers, Map<MemberId, TestPrimaryBackupClientProtocol> clients) {
+  public TestPrimaryBackupServerProtocol(MemberId memberId, Map<MemberId, TestPrimaryBackupServerProtocol> servers, Map<MemberId, TestPrimaryBackupClientProtocol> clients, TestBackupMonitor backupMonitor) {
     super(servers, clients);
+    this.backupMonitor = backupMonitor;
     servers.put(memberId, this);
   }
 
@@ -60,7 +62,7 @@ public class TestPrimaryBackupServerProtocol extends TestPrimaryBackupProtocol i
 
   @Override
   public CompletableFuture<BackupResponse> backup(MemberId memberId, BackupRequest request) {
-    return getServer(memberId).thenCompose(server -> server.backup(request));
+    return backupMonitor.backup(memberId, () -> getServer(memberId).thenCompose(server -> server.backup(request)));
   }
 
   @Override
@@ -121,6 +121,8 @@ public class MultiRaftProtocol implements ProxyProtocol {
             .withRecoveryStrategy(config.getRecoveryStrategy())
             .withMaxRetries(config.getMaxRetries())
             .withRetryDelay(config.getRetryDelay())
+            .withMaxCommandBatchSize(config.getMaxCommandBatchSize())
+            .withCommandBatchWindow(config.getCommandBatchWindow())
             .build())
         .collect(Collectors.toList());
     return new DefaultProxyClient<>(primitiveName, primitiveType, this, serviceType, partitions, config.getPartitioner());
@@ -142,6 +142,31 @@ public class MultiRaftProtocolBuilder extends PrimitiveProtocolBuilder<MultiRaft
     return this;
   }
 
+  /**
+   * Sets the maximum number of concurrent commands to coalesce into a single request.
+   * <p>
+   * When the maximum batch size is greater than {@code 1}, commands submitted concurrently by a session are
+   * sent to the leader in batches and appended to the log together. A batch size of {@code 1} disables batching.
+   *
+   * @param maxCommandBatchSize the maximum number of commands to send in a single request
+   * @return the proxy builder
+   */
+  public MultiRaftProtocolBuilder withMaxCommandBatchSize(int maxCommandBatchSize) {
+    config.setMaxCommandBatchSize(maxCommandBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets the maximum amount of time for which to wait for concurrent commands to fill a batch.
+   *
+   * @param commandBatchWindow the maximum amount of time to wait before sending a partial batch
+   * @return the proxy builder
+   */
+  public MultiRaftProtocolBuilder withCommandBatchWindow(Duration commandBatchWindow) {
+    config.setCommandBatchWindow(commandBatchWindow);
+    return this;
+  }
+
   @Override
   public MultiRaftProtocol build() {
     return new MultiRaftProtocol(config);
@@ -36,6 +36,8 @@ public class MultiRaftProtocolConfig extends PrimitiveProtocolConfig<MultiRaftPr
   private Recovery recoveryStrategy = Recovery.RECOVER;
   private int maxRetries = 0;
   private Duration retryDelay = Duration.ofMillis(100);
+  private int maxCommandBatchSize = 1;
+  private Duration commandBatchWindow = Duration.ofMillis(1);
 
   @Override
   public PrimitiveProtocol.Type getType() {
@@ -231,4 +233,46 @@ public class MultiRaftProtocolConfig extends PrimitiveProtocolConfig<MultiRaftPr
     this.retryDelay = retryDelay;
     return this;
   }
+
+  /**
+   * Returns the maximum number of concurrent commands to coalesce into a single request.
+   *
+   * @return the maximum number of concurrent commands to coalesce into a single request
+   */
+  public int getMaxCommandBatchSize() {
+    return maxCommandBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of concurrent commands to coalesce into a single request.
+   * <p>
+   * A batch size of {@code 1} disables command batching.
+   *
+   * @param maxCommandBatchSize the maximum number of concurrent commands to coalesce into a single request
+   * @return the protocol configuration
+   */
+  public MultiRaftProtocolConfig setMaxCommandBatchSize(int maxCommandBatchSize) {
+    this.maxCommandBatchSize = maxCommandBatchSize;
+    return this;
+  }
+
+  /**
+   * Returns the maximum time to wait for concurrent commands to fill a batch.
+   *
+   * @return the command batch window
+   */
+  public Duration getCommandBatchWindow() {
+    return commandBatchWindow;
+  }
+
+  /**
+   * Sets the maximum time to wait for concurrent commands to fill a batch.
+   *
+   * @param commandBatchWindow the command batch window
+   * @return the protocol configuration
+   */
+  public MultiRaftProtocolConfig setCommandBatchWindow(Duration commandBatchWindow) {
+    this.commandBatchWindow = commandBatchWindow;
+    return this;
+  }
 }
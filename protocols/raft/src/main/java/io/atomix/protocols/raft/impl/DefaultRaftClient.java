@@ -145,7 +145,9 @@ public class DefaultRaftClient implements RaftClient {
                 communicationStrategy,
                 threadContextFactory.createContext(),
                 minTimeout,
-                maxTimeout));
+                maxTimeout,
+                maxCommandBatchSize,
+                commandBatchWindow));
 
         SessionClient proxy;
 
@@ -25,6 +25,7 @@ import io.atomix.protocols.raft.cluster.RaftMember;
 import io.atomix.protocols.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.protocols.raft.cluster.impl.RaftClusterContext;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.KeepAliveResponse;
 import io.atomix.protocols.raft.protocol.MetadataResponse;
@@ -59,9 +60,12 @@ import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
@@ -117,6 +121,7 @@ public class RaftContext implements AutoCloseable {
   private long commitIndex;
   private volatile long firstCommitIndex;
   private volatile long lastApplied;
+  private final NavigableMap<Long, CompletableFuture<Long>> appliedFutures = new ConcurrentSkipListMap<>();
 
   @SuppressWarnings("unchecked")
   public RaftContext(
@@ -538,6 +543,54 @@ public class RaftContext implements AutoCloseable {
         }
       });
     }
+    if (!appliedFutures.isEmpty()) {
+      completeAppliedFutures();
+    }
+  }
+
+  /**
+   * Returns a future to be completed once the state machine has applied entries up to the given index.
+   *
+   * @param index the index to await
+   * @return a future to be completed with the last applied index once it has reached the given index, or
+   *     completed exceptionally if the server changes roles or is closed first
+   */
+  public CompletableFuture<Long> awaitLastApplied(long index) {
+    if (lastApplied >= index) {
+      return CompletableFuture.completedFuture(lastApplied);
+    }
+    CompletableFuture<Long> future = appliedFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+    // The state machine may have applied the index concurrently with the future being registered.
+    if (lastApplied >= index) {
+      completeAppliedFutures();
+    }
+    return future;
+  }
+
+  /**
+   * Completes futures awaiting indexes up to the last applied index.
+   */
+  private void completeAppliedFutures() {
+    Map.Entry<Long, CompletableFuture<Long>> entry = appliedFutures.firstEntry();
+    while (entry != null && entry.getKey() <= lastApplied) {
+      if (appliedFutures.remove(entry.getKey(), entry.getValue())) {
+        entry.getValue().complete(lastApplied);
+      }
+      entry = appliedFutures.firstEntry();
+    }
+  }
+
+  /**
+   * Fails all futures awaiting applied indexes.
+   *
+   * @param error the exception with which to fail the futures
+   */
+  private void failAppliedFutures(Throwable error) {
+    Map.Entry<Long, CompletableFuture<Long>> entry = appliedFutures.pollFirstEntry();
+    while (entry != null) {
+      entry.getValue().completeExceptionally(error);
+      entry = appliedFutures.pollFirstEntry();
+    }
   }
 
   /**
@@ -689,10 +742,13 @@ public class RaftContext implements AutoCloseable {
     protocol.registerReconfigureHandler(request -> runOnContext(() -> role.onReconfigure(request)));
     protocol.registerLeaveHandler(request -> runOnContext(() -> role.onLeave(request)));
     protocol.registerTransferHandler(request -> runOnContext(() -> role.onTransfer(request)));
+    protocol.registerReadIndexHandler(request -> runOnContext(() -> role.onReadIndex(request)));
     protocol.registerAppendHandler(request -> runOnContext(() -> role.onAppend(request)));
     protocol.registerPollHandler(request -> runOnContext(() -> role.onPoll(request)));
     protocol.registerVoteHandler(request -> runOnContext(() -> role.onVote(request)));
     protocol.registerCommandHandler(request -> runOnContextIfReady(() -> role.onCommand(request), CommandResponse::builder));
+    protocol.registerCommandBatchHandler(request ->
+        runOnContextIfReady(() -> role.onCommandBatch(request), CommandBatchResponse::builder));
     protocol.registerQueryHandler(request -> runOnContextIfReady(() -> role.onQuery(request), QueryResponse::builder));
   }
 
@@ -736,10 +792,12 @@ public class RaftContext implements AutoCloseable {
     protocol.unregisterReconfigureHandler();
     protocol.unregisterLeaveHandler();
     protocol.unregisterTransferHandler();
+    protocol.unregisterReadIndexHandler();
     protocol.unregisterAppendHandler();
     protocol.unregisterPollHandler();
     protocol.unregisterVoteHandler();
     protocol.unregisterCommandHandler();
+    protocol.unregisterCommandBatchHandler();
     protocol.unregisterQueryHandler();
   }
 
@@ -839,6 +897,9 @@ public class RaftContext implements AutoCloseable {
       throw new IllegalStateException("failed to close Raft state", e);
     }
 
+    // Fail reads awaiting the state machine on behalf of the old role.
+    failAppliedFutures(new RaftException.IllegalMemberState("Server transitioned to %s", role));
+
     // Force state transitions to occur synchronously in order to prevent race conditions.
     try {
       this.role = createRole(role);
@@ -877,6 +938,9 @@ public class RaftContext implements AutoCloseable {
     // Unregister protocol listeners.
     unregisterHandlers(protocol);
 
+    // Fail reads awaiting the state machine.
+    failAppliedFutures(new RaftException.Unavailable("Server closed"));
+
     // Close the log.
     try {
       raftLog.close();
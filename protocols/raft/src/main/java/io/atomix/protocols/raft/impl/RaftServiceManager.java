@@ -15,6 +15,7 @@
  */
 package io.atomix.protocols.raft.impl;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.primitives.Longs;
 import io.atomix.cluster.MemberId;
@@ -43,6 +44,7 @@ import io.atomix.protocols.raft.storage.snapshot.Snapshot;
 import io.atomix.protocols.raft.storage.snapshot.SnapshotReader;
 import io.atomix.protocols.raft.storage.snapshot.SnapshotWriter;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.buffer.HeapBuffer;
 import io.atomix.storage.journal.Indexed;
 import io.atomix.utils.concurrent.ComposableFuture;
 import io.atomix.utils.concurrent.Futures;
@@ -63,8 +65,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.atomix.utils.concurrent.Threads.namedThreads;
 
 /**
  * Internal server state machine.
@@ -76,6 +84,7 @@ public class RaftServiceManager implements AutoCloseable {
   private static final Duration SNAPSHOT_INTERVAL = Duration.ofSeconds(10);
   private static final Duration SNAPSHOT_COMPLETION_DELAY = Duration.ofSeconds(10);
   private static final Duration COMPACT_DELAY = Duration.ofSeconds(10);
+  private static final Duration SNAPSHOT_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
 
   private static final int SEGMENT_BUFFER_FACTOR = 5;
 
@@ -89,6 +98,7 @@ public class RaftServiceManager implements AutoCloseable {
   private volatile CompletableFuture<Void> compactFuture;
   private long lastEnqueued;
   private long lastCompacted;
+  private ExecutorService snapshotExecutor;
 
   public RaftServiceManager(RaftContext raft, ThreadContext stateContext, ThreadContextFactory threadContextFactory) {
     this.raft = checkNotNull(raft, "state cannot be null");
@@ -234,7 +244,11 @@ public class RaftServiceManager implements AutoCloseable {
     ComposableFuture<Snapshot> future = new ComposableFuture<>();
     stateContext.execute(() -> {
       try {
-        future.complete(snapshot());
+        if (raft.getStorage().isParallelSnapshots()) {
+          snapshotParallel().whenComplete(future);
+        } else {
+          future.complete(snapshot());
+        }
       } catch (Exception e) {
         future.completeExceptionally(e);
       }
@@ -252,6 +266,18 @@ public class RaftServiceManager implements AutoCloseable {
       if (completeSnapshot(snapshot.index())) {
         logger.debug("Completing snapshot {}", snapshot.index());
         snapshot.complete();
+
+        // A delta snapshot is discarded if the snapshot on which it's based was replaced before it could be completed.
+        // In that case the log cannot be compacted up to the snapshot index.
+        Snapshot currentSnapshot = raft.getSnapshotStore().getCurrentSnapshot();
+        if (currentSnapshot == null || currentSnapshot.index() < snapshot.index()) {
+          raft.getThreadContext().execute(() -> {
+            this.compactFuture.complete(null);
+            this.compactFuture = null;
+          });
+          return;
+        }
+
         // If log compaction is being forced, immediately compact the logs.
         if (!raft.getLoadMonitor().isUnderHighLoad() || isRunningOutOfDiskSpace() || isRunningOutOfMemory()) {
           compactLogs(snapshot.index());
@@ -448,16 +474,22 @@ public class RaftServiceManager implements AutoCloseable {
 
   /**
    * Takes snapshots for the given index.
+   * <p>
+   * If incremental snapshots are enabled and the current snapshot chain has not reached its maximum length, services
+   * that support incremental backups are written as deltas of the current snapshot. Delta records are distinguished
+   * from full records by a negative length.
    */
   Snapshot snapshot() {
-    Snapshot snapshot = raft.getSnapshotStore().newTemporarySnapshot(raft.getLastApplied(), new WallClockTimestamp());
+    long previousIndex = getDeltaSnapshotIndex();
+    Snapshot snapshot = raft.getSnapshotStore().newTemporarySnapshot(raft.getLastApplied(), previousIndex, new WallClockTimestamp());
     try (SnapshotWriter writer = snapshot.openWriter()) {
       for (RaftServiceContext service : raft.getServices()) {
+        boolean delta = previousIndex > 0 && service.canTakeDelta(previousIndex);
         writer.buffer().mark();
         SnapshotWriter serviceWriter = new SnapshotWriter(writer.buffer().writeInt(0).slice(), writer.snapshot());
-        snapshotService(serviceWriter, service);
+        snapshotService(serviceWriter, service, delta);
         int length = serviceWriter.buffer().position();
-        writer.buffer().reset().writeInt(length).skip(length);
+        writer.buffer().reset().writeInt(delta ? -length : length).skip(length);
       }
     } catch (Exception e) {
       snapshot.close();
@@ -467,54 +499,210 @@ public class RaftServiceManager implements AutoCloseable {
     return snapshot;
   }
 
+  /**
+   * Returns the index of the snapshot on which to base the next snapshot.
+   *
+   * @return the index of the snapshot on which to base the next snapshot or {@code 0} to take a full snapshot
+   */
+  private long getDeltaSnapshotIndex() {
+    if (!raft.getStorage().isIncrementalSnapshots()) {
+      return 0;
+    }
+
+    Snapshot currentSnapshot = raft.getSnapshotStore().getCurrentSnapshot();
+    if (currentSnapshot == null
+        || currentSnapshot.index() >= raft.getLastApplied()
+        || raft.getSnapshotStore().getSnapshotChain(currentSnapshot).size() > raft.getStorage().maxSnapshotDeltas()) {
+      return 0;
+    }
+
+    long previousIndex = currentSnapshot.index();
+    for (RaftServiceContext service : raft.getServices()) {
+      if (service.canTakeDelta(previousIndex)) {
+        return previousIndex;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Takes snapshots of all services in parallel.
+   * <p>
+   * The sessions and a frozen view of the state of each service are captured on the state thread, after which the
+   * services are serialized concurrently on the snapshot thread pool. Operations can be applied to the services as
+   * soon as this method returns. Services that don't support concurrent backups are serialized before this method
+   * returns, and delta records are always written immediately since they contain only the state changed since the
+   * prior snapshot.
+   *
+   * @return a future to be completed with the snapshot once all services have been serialized
+   */
+  CompletableFuture<Snapshot> snapshotParallel() {
+    long previousIndex = getDeltaSnapshotIndex();
+    Snapshot snapshot = raft.getSnapshotStore().newTemporarySnapshot(raft.getLastApplied(), previousIndex, new WallClockTimestamp());
+    Executor executor = getSnapshotExecutor();
+    List<HeapBuffer> buffers = new ArrayList<>();
+    List<Boolean> deltas = new ArrayList<>();
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (RaftServiceContext service : raft.getServices()) {
+      boolean delta = previousIndex > 0 && service.canTakeDelta(previousIndex);
+      HeapBuffer buffer = HeapBuffer.allocate();
+      Runnable task = captureService(new SnapshotWriter(buffer, snapshot), service, delta);
+      buffers.add(buffer);
+      deltas.add(delta);
+      futures.add(CompletableFuture.runAsync(task, executor));
+    }
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApplyAsync(v -> {
+      try (SnapshotWriter writer = snapshot.openWriter()) {
+        for (int i = 0; i < buffers.size(); i++) {
+          HeapBuffer buffer = buffers.get(i);
+          int length = buffer.position();
+          writer.writeInt(deltas.get(i) ? -length : length).write(buffer.array(), 0, length);
+          buffer.close();
+        }
+      } catch (Exception e) {
+        snapshot.close();
+        logger.error("Failed to snapshot services", e);
+        throw e;
+      }
+      return snapshot;
+    }, executor);
+  }
+
+  /**
+   * Returns the executor on which to serialize services for parallel snapshots.
+   *
+   * @return the snapshot executor
+   */
+  private synchronized Executor getSnapshotExecutor() {
+    if (snapshotExecutor == null) {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          raft.getStorage().snapshotThreads(),
+          raft.getStorage().snapshotThreads(),
+          SNAPSHOT_THREAD_KEEP_ALIVE.toMillis(),
+          TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(),
+          namedThreads("raft-snapshot-" + raft.getName() + "-%d", logger));
+      executor.allowCoreThreadTimeOut(true);
+      snapshotExecutor = executor;
+    }
+    return snapshotExecutor;
+  }
+
   /**
    * Takes a snapshot of the given service.
    *
    * @param writer the snapshot writer
    * @param service the service to snapshot
+   * @param delta whether to take a delta of the service state
+   */
+  private void snapshotService(SnapshotWriter writer, RaftServiceContext service, boolean delta) {
+    writeService(writer, service);
+    try {
+      if (delta) {
+        service.takeDelta(writer);
+      } else {
+        service.takeSnapshot(writer);
+      }
+    } catch (Exception e) {
+      logger.error("Failed to take snapshot of service {}", service.serviceId(), e);
+    }
+  }
+
+  /**
+   * Captures a snapshot of the given service to be completed by the returned task.
+   *
+   * @param writer the snapshot writer
+   * @param service the service to snapshot
+   * @param delta whether to take a delta of the service state
+   * @return a task that completes the snapshot of the service
    */
-  private void snapshotService(SnapshotWriter writer, RaftServiceContext service) {
+  private Runnable captureService(SnapshotWriter writer, RaftServiceContext service, boolean delta) {
+    if (delta) {
+      snapshotService(writer, service, true);
+      return () -> {
+      };
+    }
+
+    writeService(writer, service);
+    try {
+      Runnable task = service.captureSnapshot(writer);
+      return () -> {
+        try {
+          task.run();
+        } catch (Exception e) {
+          logger.error("Failed to take snapshot of service {}", service.serviceId(), e);
+        }
+      };
+    } catch (Exception e) {
+      logger.error("Failed to take snapshot of service {}", service.serviceId(), e);
+      return () -> {
+      };
+    }
+  }
+
+  /**
+   * Writes the service identifier and configuration to the given snapshot writer.
+   */
+  private void writeService(SnapshotWriter writer, RaftServiceContext service) {
     writer.writeLong(service.serviceId().id());
     writer.writeString(service.serviceType().name());
     writer.writeString(service.serviceName());
     byte[] config = Serializer.using(service.serviceType().namespace()).encode(service.serviceConfig());
     writer.writeInt(config.length).writeBytes(config);
-    try {
-      service.takeSnapshot(writer);
-    } catch (Exception e) {
-      logger.error("Failed to take snapshot of service {}", service.serviceId(), e);
-    }
   }
 
   /**
    * Prepares sessions for the given index.
+   * <p>
+   * If the snapshot is a delta snapshot, each snapshot in its chain is installed in order starting with the full
+   * snapshot on which it's based. Every snapshot contains a record for each service that existed when it was taken,
+   * so services that are missing from the snapshot were deleted and are removed once the snapshot is installed.
    *
    * @param snapshot the snapshot to install
    */
   void install(Snapshot snapshot) {
     logger.debug("Installing snapshot {}", snapshot);
-    try (SnapshotReader reader = snapshot.openReader()) {
-      while (reader.hasRemaining()) {
-        try {
-          int length = reader.readInt();
-          if (length > 0) {
-            SnapshotReader serviceReader = new SnapshotReader(reader.buffer().slice(length), reader.snapshot());
-            installService(serviceReader);
-            reader.skip(length);
+    Set<PrimitiveId> services = new HashSet<>();
+    for (Snapshot link : raft.getSnapshotStore().getSnapshotChain(snapshot)) {
+      services.clear();
+      try (SnapshotReader reader = link.openReader()) {
+        while (reader.hasRemaining()) {
+          try {
+            int length = reader.readInt();
+            if (length > 0) {
+              SnapshotReader serviceReader = new SnapshotReader(reader.buffer().slice(length), reader.snapshot());
+              services.add(installService(serviceReader));
+              reader.skip(length);
+            } else if (length < 0) {
+              SnapshotReader serviceReader = new SnapshotReader(reader.buffer().slice(-length), reader.snapshot());
+              services.add(installServiceDelta(serviceReader));
+              reader.skip(-length);
+            }
+          } catch (Exception e) {
+            logger.error("Failed to read snapshot", e);
           }
-        } catch (Exception e) {
-          logger.error("Failed to read snapshot", e);
         }
       }
     }
+
+    for (RaftServiceContext service : Lists.newArrayList(raft.getServices())) {
+      if (!services.contains(service.serviceId())) {
+        logger.debug("Removing deleted service {} {}", service.serviceId(), service.serviceName());
+        raft.getServices().unregisterService(service);
+        service.close();
+        raft.getSessions().removeSessions(service.serviceId());
+      }
+    }
   }
 
   /**
    * Restores the service associated with the given snapshot.
    *
    * @param reader the snapshot reader
+   * @return the identifier of the service
    */
-  private void installService(SnapshotReader reader) {
+  private PrimitiveId installService(SnapshotReader reader) {
     PrimitiveId primitiveId = PrimitiveId.from(reader.readLong());
     try {
       PrimitiveType primitiveType = raft.getPrimitiveTypes().getPrimitiveType(reader.readString());
@@ -534,6 +722,34 @@ public class RaftServiceManager implements AutoCloseable {
     } catch (ConfigurationException e) {
       logger.error(e.getMessage(), e);
     }
+    return primitiveId;
+  }
+
+  /**
+   * Applies the given delta snapshot to the service installed from a prior snapshot in the chain.
+   *
+   * @param reader the snapshot reader
+   * @return the identifier of the service
+   */
+  private PrimitiveId installServiceDelta(SnapshotReader reader) {
+    PrimitiveId primitiveId = PrimitiveId.from(reader.readLong());
+    reader.readString();
+    String serviceName = reader.readString();
+    reader.skip(reader.readInt());
+
+    RaftServiceContext service = raft.getServices().getService(serviceName);
+    if (service == null || !service.serviceId().equals(primitiveId)) {
+      logger.error("Failed to install delta snapshot for service {}: missing service {}", serviceName, primitiveId);
+      return primitiveId;
+    }
+
+    logger.debug("Installing service delta {} {}", primitiveId, serviceName);
+    try {
+      service.installDelta(reader);
+    } catch (Exception e) {
+      logger.error("Failed to install delta snapshot for service {}", serviceName, e);
+    }
+    return primitiveId;
   }
 
   /**
@@ -852,5 +1068,11 @@ public class RaftServiceManager implements AutoCloseable {
   @Override
   public void close() {
     // Don't close the thread context here since state machines can be reused.
+    synchronized (this) {
+      if (snapshotExecutor != null) {
+        snapshotExecutor.shutdown();
+        snapshotExecutor = null;
+      }
+    }
   }
 }
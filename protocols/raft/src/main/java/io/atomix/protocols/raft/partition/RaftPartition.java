@@ -21,9 +21,11 @@ import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionManagementService;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.protocols.raft.partition.impl.RaftClientCommunicator;
+import io.atomix.protocols.raft.partition.impl.RaftHeartbeatCoalescer;
 import io.atomix.protocols.raft.partition.impl.RaftNamespaces;
 import io.atomix.protocols.raft.partition.impl.RaftPartitionClient;
 import io.atomix.protocols.raft.partition.impl.RaftPartitionServer;
+import io.atomix.storage.journal.SharedJournal;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.atomix.utils.serializer.Serializer;
 
@@ -46,6 +48,8 @@ public class RaftPartition implements Partition {
   private PartitionMetadata partition;
   private RaftPartitionClient client;
   private RaftPartitionServer server;
+  private RaftHeartbeatCoalescer heartbeatCoalescer;
+  private SharedJournal sharedJournal;
 
   public RaftPartition(
       PartitionId partitionId,
@@ -129,7 +133,21 @@ public class RaftPartition implements Partition {
    * Opens the partition.
    */
   CompletableFuture<Partition> open(PartitionMetadata metadata, PartitionManagementService managementService) {
+    return open(metadata, managementService, null, null);
+  }
+
+  /**
+   * Opens the partition, sending heartbeats through the given node-level coalescer and writing the log to the given
+   * node-level shared journal.
+   */
+  CompletableFuture<Partition> open(
+      PartitionMetadata metadata,
+      PartitionManagementService managementService,
+      RaftHeartbeatCoalescer heartbeatCoalescer,
+      SharedJournal sharedJournal) {
     this.partition = metadata;
+    this.heartbeatCoalescer = heartbeatCoalescer;
+    this.sharedJournal = sharedJournal;
     this.client = createClient(managementService);
     if (partition.members().contains(managementService.getMembershipService().getLocalMember().id())) {
       server = createServer(managementService);
@@ -189,7 +207,9 @@ public class RaftPartition implements Partition {
         managementService.getMembershipService(),
         managementService.getMessagingService(),
         managementService.getPrimitiveTypes(),
-        threadContextFactory);
+        threadContextFactory,
+        heartbeatCoalescer,
+        sharedJournal);
   }
 
   /**
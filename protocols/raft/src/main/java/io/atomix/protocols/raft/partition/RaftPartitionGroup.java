@@ -34,7 +34,10 @@ import io.atomix.primitive.protocol.ProxyProtocol;
 import io.atomix.protocols.raft.MultiRaftProtocol;
 import io.atomix.protocols.raft.RaftClient;
 import io.atomix.protocols.raft.impl.DefaultRaftClient;
+import io.atomix.protocols.raft.partition.impl.RaftHeartbeatCoalescer;
+import io.atomix.protocols.raft.partition.impl.RaftNamespaces;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.SharedJournal;
 import io.atomix.utils.concurrent.BlockingAwareThreadPoolContextFactory;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.ThreadContextFactory;
@@ -43,6 +46,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.atomix.utils.memory.MemorySize;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
+import io.atomix.utils.serializer.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -140,6 +144,9 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
   private Collection<PartitionMetadata> metadata;
   private ClusterCommunicationService communicationService;
   private final String snapshotSubject;
+  private final String heartbeatSubject;
+  private RaftHeartbeatCoalescer heartbeatCoalescer;
+  private SharedJournal sharedJournal;
 
   public RaftPartitionGroup(RaftPartitionGroupConfig config) {
     Logger log = ContextualLoggerFactory.getLogger(DefaultRaftClient.class, LoggerContext.builder(RaftClient.class)
@@ -153,6 +160,7 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
     this.threadContextFactory = new BlockingAwareThreadPoolContextFactory(
         "raft-partition-group-" + name + "-%d", threadPoolSize, log);
     this.snapshotSubject = "raft-partition-group-" + name + "-snapshot";
+    this.heartbeatSubject = "raft-partition-group-" + name + "-heartbeat";
 
     buildPartitions(config, threadContextFactory).forEach(p -> {
       this.partitions.put(p.id(), p);
@@ -235,18 +243,47 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
     this.metadata = buildPartitions();
     this.communicationService = managementService.getMessagingService();
     communicationService.<Void, Void>subscribe(snapshotSubject, m -> handleSnapshot());
-    List<CompletableFuture<Partition>> futures = metadata.stream()
-        .map(metadata -> {
-          RaftPartition partition = partitions.get(metadata.id());
-          return partition.open(metadata, managementService);
-        })
-        .collect(Collectors.toList());
-    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(v -> {
+    CompletableFuture<Void> heartbeatFuture = CompletableFuture.completedFuture(null);
+    if (!config.getHeartbeatCoalescingWindow().isZero()) {
+      heartbeatCoalescer = new RaftHeartbeatCoalescer(
+          heartbeatSubject,
+          Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+          communicationService,
+          threadContextFactory.createContext(),
+          config.getHeartbeatCoalescingWindow());
+      heartbeatFuture = heartbeatCoalescer.start();
+    }
+    if (config.getStorageConfig().isSharedJournal() && config.getStorageConfig().getLevel() != StorageLevel.MEMORY) {
+      sharedJournal = buildSharedJournal();
+    }
+    return heartbeatFuture.thenCompose(v -> {
+      List<CompletableFuture<Partition>> futures = metadata.stream()
+          .map(metadata -> {
+            RaftPartition partition = partitions.get(metadata.id());
+            return partition.open(metadata, managementService, heartbeatCoalescer, sharedJournal);
+          })
+          .collect(Collectors.toList());
+      return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
+    }).thenApply(v -> {
       LOGGER.info("Started");
       return this;
     });
   }
 
+  private SharedJournal buildSharedJournal() {
+    RaftStorageConfig storageConfig = config.getStorageConfig();
+    return SharedJournal.builder()
+        .withName(name)
+        .withDirectory(new File(storageConfig.getDirectory(name), "journal"))
+        .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
+        .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
+        .withFlushOnCommit(storageConfig.isFlushOnCommit())
+        .withGroupCommit(storageConfig.isGroupCommit())
+        .withGroupCommitInterval(storageConfig.getGroupCommitInterval())
+        .withGroupCommitBytes((int) storageConfig.getGroupCommitBytes().bytes())
+        .build();
+  }
+
   @Override
   public CompletableFuture<ManagedPartitionGroup> connect(PartitionManagementService managementService) {
     return join(managementService);
@@ -284,6 +321,12 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
         .map(RaftPartition::close)
         .collect(Collectors.toList());
     return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenRun(() -> {
+      if (heartbeatCoalescer != null) {
+        heartbeatCoalescer.stop();
+      }
+      if (sharedJournal != null) {
+        sharedJournal.close();
+      }
       threadContextFactory.close();
       communicationService.unsubscribe(snapshotSubject);
       LOGGER.info("Stopped");
@@ -397,6 +440,17 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the window within which heartbeats from different partitions to the same member are coalesced.
+     *
+     * @param heartbeatCoalescingWindow the heartbeat coalescing window
+     * @return the Raft partition group configuration
+     */
+    public Builder withHeartbeatCoalescingWindow(Duration heartbeatCoalescingWindow) {
+      config.setHeartbeatCoalescingWindow(heartbeatCoalescingWindow);
+      return this;
+    }
+
     /**
      * Sets the default session timeout.
      *
@@ -492,6 +546,86 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Enables group commit.
+     *
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to coalesce flushes for committed entries into group commits.
+     *
+     * @param groupCommit whether to enable group commit
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      config.getStorageConfig().setGroupCommit(groupCommit);
+      return this;
+    }
+
+    /**
+     * Enables the shared journal.
+     *
+     * @return the Raft partition group builder
+     */
+    public Builder withSharedJournal() {
+      return withSharedJournal(true);
+    }
+
+    /**
+     * Sets whether the partitions hosted by the local node should append to a single shared journal.
+     *
+     * @param sharedJournal whether to enable the shared journal
+     * @return the Raft partition group builder
+     */
+    public Builder withSharedJournal(boolean sharedJournal) {
+      config.getStorageConfig().setSharedJournal(sharedJournal);
+      return this;
+    }
+
+    /**
+     * Enables incremental snapshots.
+     *
+     * @return the Raft partition group builder
+     */
+    public Builder withIncrementalSnapshots() {
+      return withIncrementalSnapshots(true);
+    }
+
+    /**
+     * Sets whether to take incremental snapshots.
+     *
+     * @param incrementalSnapshots whether to take incremental snapshots
+     * @return the Raft partition group builder
+     */
+    public Builder withIncrementalSnapshots(boolean incrementalSnapshots) {
+      config.getStorageConfig().setIncrementalSnapshots(incrementalSnapshots);
+      return this;
+    }
+
+    /**
+     * Enables parallel snapshots.
+     *
+     * @return the Raft partition group builder
+     */
+    public Builder withParallelSnapshots() {
+      return withParallelSnapshots(true);
+    }
+
+    /**
+     * Sets whether to snapshot services in parallel.
+     *
+     * @param parallelSnapshots whether to snapshot services in parallel
+     * @return the Raft partition group builder
+     */
+    public Builder withParallelSnapshots(boolean parallelSnapshots) {
+      config.getStorageConfig().setParallelSnapshots(parallelSnapshots);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
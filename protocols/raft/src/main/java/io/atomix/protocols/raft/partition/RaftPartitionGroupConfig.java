@@ -36,6 +36,7 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private Duration defaultSessionTimeout = DEFAULT_DEFAULT_SESSION_TIMEOUT;
+  private Duration heartbeatCoalescingWindow = Duration.ZERO;
   private RaftStorageConfig storageConfig = new RaftStorageConfig();
   private RaftCompactionConfig compactionConfig = new RaftCompactionConfig();
 
@@ -129,6 +130,29 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     return this;
   }
 
+  /**
+   * Returns the window within which heartbeats from different partitions to the same member are coalesced.
+   *
+   * @return the heartbeat coalescing window, or zero if heartbeats are not coalesced
+   */
+  public Duration getHeartbeatCoalescingWindow() {
+    return heartbeatCoalescingWindow;
+  }
+
+  /**
+   * Sets the window within which heartbeats from different partitions to the same member are coalesced.
+   * <p>
+   * When the window is non-zero, empty append requests sent by the partition leaders on a node within the window are
+   * combined into a single message per peer.
+   *
+   * @param heartbeatCoalescingWindow the heartbeat coalescing window
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setHeartbeatCoalescingWindow(Duration heartbeatCoalescingWindow) {
+    this.heartbeatCoalescingWindow = heartbeatCoalescingWindow;
+    return this;
+  }
+
   /**
    * Returns the default session timeout.
    *
@@ -18,6 +18,8 @@ package io.atomix.protocols.raft.partition;
 import io.atomix.storage.StorageLevel;
 import io.atomix.utils.memory.MemorySize;
 
+import java.time.Duration;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -29,12 +31,26 @@ public class RaftStorageConfig {
   private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+  private static final boolean DEFAULT_GROUP_COMMIT = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+  private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
+  private static final boolean DEFAULT_INCREMENTAL_SNAPSHOTS = false;
+  private static final int DEFAULT_MAX_SNAPSHOT_DELTAS = 10;
+  private static final boolean DEFAULT_PARALLEL_SNAPSHOTS = false;
+  private static final boolean DEFAULT_SHARED_JOURNAL = false;
 
   private String directory;
   private StorageLevel level = DEFAULT_STORAGE_LEVEL;
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+  private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+  private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+  private long groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
+  private boolean incrementalSnapshots = DEFAULT_INCREMENTAL_SNAPSHOTS;
+  private int maxSnapshotDeltas = DEFAULT_MAX_SNAPSHOT_DELTAS;
+  private boolean parallelSnapshots = DEFAULT_PARALLEL_SNAPSHOTS;
+  private boolean sharedJournal = DEFAULT_SHARED_JOURNAL;
 
   /**
    * Returns the partition storage level.
@@ -116,6 +132,158 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns whether to coalesce flushes for committed entries into group commits.
+   *
+   * @return whether group commit is enabled
+   */
+  public boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Sets whether to coalesce flushes for committed entries into group commits.
+   * <p>
+   * When group commit is enabled, commits are completed only once committed entries have been flushed to disk,
+   * but a single flush is performed for all the entries committed within the group commit interval.
+   *
+   * @param groupCommit whether to enable group commit
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setGroupCommit(boolean groupCommit) {
+    this.groupCommit = groupCommit;
+    return this;
+  }
+
+  /**
+   * Returns the maximum amount of time for which a group commit may be delayed.
+   *
+   * @return the group commit interval
+   */
+  public Duration getGroupCommitInterval() {
+    return groupCommitInterval;
+  }
+
+  /**
+   * Sets the maximum amount of time for which a group commit may be delayed.
+   *
+   * @param groupCommitInterval the group commit interval
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setGroupCommitInterval(Duration groupCommitInterval) {
+    this.groupCommitInterval = checkNotNull(groupCommitInterval);
+    return this;
+  }
+
+  /**
+   * Returns the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @return the group commit byte threshold
+   */
+  public MemorySize getGroupCommitBytes() {
+    return MemorySize.from(groupCommitBytes);
+  }
+
+  /**
+   * Sets the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @param groupCommitBytes the group commit byte threshold
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setGroupCommitBytes(MemorySize groupCommitBytes) {
+    this.groupCommitBytes = groupCommitBytes.bytes();
+    return this;
+  }
+
+  /**
+   * Returns whether to take incremental snapshots.
+   *
+   * @return whether incremental snapshots are enabled
+   */
+  public boolean isIncrementalSnapshots() {
+    return incrementalSnapshots;
+  }
+
+  /**
+   * Sets whether to take incremental snapshots.
+   * <p>
+   * When incremental snapshots are enabled, services that support delta backups write only the state that changed
+   * since the prior snapshot, and a full snapshot is written once every {@link #getMaxSnapshotDeltas()} snapshots.
+   *
+   * @param incrementalSnapshots whether to enable incremental snapshots
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setIncrementalSnapshots(boolean incrementalSnapshots) {
+    this.incrementalSnapshots = incrementalSnapshots;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of delta snapshots to chain to a full snapshot.
+   *
+   * @return the maximum number of delta snapshots in a snapshot chain
+   */
+  public int getMaxSnapshotDeltas() {
+    return maxSnapshotDeltas;
+  }
+
+  /**
+   * Sets the maximum number of delta snapshots to chain to a full snapshot.
+   *
+   * @param maxSnapshotDeltas the maximum number of delta snapshots in a snapshot chain
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setMaxSnapshotDeltas(int maxSnapshotDeltas) {
+    this.maxSnapshotDeltas = maxSnapshotDeltas;
+    return this;
+  }
+
+  /**
+   * Returns whether to snapshot services in parallel.
+   *
+   * @return whether parallel snapshots are enabled
+   */
+  public boolean isParallelSnapshots() {
+    return parallelSnapshots;
+  }
+
+  /**
+   * Sets whether to snapshot services in parallel.
+   * <p>
+   * When parallel snapshots are enabled, services that support concurrent backups are serialized on a separate
+   * thread pool so that operations can continue to be applied while a snapshot is written.
+   *
+   * @param parallelSnapshots whether to enable parallel snapshots
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setParallelSnapshots(boolean parallelSnapshots) {
+    this.parallelSnapshots = parallelSnapshots;
+    return this;
+  }
+
+  /**
+   * Returns whether the partitions in the group share a single journal.
+   *
+   * @return whether the shared journal is enabled
+   */
+  public boolean isSharedJournal() {
+    return sharedJournal;
+  }
+
+  /**
+   * Sets whether the partitions in the group share a single journal.
+   * <p>
+   * When the shared journal is enabled, the logs of all partitions hosted by the local node are appended to a single
+   * sequential journal so that the disk sees one stream of writes and flushes are shared by all partitions.
+   *
+   * @param sharedJournal whether to enable the shared journal
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setSharedJournal(boolean sharedJournal) {
+    this.sharedJournal = sharedJournal;
+    return this;
+  }
+
   /**
    * Returns the partition data directory.
    *
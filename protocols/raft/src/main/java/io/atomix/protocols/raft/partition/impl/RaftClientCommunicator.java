@@ -21,6 +21,8 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.primitive.session.SessionId;
 import io.atomix.protocols.raft.protocol.CloseSessionRequest;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.HeartbeatRequest;
@@ -91,6 +93,11 @@ public class RaftClientCommunicator implements RaftClientProtocol {
     return sendAndReceive(context.commandSubject, request, memberId);
   }
 
+  @Override
+  public CompletableFuture<CommandBatchResponse> commandBatch(MemberId memberId, CommandBatchRequest request) {
+    return sendAndReceive(context.commandBatchSubject, request, memberId);
+  }
+
   @Override
   public CompletableFuture<MetadataResponse> metadata(MemberId memberId, MetadataRequest request) {
     return sendAndReceive(context.metadataSubject, request, memberId);
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.partition.impl;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.common.collect.Maps;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException;
+import io.atomix.protocols.raft.protocol.AppendRequest;
+import io.atomix.protocols.raft.protocol.AppendResponse;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.atomix.utils.serializer.Serializer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Coalesces heartbeats sent by the Raft partitions of a partition group.
+ * <p>
+ * Empty append requests sent by any partition leader on this node to the same peer within the coalescing window are
+ * combined into a single node-level message keyed by partition name. The receiving node dispatches each request to
+ * the append handler registered by the partition and replies with the responses in a single message, so the number
+ * of heartbeat messages exchanged between two nodes no longer grows with the number of partitions they share.
+ */
+public class RaftHeartbeatCoalescer {
+  private final String subject;
+  private final Serializer serializer;
+  private final ClusterCommunicationService clusterCommunicator;
+  private final ThreadContext threadContext;
+  private final Duration window;
+  private final Map<String, Function<AppendRequest, CompletableFuture<AppendResponse>>> handlers = new ConcurrentHashMap<>();
+  private final Map<MemberId, Map<String, PendingHeartbeat>> pendingHeartbeats = new HashMap<>();
+
+  public RaftHeartbeatCoalescer(
+      String subject,
+      Serializer serializer,
+      ClusterCommunicationService clusterCommunicator,
+      ThreadContext threadContext,
+      Duration window) {
+    this.subject = checkNotNull(subject, "subject cannot be null");
+    this.serializer = checkNotNull(serializer, "serializer cannot be null");
+    this.clusterCommunicator = checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
+    this.threadContext = checkNotNull(threadContext, "threadContext cannot be null");
+    this.window = checkNotNull(window, "window cannot be null");
+  }
+
+  /**
+   * Starts handling coalesced heartbeats from other nodes.
+   *
+   * @return a future to be completed once the coalescer has been started
+   */
+  public CompletableFuture<Void> start() {
+    return clusterCommunicator.<Map<String, AppendRequest>, Map<String, AppendResponse>>subscribe(
+        subject, serializer::decode, this::handleHeartbeats, serializer::encode);
+  }
+
+  /**
+   * Enqueues a heartbeat to be sent to the given member.
+   * <p>
+   * If a heartbeat for the same partition is already pending for the member, the pending heartbeats are sent
+   * immediately and the given request starts a new batch, so every request is completed with its own response.
+   *
+   * @param partition the name of the partition sending the heartbeat
+   * @param memberId  the member to which to send the heartbeat
+   * @param request   the empty append request
+   * @return a future to be completed with the append response
+   */
+  public CompletableFuture<AppendResponse> append(String partition, MemberId memberId, AppendRequest request) {
+    CompletableFuture<AppendResponse> future = new CompletableFuture<>();
+    Map<String, PendingHeartbeat> flushHeartbeats = null;
+    boolean schedule;
+    synchronized (pendingHeartbeats) {
+      Map<String, PendingHeartbeat> heartbeats = pendingHeartbeats.get(memberId);
+      if (heartbeats != null && heartbeats.containsKey(partition)) {
+        flushHeartbeats = pendingHeartbeats.remove(memberId);
+        heartbeats = null;
+      }
+      schedule = heartbeats == null;
+      if (heartbeats == null) {
+        heartbeats = new HashMap<>();
+        pendingHeartbeats.put(memberId, heartbeats);
+      }
+      heartbeats.put(partition, new PendingHeartbeat(request, future));
+    }
+    if (flushHeartbeats != null) {
+      send(memberId, flushHeartbeats);
+    }
+    if (schedule) {
+      threadContext.schedule(window, () -> flush(memberId));
+    }
+    return future;
+  }
+
+  /**
+   * Sends all heartbeats pending for the given member in a single message.
+   * <p>
+   * If the pending batch was already sent because a partition enqueued another heartbeat, this may send the next
+   * batch before its window has elapsed.
+   */
+  private void flush(MemberId memberId) {
+    Map<String, PendingHeartbeat> heartbeats;
+    synchronized (pendingHeartbeats) {
+      heartbeats = pendingHeartbeats.remove(memberId);
+    }
+    if (heartbeats != null && !heartbeats.isEmpty()) {
+      send(memberId, heartbeats);
+    }
+  }
+
+  /**
+   * Sends the given heartbeats to the given member in a single message.
+   */
+  private void send(MemberId memberId, Map<String, PendingHeartbeat> heartbeats) {
+    Map<String, AppendRequest> requests = new HashMap<>(Maps.transformValues(heartbeats, heartbeat -> heartbeat.request));
+    clusterCommunicator.<Map<String, AppendRequest>, Map<String, AppendResponse>>send(
+        subject, requests, serializer::encode, serializer::decode, memberId)
+        .whenComplete((responses, error) -> heartbeats.forEach((partition, heartbeat) -> {
+          if (error != null) {
+            heartbeat.future.completeExceptionally(error);
+          } else {
+            AppendResponse response = responses.get(partition);
+            if (response != null) {
+              heartbeat.future.complete(response);
+            } else {
+              heartbeat.future.completeExceptionally(new MessagingException.NoRemoteHandler());
+            }
+          }
+        }));
+  }
+
+  /**
+   * Handles a coalesced heartbeat by dispatching each request to the partition's append handler.
+   */
+  private CompletableFuture<Map<String, AppendResponse>> handleHeartbeats(Map<String, AppendRequest> requests) {
+    Map<String, CompletableFuture<AppendResponse>> futures = new HashMap<>();
+    requests.forEach((partition, request) -> {
+      Function<AppendRequest, CompletableFuture<AppendResponse>> handler = handlers.get(partition);
+      if (handler != null) {
+        futures.put(partition, handler.apply(request).exceptionally(error -> null));
+      }
+    });
+    return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[futures.size()])).thenApply(v -> {
+      Map<String, AppendResponse> responses = new HashMap<>();
+      futures.forEach((partition, future) -> {
+        AppendResponse response = future.join();
+        if (response != null) {
+          responses.put(partition, response);
+        }
+      });
+      return responses;
+    });
+  }
+
+  /**
+   * Registers the append handler for a partition.
+   *
+   * @param partition the partition name
+   * @param handler   the append handler
+   */
+  public void registerHandler(String partition, Function<AppendRequest, CompletableFuture<AppendResponse>> handler) {
+    handlers.put(partition, handler);
+  }
+
+  /**
+   * Unregisters the append handler for a partition.
+   *
+   * @param partition the partition name
+   */
+  public void unregisterHandler(String partition) {
+    handlers.remove(partition);
+  }
+
+  /**
+   * Stops the coalescer.
+   */
+  public void stop() {
+    clusterCommunicator.unsubscribe(subject);
+    threadContext.close();
+  }
+
+  /**
+   * Pending heartbeat.
+   */
+  private static class PendingHeartbeat {
+    private final AppendRequest request;
+    private final CompletableFuture<AppendResponse> future;
+
+    PendingHeartbeat(AppendRequest request, CompletableFuture<AppendResponse> future) {
+      this.request = request;
+      this.future = future;
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.atomix.protocols.raft.partition.RaftPartition;
 import io.atomix.protocols.raft.partition.RaftPartitionGroupConfig;
 import io.atomix.protocols.raft.storage.RaftStorage;
 import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.SharedJournal;
 import io.atomix.utils.Managed;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.concurrent.ThreadContextFactory;
@@ -56,6 +57,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
   private final ClusterCommunicationService clusterCommunicator;
   private final PrimitiveTypeRegistry primitiveTypes;
   private final ThreadContextFactory threadContextFactory;
+  private final RaftHeartbeatCoalescer heartbeatCoalescer;
+  private final SharedJournal sharedJournal;
   private RaftServer server;
 
   public RaftPartitionServer(
@@ -66,6 +69,19 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
       ClusterCommunicationService clusterCommunicator,
       PrimitiveTypeRegistry primitiveTypes,
       ThreadContextFactory threadContextFactory) {
+    this(partition, config, localMemberId, membershipService, clusterCommunicator, primitiveTypes, threadContextFactory, null, null);
+  }
+
+  public RaftPartitionServer(
+      RaftPartition partition,
+      RaftPartitionGroupConfig config,
+      MemberId localMemberId,
+      ClusterMembershipService membershipService,
+      ClusterCommunicationService clusterCommunicator,
+      PrimitiveTypeRegistry primitiveTypes,
+      ThreadContextFactory threadContextFactory,
+      RaftHeartbeatCoalescer heartbeatCoalescer,
+      SharedJournal sharedJournal) {
     this.partition = partition;
     this.config = config;
     this.localMemberId = localMemberId;
@@ -73,6 +89,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
     this.clusterCommunicator = clusterCommunicator;
     this.primitiveTypes = primitiveTypes;
     this.threadContextFactory = threadContextFactory;
+    this.heartbeatCoalescer = heartbeatCoalescer;
+    this.sharedJournal = sharedJournal;
   }
 
   @Override
@@ -156,7 +174,8 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withProtocol(new RaftServerCommunicator(
             partition.name(),
             Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
-            clusterCommunicator))
+            clusterCommunicator,
+            heartbeatCoalescer))
         .withPrimitiveTypes(primitiveTypes)
         .withElectionTimeout(config.getElectionTimeout())
         .withHeartbeatInterval(config.getHeartbeatInterval())
@@ -168,6 +187,13 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
             .withMaxSegmentSize((int) config.getStorageConfig().getSegmentSize().bytes())
             .withMaxEntrySize((int) config.getStorageConfig().getMaxEntrySize().bytes())
             .withFlushOnCommit(config.getStorageConfig().isFlushOnCommit())
+            .withGroupCommit(config.getStorageConfig().isGroupCommit())
+            .withGroupCommitInterval(config.getStorageConfig().getGroupCommitInterval())
+            .withGroupCommitBytes((int) config.getStorageConfig().getGroupCommitBytes().bytes())
+            .withIncrementalSnapshots(config.getStorageConfig().isIncrementalSnapshots())
+            .withMaxSnapshotDeltas(config.getStorageConfig().getMaxSnapshotDeltas())
+            .withParallelSnapshots(config.getStorageConfig().isParallelSnapshots())
+            .withSharedJournal(sharedJournal)
             .withDynamicCompaction(config.getCompactionConfig().isDynamic())
             .withFreeDiskBuffer(config.getCompactionConfig().getFreeDiskBuffer())
             .withFreeMemoryBuffer(config.getCompactionConfig().getFreeMemoryBuffer())
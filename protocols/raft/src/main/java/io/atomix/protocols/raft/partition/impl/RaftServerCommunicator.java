@@ -28,6 +28,8 @@ import io.atomix.protocols.raft.protocol.AppendRequest;
 import io.atomix.protocols.raft.protocol.AppendResponse;
 import io.atomix.protocols.raft.protocol.CloseSessionRequest;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.ConfigureRequest;
@@ -52,6 +54,8 @@ import io.atomix.protocols.raft.protocol.PublishRequest;
 import io.atomix.protocols.raft.protocol.QueryRequest;
 import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftServerProtocol;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.ResetRequest;
@@ -60,6 +64,8 @@ import io.atomix.protocols.raft.protocol.TransferResponse;
 import io.atomix.protocols.raft.protocol.VoteRequest;
 import io.atomix.protocols.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 
 /**
  * Raft server protocol that uses a {@link ClusterCommunicationService}.
@@ -68,21 +74,51 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
+  private final String prefix;
+  private final RaftHeartbeatCoalescer heartbeatCoalescer;
 
   public RaftServerCommunicator(Serializer serializer, ClusterCommunicationService clusterCommunicator) {
     this(null, serializer, clusterCommunicator);
   }
 
   public RaftServerCommunicator(String prefix, Serializer serializer, ClusterCommunicationService clusterCommunicator) {
+    this(prefix, serializer, clusterCommunicator, null);
+  }
+
+  public RaftServerCommunicator(
+      String prefix,
+      Serializer serializer,
+      ClusterCommunicationService clusterCommunicator,
+      RaftHeartbeatCoalescer heartbeatCoalescer) {
     this.context = new RaftMessageContext(prefix);
     this.serializer = Preconditions.checkNotNull(serializer, "serializer cannot be null");
     this.clusterCommunicator = Preconditions.checkNotNull(clusterCommunicator, "clusterCommunicator cannot be null");
+    this.prefix = prefix;
+    this.heartbeatCoalescer = prefix != null ? heartbeatCoalescer : null;
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(String subject, T request, MemberId memberId) {
     return clusterCommunicator.send(subject, request, serializer::encode, serializer::decode, MemberId.from(memberId.id()));
   }
 
+  /**
+   * Sends a request serialized directly to and from network buffers.
+   * <p>
+   * Used for requests that carry entries or snapshot chunks to avoid copying large payloads through intermediate
+   * byte arrays.
+   */
+  private <T, U> CompletableFuture<U> sendAndReceiveBuffer(String subject, T request, MemberId memberId) {
+    return clusterCommunicator.sendBuffer(subject, request, this::encode, this::decode, MemberId.from(memberId.id()), null);
+  }
+
+  private void encode(Object message, ByteBuf buffer) {
+    serializer.encode(message, new ByteBufOutputStream(buffer));
+  }
+
+  private <T> T decode(ByteBuf buffer) {
+    return serializer.decode(buffer.nioBuffer());
+  }
+
   @Override
   public CompletableFuture<OpenSessionResponse> openSession(MemberId memberId, OpenSessionRequest request) {
     return sendAndReceive(context.openSessionSubject, request, memberId);
@@ -135,7 +171,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public CompletableFuture<InstallResponse> install(MemberId memberId, InstallRequest request) {
-    return sendAndReceive(context.installSubject, request, memberId);
+    return sendAndReceiveBuffer(context.installSubject, request, memberId);
   }
 
   @Override
@@ -143,6 +179,11 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     return sendAndReceive(context.transferSubject, request, memberId);
   }
 
+  @Override
+  public CompletableFuture<ReadIndexResponse> readIndex(MemberId memberId, ReadIndexRequest request) {
+    return sendAndReceive(context.readIndexSubject, request, memberId);
+  }
+
   @Override
   public CompletableFuture<PollResponse> poll(MemberId memberId, PollRequest request) {
     return sendAndReceive(context.pollSubject, request, memberId);
@@ -155,7 +196,10 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public CompletableFuture<AppendResponse> append(MemberId memberId, AppendRequest request) {
-    return sendAndReceive(context.appendSubject, request, memberId);
+    if (heartbeatCoalescer != null && request.entries().isEmpty()) {
+      return heartbeatCoalescer.append(prefix, MemberId.from(memberId.id()), request);
+    }
+    return sendAndReceiveBuffer(context.appendSubject, request, memberId);
   }
 
   @Override
@@ -218,6 +262,16 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     clusterCommunicator.unsubscribe(context.commandSubject);
   }
 
+  @Override
+  public void registerCommandBatchHandler(Function<CommandBatchRequest, CompletableFuture<CommandBatchResponse>> handler) {
+    clusterCommunicator.subscribe(context.commandBatchSubject, serializer::decode, handler, serializer::encode);
+  }
+
+  @Override
+  public void unregisterCommandBatchHandler() {
+    clusterCommunicator.unsubscribe(context.commandBatchSubject);
+  }
+
   @Override
   public void registerMetadataHandler(Function<MetadataRequest, CompletableFuture<MetadataResponse>> handler) {
     clusterCommunicator.subscribe(context.metadataSubject, serializer::decode, handler, serializer::encode);
@@ -270,7 +324,7 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public void registerInstallHandler(Function<InstallRequest, CompletableFuture<InstallResponse>> handler) {
-    clusterCommunicator.subscribe(context.installSubject, serializer::decode, handler, serializer::encode);
+    clusterCommunicator.subscribeBuffer(context.installSubject, this::decode, handler, this::encode);
   }
 
   @Override
@@ -288,6 +342,16 @@ public class RaftServerCommunicator implements RaftServerProtocol {
     clusterCommunicator.unsubscribe(context.transferSubject);
   }
 
+  @Override
+  public void registerReadIndexHandler(Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> handler) {
+    clusterCommunicator.subscribe(context.readIndexSubject, serializer::decode, handler, serializer::encode);
+  }
+
+  @Override
+  public void unregisterReadIndexHandler() {
+    clusterCommunicator.unsubscribe(context.readIndexSubject);
+  }
+
   @Override
   public void registerPollHandler(Function<PollRequest, CompletableFuture<PollResponse>> handler) {
     clusterCommunicator.subscribe(context.pollSubject, serializer::decode, handler, serializer::encode);
@@ -310,12 +374,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
 
   @Override
   public void registerAppendHandler(Function<AppendRequest, CompletableFuture<AppendResponse>> handler) {
-    clusterCommunicator.subscribe(context.appendSubject, serializer::decode, handler, serializer::encode);
+    clusterCommunicator.subscribeBuffer(context.appendSubject, this::decode, handler, this::encode);
+    if (heartbeatCoalescer != null) {
+      heartbeatCoalescer.registerHandler(prefix, handler);
+    }
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendSubject);
+    if (heartbeatCoalescer != null) {
+      heartbeatCoalescer.unregisterHandler(prefix);
+    }
   }
 
   @Override
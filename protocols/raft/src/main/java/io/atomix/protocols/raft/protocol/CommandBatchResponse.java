@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.protocol;
+
+import io.atomix.protocols.raft.RaftError;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Client command batch response.
+ * <p>
+ * Command batch responses are sent by servers to clients upon the completion of all the commands in a
+ * {@link CommandBatchRequest}. The {@link #responses()} are ordered like the commands in the request, and
+ * each response must be handled by the client exactly as if it had been received for an individual command.
+ */
+public class CommandBatchResponse extends SessionResponse {
+
+  /**
+   * Returns a new command batch response builder.
+   *
+   * @return A new command batch response builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final List<CommandResponse> responses;
+
+  public CommandBatchResponse(Status status, RaftError error, List<CommandResponse> responses) {
+    super(status, error);
+    this.responses = responses;
+  }
+
+  /**
+   * Returns the command responses.
+   *
+   * @return The command responses, in request order.
+   */
+  public List<CommandResponse> responses() {
+    return responses;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, responses);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object instanceof CommandBatchResponse) {
+      CommandBatchResponse response = (CommandBatchResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && Objects.equals(response.responses, responses);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("responses", responses.size())
+          .toString();
+    } else {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("error", error)
+          .toString();
+    }
+  }
+
+  /**
+   * Command batch response builder.
+   */
+  public static class Builder extends SessionResponse.Builder<Builder, CommandBatchResponse> {
+    private List<CommandResponse> responses;
+
+    /**
+     * Sets the command responses.
+     *
+     * @param responses The command responses, in request order.
+     * @return The response builder.
+     * @throws NullPointerException if {@code responses} is {@code null}
+     */
+    public Builder withResponses(List<CommandResponse> responses) {
+      this.responses = checkNotNull(responses, "responses cannot be null");
+      return this;
+    }
+
+    @Override
+    protected void validate() {
+      super.validate();
+      if (status == Status.OK) {
+        checkNotNull(responses, "responses cannot be null");
+      }
+    }
+
+    @Override
+    public CommandBatchResponse build() {
+      validate();
+      return new CommandBatchResponse(status, error, responses);
+    }
+  }
+}
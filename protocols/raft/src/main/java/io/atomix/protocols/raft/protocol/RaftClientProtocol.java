@@ -74,6 +74,15 @@ public interface RaftClientProtocol {
    */
   CompletableFuture<CommandResponse> command(MemberId memberId, CommandRequest request);
 
+  /**
+   * Sends a command batch request to the given node.
+   *
+   * @param memberId  the node to which to send the request
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
+  CompletableFuture<CommandBatchResponse> commandBatch(MemberId memberId, CommandBatchRequest request);
+
   /**
    * Sends a metadata request to the given node.
    *
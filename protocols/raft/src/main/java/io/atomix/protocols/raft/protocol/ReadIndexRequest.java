@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.protocol;
+
+import io.atomix.protocols.raft.ReadConsistency;
+
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Read index request.
+ * <p>
+ * Read index requests are sent by followers to the leader to learn the leader's commit index for a linearizable
+ * read. Once the follower has applied entries up to the returned {@link ReadIndexResponse#index()}, the read can
+ * be served from the follower's local state. The {@link #readConsistency()} indicates whether the leader must
+ * confirm its leadership with a majority of the cluster before responding.
+ */
+public class ReadIndexRequest extends AbstractRaftRequest {
+
+  /**
+   * Returns a new read index request builder.
+   *
+   * @return A new read index request builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final ReadConsistency readConsistency;
+
+  public ReadIndexRequest(ReadConsistency readConsistency) {
+    this.readConsistency = readConsistency;
+  }
+
+  /**
+   * Returns the read consistency level for which to determine the read index.
+   *
+   * @return The read consistency level.
+   */
+  public ReadConsistency readConsistency() {
+    return readConsistency;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), readConsistency);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object instanceof ReadIndexRequest) {
+      return ((ReadIndexRequest) object).readConsistency == readConsistency;
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("readConsistency", readConsistency)
+        .toString();
+  }
+
+  /**
+   * Read index request builder.
+   */
+  public static class Builder extends AbstractRaftRequest.Builder<Builder, ReadIndexRequest> {
+    private ReadConsistency readConsistency = ReadConsistency.LINEARIZABLE;
+
+    /**
+     * Sets the read consistency level.
+     *
+     * @param readConsistency The read consistency level.
+     * @return The request builder.
+     * @throws NullPointerException if {@code readConsistency} is null
+     */
+    public Builder withReadConsistency(ReadConsistency readConsistency) {
+      this.readConsistency = checkNotNull(readConsistency, "readConsistency cannot be null");
+      return this;
+    }
+
+    @Override
+    protected void validate() {
+      super.validate();
+      checkNotNull(readConsistency, "readConsistency cannot be null");
+    }
+
+    @Override
+    public ReadIndexRequest build() {
+      validate();
+      return new ReadIndexRequest(readConsistency);
+    }
+  }
+}
@@ -37,6 +37,7 @@ import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -413,30 +414,47 @@ abstract class AbstractAppender implements AutoCloseable {
       member.setNextSnapshotOffset(0);
     }
 
-    InstallRequest request;
-    synchronized (snapshot) {
-      // Open a new snapshot reader.
-      try (SnapshotReader reader = snapshot.openReader()) {
-        // Skip to the next batch of bytes according to the snapshot chunk size and current offset.
-        reader.skip(member.getNextSnapshotOffset() * MAX_BATCH_SIZE);
-        byte[] data = new byte[Math.min(MAX_BATCH_SIZE, reader.remaining())];
-        reader.read(data);
-
-        // Create the install request, indicating whether this is the last chunk of data based on the number
-        // of bytes remaining in the buffer.
-        DefaultRaftMember leader = raft.getLeader();
-        request = InstallRequest.builder()
-            .withTerm(raft.getTerm())
-            .withLeader(leader != null ? leader.memberId() : null)
-            .withIndex(snapshot.index())
-            .withTimestamp(snapshot.timestamp().unixTimestamp())
-            .withVersion(snapshot.version())
-            .withOffset(member.getNextSnapshotOffset())
-            .withData(data)
-            .withComplete(!reader.hasRemaining())
-            .build();
+    // Delta snapshots are sent along with the snapshots on which they're based. The chain is sent as a single
+    // snapshot containing the records of each snapshot in order, which the follower installs as a full snapshot.
+    List<Snapshot> chain = raft.getSnapshotStore().getSnapshotChain(snapshot);
+
+    // Skip to the next batch of bytes according to the snapshot chunk size and current offset.
+    long position = (long) member.getNextSnapshotOffset() * MAX_BATCH_SIZE;
+    long size = 0;
+    byte[] buffer = new byte[MAX_BATCH_SIZE];
+    int length = 0;
+    for (Snapshot link : chain) {
+      synchronized (link) {
+        // Open a new snapshot reader.
+        try (SnapshotReader reader = link.openReader()) {
+          int remaining = reader.remaining();
+          if (length < MAX_BATCH_SIZE && position < size + remaining) {
+            int skip = (int) Math.max(position - size, 0);
+            int bytes = Math.min(MAX_BATCH_SIZE - length, remaining - skip);
+            reader.skip(skip);
+            reader.read(buffer, length, bytes);
+            length += bytes;
+            position += bytes;
+          }
+          size += remaining;
+        }
       }
     }
+    byte[] data = length == MAX_BATCH_SIZE ? buffer : Arrays.copyOf(buffer, length);
+
+    // Create the install request, indicating whether this is the last chunk of data based on the number
+    // of bytes remaining in the snapshot chain.
+    DefaultRaftMember leader = raft.getLeader();
+    InstallRequest request = InstallRequest.builder()
+        .withTerm(raft.getTerm())
+        .withLeader(leader != null ? leader.memberId() : null)
+        .withIndex(snapshot.index())
+        .withTimestamp(snapshot.timestamp().unixTimestamp())
+        .withVersion(snapshot.version())
+        .withOffset(member.getNextSnapshotOffset())
+        .withData(data)
+        .withComplete(position >= size)
+        .build();
 
     return request;
   }
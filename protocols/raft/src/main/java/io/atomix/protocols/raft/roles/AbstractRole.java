@@ -16,10 +16,15 @@
 package io.atomix.protocols.raft.roles;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.protocols.raft.RaftError;
 import io.atomix.protocols.raft.RaftException;
 import io.atomix.protocols.raft.RaftServer;
 import io.atomix.protocols.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.protocols.raft.impl.RaftContext;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
+import io.atomix.protocols.raft.protocol.CommandRequest;
+import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.RaftRequest;
 import io.atomix.protocols.raft.protocol.RaftResponse;
 import io.atomix.utils.concurrent.Futures;
@@ -27,6 +32,8 @@ import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
@@ -83,6 +90,32 @@ public abstract class AbstractRole implements RaftRole {
     return open;
   }
 
+  /**
+   * Handles a command batch by handling each command in order within the same context turn.
+   * <p>
+   * Handling all the commands before yielding the thread allows the leader to append them as consecutive
+   * entries and replicate them to followers together. Failures are reported per command so the client can
+   * resubmit or fail each command exactly as it would have had the commands been sent individually.
+   */
+  @Override
+  public CompletableFuture<CommandBatchResponse> onCommandBatch(CommandBatchRequest request) {
+    raft.checkThread();
+    logRequest(request);
+
+    List<CompletableFuture<CommandResponse>> futures = new ArrayList<>(request.commands().size());
+    for (CommandRequest command : request.commands()) {
+      futures.add(onCommand(command).exceptionally(error -> CommandResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(RaftError.Type.PROTOCOL_ERROR, error.getMessage())
+          .build()));
+    }
+    return Futures.allOf(futures)
+        .thenApply(responses -> logResponse(CommandBatchResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withResponses(responses)
+            .build()));
+  }
+
   /**
    * Forwards the given request to the leader if possible.
    */
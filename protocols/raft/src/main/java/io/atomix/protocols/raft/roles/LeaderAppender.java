@@ -27,6 +27,7 @@ import io.atomix.protocols.raft.protocol.InstallRequest;
 import io.atomix.protocols.raft.protocol.InstallResponse;
 import io.atomix.protocols.raft.protocol.RaftRequest;
 import io.atomix.protocols.raft.storage.snapshot.Snapshot;
+import io.atomix.utils.concurrent.Futures;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -132,7 +133,7 @@ final class LeaderAppender extends AbstractAppender {
     }
 
     if (index <= raft.getCommitIndex()) {
-      return CompletableFuture.completedFuture(index);
+      return awaitFlush(index);
     }
 
     // If there are no other stateful servers in the cluster, immediately commit the index.
@@ -140,7 +141,7 @@ final class LeaderAppender extends AbstractAppender {
       long previousCommitIndex = raft.getCommitIndex();
       raft.setCommitIndex(index);
       completeCommits(previousCommitIndex, index);
-      return CompletableFuture.completedFuture(index);
+      return awaitFlush(index);
     }
     // If there are no other active members in the cluster, update the commit index and complete the commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
@@ -148,7 +149,7 @@ final class LeaderAppender extends AbstractAppender {
       long previousCommitIndex = raft.getCommitIndex();
       raft.setCommitIndex(index);
       completeCommits(previousCommitIndex, index);
-      return CompletableFuture.completedFuture(index);
+      return awaitFlush(index);
     }
 
     // Only send entry-specific AppendRequests to active members of the cluster.
@@ -350,14 +351,30 @@ final class LeaderAppender extends AbstractAppender {
 
   /**
    * Completes append entries attempts up to the given index.
+   * <p>
+   * If group commit is enabled, the attempts are completed once the committed entries have been flushed.
    */
   private void completeCommits(long previousCommitIndex, long commitIndex) {
-    for (long i = previousCommitIndex + 1; i <= commitIndex; i++) {
-      CompletableFuture<Long> future = appendFutures.remove(i);
-      if (future != null) {
-        future.complete(i);
+    awaitFlush(commitIndex).whenComplete((result, error) -> {
+      for (long i = previousCommitIndex + 1; i <= commitIndex; i++) {
+        CompletableFuture<Long> future = appendFutures.remove(i);
+        if (future != null) {
+          if (error == null) {
+            future.complete(i);
+          } else {
+            future.completeExceptionally(error);
+          }
+        }
       }
-    }
+    });
+  }
+
+  /**
+   * Returns a future to be completed on the Raft thread once entries up to the given index have been flushed.
+   */
+  private CompletableFuture<Long> awaitFlush(long index) {
+    CompletableFuture<Long> future = raft.getLogWriter().commitAsync(index);
+    return future.isDone() ? future : Futures.asyncFuture(future, raft.getThreadContext());
   }
 
   @Override
@@ -23,6 +23,7 @@ import io.atomix.primitive.session.SessionId;
 import io.atomix.protocols.raft.RaftError;
 import io.atomix.protocols.raft.RaftException;
 import io.atomix.protocols.raft.RaftServer;
+import io.atomix.protocols.raft.ReadConsistency;
 import io.atomix.protocols.raft.cluster.RaftMember;
 import io.atomix.protocols.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.protocols.raft.cluster.impl.RaftMemberContext;
@@ -51,6 +52,8 @@ import io.atomix.protocols.raft.protocol.PollResponse;
 import io.atomix.protocols.raft.protocol.QueryRequest;
 import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftResponse;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.TransferRequest;
@@ -93,6 +96,7 @@ public final class LeaderRole extends ActiveRole {
   private Scheduled appendTimer;
   private final Set<SessionId> expiring = Sets.newHashSet();
   private long configuring;
+  private long initializeIndex;
   private boolean transferring;
 
   public LeaderRole(RaftContext context) {
@@ -138,7 +142,10 @@ public final class LeaderRole extends ActiveRole {
   private CompletableFuture<Void> appendInitialEntries() {
     final long term = raft.getTerm();
 
-    return appendAndCompact(new InitializeEntry(term, appender.getTime())).thenApply(index -> null);
+    return appendAndCompact(new InitializeEntry(term, appender.getTime())).thenApply(indexed -> {
+      initializeIndex = indexed.index();
+      return null;
+    });
   }
 
   /**
@@ -172,8 +179,13 @@ public final class LeaderRole extends ActiveRole {
     // Set a timer that will be used to periodically synchronize with other nodes
     // in the cluster. This timer acts as a heartbeat to ensure this node remains
     // the leader.
+    // The timer is aligned to multiples of the heartbeat interval so that leaders of different partitions on the
+    // same node heartbeat together and their heartbeats can be coalesced.
     log.trace("Starting append timer");
-    appendTimer = raft.getThreadContext().schedule(Duration.ZERO, raft.getHeartbeatInterval(), this::appendMembers);
+    raft.getThreadContext().execute(this::appendMembers);
+    long interval = Math.max(raft.getHeartbeatInterval().toMillis(), 1);
+    Duration delay = Duration.ofMillis(interval - System.currentTimeMillis() % interval);
+    appendTimer = raft.getThreadContext().schedule(delay, raft.getHeartbeatInterval(), this::appendMembers);
   }
 
   /**
@@ -446,6 +458,47 @@ public final class LeaderRole extends ActiveRole {
     return future;
   }
 
+  @Override
+  public CompletableFuture<ReadIndexResponse> onReadIndex(final ReadIndexRequest request) {
+    raft.checkThread();
+    logRequest(request);
+
+    // The leader's commit index is only known to be current once an entry from the leader's own term
+    // has been committed. Until then, reject the request and let the follower forward the read instead.
+    final long readIndex = raft.getCommitIndex();
+    if (readIndex < initializeIndex) {
+      return CompletableFuture.completedFuture(logResponse(ReadIndexResponse.builder()
+          .withStatus(RaftResponse.Status.ERROR)
+          .withError(RaftError.Type.ILLEGAL_MEMBER_STATE, "Leader has not yet committed an entry in its term")
+          .build()));
+    }
+
+    // Bounded linearizable reads rely on the leader stepping down when it cannot reach a majority of the cluster,
+    // so the commit index can be returned immediately. Otherwise, verify leadership with a round of heartbeats.
+    if (request.readConsistency() == ReadConsistency.LINEARIZABLE_LEASE) {
+      return CompletableFuture.completedFuture(logResponse(ReadIndexResponse.builder()
+          .withStatus(RaftResponse.Status.OK)
+          .withIndex(readIndex)
+          .build()));
+    }
+
+    return appender.appendEntries()
+        .handle((index, error) -> {
+          if (error == null) {
+            return ReadIndexResponse.builder()
+                .withStatus(RaftResponse.Status.OK)
+                .withIndex(readIndex)
+                .build();
+          } else {
+            return ReadIndexResponse.builder()
+                .withStatus(RaftResponse.Status.ERROR)
+                .withError(RaftError.Type.QUERY_FAILURE, error.getMessage())
+                .build();
+          }
+        })
+        .thenApply(this::logResponse);
+  }
+
   @Override
   public CompletableFuture<TransferResponse> onTransfer(final TransferRequest request) {
     logRequest(request);
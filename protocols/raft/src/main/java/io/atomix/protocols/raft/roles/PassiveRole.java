@@ -46,6 +46,7 @@ import io.atomix.protocols.raft.protocol.PollResponse;
 import io.atomix.protocols.raft.protocol.QueryRequest;
 import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftResponse;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.VoteRequest;
@@ -389,7 +390,8 @@ public class PassiveRole extends InactiveRole {
       return queryForward(request);
     }
 
-    // If the session's consistency level is SEQUENTIAL, handle the request here, otherwise forward it.
+    // If the session's consistency level is SEQUENTIAL, handle the request here, otherwise read the
+    // leader's commit index and handle the request here once it has been applied.
     if (session.readConsistency() == ReadConsistency.SEQUENTIAL) {
 
       // If the commit index is not in the log then we've fallen too far behind the leader to perform a local query.
@@ -410,8 +412,60 @@ public class PassiveRole extends InactiveRole {
 
       return applyQuery(entry).thenApply(this::logResponse);
     } else {
+      return queryReadIndex(request, session);
+    }
+  }
+
+  /**
+   * Performs a linearizable query locally using the leader's read index.
+   * <p>
+   * The leader's commit index is requested and the query is applied once this server's state machine has applied
+   * entries up to that index. If the leader cannot provide a read index, the query is forwarded to the leader.
+   */
+  private CompletableFuture<QueryResponse> queryReadIndex(QueryRequest request, RaftSession session) {
+    if (raft.getLeader() == null) {
       return queryForward(request);
     }
+
+    final Indexed<QueryEntry> entry = new Indexed<>(
+        request.index(),
+        new QueryEntry(
+            raft.getTerm(),
+            System.currentTimeMillis(),
+            request.session(),
+            request.sequenceNumber(),
+            request.operation()), 0);
+
+    ReadIndexRequest readIndexRequest = ReadIndexRequest.builder()
+        .withReadConsistency(session.readConsistency())
+        .build();
+
+    CompletableFuture<QueryResponse> future = new CompletableFuture<>();
+    forward(readIndexRequest, raft.getProtocol()::readIndex).whenComplete((response, error) -> {
+      if (error == null && response.status() == RaftResponse.Status.OK) {
+        log.trace("Awaiting read index {}", response.index());
+        raft.awaitLastApplied(response.index())
+            .thenComposeAsync(lastApplied -> applyQuery(entry), raft.getThreadContext())
+            .thenApply(this::logResponse)
+            .whenComplete((queryResponse, queryError) -> {
+              if (queryError == null) {
+                future.complete(queryResponse);
+              } else {
+                completeOperation(null, QueryResponse.builder(), queryError, future);
+              }
+            });
+      } else {
+        log.trace("Failed to obtain read index, forwarding query to leader");
+        queryForward(request).whenComplete((queryResponse, queryError) -> {
+          if (queryError == null) {
+            future.complete(queryResponse);
+          } else {
+            future.completeExceptionally(queryError);
+          }
+        });
+      }
+    });
+    return future;
   }
 
   /**
@@ -21,7 +21,10 @@ import io.atomix.primitive.PrimitiveId;
 import io.atomix.primitive.PrimitiveType;
 import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.operation.PrimitiveOperation;
+import io.atomix.primitive.service.BackupOutput;
 import io.atomix.primitive.service.Commit;
+import io.atomix.primitive.service.ConcurrentBackup;
+import io.atomix.primitive.service.IncrementalBackup;
 import io.atomix.primitive.service.PrimitiveService;
 import io.atomix.primitive.service.ServiceConfig;
 import io.atomix.primitive.service.ServiceContext;
@@ -50,7 +53,10 @@ import io.atomix.utils.time.WallClock;
 import io.atomix.utils.time.WallClockTimestamp;
 import org.slf4j.Logger;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -74,6 +80,7 @@ public class RaftServiceContext implements ServiceContext {
   private long timestampDelta;
   private OperationType currentOperation;
   private boolean deleted;
+  private long snapshotIndex;
   private final LogicalClock logicalClock = new LogicalClock() {
     @Override
     public LogicalTimestamp getTime() {
@@ -109,6 +116,9 @@ public class RaftServiceContext implements ServiceContext {
         .add("name", serviceName)
         .build());
     service.init(this);
+    if (service instanceof IncrementalBackup && raft.getStorage().isIncrementalSnapshots()) {
+      ((IncrementalBackup) service).enableDeltas();
+    }
   }
 
   /**
@@ -235,13 +245,44 @@ public class RaftServiceContext implements ServiceContext {
    */
   public void installSnapshot(SnapshotReader reader) {
     log.debug("Installing snapshot {}", reader.snapshot().index());
+    if (installSessions(reader) != null) {
+      service.restore(new DefaultBackupInput(reader, service.serializer()));
+      snapshotIndex = reader.snapshot().index();
+    }
+  }
+
+  /**
+   * Installs a delta snapshot on top of the current service state.
+   */
+  public void installDelta(SnapshotReader reader) {
+    log.debug("Installing delta snapshot {}", reader.snapshot().index());
+    Set<SessionId> sessionIds = installSessions(reader);
+    if (sessionIds != null) {
+      // Expire sessions that were closed since the previous snapshot.
+      for (RaftSession session : sessions.getSessions(primitiveId)) {
+        if (!sessionIds.contains(session.sessionId())) {
+          sessions.removeSession(session.sessionId());
+          service.expire(session.sessionId());
+        }
+      }
+      ((IncrementalBackup) service).restoreDelta(new DefaultBackupInput(reader, service.serializer()));
+      snapshotIndex = reader.snapshot().index();
+    }
+  }
+
+  /**
+   * Installs the service clock and sessions from the given snapshot.
+   *
+   * @return the identifiers of the installed sessions or {@code null} if the snapshot could not be installed
+   */
+  private Set<SessionId> installSessions(SnapshotReader reader) {
     reader.skip(Bytes.LONG); // Skip the service ID
     PrimitiveType primitiveType;
     try {
       primitiveType = raft.getPrimitiveTypes().getPrimitiveType(reader.readString());
     } catch (ConfigurationException e) {
       log.error(e.getMessage(), e);
-      return;
+      return null;
     }
 
     String serviceName = reader.readString();
@@ -250,6 +291,7 @@ public class RaftServiceContext implements ServiceContext {
     timestampDelta = reader.readLong();
 
     int sessionCount = reader.readInt();
+    Set<SessionId> sessionIds = new HashSet<>(sessionCount);
     for (int i = 0; i < sessionCount; i++) {
       SessionId sessionId = SessionId.from(reader.readLong());
       MemberId node = MemberId.from(reader.readString());
@@ -282,8 +324,22 @@ public class RaftServiceContext implements ServiceContext {
       session.setLastUpdated(sessionTimestamp);
       session.open();
       service.register(sessions.addSession(session));
+      sessionIds.add(sessionId);
     }
-    service.restore(new DefaultBackupInput(reader, service.serializer()));
+    return sessionIds;
+  }
+
+  /**
+   * Returns whether a delta of the service state can be taken relative to the snapshot at the given index.
+   * <p>
+   * A delta can only be taken if the service supports incremental backups and the service state was last
+   * snapshotted or installed at the given index.
+   *
+   * @param previousIndex the index of the snapshot on which the delta would be based
+   * @return whether a delta of the service state can be taken
+   */
+  public boolean canTakeDelta(long previousIndex) {
+    return service instanceof IncrementalBackup && snapshotIndex == previousIndex;
   }
 
   /**
@@ -291,7 +347,48 @@ public class RaftServiceContext implements ServiceContext {
    */
   public void takeSnapshot(SnapshotWriter writer) {
     log.debug("Taking snapshot {}", writer.snapshot().index());
+    takeSessions(writer);
+    service.backup(new DefaultBackupOutput(writer, service.serializer()));
+    snapshotIndex = writer.snapshot().index();
+  }
+
+  /**
+   * Captures a snapshot of the service state to be written concurrently with the application of operations.
+   * <p>
+   * The service clock and sessions are written to the given writer immediately. If the service supports concurrent
+   * backups, a view of the service state is captured and the returned task writes it to the given writer. Otherwise,
+   * the service state is written immediately and the returned task does nothing.
+   *
+   * @param writer the writer to which to write the snapshot
+   * @return a task that completes the snapshot and can be run on any thread
+   */
+  public Runnable captureSnapshot(SnapshotWriter writer) {
+    log.debug("Capturing snapshot {}", writer.snapshot().index());
+    takeSessions(writer);
+    snapshotIndex = writer.snapshot().index();
+    if (service instanceof ConcurrentBackup) {
+      Consumer<BackupOutput> backup = ((ConcurrentBackup) service).captureBackup();
+      return () -> backup.accept(new DefaultBackupOutput(writer, service.serializer()));
+    }
+    service.backup(new DefaultBackupOutput(writer, service.serializer()));
+    return () -> {
+    };
+  }
 
+  /**
+   * Takes a delta snapshot of the service state changed since the last snapshot.
+   */
+  public void takeDelta(SnapshotWriter writer) {
+    log.debug("Taking delta snapshot {}", writer.snapshot().index());
+    takeSessions(writer);
+    ((IncrementalBackup) service).backupDelta(new DefaultBackupOutput(writer, service.serializer()));
+    snapshotIndex = writer.snapshot().index();
+  }
+
+  /**
+   * Writes the service clock and sessions to the given snapshot.
+   */
+  private void takeSessions(SnapshotWriter writer) {
     // Serialize sessions to the in-memory snapshot and request a snapshot from the state machine.
     writer.writeLong(primitiveId.id());
     writer.writeString(primitiveType.name());
@@ -313,7 +410,6 @@ public class RaftServiceContext implements ServiceContext {
       writer.writeLong(session.getEventIndex());
       writer.writeLong(session.getLastCompleted());
     }
-    service.backup(new DefaultBackupOutput(writer, service.serializer()));
   }
 
   /**
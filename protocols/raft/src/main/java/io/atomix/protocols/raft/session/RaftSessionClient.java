@@ -41,6 +41,8 @@ public interface RaftSessionClient extends SessionClient {
     protected Recovery recoveryStrategy = Recovery.RECOVER;
     protected int maxRetries = 0;
     protected Duration retryDelay = Duration.ofMillis(100);
+    protected int maxCommandBatchSize = 1;
+    protected Duration commandBatchWindow = Duration.ofMillis(1);
 
     /**
      * Sets the minimum session timeout.
@@ -142,5 +144,33 @@ public interface RaftSessionClient extends SessionClient {
       this.retryDelay = checkNotNull(retryDelay, "retryDelay cannot be null");
       return this;
     }
+
+    /**
+     * Sets the maximum number of concurrent commands to coalesce into a single request.
+     * <p>
+     * When the maximum batch size is greater than {@code 1}, commands submitted concurrently by the session
+     * are sent to the leader in batches, and the leader appends the commands in a batch together. A batch
+     * size of {@code 1} disables batching.
+     *
+     * @param maxCommandBatchSize the maximum number of commands to send in a single request
+     * @return the proxy builder
+     */
+    public Builder withMaxCommandBatchSize(int maxCommandBatchSize) {
+      checkArgument(maxCommandBatchSize > 0, "maxCommandBatchSize must be positive");
+      this.maxCommandBatchSize = maxCommandBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which to wait for concurrent commands to fill a batch.
+     *
+     * @param commandBatchWindow the maximum amount of time to wait before sending a partial batch
+     * @return the proxy builder
+     * @throws NullPointerException if the window is null
+     */
+    public Builder withCommandBatchWindow(Duration commandBatchWindow) {
+      this.commandBatchWindow = checkNotNull(commandBatchWindow, "commandBatchWindow cannot be null");
+      return this;
+    }
   }
 }
@@ -19,6 +19,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.protocols.raft.RaftError;
 import io.atomix.protocols.raft.protocol.CloseSessionRequest;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.KeepAliveRequest;
@@ -192,6 +194,22 @@ public class RaftSessionConnection {
     return future;
   }
 
+  /**
+   * Sends a command batch request to the given node.
+   *
+   * @param request the request to send
+   * @return a future to be completed with the response
+   */
+  public CompletableFuture<CommandBatchResponse> commandBatch(CommandBatchRequest request) {
+    CompletableFuture<CommandBatchResponse> future = new CompletableFuture<>();
+    if (context.isCurrentContext()) {
+      sendRequest(request, protocol::commandBatch, future);
+    } else {
+      context.execute(() -> sendRequest(request, protocol::commandBatch, future));
+    }
+    return future;
+  }
+
   /**
    * Sends a metadata request to the given node.
    *
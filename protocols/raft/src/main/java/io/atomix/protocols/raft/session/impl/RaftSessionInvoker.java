@@ -22,6 +22,8 @@ import io.atomix.primitive.PrimitiveState;
 import io.atomix.primitive.operation.PrimitiveOperation;
 import io.atomix.protocols.raft.RaftError;
 import io.atomix.protocols.raft.RaftException;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.OperationRequest;
@@ -29,12 +31,14 @@ import io.atomix.protocols.raft.protocol.OperationResponse;
 import io.atomix.protocols.raft.protocol.QueryRequest;
 import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftResponse;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.concurrent.ThreadContext;
 import java.net.ConnectException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -42,6 +46,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Session operation submitter.
@@ -67,6 +72,10 @@ final class RaftSessionInvoker {
   private final ThreadContext context;
   private final Map<Long, OperationAttempt> attempts = new LinkedHashMap<>();
   private final AtomicLong keepAliveIndex = new AtomicLong();
+  private final int maxCommandBatchSize;
+  private final Duration commandBatchWindow;
+  private final List<CommandAttempt> commandBatch = new ArrayList<>();
+  private Scheduled commandBatchTimer;
 
   RaftSessionInvoker(
       RaftSessionConnection leaderConnection,
@@ -75,12 +84,26 @@ final class RaftSessionInvoker {
       RaftSessionSequencer sequencer,
       RaftSessionManager manager,
       ThreadContext context) {
+    this(leaderConnection, sessionConnection, state, sequencer, manager, context, 1, Duration.ZERO);
+  }
+
+  RaftSessionInvoker(
+      RaftSessionConnection leaderConnection,
+      RaftSessionConnection sessionConnection,
+      RaftSessionState state,
+      RaftSessionSequencer sequencer,
+      RaftSessionManager manager,
+      ThreadContext context,
+      int maxCommandBatchSize,
+      Duration commandBatchWindow) {
     this.leaderConnection = checkNotNull(leaderConnection, "leaderConnection");
     this.sessionConnection = checkNotNull(sessionConnection, "sessionConnection");
     this.state = checkNotNull(state, "state");
     this.sequencer = checkNotNull(sequencer, "sequencer");
     this.manager = checkNotNull(manager, "manager");
     this.context = checkNotNull(context, "context cannot be null");
+    this.maxCommandBatchSize = maxCommandBatchSize;
+    this.commandBatchWindow = checkNotNull(commandBatchWindow, "commandBatchWindow cannot be null");
   }
 
   /**
@@ -158,6 +181,68 @@ final class RaftSessionInvoker {
     }
   }
 
+  /**
+   * Adds a command attempt to the pending command batch.
+   * <p>
+   * The batch is flushed to the leader once it reaches the maximum batch size or once the batch window
+   * has elapsed since the first command was added to the batch, whichever comes first.
+   */
+  private void batch(CommandAttempt attempt) {
+    commandBatch.add(attempt);
+    if (commandBatch.size() >= maxCommandBatchSize) {
+      flushCommandBatch();
+    } else if (commandBatchTimer == null) {
+      commandBatchTimer = context.schedule(commandBatchWindow, this::flushCommandBatch);
+    }
+  }
+
+  /**
+   * Sends the pending command batch to the leader.
+   * <p>
+   * Commands are sent in the order in which they were attempted, and the leader handles the commands in a
+   * batch in order, so batching does not affect command sequencing. Each response in the batch response is
+   * handled by its attempt exactly as if the command had been sent individually.
+   */
+  private void flushCommandBatch() {
+    if (commandBatchTimer != null) {
+      commandBatchTimer.cancel();
+      commandBatchTimer = null;
+    }
+
+    if (commandBatch.isEmpty()) {
+      return;
+    }
+
+    List<CommandAttempt> pending = new ArrayList<>(commandBatch);
+    commandBatch.clear();
+
+    if (pending.size() == 1) {
+      CommandAttempt attempt = pending.get(0);
+      leaderConnection.command(attempt.request).whenCompleteAsync(attempt, context);
+      return;
+    }
+
+    CommandBatchRequest request = CommandBatchRequest.builder()
+        .withSession(state.getSessionId().id())
+        .withCommands(pending.stream().map(attempt -> attempt.request).collect(Collectors.toList()))
+        .build();
+    leaderConnection.commandBatch(request).whenCompleteAsync((response, error) -> {
+      if (error != null) {
+        pending.forEach(attempt -> attempt.accept(null, error));
+      } else if (response.status() == RaftResponse.Status.OK && response.responses().size() == pending.size()) {
+        for (int i = 0; i < pending.size(); i++) {
+          pending.get(i).accept(response.responses().get(i), null);
+        }
+      } else {
+        CommandResponse failure = CommandResponse.builder()
+            .withStatus(RaftResponse.Status.ERROR)
+            .withError(response.error() != null ? response.error() : new RaftError(RaftError.Type.PROTOCOL_ERROR, null))
+            .build();
+        pending.forEach(attempt -> attempt.accept(failure, null));
+      }
+    }, context);
+  }
+
   /**
    * Resubmits commands starting after the given sequence number.
    * <p>
@@ -211,6 +296,11 @@ final class RaftSessionInvoker {
    * @return A completable future to be completed with a list of pending operations.
    */
   public CompletableFuture<Void> close() {
+    if (commandBatchTimer != null) {
+      commandBatchTimer.cancel();
+      commandBatchTimer = null;
+    }
+    commandBatch.clear();
     for (OperationAttempt attempt : new ArrayList<>(attempts.values())) {
       attempt.fail(new PrimitiveException.ClosedSession("session closed"));
     }
@@ -339,7 +429,11 @@ final class RaftSessionInvoker {
 
     @Override
     protected void send() {
-      leaderConnection.command(request).whenCompleteAsync(this, context);
+      if (maxCommandBatchSize > 1) {
+        batch(this);
+      } else {
+        leaderConnection.command(request).whenCompleteAsync(this, context);
+      }
     }
 
     @Override
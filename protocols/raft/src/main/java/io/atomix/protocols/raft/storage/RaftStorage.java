@@ -25,6 +25,7 @@ import io.atomix.storage.StorageLevel;
 import io.atomix.storage.buffer.FileBuffer;
 import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.atomix.storage.journal.JournalSegmentFile;
+import io.atomix.storage.journal.SharedJournal;
 import io.atomix.storage.statistics.StorageStatistics;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Serializer;
@@ -32,6 +33,7 @@ import io.atomix.utils.serializer.Serializer;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -77,7 +79,15 @@ public class RaftStorage {
   private final double freeDiskBuffer;
   private final double freeMemoryBuffer;
   private final boolean flushOnCommit;
+  private final boolean groupCommit;
+  private final Duration groupCommitInterval;
+  private final int groupCommitBytes;
   private final boolean retainStaleSnapshots;
+  private final boolean incrementalSnapshots;
+  private final int maxSnapshotDeltas;
+  private final boolean parallelSnapshots;
+  private final int snapshotThreads;
+  private final SharedJournal sharedJournal;
   private final StorageStatistics statistics;
 
   private RaftStorage(
@@ -92,7 +102,15 @@ public class RaftStorage {
       double freeDiskBuffer,
       double freeMemoryBuffer,
       boolean flushOnCommit,
-      boolean retainStaleSnapshots) {
+      boolean groupCommit,
+      Duration groupCommitInterval,
+      int groupCommitBytes,
+      boolean retainStaleSnapshots,
+      boolean incrementalSnapshots,
+      int maxSnapshotDeltas,
+      boolean parallelSnapshots,
+      int snapshotThreads,
+      SharedJournal sharedJournal) {
     this.prefix = prefix;
     this.storageLevel = storageLevel;
     this.directory = directory;
@@ -104,7 +122,15 @@ public class RaftStorage {
     this.freeDiskBuffer = freeDiskBuffer;
     this.freeMemoryBuffer = freeMemoryBuffer;
     this.flushOnCommit = flushOnCommit;
+    this.groupCommit = groupCommit;
+    this.groupCommitInterval = groupCommitInterval;
+    this.groupCommitBytes = groupCommitBytes;
     this.retainStaleSnapshots = retainStaleSnapshots;
+    this.incrementalSnapshots = incrementalSnapshots;
+    this.maxSnapshotDeltas = maxSnapshotDeltas;
+    this.parallelSnapshots = parallelSnapshots;
+    this.snapshotThreads = snapshotThreads;
+    this.sharedJournal = sharedJournal;
     this.statistics = new StorageStatistics(directory);
     directory.mkdirs();
   }
@@ -213,6 +239,33 @@ public class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns whether flushes for committed entries are coalesced into group commits.
+   *
+   * @return Whether group commit is enabled.
+   */
+  public boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Returns the maximum amount of time for which a group commit may be delayed.
+   *
+   * @return The group commit interval.
+   */
+  public Duration groupCommitInterval() {
+    return groupCommitInterval;
+  }
+
+  /**
+   * Returns the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @return The group commit byte threshold.
+   */
+  public int groupCommitBytes() {
+    return groupCommitBytes;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    * <p>
@@ -226,6 +279,60 @@ public class RaftStorage {
     return retainStaleSnapshots;
   }
 
+  /**
+   * Returns a boolean value indicating whether incremental snapshots are enabled.
+   * <p>
+   * When incremental snapshots are enabled, services that support delta backups write only the state that changed
+   * since the prior snapshot, and the resulting snapshot is chained to the prior snapshot.
+   *
+   * @return Indicates whether incremental snapshots are enabled.
+   */
+  public boolean isIncrementalSnapshots() {
+    return incrementalSnapshots;
+  }
+
+  /**
+   * Returns the maximum number of delta snapshots to chain to a full snapshot.
+   * <p>
+   * Once a snapshot chain reaches this length, the next snapshot is written in full to bound the cost of installing
+   * the chain.
+   *
+   * @return The maximum number of delta snapshots in a snapshot chain.
+   */
+  public int maxSnapshotDeltas() {
+    return maxSnapshotDeltas;
+  }
+
+  /**
+   * Returns a boolean value indicating whether services are snapshotted in parallel.
+   * <p>
+   * When parallel snapshots are enabled, the state of each service is captured on the state machine thread and
+   * serialized on a separate thread pool, allowing operations to be applied while the snapshot is written.
+   *
+   * @return Indicates whether services are snapshotted in parallel.
+   */
+  public boolean isParallelSnapshots() {
+    return parallelSnapshots;
+  }
+
+  /**
+   * Returns the number of threads with which to serialize service snapshots in parallel.
+   *
+   * @return The number of snapshot threads.
+   */
+  public int snapshotThreads() {
+    return snapshotThreads;
+  }
+
+  /**
+   * Returns the shared journal to which the log is written.
+   *
+   * @return The shared journal, or {@code null} if the log is written to its own segments.
+   */
+  public SharedJournal sharedJournal() {
+    return sharedJournal;
+  }
+
   /**
    * Returns the Raft storage statistics.
    *
@@ -333,17 +440,25 @@ public class RaftStorage {
         .withMaxEntrySize(maxEntrySize)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
         .withFlushOnCommit(flushOnCommit)
+        .withGroupCommit(groupCommit)
+        .withGroupCommitInterval(groupCommitInterval)
+        .withGroupCommitBytes(groupCommitBytes)
+        .withSharedJournal(sharedJournal)
         .build();
   }
 
   /**
    * Deletes a {@link RaftLog} from disk.
    * <p>
-   * The log will be deleted by simply reading {@code log} file names from disk and deleting log files directly.
-   * Deleting log files does not involve rebuilding indexes or reading any logs into memory.
+   * The log will be deleted by simply reading {@code log} and {@code index} file names from disk and deleting log files
+   * directly. Deleting log files does not involve rebuilding indexes or reading any logs into memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    if (sharedJournal != null) {
+      sharedJournal.deletePartition(prefix);
+    } else {
+      deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f) || JournalSegmentFile.isIndexFile(prefix, f));
+    }
   }
 
   /**
@@ -395,7 +510,14 @@ public class RaftStorage {
     private static final double DEFAULT_FREE_DISK_BUFFER = .2;
     private static final double DEFAULT_FREE_MEMORY_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final boolean DEFAULT_GROUP_COMMIT = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+    private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
+    private static final boolean DEFAULT_INCREMENTAL_SNAPSHOTS = false;
+    private static final int DEFAULT_MAX_SNAPSHOT_DELTAS = 10;
+    private static final boolean DEFAULT_PARALLEL_SNAPSHOTS = false;
+    private static final int DEFAULT_SNAPSHOT_THREADS = Math.max(Math.min(Runtime.getRuntime().availableProcessors() / 2, 4), 1);
 
     private String prefix = DEFAULT_PREFIX;
     private StorageLevel storageLevel = StorageLevel.DISK;
@@ -408,7 +530,15 @@ public class RaftStorage {
     private double freeDiskBuffer = DEFAULT_FREE_DISK_BUFFER;
     private double freeMemoryBuffer = DEFAULT_FREE_MEMORY_BUFFER;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+    private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+    private int groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
+    private boolean incrementalSnapshots = DEFAULT_INCREMENTAL_SNAPSHOTS;
+    private int maxSnapshotDeltas = DEFAULT_MAX_SNAPSHOT_DELTAS;
+    private boolean parallelSnapshots = DEFAULT_PARALLEL_SNAPSHOTS;
+    private int snapshotThreads = DEFAULT_SNAPSHOT_THREADS;
+    private SharedJournal sharedJournal;
 
     private Builder() {
     }
@@ -615,6 +745,63 @@ public class RaftStorage {
       return this;
     }
 
+    /**
+     * Enables group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, committed entries are flushed to disk before commits are completed, but
+     * flushes for many commits are coalesced into a single flush which occurs once either the group commit
+     * interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to enable group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, committed entries are flushed to disk before commits are completed, but
+     * flushes for many commits are coalesced into a single flush which occurs once either the group commit
+     * interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @param groupCommit Whether to coalesce flushes for committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      this.groupCommit = groupCommit;
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which a group commit may be delayed, returning the builder for method
+     * chaining.
+     *
+     * @param groupCommitInterval The maximum amount of time for which to delay flushing committed entries.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    public Builder withGroupCommitInterval(Duration groupCommitInterval) {
+      checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+      checkArgument(!groupCommitInterval.isNegative(), "groupCommitInterval must be positive");
+      this.groupCommitInterval = groupCommitInterval;
+      return this;
+    }
+
+    /**
+     * Sets the number of unflushed bytes after which a group commit is flushed immediately, returning the builder
+     * for method chaining.
+     *
+     * @param groupCommitBytes The number of unflushed bytes after which to flush committed entries.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the number of bytes is not positive
+     */
+    public Builder withGroupCommitBytes(int groupCommitBytes) {
+      checkArgument(groupCommitBytes > 0, "groupCommitBytes must be positive");
+      this.groupCommitBytes = groupCommitBytes;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      * <p>
@@ -647,6 +834,100 @@ public class RaftStorage {
       return this;
     }
 
+    /**
+     * Enables incremental snapshots, returning the builder for method chaining.
+     *
+     * @return The storage builder.
+     */
+    public Builder withIncrementalSnapshots() {
+      return withIncrementalSnapshots(true);
+    }
+
+    /**
+     * Sets whether to take incremental snapshots, returning the builder for method chaining.
+     * <p>
+     * When incremental snapshots are enabled, services that support delta backups write only the state that changed
+     * since the prior snapshot. Delta snapshots are chained to the full snapshot on which they're based, and the
+     * chain is merged when the snapshot is installed. Incremental snapshots are disabled by default.
+     *
+     * @param incrementalSnapshots Whether to take incremental snapshots.
+     * @return The storage builder.
+     */
+    public Builder withIncrementalSnapshots(boolean incrementalSnapshots) {
+      this.incrementalSnapshots = incrementalSnapshots;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of delta snapshots to chain to a full snapshot, returning the builder for method
+     * chaining.
+     * <p>
+     * Once a snapshot chain reaches the given length, the next snapshot is written in full. Defaults to {@code 10}.
+     *
+     * @param maxSnapshotDeltas The maximum number of delta snapshots in a snapshot chain.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if {@code maxSnapshotDeltas} is not positive
+     */
+    public Builder withMaxSnapshotDeltas(int maxSnapshotDeltas) {
+      checkArgument(maxSnapshotDeltas > 0, "maxSnapshotDeltas must be positive");
+      this.maxSnapshotDeltas = maxSnapshotDeltas;
+      return this;
+    }
+
+    /**
+     * Enables parallel snapshots, returning the builder for method chaining.
+     *
+     * @return The storage builder.
+     */
+    public Builder withParallelSnapshots() {
+      return withParallelSnapshots(true);
+    }
+
+    /**
+     * Sets whether to snapshot services in parallel, returning the builder for method chaining.
+     * <p>
+     * By default, services are serialized one at a time on the state machine thread, and operations cannot be
+     * applied until the snapshot has been written. When parallel snapshots are enabled, only the session state and a
+     * frozen view of each service's state are captured on the state machine thread, and services are serialized on a
+     * separate thread pool. Services that don't support concurrent backups are still serialized on the state machine
+     * thread.
+     *
+     * @param parallelSnapshots Whether to snapshot services in parallel.
+     * @return The storage builder.
+     */
+    public Builder withParallelSnapshots(boolean parallelSnapshots) {
+      this.parallelSnapshots = parallelSnapshots;
+      return this;
+    }
+
+    /**
+     * Sets the number of threads with which to serialize service snapshots in parallel, returning the builder for
+     * method chaining.
+     *
+     * @param snapshotThreads The number of snapshot threads.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if {@code snapshotThreads} is not positive
+     */
+    public Builder withSnapshotThreads(int snapshotThreads) {
+      checkArgument(snapshotThreads > 0, "snapshotThreads must be positive");
+      this.snapshotThreads = snapshotThreads;
+      return this;
+    }
+
+    /**
+     * Sets a journal shared with other logs to which to write the log, returning the builder for method chaining.
+     * <p>
+     * When a shared journal is configured, the log is stored as a partition of the shared journal named by the
+     * storage prefix rather than in its own segment files, and the shared journal's flush settings apply.
+     *
+     * @param sharedJournal The shared journal to which to write the log.
+     * @return The storage builder.
+     */
+    public Builder withSharedJournal(SharedJournal sharedJournal) {
+      this.sharedJournal = sharedJournal;
+      return this;
+    }
+
     /**
      * Builds the {@link RaftStorage} object.
      *
@@ -666,7 +947,15 @@ public class RaftStorage {
           freeDiskBuffer,
           freeMemoryBuffer,
           flushOnCommit,
-          retainStaleSnapshots);
+          groupCommit,
+          groupCommitInterval,
+          groupCommitBytes,
+          retainStaleSnapshots,
+          incrementalSnapshots,
+          maxSnapshotDeltas,
+          parallelSnapshots,
+          snapshotThreads,
+          sharedJournal);
     }
   }
 
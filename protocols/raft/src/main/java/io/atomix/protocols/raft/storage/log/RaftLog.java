@@ -16,12 +16,17 @@
 package io.atomix.protocols.raft.storage.log;
 
 import io.atomix.protocols.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.storage.StorageException;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.CompactableJournal;
 import io.atomix.storage.journal.DelegatingJournal;
+import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.storage.journal.SharedJournal;
 import io.atomix.utils.serializer.Namespace;
 
 import java.io.File;
+import java.time.Duration;
 
 /**
  * Raft log.
@@ -37,12 +42,12 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     return new Builder();
   }
 
-  private final SegmentedJournal<RaftLogEntry> journal;
+  private final CompactableJournal<RaftLogEntry> journal;
   private final boolean flushOnCommit;
   private final RaftLogWriter writer;
   private volatile long commitIndex;
 
-  protected RaftLog(SegmentedJournal<RaftLogEntry> journal, boolean flushOnCommit) {
+  protected RaftLog(CompactableJournal<RaftLogEntry> journal, boolean flushOnCommit) {
     super(journal);
     this.journal = journal;
     this.flushOnCommit = flushOnCommit;
@@ -127,9 +132,15 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
    */
   public static class Builder implements io.atomix.utils.Builder<RaftLog> {
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+    private static final String DEFAULT_NAME = "atomix";
+    private static final String DEFAULT_DIRECTORY = System.getProperty("user.dir");
 
     private final SegmentedJournal.Builder<RaftLogEntry> journalBuilder = SegmentedJournal.builder();
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private String name = DEFAULT_NAME;
+    private File directory = new File(DEFAULT_DIRECTORY);
+    private Namespace namespace;
+    private SharedJournal sharedJournal;
 
     protected Builder() {
     }
@@ -141,6 +152,7 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
      * @return The storage builder.
      */
     public Builder withName(String name) {
+      this.name = name;
       journalBuilder.withName(name);
       return this;
     }
@@ -169,6 +181,7 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
      */
     public Builder withDirectory(String directory) {
       journalBuilder.withDirectory(directory);
+      this.directory = new File(directory);
       return this;
     }
 
@@ -183,6 +196,7 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
      */
     public Builder withDirectory(File directory) {
       journalBuilder.withDirectory(directory);
+      this.directory = directory;
       return this;
     }
 
@@ -193,6 +207,7 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
      * @return The journal builder.
      */
     public Builder withNamespace(Namespace namespace) {
+      this.namespace = namespace;
       journalBuilder.withNamespace(namespace);
       return this;
     }
@@ -303,9 +318,98 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Enables group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, flushes for many committed entries are coalesced into a single flush which
+     * occurs once either the group commit interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to enable group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, flushes for many committed entries are coalesced into a single flush which
+     * occurs once either the group commit interval has elapsed or the group commit byte threshold has been reached.
+     *
+     * @param groupCommit Whether to coalesce flushes for committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      journalBuilder.withGroupCommit(groupCommit);
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which a group commit may be delayed, returning the builder for method
+     * chaining.
+     *
+     * @param groupCommitInterval The maximum amount of time for which to delay flushing committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitInterval(Duration groupCommitInterval) {
+      journalBuilder.withGroupCommitInterval(groupCommitInterval);
+      return this;
+    }
+
+    /**
+     * Sets the number of unflushed bytes after which a group commit is flushed immediately, returning the builder
+     * for method chaining.
+     *
+     * @param groupCommitBytes The number of unflushed bytes after which to flush committed entries.
+     * @return The storage builder.
+     */
+    public Builder withGroupCommitBytes(int groupCommitBytes) {
+      journalBuilder.withGroupCommitBytes(groupCommitBytes);
+      return this;
+    }
+
+    /**
+     * Sets a journal shared with other logs to which to write the log, returning the builder for method chaining.
+     * <p>
+     * When a shared journal is configured, the log is opened as a partition of the shared journal identified by the
+     * log name, and the storage level, segment and flush settings of this builder are ignored in favor of those of
+     * the shared journal. Existing log segments are not migrated to the shared journal, so a log with segments in
+     * the log directory cannot be opened on a shared journal.
+     *
+     * @param sharedJournal The shared journal to which to write the log, or {@code null} to write to log segments.
+     * @return The storage builder.
+     */
+    public Builder withSharedJournal(SharedJournal sharedJournal) {
+      this.sharedJournal = sharedJournal;
+      return this;
+    }
+
     @Override
     public RaftLog build() {
+      if (sharedJournal != null) {
+        checkNoSegments();
+        return new RaftLog(sharedJournal.openPartition(name, namespace), flushOnCommit);
+      }
       return new RaftLog(journalBuilder.build(), flushOnCommit);
     }
+
+    /**
+     * Verifies that no segments were written to the log directory before the shared journal was enabled.
+     * <p>
+     * Opening the log on the shared journal would otherwise ignore the entries in the existing segments while the
+     * log's metadata and snapshots are retained, losing entries that have already been acknowledged.
+     *
+     * @throws StorageException if segments exist for the log
+     */
+    private void checkNoSegments() {
+      File[] segments = directory.listFiles(file -> file.isFile()
+          && JournalSegmentFile.isSegmentFile(name, file)
+          && file.getName().lastIndexOf('-') == name.length());
+      if (segments != null && segments.length > 0) {
+        throw new StorageException("Cannot open log " + name + " on a shared journal: found "
+            + segments.length + " existing log segments in " + directory + ". Disable the shared journal or remove "
+            + "the partition's data to have it recovered from other members");
+      }
+    }
   }
 }
@@ -15,15 +15,30 @@
  */
 package io.atomix.protocols.raft.storage.log;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.atomix.protocols.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.storage.journal.DelegatingJournalWriter;
-import io.atomix.storage.journal.SegmentedJournalWriter;
+import io.atomix.storage.journal.JournalWriter;
 
 /**
  * Raft log writer.
  */
 public class RaftLogWriter extends DelegatingJournalWriter<RaftLogEntry> {
-  public RaftLogWriter(SegmentedJournalWriter<RaftLogEntry> writer, RaftLog log) {
+  private final JournalWriter<RaftLogEntry> writer;
+
+  public RaftLogWriter(JournalWriter<RaftLogEntry> writer, RaftLog log) {
     super(writer);
+    this.writer = writer;
+  }
+
+  /**
+   * Commits entries up to the given index, returning a future to be completed once the entries have been flushed.
+   *
+   * @param index The index up to which to commit entries.
+   * @return a future to be completed once the committed entries have been flushed
+   */
+  public CompletableFuture<Long> commitAsync(long index) {
+    return writer.commitAsync(index);
   }
 }
@@ -75,6 +75,18 @@ public abstract class Snapshot implements AutoCloseable {
     return descriptor.index();
   }
 
+  /**
+   * Returns the index of the snapshot on which this snapshot is based.
+   * <p>
+   * Full snapshots have a previous index of {@code 0}. A delta snapshot stores only the state that changed since the
+   * previous snapshot and must be installed on top of it.
+   *
+   * @return The previous snapshot index or {@code 0} if this is a full snapshot.
+   */
+  public long previousIndex() {
+    return descriptor.previousIndex();
+  }
+
   /**
    * Returns the snapshot timestamp.
    * <p>
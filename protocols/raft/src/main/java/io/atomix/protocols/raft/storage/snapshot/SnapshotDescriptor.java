@@ -31,6 +31,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public final class SnapshotDescriptor implements AutoCloseable {
   public static final int BYTES = 64;
   public static final int VERSION = 1;
+  private static final int PREVIOUS_INDEX_OFFSET = 24;
 
   /**
    * Returns a descriptor builder.
@@ -57,6 +58,7 @@ public final class SnapshotDescriptor implements AutoCloseable {
   private Buffer buffer;
   private final long index;
   private final long timestamp;
+  private final long previousIndex;
   private boolean locked;
   private int version;
 
@@ -69,6 +71,7 @@ public final class SnapshotDescriptor implements AutoCloseable {
     this.timestamp = buffer.readLong();
     this.version = buffer.readInt();
     this.locked = buffer.readBoolean();
+    this.previousIndex = buffer.readLong(PREVIOUS_INDEX_OFFSET);
     buffer.skip(BYTES - buffer.position());
   }
 
@@ -90,6 +93,18 @@ public final class SnapshotDescriptor implements AutoCloseable {
     return timestamp;
   }
 
+  /**
+   * Returns the index of the snapshot on which this snapshot is based.
+   * <p>
+   * Full snapshots have a previous index of {@code 0}. Delta snapshots store only the state that changed since the
+   * snapshot at the previous index and must be installed on top of it.
+   *
+   * @return The previous snapshot index or {@code 0} if this is a full snapshot.
+   */
+  public long previousIndex() {
+    return previousIndex;
+  }
+
   /**
    * Returns the snapshot version number.
    *
@@ -129,6 +144,7 @@ public final class SnapshotDescriptor implements AutoCloseable {
         .writeLong(timestamp)
         .writeInt(version)
         .writeBoolean(locked)
+        .writeLong(PREVIOUS_INDEX_OFFSET, previousIndex)
         .skip(BYTES - buffer.position())
         .flush();
     return this;
@@ -180,6 +196,17 @@ public final class SnapshotDescriptor implements AutoCloseable {
       return this;
     }
 
+    /**
+     * Sets the index of the snapshot on which the snapshot is based.
+     *
+     * @param previousIndex The previous snapshot index or {@code 0} for a full snapshot.
+     * @return The snapshot builder.
+     */
+    public Builder withPreviousIndex(long previousIndex) {
+      buffer.writeLong(PREVIOUS_INDEX_OFFSET, previousIndex);
+      return this;
+    }
+
     /**
      * Builds the snapshot descriptor.
      *
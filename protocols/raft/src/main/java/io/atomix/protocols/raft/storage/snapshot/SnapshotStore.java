@@ -26,12 +26,17 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Persists server snapshots via the {@link RaftStorage} module.
@@ -68,6 +73,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Snapshots don't necessarily represent the beginning of the log. Typical Raft implementations take a
  * snapshot of the state machine state and then clear their logs up to that point. However, in Raft
  * a snapshot may actually only represent a subset of the state machine's state.
+ * <p>
+ * A snapshot may also be a delta of the {@link Snapshot#previousIndex() previous} snapshot, in which case the full
+ * state is recovered by installing each snapshot in the {@link #getSnapshotChain(Snapshot) chain} in order. All the
+ * snapshots in the chain of the current snapshot are retained until a new full snapshot is completed.
+ * <p>
+ * When a snapshot newer than the current snapshot is completed, the links of the prior snapshot's chain that are not
+ * in the chain of the new snapshot are deleted. Unless {@link RaftStorage#isRetainStaleSnapshots() stale snapshots}
+ * are retained, all other snapshots that are not in the chain of the new snapshot are deleted as well.
  */
 public class SnapshotStore implements AutoCloseable {
   private final Logger log = LoggerFactory.getLogger(getClass());
@@ -108,6 +121,29 @@ public class SnapshotStore implements AutoCloseable {
     return snapshots.get(index);
   }
 
+  /**
+   * Returns the chain of snapshots required to install the given snapshot.
+   * <p>
+   * The chain begins with the full snapshot on which the given snapshot is based and ends with the given snapshot.
+   * If the given snapshot is a full snapshot, the chain contains only the given snapshot.
+   *
+   * @param snapshot the snapshot for which to return the chain
+   * @return the chain of snapshots ordered from the full snapshot to the given snapshot
+   * @throws IllegalStateException if a snapshot in the chain is missing
+   */
+  public List<Snapshot> getSnapshotChain(Snapshot snapshot) {
+    LinkedList<Snapshot> chain = new LinkedList<>();
+    Snapshot link = checkNotNull(snapshot, "snapshot cannot be null");
+    chain.addFirst(link);
+    while (link.previousIndex() > 0) {
+      long previousIndex = link.previousIndex();
+      link = snapshots.get(previousIndex);
+      checkState(link != null, "missing snapshot %s in chain of snapshot %s", previousIndex, snapshot.index());
+      chain.addFirst(link);
+    }
+    return chain;
+  }
+
   /**
    * Loads all available snapshots from disk.
    *
@@ -143,6 +179,8 @@ public class SnapshotStore implements AutoCloseable {
       }
     }
 
+    // Sort snapshots by index to ensure delta snapshots are completed after the snapshots on which they're based.
+    snapshots.sort(Comparator.comparingLong(Snapshot::index));
     return snapshots;
   }
 
@@ -154,8 +192,21 @@ public class SnapshotStore implements AutoCloseable {
    * @return The snapshot.
    */
   public Snapshot newTemporarySnapshot(long index, WallClockTimestamp timestamp) {
+    return newTemporarySnapshot(index, 0, timestamp);
+  }
+
+  /**
+   * Creates a temporary in-memory delta snapshot.
+   *
+   * @param index         The snapshot index.
+   * @param previousIndex The index of the snapshot on which the snapshot is based or {@code 0} for a full snapshot.
+   * @param timestamp     The snapshot timestamp.
+   * @return The snapshot.
+   */
+  public Snapshot newTemporarySnapshot(long index, long previousIndex, WallClockTimestamp timestamp) {
     SnapshotDescriptor descriptor = SnapshotDescriptor.builder()
         .withIndex(index)
+        .withPreviousIndex(previousIndex)
         .withTimestamp(timestamp.unixTimestamp())
         .build();
     return newSnapshot(descriptor, StorageLevel.MEMORY);
@@ -169,8 +220,21 @@ public class SnapshotStore implements AutoCloseable {
    * @return The snapshot.
    */
   public Snapshot newSnapshot(long index, WallClockTimestamp timestamp) {
+    return newSnapshot(index, 0, timestamp);
+  }
+
+  /**
+   * Creates a new delta snapshot.
+   *
+   * @param index         The snapshot index.
+   * @param previousIndex The index of the snapshot on which the snapshot is based or {@code 0} for a full snapshot.
+   * @param timestamp     The snapshot timestamp.
+   * @return The snapshot.
+   */
+  public Snapshot newSnapshot(long index, long previousIndex, WallClockTimestamp timestamp) {
     SnapshotDescriptor descriptor = SnapshotDescriptor.builder()
         .withIndex(index)
+        .withPreviousIndex(previousIndex)
         .withTimestamp(timestamp.unixTimestamp())
         .build();
     return newSnapshot(descriptor, storage.storageLevel());
@@ -217,14 +281,25 @@ public class SnapshotStore implements AutoCloseable {
   protected synchronized void completeSnapshot(Snapshot snapshot) {
     checkNotNull(snapshot, "snapshot cannot be null");
 
+    // A delta snapshot can only be installed if the snapshot on which it's based is still available.
+    if (snapshot.previousIndex() > 0 && !snapshots.containsKey(snapshot.previousIndex())) {
+      log.debug("Discarding delta snapshot {}: missing snapshot {}", snapshot.index(), snapshot.previousIndex());
+      snapshot.close();
+      snapshot.delete();
+      return;
+    }
+
     Map.Entry<Long, Snapshot> lastEntry = snapshots.lastEntry();
     if (lastEntry == null) {
       snapshots.put(snapshot.index(), snapshot);
     } else if (lastEntry.getValue().index() < snapshot.index()) {
-      snapshots.put(snapshot.index(), snapshot);
       Snapshot lastSnapshot = lastEntry.getValue();
-      lastSnapshot.close();
-      lastSnapshot.delete();
+      snapshots.put(snapshot.index(), snapshot);
+      if (storage.isRetainStaleSnapshots()) {
+        deleteStaleSnapshots(getSnapshotChain(lastSnapshot), snapshot);
+      } else {
+        deleteStaleSnapshots(new ArrayList<>(snapshots.values()), snapshot);
+      }
     } else if (storage.isRetainStaleSnapshots()) {
       snapshots.put(snapshot.index(), snapshot);
     } else {
@@ -233,6 +308,24 @@ public class SnapshotStore implements AutoCloseable {
     }
   }
 
+  /**
+   * Deletes the given snapshots that are not in the chain of the given snapshot.
+   */
+  private void deleteStaleSnapshots(Collection<Snapshot> staleSnapshots, Snapshot snapshot) {
+    Set<Long> chain = new HashSet<>();
+    for (Snapshot link : getSnapshotChain(snapshot)) {
+      chain.add(link.index());
+    }
+
+    for (Snapshot staleSnapshot : staleSnapshots) {
+      if (!chain.contains(staleSnapshot.index())) {
+        snapshots.remove(staleSnapshot.index());
+        staleSnapshot.close();
+        staleSnapshot.delete();
+      }
+    }
+  }
+
   @Override
   public void close() {
   }
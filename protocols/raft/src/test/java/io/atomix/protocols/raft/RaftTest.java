@@ -52,6 +52,7 @@ import io.atomix.protocols.raft.cluster.RaftClusterEvent;
 import io.atomix.protocols.raft.cluster.RaftMember;
 import io.atomix.protocols.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.protocols.raft.protocol.TestRaftProtocolFactory;
+import io.atomix.protocols.raft.session.CommunicationStrategy;
 import io.atomix.protocols.raft.storage.RaftStorage;
 import io.atomix.protocols.raft.storage.log.entry.CloseSessionEntry;
 import io.atomix.protocols.raft.storage.log.entry.CommandEntry;
@@ -90,6 +91,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -476,6 +478,33 @@ public class RaftTest extends ConcurrentTestCase {
     testSubmitCommand(2, 3);
   }
 
+  /**
+   * Tests submitting concurrent commands that are coalesced into batches.
+   */
+  @Test
+  public void testSubmitBatchedCommands() throws Throwable {
+    createServers(3);
+
+    RaftClient client = createClient();
+    TestPrimitive primitive = createPrimitive(client, ReadConsistency.LINEARIZABLE, 10);
+
+    List<CompletableFuture<Long>> futures = new ArrayList<>();
+    List<Integer> completions = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      int sequence = i;
+      futures.add(primitive.write("Hello world!").whenComplete((result, error) -> completions.add(sequence)));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get(30, TimeUnit.SECONDS);
+
+    long lastIndex = 0;
+    for (int i = 0; i < futures.size(); i++) {
+      long index = futures.get(i).join();
+      assertTrue(index > lastIndex);
+      lastIndex = index;
+      assertEquals(i, (int) completions.get(i));
+    }
+  }
+
   @Test
   public void testNodeCatchUpAfterCompaction() throws Throwable {
     // given
@@ -672,6 +701,22 @@ public class RaftTest extends ConcurrentTestCase {
     await(30000);
   }
 
+  /**
+   * Tests submitting linearizable queries to followers using the leader's read index.
+   */
+  @Test
+  public void testFollowerSubmitQueryWithLinearizableConsistency() throws Throwable {
+    createServers(3);
+
+    TestPrimitive writer = createPrimitive(createClient());
+    TestPrimitive reader = createPrimitive(
+        createClient(), ReadConsistency.LINEARIZABLE, CommunicationStrategy.FOLLOWERS, 1);
+    for (int i = 0; i < 10; i++) {
+      long index = writer.write("Hello world!").get(10, TimeUnit.SECONDS);
+      assertTrue(reader.read().get(10, TimeUnit.SECONDS) >= index);
+    }
+  }
+
   /**
    * Tests submitting a sequential event.
    */
@@ -1338,10 +1383,30 @@ public class RaftTest extends ConcurrentTestCase {
    * Creates a test session.
    */
   private SessionClient createSession(RaftClient client, ReadConsistency consistency) throws Exception {
+    return createSession(client, consistency, 1);
+  }
+
+  /**
+   * Creates a test session.
+   */
+  private SessionClient createSession(RaftClient client, ReadConsistency consistency, int maxCommandBatchSize) throws Exception {
+    return createSession(client, consistency, CommunicationStrategy.LEADER, maxCommandBatchSize);
+  }
+
+  /**
+   * Creates a test session.
+   */
+  private SessionClient createSession(
+      RaftClient client,
+      ReadConsistency consistency,
+      CommunicationStrategy communicationStrategy,
+      int maxCommandBatchSize) throws Exception {
     return client.sessionBuilder("raft-test", TestPrimitiveType.INSTANCE, new ServiceConfig())
         .withReadConsistency(consistency)
+        .withCommunicationStrategy(communicationStrategy)
         .withMinTimeout(Duration.ofMillis(250))
         .withMaxTimeout(Duration.ofSeconds(5))
+        .withMaxCommandBatchSize(maxCommandBatchSize)
         .build()
         .connect()
         .get(10, TimeUnit.SECONDS);
@@ -1358,7 +1423,25 @@ public class RaftTest extends ConcurrentTestCase {
    * Creates a new primitive instance.
    */
   private TestPrimitive createPrimitive(RaftClient client, ReadConsistency consistency) throws Exception {
-    SessionClient partition = createSession(client, consistency);
+    return createPrimitive(client, consistency, 1);
+  }
+
+  /**
+   * Creates a new primitive instance.
+   */
+  private TestPrimitive createPrimitive(RaftClient client, ReadConsistency consistency, int maxCommandBatchSize) throws Exception {
+    return createPrimitive(client, consistency, CommunicationStrategy.LEADER, maxCommandBatchSize);
+  }
+
+  /**
+   * Creates a new primitive instance.
+   */
+  private TestPrimitive createPrimitive(
+      RaftClient client,
+      ReadConsistency consistency,
+      CommunicationStrategy communicationStrategy,
+      int maxCommandBatchSize) throws Exception {
+    SessionClient partition = createSession(client, consistency, communicationStrategy, maxCommandBatchSize);
     ProxyClient<TestPrimitiveService> proxy = new DefaultProxyClient<>(
         "test",
         TestPrimitiveType.INSTANCE,
@@ -29,6 +29,8 @@ import io.atomix.primitive.operation.impl.DefaultOperationId;
 import io.atomix.primitive.service.AbstractPrimitiveService;
 import io.atomix.primitive.service.BackupInput;
 import io.atomix.primitive.service.BackupOutput;
+import io.atomix.primitive.service.ConcurrentBackup;
+import io.atomix.primitive.service.IncrementalBackup;
 import io.atomix.primitive.service.PrimitiveService;
 import io.atomix.primitive.service.ServiceConfig;
 import io.atomix.primitive.service.ServiceExecutor;
@@ -67,9 +69,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -104,6 +111,8 @@ public class RaftServiceManagerTest {
   private RaftContext raft;
   private AtomicBoolean snapshotTaken;
   private AtomicBoolean snapshotInstalled;
+  private AtomicBoolean deltaTaken;
+  private AtomicBoolean deltaInstalled;
 
   @Test
   public void testSnapshotTakeInstall() throws Exception {
@@ -172,9 +181,140 @@ public class RaftServiceManagerTest {
     assertTrue(snapshotInstalled.get());
   }
 
+  @Test
+  public void testIncrementalSnapshotTakeInstall() throws Exception {
+    RaftLogWriter writer = raft.getLogWriter();
+    writer.append(new InitializeEntry(1, System.currentTimeMillis()));
+    writer.append(new OpenSessionEntry(
+        1,
+        System.currentTimeMillis(),
+        "test-1",
+        "test",
+        "test",
+        null,
+        ReadConsistency.LINEARIZABLE,
+        100,
+        1000));
+    writer.commit(2);
+
+    RaftServiceManager manager = raft.getServiceManager();
+
+    manager.apply(2).join();
+
+    Snapshot snapshot = manager.snapshot();
+    assertEquals(2, snapshot.index());
+    assertEquals(0, snapshot.previousIndex());
+    assertTrue(snapshotTaken.get());
+    assertFalse(deltaTaken.get());
+
+    snapshot.persist().complete();
+
+    writer.append(new CommandEntry(1, System.currentTimeMillis(), 2, 1, new PrimitiveOperation(RUN, new byte[0])));
+    writer.commit(3);
+
+    manager.apply(3).join();
+
+    snapshot = manager.snapshot();
+    assertEquals(3, snapshot.index());
+    assertEquals(2, snapshot.previousIndex());
+    assertTrue(deltaTaken.get());
+
+    snapshot = snapshot.persist().complete();
+    assertEquals(3, raft.getSnapshotStore().getCurrentSnapshot().index());
+    assertEquals(2, raft.getSnapshotStore().getSnapshotChain(snapshot).size());
+
+    snapshotInstalled.set(false);
+    manager.install(snapshot);
+    assertTrue(snapshotInstalled.get());
+    assertTrue(deltaInstalled.get());
+  }
+
+  @Test
+  public void testIncrementalSnapshotDeletedService() throws Exception {
+    RaftLogWriter writer = raft.getLogWriter();
+    writer.append(new InitializeEntry(1, System.currentTimeMillis()));
+    writer.append(new OpenSessionEntry(
+        1,
+        System.currentTimeMillis(),
+        "test-1",
+        "test",
+        "test",
+        null,
+        ReadConsistency.LINEARIZABLE,
+        100,
+        1000));
+    writer.append(new OpenSessionEntry(
+        1,
+        System.currentTimeMillis(),
+        "test-1",
+        "test-2",
+        "test",
+        null,
+        ReadConsistency.LINEARIZABLE,
+        100,
+        1000));
+    writer.commit(3);
+
+    RaftServiceManager manager = raft.getServiceManager();
+
+    manager.apply(3).join();
+
+    Snapshot snapshot = manager.snapshot();
+    assertEquals(3, snapshot.index());
+    snapshot.persist().complete();
+
+    writer.append(new CloseSessionEntry(1, System.currentTimeMillis(), 3, false, true));
+    writer.commit(4);
+
+    manager.apply(4).join();
+    assertNull(raft.getServices().getService("test-2"));
+
+    snapshot = manager.snapshot();
+    assertEquals(4, snapshot.index());
+    assertEquals(3, snapshot.previousIndex());
+    snapshot = snapshot.persist().complete();
+
+    // The service deleted after the full snapshot must not be restored from the snapshot chain.
+    manager.install(snapshot);
+    assertNotNull(raft.getServices().getService("test"));
+    assertNull(raft.getServices().getService("test-2"));
+  }
+
+  @Test
+  public void testParallelSnapshotTakeInstall() throws Exception {
+    RaftLogWriter writer = raft.getLogWriter();
+    writer.append(new InitializeEntry(1, System.currentTimeMillis()));
+    writer.append(new OpenSessionEntry(
+        1,
+        System.currentTimeMillis(),
+        "test-1",
+        "test",
+        "test",
+        null,
+        ReadConsistency.LINEARIZABLE,
+        100,
+        1000));
+    writer.commit(2);
+
+    RaftServiceManager manager = raft.getServiceManager();
+
+    manager.apply(2).join();
+
+    Snapshot snapshot = manager.snapshotParallel().join();
+    assertEquals(2, snapshot.index());
+    assertTrue(snapshotTaken.get());
+
+    snapshot = snapshot.persist().complete();
+
+    assertEquals(2, raft.getSnapshotStore().getCurrentSnapshot().index());
+
+    manager.install(snapshot);
+    assertTrue(snapshotInstalled.get());
+  }
+
   private static final OperationId RUN = OperationId.command("run");
 
-  private class TestService extends AbstractPrimitiveService {
+  private class TestService extends AbstractPrimitiveService implements IncrementalBackup, ConcurrentBackup {
     protected TestService(PrimitiveType primitiveType) {
       super(primitiveType);
     }
@@ -190,12 +330,33 @@ public class RaftServiceManagerTest {
       snapshotTaken.set(true);
     }
 
+    @Override
+    public Consumer<BackupOutput> captureBackup() {
+      return this::backup;
+    }
+
     @Override
     public void restore(BackupInput input) {
       assertEquals(10, input.readLong());
       snapshotInstalled.set(true);
     }
 
+    @Override
+    public void enableDeltas() {
+    }
+
+    @Override
+    public void backupDelta(BackupOutput output) {
+      output.writeLong(20);
+      deltaTaken.set(true);
+    }
+
+    @Override
+    public void restoreDelta(BackupInput input) {
+      assertEquals(20, input.readLong());
+      deltaInstalled.set(true);
+    }
+
     private void run() {
 
     }
@@ -223,6 +384,14 @@ public class RaftServiceManagerTest {
     }
   }
 
+  @Test
+  public void testAwaitLastAppliedFailsOnClose() throws Exception {
+    CompletableFuture<Long> future = raft.awaitLastApplied(100);
+    assertFalse(future.isDone());
+    raft.close();
+    assertTrue(future.isCompletedExceptionally());
+  }
+
   @Before
   public void setupContext() throws IOException {
     deleteStorage();
@@ -231,6 +400,7 @@ public class RaftServiceManagerTest {
         .withPrefix("test")
         .withDirectory(PATH.toFile())
         .withNamespace(NAMESPACE)
+        .withIncrementalSnapshots()
         .build();
     PrimitiveTypeRegistry registry = new PrimitiveTypeRegistry() {
       @Override
@@ -255,6 +425,8 @@ public class RaftServiceManagerTest {
 
     snapshotTaken = new AtomicBoolean();
     snapshotInstalled = new AtomicBoolean();
+    deltaTaken = new AtomicBoolean();
+    deltaInstalled = new AtomicBoolean();
   }
 
   @After
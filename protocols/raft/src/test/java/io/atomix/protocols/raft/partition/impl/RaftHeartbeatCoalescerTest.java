@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.partition.impl;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.protocols.raft.protocol.AppendRequest;
+import io.atomix.protocols.raft.protocol.AppendResponse;
+import io.atomix.protocols.raft.protocol.RaftResponse;
+import io.atomix.utils.concurrent.SingleThreadContext;
+import io.atomix.utils.serializer.Namespaces;
+import io.atomix.utils.serializer.Serializer;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Raft heartbeat coalescer test.
+ */
+public class RaftHeartbeatCoalescerTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCoalesceHeartbeats() throws Exception {
+    List<Map<String, AppendRequest>> messages = new ArrayList<>();
+    RaftHeartbeatCoalescer coalescer = newCoalescer(messages);
+
+    CompletableFuture<AppendResponse> future1 = coalescer.append("a", MemberId.from("1"), heartbeat(1));
+    CompletableFuture<AppendResponse> future2 = coalescer.append("b", MemberId.from("1"), heartbeat(2));
+
+    assertEquals(1, future1.get(10, TimeUnit.SECONDS).term());
+    assertEquals(2, future2.get(10, TimeUnit.SECONDS).term());
+    synchronized (messages) {
+      assertEquals(1, messages.size());
+      assertEquals(2, messages.get(0).size());
+    }
+    coalescer.stop();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRepeatedHeartbeatReceivesOwnResponse() throws Exception {
+    List<Map<String, AppendRequest>> messages = new ArrayList<>();
+    RaftHeartbeatCoalescer coalescer = newCoalescer(messages);
+
+    CompletableFuture<AppendResponse> future1 = coalescer.append("a", MemberId.from("1"), heartbeat(1));
+    CompletableFuture<AppendResponse> future2 = coalescer.append("a", MemberId.from("1"), heartbeat(2));
+
+    assertEquals(1, future1.get(10, TimeUnit.SECONDS).term());
+    assertEquals(2, future2.get(10, TimeUnit.SECONDS).term());
+    synchronized (messages) {
+      assertEquals(2, messages.size());
+    }
+    coalescer.stop();
+  }
+
+  /**
+   * Creates a coalescer whose peers respond to each heartbeat with the request's term.
+   */
+  @SuppressWarnings("unchecked")
+  private RaftHeartbeatCoalescer newCoalescer(List<Map<String, AppendRequest>> messages) {
+    ClusterCommunicationService communicationService = mock(ClusterCommunicationService.class);
+    when(communicationService.send(anyString(), any(), any(), any(), any(MemberId.class))).thenAnswer(invocation -> {
+      Map<String, AppendRequest> requests = (Map<String, AppendRequest>) invocation.getArguments()[1];
+      synchronized (messages) {
+        messages.add(requests);
+      }
+      Map<String, AppendResponse> responses = new HashMap<>();
+      requests.forEach((partition, request) -> responses.put(partition, AppendResponse.builder()
+          .withStatus(RaftResponse.Status.OK)
+          .withTerm(request.term())
+          .withSucceeded(true)
+          .withLastLogIndex(0)
+          .build()));
+      return CompletableFuture.completedFuture(responses);
+    });
+    return new RaftHeartbeatCoalescer(
+        "test",
+        Serializer.using(Namespaces.BASIC),
+        communicationService,
+        new SingleThreadContext("raft-heartbeat-coalescer-test-%d"),
+        Duration.ofMillis(100));
+  }
+
+  private AppendRequest heartbeat(long term) {
+    return AppendRequest.builder()
+        .withTerm(term)
+        .withLeader(MemberId.from("2"))
+        .withPrevLogIndex(0)
+        .withPrevLogTerm(0)
+        .withEntries(Collections.emptyList())
+        .withCommitIndex(0)
+        .build();
+  }
+}
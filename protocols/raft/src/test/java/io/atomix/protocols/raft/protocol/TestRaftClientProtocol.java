@@ -97,6 +97,11 @@ public class TestRaftClientProtocol extends TestRaftProtocol implements RaftClie
     return scheduleTimeout(getServer(memberId).thenCompose(protocol -> protocol.command(request)));
   }
 
+  @Override
+  public CompletableFuture<CommandBatchResponse> commandBatch(MemberId memberId, CommandBatchRequest request) {
+    return scheduleTimeout(getServer(memberId).thenCompose(protocol -> protocol.commandBatch(request)));
+  }
+
   @Override
   public CompletableFuture<MetadataResponse> metadata(MemberId memberId, MetadataRequest request) {
     return scheduleTimeout(getServer(memberId).thenCompose(protocol -> protocol.metadata(request)));
@@ -37,6 +37,7 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
   private Function<KeepAliveRequest, CompletableFuture<KeepAliveResponse>> keepAliveHandler;
   private Function<QueryRequest, CompletableFuture<QueryResponse>> queryHandler;
   private Function<CommandRequest, CompletableFuture<CommandResponse>> commandHandler;
+  private Function<CommandBatchRequest, CompletableFuture<CommandBatchResponse>> commandBatchHandler;
   private Function<MetadataRequest, CompletableFuture<MetadataResponse>> metadataHandler;
   private Function<JoinRequest, CompletableFuture<JoinResponse>> joinHandler;
   private Function<LeaveRequest, CompletableFuture<LeaveResponse>> leaveHandler;
@@ -44,6 +45,7 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
   private Function<InstallRequest, CompletableFuture<InstallResponse>> installHandler;
   private Function<TransferRequest, CompletableFuture<TransferResponse>> transferHandler;
+  private Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> readIndexHandler;
   private Function<PollRequest, CompletableFuture<PollResponse>> pollHandler;
   private Function<VoteRequest, CompletableFuture<VoteResponse>> voteHandler;
   private Function<AppendRequest, CompletableFuture<AppendResponse>> appendHandler;
@@ -136,6 +138,11 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.transfer(request)));
   }
 
+  @Override
+  public CompletableFuture<ReadIndexResponse> readIndex(MemberId memberId, ReadIndexRequest request) {
+    return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.readIndex(request)));
+  }
+
   @Override
   public CompletableFuture<PollResponse> poll(MemberId memberId, PollRequest request) {
     return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.poll(request)));
@@ -251,6 +258,24 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     this.commandHandler = null;
   }
 
+  CompletableFuture<CommandBatchResponse> commandBatch(CommandBatchRequest request) {
+    if (commandBatchHandler != null) {
+      return commandBatchHandler.apply(request);
+    } else {
+      return Futures.exceptionalFuture(new ConnectException());
+    }
+  }
+
+  @Override
+  public void registerCommandBatchHandler(Function<CommandBatchRequest, CompletableFuture<CommandBatchResponse>> handler) {
+    this.commandBatchHandler = handler;
+  }
+
+  @Override
+  public void unregisterCommandBatchHandler() {
+    this.commandBatchHandler = null;
+  }
+
   CompletableFuture<MetadataResponse> metadata(MetadataRequest request) {
     if (metadataHandler != null) {
       return metadataHandler.apply(request);
@@ -377,6 +402,24 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     this.transferHandler = null;
   }
 
+  CompletableFuture<ReadIndexResponse> readIndex(ReadIndexRequest request) {
+    if (readIndexHandler != null) {
+      return readIndexHandler.apply(request);
+    } else {
+      return Futures.exceptionalFuture(new ConnectException());
+    }
+  }
+
+  @Override
+  public void registerReadIndexHandler(Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> handler) {
+    this.readIndexHandler = handler;
+  }
+
+  @Override
+  public void unregisterReadIndexHandler() {
+    this.readIndexHandler = null;
+  }
+
   CompletableFuture<PollResponse> poll(PollRequest request) {
     if (pollHandler != null) {
       return pollHandler.apply(request);
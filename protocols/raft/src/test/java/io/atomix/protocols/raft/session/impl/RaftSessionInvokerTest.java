@@ -22,6 +22,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +32,8 @@ import io.atomix.primitive.session.SessionId;
 import io.atomix.protocols.raft.RaftError;
 import io.atomix.protocols.raft.RaftException;
 import io.atomix.protocols.raft.TestPrimitiveType;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.QueryRequest;
@@ -86,6 +89,50 @@ public class RaftSessionInvokerTest {
     assertEquals(10, state.getResponseIndex());
   }
 
+  /**
+   * Tests coalescing concurrent commands into a single batch request.
+   */
+  @Test
+  public void testSubmitCommandBatch() throws Throwable {
+    RaftSessionConnection connection = mock(RaftSessionConnection.class);
+    when(connection.commandBatch(any(CommandBatchRequest.class)))
+        .thenAnswer(invocation -> {
+          CommandBatchRequest request = (CommandBatchRequest) invocation.getArguments()[0];
+          List<CommandResponse> responses = new ArrayList<>();
+          for (CommandRequest command : request.commands()) {
+            responses.add(CommandResponse.builder()
+                .withStatus(RaftResponse.Status.OK)
+                .withIndex(10 + command.sequenceNumber())
+                .withResult(String.valueOf(command.sequenceNumber()).getBytes())
+                .build());
+          }
+          return CompletableFuture.completedFuture(CommandBatchResponse.builder()
+              .withStatus(RaftResponse.Status.OK)
+              .withResponses(responses)
+              .build());
+        });
+
+    RaftSessionState state = new RaftSessionState("test", SessionId.from(1), UUID.randomUUID().toString(), TestPrimitiveType.instance(), 1000);
+    RaftSessionManager manager = mock(RaftSessionManager.class);
+    ThreadContext threadContext = new TestContext();
+
+    RaftSessionInvoker submitter = new RaftSessionInvoker(
+        connection, mock(RaftSessionConnection.class), state, new RaftSessionSequencer(state), manager, threadContext, 3, Duration.ofMillis(1));
+    CompletableFuture<byte[]> result1 = submitter.invoke(operation(COMMAND, HeapBytes.EMPTY));
+    CompletableFuture<byte[]> result2 = submitter.invoke(operation(COMMAND, HeapBytes.EMPTY));
+    assertFalse(result1.isDone());
+    assertFalse(result2.isDone());
+    CompletableFuture<byte[]> result3 = submitter.invoke(operation(COMMAND, HeapBytes.EMPTY));
+
+    assertArrayEquals("1".getBytes(), result1.get());
+    assertArrayEquals("2".getBytes(), result2.get());
+    assertArrayEquals("3".getBytes(), result3.get());
+    verify(connection).commandBatch(any(CommandBatchRequest.class));
+    verify(connection, never()).command(any(CommandRequest.class));
+    assertEquals(3, state.getCommandResponse());
+    assertEquals(13, state.getResponseIndex());
+  }
+
   @Test
   public void testReSubmitCommand() throws Throwable {
     // given
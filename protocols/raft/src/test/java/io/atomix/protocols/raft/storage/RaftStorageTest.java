@@ -15,6 +15,10 @@
  */
 package io.atomix.protocols.raft.storage;
 
+import io.atomix.protocols.raft.storage.log.RaftLog;
+import io.atomix.storage.StorageException;
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.SharedJournal;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +35,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Raft storage test.
@@ -110,6 +115,63 @@ public class RaftStorageTest {
     assertTrue(storage3.lock("a"));
   }
 
+  @Test
+  public void testSharedJournalWithExistingSegments() throws Exception {
+    RaftStorage storage = RaftStorage.builder()
+        .withDirectory(PATH.toFile())
+        .withPrefix("test")
+        .withStorageLevel(StorageLevel.DISK)
+        .build();
+    try (RaftLog log = storage.openLog()) {
+      assertTrue(log.isOpen());
+    }
+
+    try (SharedJournal sharedJournal = SharedJournal.builder()
+        .withName("shared")
+        .withDirectory(new File(PATH.toFile(), "journal"))
+        .build()) {
+      RaftStorage sharedStorage = RaftStorage.builder()
+          .withDirectory(PATH.toFile())
+          .withPrefix("test")
+          .withSharedJournal(sharedJournal)
+          .build();
+      try {
+        sharedStorage.openLog();
+        fail();
+      } catch (StorageException e) {
+      }
+
+      // Logs without existing segments can be opened on the shared journal.
+      RaftStorage otherStorage = RaftStorage.builder()
+          .withDirectory(PATH.toFile())
+          .withPrefix("test-1")
+          .withSharedJournal(sharedJournal)
+          .build();
+      try (RaftLog log = otherStorage.openLog()) {
+        assertTrue(log.isOpen());
+      }
+    }
+  }
+
+  @Test
+  public void testDeleteLog() throws Exception {
+    RaftStorage storage = RaftStorage.builder()
+        .withDirectory(PATH.toFile())
+        .withPrefix("test")
+        .build();
+    File segment = new File(PATH.toFile(), "test-1.log");
+    File index = new File(PATH.toFile(), "test-1.index");
+    File meta = new File(PATH.toFile(), "test.meta");
+    assertTrue(segment.createNewFile());
+    assertTrue(index.createNewFile());
+    assertTrue(meta.createNewFile());
+
+    storage.deleteLog();
+    assertFalse(segment.exists());
+    assertFalse(index.exists());
+    assertTrue(meta.exists());
+  }
+
   @Before
   @After
   public void cleanupStorage() throws IOException {
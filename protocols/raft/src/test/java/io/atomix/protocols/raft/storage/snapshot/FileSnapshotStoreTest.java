@@ -30,6 +30,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
@@ -141,6 +142,97 @@ public class FileSnapshotStoreTest extends AbstractSnapshotStoreTest {
     }
   }
 
+  /**
+   * Tests retaining and loading delta snapshot chains.
+   */
+  @Test
+  public void testSnapshotChain() {
+    SnapshotStore store = createSnapshotStore();
+
+    Snapshot snapshot = store.newSnapshot(2, new WallClockTimestamp());
+    try (SnapshotWriter writer = snapshot.openWriter()) {
+      writer.writeLong(2);
+    }
+    snapshot.complete();
+
+    snapshot = store.newSnapshot(4, 2, new WallClockTimestamp());
+    try (SnapshotWriter writer = snapshot.openWriter()) {
+      writer.writeLong(4);
+    }
+    snapshot.complete();
+
+    snapshot = store.newTemporarySnapshot(6, 4, new WallClockTimestamp());
+    try (SnapshotWriter writer = snapshot.openWriter()) {
+      writer.writeLong(6);
+    }
+    snapshot.persist().complete();
+
+    assertNotNull(store.getSnapshot(2));
+    assertNotNull(store.getSnapshot(4));
+    assertEquals(6, store.getCurrentSnapshot().index());
+    assertEquals(4, store.getCurrentSnapshot().previousIndex());
+    store.close();
+
+    store = createSnapshotStore();
+    List<Snapshot> chain = store.getSnapshotChain(store.getCurrentSnapshot());
+    assertEquals(3, chain.size());
+    for (int i = 0; i < chain.size(); i++) {
+      try (SnapshotReader reader = chain.get(i).openReader()) {
+        assertEquals((i + 1) * 2, reader.readLong());
+      }
+    }
+
+    // A delta of a missing snapshot is discarded.
+    snapshot = store.newSnapshot(8, 5, new WallClockTimestamp());
+    try (SnapshotWriter writer = snapshot.openWriter()) {
+      writer.writeLong(8);
+    }
+    snapshot.complete();
+    assertNull(store.getSnapshot(8));
+    assertEquals(6, store.getCurrentSnapshot().index());
+
+    // Completing a full snapshot deletes the prior chain.
+    snapshot = store.newSnapshot(10, new WallClockTimestamp());
+    try (SnapshotWriter writer = snapshot.openWriter()) {
+      writer.writeLong(10);
+    }
+    snapshot.complete();
+    assertNull(store.getSnapshot(2));
+    assertNull(store.getSnapshot(4));
+    assertNull(store.getSnapshot(6));
+    assertEquals(1, store.getSnapshotChain(store.getCurrentSnapshot()).size());
+  }
+
+  /**
+   * Tests that completing a snapshot deletes the prior current snapshot when stale snapshots are retained.
+   */
+  @Test
+  public void testRetainStaleSnapshots() {
+    RaftStorage storage = RaftStorage.builder()
+        .withPrefix("test")
+        .withDirectory(new File(String.format("target/test-logs/%s", testId)))
+        .withStorageLevel(StorageLevel.DISK)
+        .withRetainStaleSnapshots()
+        .build();
+    SnapshotStore store = new SnapshotStore(storage);
+
+    store.newSnapshot(2, new WallClockTimestamp()).complete();
+    store.newSnapshot(4, 2, new WallClockTimestamp()).complete();
+    assertNotNull(store.getSnapshot(2));
+
+    // Stale snapshots completed out of order are retained.
+    store.newSnapshot(3, new WallClockTimestamp()).complete();
+    assertNotNull(store.getSnapshot(3));
+    assertEquals(4, store.getCurrentSnapshot().index());
+
+    // Completing a newer snapshot deletes the chain of the prior snapshot but retains stale snapshots.
+    store.newSnapshot(6, new WallClockTimestamp()).complete();
+    assertNull(store.getSnapshot(2));
+    assertNull(store.getSnapshot(4));
+    assertNotNull(store.getSnapshot(3));
+    assertEquals(6, store.getCurrentSnapshot().index());
+  }
+
   @Before
   @After
   public void cleanupStorage() throws IOException {
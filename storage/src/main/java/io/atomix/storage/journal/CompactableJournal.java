@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+/**
+ * Journal from which entries can be removed once they are no longer needed.
+ */
+public interface CompactableJournal<E> extends Journal<E> {
+
+  /**
+   * Returns a boolean indicating whether entries can be removed from the journal prior to the given index.
+   *
+   * @param index the index from which to remove entries
+   * @return indicates whether entries can be removed from the journal
+   */
+  boolean isCompactable(long index);
+
+  /**
+   * Returns the index up to which entries would be removed if the journal were compacted at the given index.
+   *
+   * @param index the compaction index
+   * @return the first index that would be retained by compacting the journal at the given index
+   */
+  long getCompactableIndex(long index);
+
+  /**
+   * Compacts the journal up to the given index.
+   * <p>
+   * The semantics of compaction are not specified by this interface.
+   *
+   * @param index The index up to which to compact the journal.
+   */
+  void compact(long index);
+}
@@ -52,6 +52,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
   private final ByteBuffer memory;
   private final long firstIndex;
   private Indexed<E> lastEntry;
+  private int lastPosition;
 
   FileChannelJournalSegmentWriter(
       FileChannel channel,
@@ -67,7 +68,39 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     memory.limit(0);
     this.namespace = namespace;
     this.firstIndex = segment.index();
-    reset(0);
+    if (!recover(segment.checkpoint())) {
+      reset(0);
+    }
+  }
+
+  /**
+   * Restores the writer from the given segment checkpoint.
+   *
+   * @param checkpoint the checkpoint from which to restore the writer
+   * @return indicates whether the writer was restored from the checkpoint
+   */
+  private boolean recover(JournalSegmentCheckpoint checkpoint) {
+    if (checkpoint == null) {
+      return false;
+    }
+
+    try {
+      memory.clear();
+      channel.read(memory, checkpoint.lastPosition());
+      memory.flip();
+      Indexed<E> entry = checkpoint.readLastEntry(memory, maxEntrySize, namespace);
+      if (entry == null) {
+        return false;
+      }
+
+      checkpoint.restore(this.index);
+      lastEntry = entry;
+      lastPosition = checkpoint.lastPosition();
+      channel.position(checkpoint.nextPosition());
+      return true;
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
   }
 
   @Override
@@ -111,6 +144,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
           final E entry = namespace.deserialize(memory);
           memory.limit(limit);
           lastEntry = new Indexed<>(nextIndex, entry, length);
+          lastPosition = (int) position;
           this.index.index(nextIndex, (int) position);
           nextIndex++;
         } else {
@@ -165,6 +199,18 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  /**
+   * Returns a checkpoint of the writer's current state.
+   *
+   * @return a checkpoint of the writer's current state or {@code null} if the segment is empty
+   */
+  JournalSegmentCheckpoint checkpoint() {
+    if (lastEntry == null) {
+      return null;
+    }
+    return new JournalSegmentCheckpoint(segment.descriptor(), lastEntry.index(), lastPosition, (int) size(), index);
+  }
+
   /**
    * Returns the size of the underlying buffer.
    *
@@ -264,6 +310,7 @@ class FileChannelJournalSegmentWriter<E> implements JournalWriter<E> {
       // Update the last entry with the correct index/term/length.
       Indexed<E> indexedEntry = new Indexed<>(index, entry, length);
       this.lastEntry = indexedEntry;
+      this.lastPosition = (int) position;
       this.index.index(index, (int) position);
       return (Indexed<T>) indexedEntry;
     } catch (IOException e) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+/**
+ * Scheduler for delayed group commit flushes shared by all journals.
+ * <p>
+ * Flushes are scheduled on a small pool of daemon threads rather than a thread per journal, so the number of flusher
+ * threads does not grow with the number of journals.
+ */
+final class JournalFlushScheduler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(JournalFlushScheduler.class);
+  private static final ScheduledThreadPoolExecutor EXECUTOR = new ScheduledThreadPoolExecutor(
+      Math.max(Runtime.getRuntime().availableProcessors() / 2, 1),
+      new ThreadFactoryBuilder()
+          .setThreadFactory(namedThreads("atomix-journal-flusher-%d", LOGGER))
+          .setDaemon(true)
+          .build());
+
+  static {
+    EXECUTOR.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Schedules a flush to run after the given delay.
+   *
+   * @param flush the flush to run
+   * @param delay the delay after which to run the flush
+   * @return the scheduled flush
+   */
+  static ScheduledFuture<?> schedule(Runnable flush, Duration delay) {
+    return EXECUTOR.schedule(flush, delay.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private JournalFlushScheduler() {
+  }
+}
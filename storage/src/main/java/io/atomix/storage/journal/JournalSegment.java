@@ -49,6 +49,7 @@ public class JournalSegment<E> implements AutoCloseable {
   private final MappableJournalSegmentWriter<E> writer;
   private final Set<MappableJournalSegmentReader<E>> readers = Sets.newConcurrentHashSet();
   private final AtomicInteger references = new AtomicInteger();
+  private volatile JournalSegmentCheckpoint checkpoint;
   private boolean open = true;
 
   public JournalSegment(
@@ -64,7 +65,11 @@ public class JournalSegment<E> implements AutoCloseable {
     this.maxEntrySize = maxEntrySize;
     this.index = new SparseJournalIndex(indexDensity);
     this.namespace = namespace;
+    this.checkpoint = JournalSegmentCheckpoint.read(file.indexFile(), descriptor);
     this.writer = new MappableJournalSegmentWriter<>(openChannel(file.file()), this, maxEntrySize, index, namespace);
+    if (checkpoint != null && writer.getLastIndex() != checkpoint.lastIndex()) {
+      unseal();
+    }
   }
 
   private FileChannel openChannel(File file) {
@@ -156,6 +161,52 @@ public class JournalSegment<E> implements AutoCloseable {
     return writer.getNextIndex() - index();
   }
 
+  /**
+   * Returns the checkpoint from which the segment writer can be restored.
+   *
+   * @return the segment checkpoint or {@code null} if the segment is not sealed
+   */
+  JournalSegmentCheckpoint checkpoint() {
+    return checkpoint;
+  }
+
+  /**
+   * Returns a boolean indicating whether the segment is sealed.
+   *
+   * @return indicates whether the segment's index has been persisted
+   */
+  boolean isSealed() {
+    return checkpoint != null;
+  }
+
+  /**
+   * Seals the segment, persisting its index so the segment need not be scanned when it's next loaded.
+   * <p>
+   * Segments are sealed once the journal rolls over to the next segment. The segment must be flushed before being
+   * sealed since the checkpoint is only valid if the entries it references are on disk.
+   */
+  void seal() {
+    JournalSegmentCheckpoint checkpoint = writer.checkpoint();
+    if (checkpoint != null) {
+      checkpoint.write(file.indexFile());
+      this.checkpoint = checkpoint;
+    }
+  }
+
+  /**
+   * Unseals the segment, deleting its persisted index prior to the segment being modified.
+   */
+  void unseal() {
+    if (checkpoint != null) {
+      checkpoint = null;
+      try {
+        Files.deleteIfExists(file.indexFile().toPath());
+      } catch (IOException e) {
+        throw new StorageException(e);
+      }
+    }
+  }
+
   /**
    * Acquires a reference to the log segment.
    */
@@ -262,6 +313,7 @@ public class JournalSegment<E> implements AutoCloseable {
    */
   public void delete() {
     try {
+      Files.deleteIfExists(file.indexFile().toPath());
       Files.deleteIfExists(file.file().toPath());
     } catch (IOException e) {
       throw new StorageException(e);
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import io.atomix.storage.StorageException;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import io.atomix.utils.serializer.Namespace;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Persisted state of a sealed journal segment.
+ * <p>
+ * Once the journal rolls over to a new segment, the index of the previous segment and the position of its last entry
+ * are written to an index file alongside the segment file. When the journal is reopened, the checkpoint allows the
+ * segment writer to be restored without reading and deserializing every entry in the segment. The format of the
+ * index file is as follows:
+ * <ul>
+ * <li>32-bit signed checkpoint version</li>
+ * <li>64-bit signed segment ID</li>
+ * <li>64-bit signed segment first index</li>
+ * <li>64-bit signed index of the last entry in the segment</li>
+ * <li>32-bit signed position of the last entry in the segment</li>
+ * <li>32-bit signed position following the last entry in the segment</li>
+ * <li>32-bit signed count of index entries, followed by a 64-bit index and 32-bit position for each entry</li>
+ * <li>32-bit CRC32 checksum of all the preceding bytes</li>
+ * </ul>
+ */
+final class JournalSegmentCheckpoint {
+  static final int VERSION = 1;
+
+  private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES * 3 + Integer.BYTES * 3;
+  private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+  /**
+   * Reads the checkpoint for the given segment descriptor from the given file.
+   * <p>
+   * A missing, corrupt or mismatched checkpoint file is treated as the absence of a checkpoint, in which case the
+   * segment is recovered by scanning its entries.
+   *
+   * @param file the checkpoint file
+   * @param descriptor the descriptor of the segment to which the checkpoint belongs
+   * @return the checkpoint or {@code null} if no valid checkpoint exists
+   */
+  static JournalSegmentCheckpoint read(File file, JournalSegmentDescriptor descriptor) {
+    if (!file.exists()) {
+      return null;
+    }
+
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file.toPath());
+    } catch (IOException e) {
+      return null;
+    }
+
+    if (bytes.length < HEADER_BYTES + Integer.BYTES) {
+      return null;
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    CRC32 crc32 = new CRC32();
+    crc32.update(bytes, 0, bytes.length - Integer.BYTES);
+    if ((buffer.getInt(bytes.length - Integer.BYTES) & 0xFFFFFFFFL) != crc32.getValue()) {
+      return null;
+    }
+
+    int version = buffer.getInt();
+    long id = buffer.getLong();
+    long index = buffer.getLong();
+    if (version != VERSION || id != descriptor.id() || index != descriptor.index()) {
+      return null;
+    }
+
+    long lastIndex = buffer.getLong();
+    int lastPosition = buffer.getInt();
+    int nextPosition = buffer.getInt();
+    int count = buffer.getInt();
+    if (count < 0 || bytes.length != HEADER_BYTES + count * INDEX_ENTRY_BYTES + Integer.BYTES) {
+      return null;
+    }
+
+    long[] indexes = new long[count];
+    int[] positions = new int[count];
+    for (int i = 0; i < count; i++) {
+      indexes[i] = buffer.getLong();
+      positions[i] = buffer.getInt();
+    }
+    return new JournalSegmentCheckpoint(id, index, lastIndex, lastPosition, nextPosition, indexes, positions);
+  }
+
+  private final long id;
+  private final long index;
+  private final long lastIndex;
+  private final int lastPosition;
+  private final int nextPosition;
+  private final long[] indexes;
+  private final int[] positions;
+
+  JournalSegmentCheckpoint(
+      JournalSegmentDescriptor descriptor,
+      long lastIndex,
+      int lastPosition,
+      int nextPosition,
+      JournalIndex journalIndex) {
+    this.id = descriptor.id();
+    this.index = descriptor.index();
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.nextPosition = nextPosition;
+
+    // Walk the index backwards from the last entry to collect the indexed positions.
+    List<Position> entries = new ArrayList<>();
+    Position position = journalIndex.lookup(lastIndex);
+    while (position != null && position.index() >= index) {
+      entries.add(position);
+      position = position.index() > index ? journalIndex.lookup(position.index() - 1) : null;
+    }
+
+    this.indexes = new long[entries.size()];
+    this.positions = new int[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      Position entry = entries.get(entries.size() - i - 1);
+      indexes[i] = entry.index();
+      positions[i] = entry.position();
+    }
+  }
+
+  private JournalSegmentCheckpoint(
+      long id,
+      long index,
+      long lastIndex,
+      int lastPosition,
+      int nextPosition,
+      long[] indexes,
+      int[] positions) {
+    this.id = id;
+    this.index = index;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    this.nextPosition = nextPosition;
+    this.indexes = indexes;
+    this.positions = positions;
+  }
+
+  /**
+   * Returns the index of the last entry in the segment.
+   *
+   * @return the index of the last entry in the segment
+   */
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  /**
+   * Returns the position of the last entry in the segment.
+   *
+   * @return the position of the last entry in the segment
+   */
+  int lastPosition() {
+    return lastPosition;
+  }
+
+  /**
+   * Returns the position following the last entry in the segment.
+   *
+   * @return the position at which the next entry would be written
+   */
+  int nextPosition() {
+    return nextPosition;
+  }
+
+  /**
+   * Restores the persisted positions to the given index.
+   *
+   * @param journalIndex the index to restore
+   */
+  void restore(JournalIndex journalIndex) {
+    for (int i = 0; i < indexes.length; i++) {
+      journalIndex.index(indexes[i], positions[i]);
+    }
+  }
+
+  /**
+   * Reads and verifies the last entry of the segment from the given buffer.
+   * <p>
+   * The buffer must be positioned at the {@link #lastPosition() last entry position}. The entry is only returned if
+   * its length and checksum are valid and no further entry follows it in the buffer.
+   *
+   * @param buffer the buffer from which to read the entry
+   * @param maxEntrySize the maximum entry size
+   * @param namespace the namespace with which to deserialize the entry
+   * @param <E> the entry type
+   * @return the last entry or {@code null} if the segment doesn't match the checkpoint
+   */
+  <E> Indexed<E> readLastEntry(ByteBuffer buffer, int maxEntrySize, Namespace namespace) {
+    try {
+      final int length = buffer.getInt();
+      if (length <= 0 || length > maxEntrySize
+          || lastPosition + Integer.BYTES + Integer.BYTES + length != nextPosition) {
+        return null;
+      }
+
+      final long checksum = buffer.getInt() & 0xFFFFFFFFL;
+      final CRC32 crc32 = new CRC32();
+      ByteBuffer slice = buffer.slice();
+      slice.limit(length);
+      crc32.update(slice);
+      if (checksum != crc32.getValue()) {
+        return null;
+      }
+
+      slice.rewind();
+      final E entry = namespace.deserialize(slice);
+
+      // If another entry was written after the checkpoint was taken, the checkpoint is stale.
+      buffer.position(buffer.position() + length);
+      if (buffer.remaining() >= Integer.BYTES && buffer.getInt() != 0) {
+        return null;
+      }
+      return new Indexed<>(lastIndex, entry, length);
+    } catch (BufferUnderflowException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Writes the checkpoint to the given file.
+   * <p>
+   * The checkpoint is written to a temporary file which is then atomically moved over the given file to ensure a
+   * partially written checkpoint is never read.
+   *
+   * @param file the file to which to write the checkpoint
+   */
+  void write(File file) {
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + indexes.length * INDEX_ENTRY_BYTES + Integer.BYTES);
+    buffer.putInt(VERSION);
+    buffer.putLong(id);
+    buffer.putLong(index);
+    buffer.putLong(lastIndex);
+    buffer.putInt(lastPosition);
+    buffer.putInt(nextPosition);
+    buffer.putInt(indexes.length);
+    for (int i = 0; i < indexes.length; i++) {
+      buffer.putLong(indexes[i]);
+      buffer.putInt(positions[i]);
+    }
+
+    CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc32.getValue());
+    buffer.flip();
+
+    File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(tempFile.toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("id", id)
+        .add("index", index)
+        .add("lastIndex", lastIndex)
+        .add("lastPosition", lastPosition)
+        .add("nextPosition", nextPosition)
+        .toString();
+  }
+}
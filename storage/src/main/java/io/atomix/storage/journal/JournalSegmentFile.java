@@ -28,6 +28,7 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "index";
   private final File file;
 
   /**
@@ -47,6 +48,33 @@ public final class JournalSegmentFile {
    * @throws NullPointerException if {@code file} is null
    */
   public static boolean isSegmentFile(String journalName, String fileName) {
+    return isJournalFile(journalName, fileName, EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file appears to be a segment index file.
+   *
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isIndexFile(String name, File file) {
+    return isIndexFile(name, file.getName());
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file appears to be a segment index file.
+   *
+   * @param journalName the name of the journal
+   * @param fileName the name of the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isIndexFile(String journalName, String fileName) {
+    return isJournalFile(journalName, fileName, INDEX_EXTENSION);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file name is a journal file with the given extension.
+   */
+  private static boolean isJournalFile(String journalName, String fileName, String extension) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
 
@@ -56,7 +84,7 @@ public final class JournalSegmentFile {
     if (extensionSeparator == -1
         || partSeparator == -1
         || extensionSeparator < partSeparator
-        || !fileName.endsWith(EXTENSION)) {
+        || !fileName.endsWith(extension)) {
       return false;
     }
 
@@ -91,4 +119,14 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the file in which the segment's index is persisted once the segment is sealed.
+   *
+   * @return The segment index file.
+   */
+  File indexFile() {
+    String name = file.getName();
+    return new File(file.getParentFile(), name.substring(0, name.length() - EXTENSION.length()) + INDEX_EXTENSION);
+  }
 }
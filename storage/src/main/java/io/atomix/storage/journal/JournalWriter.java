@@ -15,6 +15,8 @@
  */
 package io.atomix.storage.journal;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Log writer.
  *
@@ -65,6 +67,19 @@ public interface JournalWriter<E> extends AutoCloseable {
    */
   void commit(long index);
 
+  /**
+   * Commits entries up to the given index, returning a future to be completed once the entries have been flushed.
+   * <p>
+   * By default, entries are committed synchronously and the returned future is completed immediately.
+   *
+   * @param index The index up to which to commit entries.
+   * @return a future to be completed once the committed entries have been flushed
+   */
+  default CompletableFuture<Long> commitAsync(long index) {
+    commit(index);
+    return CompletableFuture.completedFuture(index);
+  }
+
   /**
    * Resets the head of the journal to the given index.
    *
@@ -88,6 +88,19 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
     return null;
   }
 
+  /**
+   * Returns a checkpoint of the writer's current state.
+   *
+   * @return a checkpoint of the writer's current state or {@code null} if the segment is empty
+   */
+  JournalSegmentCheckpoint checkpoint() {
+    JournalWriter<E> writer = this.writer;
+    if (writer instanceof MappedJournalSegmentWriter) {
+      return ((MappedJournalSegmentWriter<E>) writer).checkpoint();
+    }
+    return ((FileChannelJournalSegmentWriter<E>) writer).checkpoint();
+  }
+
   /**
    * Returns the writer's first index.
    *
@@ -127,11 +140,13 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public <T extends E> Indexed<T> append(T entry) {
+    segment.unseal();
     return writer.append(entry);
   }
 
   @Override
   public void append(Indexed<E> entry) {
+    segment.unseal();
     writer.append(entry);
   }
 
@@ -147,6 +162,9 @@ class MappableJournalSegmentWriter<E> implements JournalWriter<E> {
 
   @Override
   public void truncate(long index) {
+    if (index < writer.getLastIndex()) {
+      segment.unseal();
+    }
     writer.truncate(index);
   }
 
@@ -52,6 +52,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
   private final Namespace namespace;
   private final long firstIndex;
   private Indexed<E> lastEntry;
+  private int lastPosition;
 
   MappedJournalSegmentWriter(
       MappedByteBuffer buffer,
@@ -66,7 +67,34 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     this.index = index;
     this.namespace = namespace;
     this.firstIndex = segment.index();
-    reset(0);
+    if (!recover(segment.checkpoint())) {
+      reset(0);
+    }
+  }
+
+  /**
+   * Restores the writer from the given segment checkpoint.
+   *
+   * @param checkpoint the checkpoint from which to restore the writer
+   * @return indicates whether the writer was restored from the checkpoint
+   */
+  private boolean recover(JournalSegmentCheckpoint checkpoint) {
+    if (checkpoint == null || checkpoint.nextPosition() > buffer.limit()) {
+      return false;
+    }
+
+    ByteBuffer slice = buffer.duplicate();
+    slice.position(checkpoint.lastPosition());
+    Indexed<E> entry = checkpoint.readLastEntry(slice, maxEntrySize, namespace);
+    if (entry == null) {
+      return false;
+    }
+
+    checkpoint.restore(this.index);
+    lastEntry = entry;
+    lastPosition = checkpoint.lastPosition();
+    buffer.position(checkpoint.nextPosition());
+    return true;
   }
 
   /**
@@ -111,6 +139,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
           slice.rewind();
           final E entry = namespace.deserialize(slice);
           lastEntry = new Indexed<>(nextIndex, entry, length);
+          lastPosition = position;
           this.index.index(nextIndex, position);
           nextIndex++;
         } else {
@@ -151,6 +180,18 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     }
   }
 
+  /**
+   * Returns a checkpoint of the writer's current state.
+   *
+   * @return a checkpoint of the writer's current state or {@code null} if the segment is empty
+   */
+  JournalSegmentCheckpoint checkpoint() {
+    if (lastEntry == null) {
+      return null;
+    }
+    return new JournalSegmentCheckpoint(segment.descriptor(), lastEntry.index(), lastPosition, buffer.position(), index);
+  }
+
   /**
    * Returns the size of the underlying buffer.
    *
@@ -232,6 +273,7 @@ class MappedJournalSegmentWriter<E> implements JournalWriter<E> {
     // Update the last entry with the correct index/term/length.
     Indexed<E> indexedEntry = new Indexed<>(index, entry, length);
     this.lastEntry = indexedEntry;
+    this.lastPosition = position;
     this.index.index(index, position);
     return (Indexed<T>) indexedEntry;
   }
@@ -21,6 +21,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
@@ -43,7 +44,7 @@ import static com.google.common.base.Preconditions.checkState;
 /**
  * Segmented journal.
  */
-public class SegmentedJournal<E> implements Journal<E> {
+public class SegmentedJournal<E> implements CompactableJournal<E> {
 
   /**
    * Returns a new Raft log builder.
@@ -66,6 +67,9 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntriesPerSegment;
   private final double indexDensity;
   private final boolean flushOnCommit;
+  private final boolean groupCommit;
+  private final Duration groupCommitInterval;
+  private final int groupCommitBytes;
   private final SegmentedJournalWriter<E> writer;
   private volatile long commitIndex;
 
@@ -84,7 +88,10 @@ public class SegmentedJournal<E> implements Journal<E> {
       int maxEntrySize,
       int maxEntriesPerSegment,
       double indexDensity,
-      boolean flushOnCommit) {
+      boolean flushOnCommit,
+      boolean groupCommit,
+      Duration groupCommitInterval,
+      int groupCommitBytes) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -94,6 +101,9 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.indexDensity = indexDensity;
     this.flushOnCommit = flushOnCommit;
+    this.groupCommit = groupCommit;
+    this.groupCommitInterval = checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+    this.groupCommitBytes = groupCommitBytes;
     open();
     this.writer = openWriter();
   }
@@ -241,6 +251,13 @@ public class SegmentedJournal<E> implements Journal<E> {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+
+      // Seal any full segments that were not sealed before the journal was last closed.
+      for (JournalSegment<E> segment : segments.headMap(currentSegment.index()).values()) {
+        if (!segment.isSealed()) {
+          segment.seal();
+        }
+      }
     } else {
       JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder()
           .withId(1)
@@ -587,6 +604,7 @@ public class SegmentedJournal<E> implements Journal<E> {
    * @param index the index from which to remove segments
    * @return indicates whether a segment can be removed from the journal
    */
+  @Override
   public boolean isCompactable(long index) {
     Map.Entry<Long, JournalSegment<E>> segmentEntry = segments.floorEntry(index);
     return segmentEntry != null && segments.headMap(segmentEntry.getValue().index()).size() > 0;
@@ -598,6 +616,7 @@ public class SegmentedJournal<E> implements Journal<E> {
    * @param index the compaction index
    * @return the starting index of the last segment in the log
    */
+  @Override
   public long getCompactableIndex(long index) {
     Map.Entry<Long, JournalSegment<E>> segmentEntry = segments.floorEntry(index);
     return segmentEntry != null ? segmentEntry.getValue().index() : 0;
@@ -610,6 +629,7 @@ public class SegmentedJournal<E> implements Journal<E> {
    *
    * @param index The index up to which to compact the journal.
    */
+  @Override
   public void compact(long index) {
     Map.Entry<Long, JournalSegment<E>> segmentEntry = segments.floorEntry(index);
     if (segmentEntry != null) {
@@ -629,6 +649,7 @@ public class SegmentedJournal<E> implements Journal<E> {
 
   @Override
   public void close() {
+    writer.flushPending();
     segments.values().forEach(segment -> {
       log.debug("Closing segment: {}", segment);
       segment.close();
@@ -646,6 +667,33 @@ public class SegmentedJournal<E> implements Journal<E> {
     return flushOnCommit;
   }
 
+  /**
+   * Returns whether group commit is enabled for the log.
+   *
+   * @return Indicates whether flushes for committed entries are coalesced.
+   */
+  boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Returns the maximum amount of time for which a group commit may be delayed.
+   *
+   * @return The group commit interval.
+   */
+  Duration groupCommitInterval() {
+    return groupCommitInterval;
+  }
+
+  /**
+   * Returns the number of unflushed bytes after which a group commit is flushed immediately.
+   *
+   * @return The group commit byte threshold.
+   */
+  int groupCommitBytes() {
+    return groupCommitBytes;
+  }
+
   /**
    * Commits entries up to the given index.
    *
@@ -669,6 +717,9 @@ public class SegmentedJournal<E> implements Journal<E> {
    */
   public static class Builder<E> implements io.atomix.utils.Builder<SegmentedJournal<E>> {
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+    private static final boolean DEFAULT_GROUP_COMMIT = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+    private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
     private static final String DEFAULT_NAME = "atomix";
     private static final String DEFAULT_DIRECTORY = System.getProperty("user.dir");
     private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
@@ -687,6 +738,9 @@ public class SegmentedJournal<E> implements Journal<E> {
     protected double indexDensity = DEFAULT_INDEX_DENSITY;
     protected int cacheSize = DEFAULT_CACHE_SIZE;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+    private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+    private int groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
 
     protected Builder() {
     }
@@ -868,6 +922,63 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Enables group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, committed entries are flushed to disk like with flush-on-commit, but flushes
+     * for many commits are coalesced into a single flush which occurs once either the group commit interval has
+     * elapsed or the group commit byte threshold has been reached.
+     *
+     * @return The storage builder.
+     */
+    public Builder<E> withGroupCommit() {
+      return withGroupCommit(true);
+    }
+
+    /**
+     * Sets whether to enable group commit, returning the builder for method chaining.
+     * <p>
+     * When group commit is enabled, committed entries are flushed to disk like with flush-on-commit, but flushes
+     * for many commits are coalesced into a single flush which occurs once either the group commit interval has
+     * elapsed or the group commit byte threshold has been reached.
+     *
+     * @param groupCommit Whether to coalesce flushes for committed entries.
+     * @return The storage builder.
+     */
+    public Builder<E> withGroupCommit(boolean groupCommit) {
+      this.groupCommit = groupCommit;
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which a group commit may be delayed, returning the builder for method
+     * chaining.
+     *
+     * @param groupCommitInterval The maximum amount of time for which to delay flushing committed entries.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the interval is negative
+     */
+    public Builder<E> withGroupCommitInterval(Duration groupCommitInterval) {
+      checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+      checkArgument(!groupCommitInterval.isNegative(), "groupCommitInterval must be positive");
+      this.groupCommitInterval = groupCommitInterval;
+      return this;
+    }
+
+    /**
+     * Sets the number of unflushed bytes after which a group commit is flushed immediately, returning the builder
+     * for method chaining.
+     *
+     * @param groupCommitBytes The number of unflushed bytes after which to flush committed entries.
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the number of bytes is not positive
+     */
+    public Builder<E> withGroupCommitBytes(int groupCommitBytes) {
+      checkArgument(groupCommitBytes > 0, "groupCommitBytes must be positive");
+      this.groupCommitBytes = groupCommitBytes;
+      return this;
+    }
+
     @Override
     public SegmentedJournal<E> build() {
       return new SegmentedJournal<>(
@@ -879,7 +990,10 @@ public class SegmentedJournal<E> implements Journal<E> {
           maxEntrySize,
           maxEntriesPerSegment,
           indexDensity,
-          flushOnCommit);
+          flushOnCommit,
+          groupCommit,
+          groupCommitInterval,
+          groupCommitBytes);
     }
   }
 }
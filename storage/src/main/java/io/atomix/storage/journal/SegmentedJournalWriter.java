@@ -16,14 +16,27 @@
 package io.atomix.storage.journal;
 
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Raft log writer.
+ * <p>
+ * When group commit is enabled, the writer may be flushed by the shared journal flush scheduler, so all operations
+ * that modify the journal are synchronized. Group commit futures are completed outside the writer's lock so their
+ * callbacks cannot block or deadlock with writes to the journal.
  */
 public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   private final SegmentedJournal<E> journal;
   private JournalSegment<E> currentSegment;
   private MappableJournalSegmentWriter<E> currentWriter;
+  private final List<PendingFlush> pendingFlushes = new ArrayList<>();
+  private ScheduledFuture<?> flushFuture;
+  private long flushedIndex;
+  private long unflushedBytes;
 
   public SegmentedJournalWriter(SegmentedJournal<E> journal) {
     this.journal = journal;
@@ -48,7 +61,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   }
 
   @Override
-  public void reset(long index) {
+  public synchronized void reset(long index) {
     if (index > currentSegment.index()) {
       currentSegment.release();
       currentSegment = journal.resetSegments(index);
@@ -62,50 +75,120 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   @Override
   public void commit(long index) {
-    if (index > journal.getCommitIndex()) {
-      journal.setCommitIndex(index);
-      if (journal.isFlushOnCommit()) {
-        flush();
+    commitAsync(index);
+  }
+
+  /**
+   * Commits entries up to the given index, returning a future to be completed once the entries have been flushed.
+   * <p>
+   * If group commit is enabled, the returned future is completed once the group commit including the given index has
+   * been flushed to disk. Otherwise, the entries are flushed according to the journal's flush-on-commit setting and
+   * the returned future is completed immediately.
+   *
+   * @param index The index up to which to commit entries.
+   * @return a future to be completed once the committed entries have been flushed
+   */
+  @Override
+  public CompletableFuture<Long> commitAsync(long index) {
+    CompletableFuture<Long> future = null;
+    boolean flushNow;
+    synchronized (this) {
+      boolean committed = index > journal.getCommitIndex();
+      if (committed) {
+        journal.setCommitIndex(index);
+      }
+      if (journal.isGroupCommit()) {
+        if (committed || index > flushedIndex) {
+          future = new CompletableFuture<>();
+          flushNow = groupCommit(index, future);
+        } else {
+          flushNow = false;
+        }
+      } else {
+        flushNow = committed && journal.isFlushOnCommit();
+      }
+    }
+    if (flushNow) {
+      flush();
+    }
+    return future != null ? future : CompletableFuture.completedFuture(index);
+  }
+
+  /**
+   * Adds the given index to the current group commit.
+   * <p>
+   * The group commit should be flushed immediately if the number of unflushed bytes exceeds the configured
+   * threshold. Otherwise, a flush is scheduled to occur once the group commit interval has elapsed.
+   *
+   * @return whether the group commit should be flushed immediately
+   */
+  private boolean groupCommit(long index, CompletableFuture<Long> future) {
+    pendingFlushes.add(new PendingFlush(index, future));
+    if (unflushedBytes >= journal.groupCommitBytes() || journal.groupCommitInterval().isZero()) {
+      return true;
+    } else if (flushFuture == null) {
+      flushFuture = JournalFlushScheduler.schedule(this::flushPending, journal.groupCommitInterval());
+    }
+    return false;
+  }
+
+  /**
+   * Flushes the writer if any group commits are pending.
+   */
+  void flushPending() {
+    synchronized (this) {
+      flushFuture = null;
+      if (pendingFlushes.isEmpty()) {
+        return;
       }
     }
+    flush();
   }
 
   @Override
-  public <T extends E> Indexed<T> append(T entry) {
+  public synchronized <T extends E> Indexed<T> append(T entry) {
     try {
-      return currentWriter.append(entry);
+      Indexed<T> indexed = currentWriter.append(entry);
+      unflushedBytes += indexed.size();
+      return indexed;
     } catch (BufferOverflowException e) {
       if (currentSegment.index() == currentWriter.getNextIndex()) {
         throw e;
       }
       currentWriter.flush();
+      currentSegment.seal();
       currentSegment.release();
       currentSegment = journal.getNextSegment();
       currentSegment.acquire();
       currentWriter = currentSegment.writer();
-      return currentWriter.append(entry);
+      Indexed<T> indexed = currentWriter.append(entry);
+      unflushedBytes += indexed.size();
+      return indexed;
     }
   }
 
   @Override
-  public void append(Indexed<E> entry) {
+  public synchronized void append(Indexed<E> entry) {
     try {
       currentWriter.append(entry);
+      unflushedBytes += entry.size();
     } catch (BufferOverflowException e) {
       if (currentSegment.index() == currentWriter.getNextIndex()) {
         throw e;
       }
       currentWriter.flush();
+      currentSegment.seal();
       currentSegment.release();
       currentSegment = journal.getNextSegment();
       currentSegment.acquire();
       currentWriter = currentSegment.writer();
       currentWriter.append(entry);
+      unflushedBytes += entry.size();
     }
   }
 
   @Override
-  public void truncate(long index) {
+  public synchronized void truncate(long index) {
     if (index < journal.getCommitIndex()) {
       throw new IndexOutOfBoundsException("Cannot truncate committed index: " + index);
     }
@@ -121,6 +204,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
     // Truncate the current index.
     currentWriter.truncate(index);
+    flushedIndex = Math.min(flushedIndex, index);
 
     // Reset segment readers.
     journal.resetTail(index + 1);
@@ -128,11 +212,52 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
 
   @Override
   public void flush() {
-    currentWriter.flush();
+    List<PendingFlush> completedFlushes;
+    RuntimeException error = null;
+    synchronized (this) {
+      if (flushFuture != null) {
+        flushFuture.cancel(false);
+        flushFuture = null;
+      }
+
+      completedFlushes = pendingFlushes.isEmpty() ? Collections.emptyList() : new ArrayList<>(pendingFlushes);
+      pendingFlushes.clear();
+      try {
+        currentWriter.flush();
+        flushedIndex = currentWriter.getLastIndex();
+        unflushedBytes = 0;
+      } catch (RuntimeException e) {
+        error = e;
+      }
+    }
+
+    for (PendingFlush pendingFlush : completedFlushes) {
+      if (error == null) {
+        pendingFlush.future.complete(pendingFlush.index);
+      } else {
+        pendingFlush.future.completeExceptionally(error);
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
   }
 
   @Override
   public void close() {
     currentWriter.close();
   }
+
+  /**
+   * Commit awaiting a group flush.
+   */
+  private static final class PendingFlush {
+    private final long index;
+    private final CompletableFuture<Long> future;
+
+    PendingFlush(long index, CompletableFuture<Long> future) {
+      this.index = index;
+      this.future = future;
+    }
+  }
 }
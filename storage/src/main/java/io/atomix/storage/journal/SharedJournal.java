@@ -0,0 +1,851 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.zip.CRC32;
+
+import io.atomix.storage.StorageException;
+import io.atomix.utils.serializer.Namespace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Journal shared by multiple partitions.
+ * <p>
+ * The shared journal multiplexes the entries of many {@link SharedJournalPartition partitions} into a single
+ * sequence of segment files, so a node hosting many partitions performs one sequential write stream and flushes all
+ * partitions with a single fsync. Each record is tagged with the identifier of the partition that wrote it and the
+ * partition's logical index. Partition indexes are rebuilt in memory by replaying the segments when the journal is
+ * opened.
+ * <p>
+ * Each partition tracks its own compaction index. A segment is deleted once every partition that wrote to it has
+ * compacted all of its records in the segment. Segments are only ever removed from the head of the journal.
+ * Partition identifiers and compaction indexes are persisted in a partitions registry alongside the segments, so
+ * partitions that are not reopened after a restart do not prevent segments from being deleted. Records written by
+ * partitions that are no longer registered belong to deleted partitions and are treated as compacted.
+ */
+public class SharedJournal implements AutoCloseable {
+
+  /**
+   * Returns a new shared journal builder.
+   *
+   * @return a new shared journal builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  static final byte ENTRY = 1;
+  static final byte TRUNCATE = 2;
+  static final byte RESET = 3;
+
+  private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+  private static final int METADATA_BYTES = Integer.BYTES + Byte.BYTES + Long.BYTES;
+  private static final String SEGMENT_EXTENSION = "log";
+  private static final String PARTITIONS_EXTENSION = "partitions";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final String name;
+  private final File directory;
+  private final int maxSegmentSize;
+  private final int maxEntrySize;
+  private final int cacheSize;
+  private final boolean flushOnCommit;
+  private final boolean groupCommit;
+  private final Duration groupCommitInterval;
+  private final int groupCommitBytes;
+
+  private final NavigableMap<Long, SharedJournalSegment> segments = new ConcurrentSkipListMap<>();
+  private final Map<String, Integer> partitionIds = new HashMap<>();
+  private final Map<Integer, SharedJournalIndex> indexes = new HashMap<>();
+  private final Map<Integer, Long> compactIndexes = new HashMap<>();
+  private final Set<Integer> openPartitions = new HashSet<>();
+  private int nextPartitionId = 1;
+  private final List<CompletableFuture<Void>> pendingFlushes = new ArrayList<>();
+  private SharedJournalSegment currentSegment;
+  private ScheduledFuture<?> flushFuture;
+  private long unflushedBytes;
+  private long writeSequence;
+  private volatile long flushSequence;
+  private volatile boolean open = true;
+
+  public SharedJournal(
+      String name,
+      File directory,
+      int maxSegmentSize,
+      int maxEntrySize,
+      int cacheSize,
+      boolean flushOnCommit,
+      boolean groupCommit,
+      Duration groupCommitInterval,
+      int groupCommitBytes) {
+    this.name = checkNotNull(name, "name cannot be null");
+    this.directory = checkNotNull(directory, "directory cannot be null");
+    this.maxSegmentSize = maxSegmentSize;
+    this.maxEntrySize = maxEntrySize;
+    this.cacheSize = cacheSize;
+    this.flushOnCommit = flushOnCommit;
+    this.groupCommit = groupCommit;
+    this.groupCommitInterval = checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+    this.groupCommitBytes = groupCommitBytes;
+    open();
+  }
+
+  /**
+   * Returns the segment file name prefix.
+   *
+   * @return the segment file name prefix
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns the storage directory.
+   *
+   * @return the storage directory
+   */
+  public File directory() {
+    return directory;
+  }
+
+  /**
+   * Opens a partition of the journal, recovering the partition's entries if it has been written before.
+   *
+   * @param name      the partition name
+   * @param namespace the namespace with which to serialize the partition's entries
+   * @param <E>       the partition entry type
+   * @return the journal partition
+   * @throws IllegalStateException if the partition is already open
+   */
+  public synchronized <E> SharedJournalPartition<E> openPartition(String name, Namespace namespace) {
+    checkNotNull(name, "name cannot be null");
+    checkNotNull(namespace, "namespace cannot be null");
+    assertOpen();
+    Integer partitionId = partitionIds.get(name);
+    if (partitionId == null) {
+      partitionId = nextPartitionId++;
+      partitionIds.put(name, partitionId);
+      storePartitions();
+    }
+    checkState(openPartitions.add(partitionId), "Partition " + name + " is already open");
+    SharedJournalIndex index = indexes.computeIfAbsent(partitionId, id -> new SharedJournalIndex());
+
+    // Records prior to the partition's first index were removed before the journal was last closed, and records
+    // prior to the persisted compaction index may remain in segments retained for other partitions.
+    long compactIndex = compactIndexes.merge(partitionId, index.firstIndex(), Math::max);
+    index.compact(compactIndex);
+    return new SharedJournalPartition<>(this, partitionId, name, namespace, index, cacheSize);
+  }
+
+  /**
+   * Deletes all entries written by the given partition.
+   * <p>
+   * The partition is removed from the partitions registry, and its identifier is not reused while records written by
+   * the partition remain in the journal. If the partition is opened again, it is registered as a new, empty partition.
+   *
+   * @param name the name of the partition to delete
+   * @throws IllegalStateException if the partition is open
+   */
+  public synchronized void deletePartition(String name) {
+    assertOpen();
+    Integer partitionId = partitionIds.get(name);
+    if (partitionId == null) {
+      return;
+    }
+    checkState(!openPartitions.contains(partitionId), "Cannot delete open partition " + name);
+    partitionIds.remove(name);
+    indexes.remove(partitionId);
+    compactIndexes.put(partitionId, Long.MAX_VALUE);
+    storePartitions();
+    compactSegments();
+  }
+
+  /**
+   * Persists the registered partitions' identifiers and compaction indexes.
+   * <p>
+   * Each partition is stored as {@code <name>=<id>,<compactIndex>}.
+   */
+  private void storePartitions() {
+    Properties properties = new Properties();
+    partitionIds.forEach((partition, id) -> properties.setProperty(
+        partition, String.format("%d,%d", id, compactIndexes.getOrDefault(id, 0L))));
+    File file = new File(directory, String.format("%s.%s", this.name, PARTITIONS_EXTENSION));
+    File tmpFile = new File(directory, String.format("%s.%s.tmp", this.name, PARTITIONS_EXTENSION));
+    try {
+      try (OutputStream output = new FileOutputStream(tmpFile)) {
+        properties.store(output, null);
+      }
+      Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Loads the registered partitions.
+   */
+  private void loadPartitions() {
+    File file = new File(directory, String.format("%s.%s", name, PARTITIONS_EXTENSION));
+    if (!file.exists()) {
+      return;
+    }
+    Properties properties = new Properties();
+    try (InputStream input = new FileInputStream(file)) {
+      properties.load(input);
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+    for (String partition : properties.stringPropertyNames()) {
+      String[] value = properties.getProperty(partition).split(",");
+      int partitionId = Integer.parseInt(value[0]);
+      partitionIds.put(partition, partitionId);
+      if (value.length > 1) {
+        compactIndexes.put(partitionId, Long.parseLong(value[1]));
+      }
+    }
+  }
+
+  /**
+   * Opens the journal, replaying existing segments to rebuild partition indexes.
+   */
+  private void open() {
+    directory.mkdirs();
+    loadPartitions();
+
+    File[] files = directory.listFiles(file -> file.isFile() && segmentId(file) > 0);
+    List<File> segmentFiles = new ArrayList<>();
+    if (files != null) {
+      for (File file : files) {
+        segmentFiles.add(file);
+      }
+    }
+    segmentFiles.sort((f1, f2) -> Long.compare(segmentId(f1), segmentId(f2)));
+
+    for (File file : segmentFiles) {
+      SharedJournalSegment segment = new SharedJournalSegment(segmentId(file), file);
+      log.debug("Loaded segment: {}", segment);
+      replaySegment(segment);
+      segments.put(segment.id(), segment);
+    }
+
+    // Records of partitions missing from the registry were written by deleted partitions.
+    for (int partitionId : indexes.keySet()) {
+      if (!partitionIds.containsValue(partitionId)) {
+        compactIndexes.put(partitionId, Long.MAX_VALUE);
+      }
+      nextPartitionId = Math.max(nextPartitionId, partitionId + 1);
+    }
+    for (int partitionId : partitionIds.values()) {
+      nextPartitionId = Math.max(nextPartitionId, partitionId + 1);
+    }
+    indexes.keySet().retainAll(partitionIds.values());
+
+    if (segments.isEmpty()) {
+      currentSegment = createSegment(1);
+    } else {
+      currentSegment = segments.lastEntry().getValue();
+    }
+    compactSegments();
+  }
+
+  /**
+   * Returns the identifier of the segment stored in the given file.
+   */
+  private long segmentId(File file) {
+    String fileName = file.getName();
+    String prefix = name + "-";
+    String suffix = "." + SEGMENT_EXTENSION;
+    if (!fileName.startsWith(prefix) || !fileName.endsWith(suffix)) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(fileName.substring(prefix.length(), fileName.length() - suffix.length()));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Replays the records in the given segment, truncating the segment at the first invalid record.
+   */
+  private void replaySegment(SharedJournalSegment segment) {
+    long size = segment.size();
+    long offset = 0;
+    CRC32 crc32 = new CRC32();
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(segment.file()), 1024 * 64))) {
+      while (offset + HEADER_BYTES <= size) {
+        int length = input.readInt();
+        int checksum = input.readInt();
+        if (length < METADATA_BYTES || length > METADATA_BYTES + maxEntrySize || offset + HEADER_BYTES + length > size) {
+          break;
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        crc32.reset();
+        crc32.update(bytes, 0, length);
+        if ((int) crc32.getValue() != checksum) {
+          break;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int partitionId = buffer.getInt();
+        byte type = buffer.get();
+        long index = buffer.getLong();
+        SharedJournalIndex partitionIndex = indexes.computeIfAbsent(partitionId, id -> new SharedJournalIndex());
+        switch (type) {
+          case ENTRY:
+            partitionIndex.add(index, SharedJournalIndex.position(segment.id(), (int) offset));
+            break;
+          case TRUNCATE:
+            partitionIndex.truncate(index);
+            break;
+          case RESET:
+            partitionIndex.reset(index);
+            break;
+          default:
+            throw new StorageException("Unknown record type " + type + " in segment " + segment.file());
+        }
+        segment.record(partitionId, index);
+        offset += HEADER_BYTES + length;
+      }
+    } catch (EOFException e) {
+      // The final record was only partially written.
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+
+    if (offset < size) {
+      log.warn("Truncating segment {} at offset {} following an incomplete or corrupt record", segment.file(), offset);
+      segment.truncate(offset);
+    }
+  }
+
+  /**
+   * Creates a new segment.
+   */
+  private SharedJournalSegment createSegment(long id) {
+    File file = new File(directory, String.format("%s-%d.%s", name, id, SEGMENT_EXTENSION));
+    SharedJournalSegment segment = new SharedJournalSegment(id, file);
+    segments.put(id, segment);
+    log.debug("Created segment: {}", segment);
+    return segment;
+  }
+
+  /**
+   * Asserts that the journal is open.
+   *
+   * @throws IllegalStateException if the journal is not open
+   */
+  private void assertOpen() {
+    checkState(open, "journal not open");
+  }
+
+  /**
+   * Encodes a record.
+   */
+  private ByteBuffer encode(int partitionId, byte type, long index, byte[] payload) {
+    int length = METADATA_BYTES + payload.length;
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + length);
+    buffer.putInt(length);
+    buffer.putInt(0);
+    buffer.putInt(partitionId);
+    buffer.put(type);
+    buffer.putLong(index);
+    buffer.put(payload);
+    CRC32 crc32 = new CRC32();
+    crc32.update(buffer.array(), HEADER_BYTES, length);
+    buffer.putInt(Integer.BYTES, (int) crc32.getValue());
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Writes a record to the current segment, rolling over to a new segment if the current segment is full.
+   *
+   * @return the position of the record
+   */
+  private long write(int partitionId, long index, ByteBuffer record) {
+    assertOpen();
+    if (currentSegment.size() > 0 && currentSegment.size() + record.remaining() > maxSegmentSize) {
+      // Flush the full segment so that only the current segment needs to be flushed to make the journal durable.
+      currentSegment.flush();
+      currentSegment = createSegment(currentSegment.id() + 1);
+    }
+    unflushedBytes += record.remaining();
+    int offset = currentSegment.append(record);
+    currentSegment.record(partitionId, index);
+    writeSequence++;
+    return SharedJournalIndex.position(currentSegment.id(), offset);
+  }
+
+  /**
+   * Appends an entry for the given partition.
+   *
+   * @param partitionId the partition identifier
+   * @param index       the entry index
+   * @param payload     the serialized entry
+   * @return the write sequence number of the entry
+   */
+  long append(int partitionId, long index, byte[] payload) {
+    if (payload.length > maxEntrySize) {
+      throw new StorageException.TooLarge("Entry size " + payload.length + " exceeds maximum allowed bytes (" + maxEntrySize + ")");
+    }
+    ByteBuffer record = encode(partitionId, ENTRY, index, payload);
+    synchronized (this) {
+      long position = write(partitionId, index, record);
+      indexes.get(partitionId).add(index, position);
+      return writeSequence;
+    }
+  }
+
+  /**
+   * Truncates the given partition to the given index.
+   *
+   * @param partitionId the partition identifier
+   * @param index       the index after which to remove entries
+   */
+  synchronized void truncate(int partitionId, long index) {
+    write(partitionId, index, encode(partitionId, TRUNCATE, index, new byte[0]));
+    indexes.get(partitionId).truncate(index);
+  }
+
+  /**
+   * Removes all entries from the given partition and resets it to the given index.
+   *
+   * @param partitionId the partition identifier
+   * @param index       the next index to be written to the partition
+   */
+  synchronized void reset(int partitionId, long index) {
+    write(partitionId, index, encode(partitionId, RESET, index, new byte[0]));
+    indexes.get(partitionId).reset(index);
+
+    // All records written prior to the reset have been discarded. If the partition was reset to an index below its
+    // compaction index, records written after the reset must be retained.
+    compactIndexes.put(partitionId, index);
+    storePartitions();
+  }
+
+  /**
+   * Reads the serialized entry at the given position.
+   *
+   * @param position the record position
+   * @return the serialized entry
+   */
+  byte[] read(long position) {
+    SharedJournalSegment segment = segments.get(SharedJournalIndex.segmentId(position));
+    if (segment == null || !segment.isOpen()) {
+      throw new StorageException("Segment " + SharedJournalIndex.segmentId(position) + " has been compacted");
+    }
+    int offset = SharedJournalIndex.offset(position);
+    ByteBuffer header = segment.read(offset, HEADER_BYTES);
+    int length = header.getInt();
+    ByteBuffer record = segment.read(offset + HEADER_BYTES + METADATA_BYTES, length - METADATA_BYTES);
+    return record.array();
+  }
+
+  /**
+   * Compacts the given partition up to the given index, deleting segments that no longer contain live records.
+   *
+   * @param partitionId the partition identifier
+   * @param index       the first index to retain in the partition
+   */
+  synchronized void compact(int partitionId, long index) {
+    indexes.get(partitionId).compact(index);
+    if (index > compactIndexes.getOrDefault(partitionId, 0L)) {
+      compactIndexes.put(partitionId, index);
+      storePartitions();
+    }
+    compactSegments();
+  }
+
+  /**
+   * Deletes segments at the head of the journal whose records have been compacted by all partitions.
+   */
+  private void compactSegments() {
+    Iterator<SharedJournalSegment> iterator = segments.values().iterator();
+    while (iterator.hasNext()) {
+      SharedJournalSegment segment = iterator.next();
+      if (segment == currentSegment || !isCompacted(segment)) {
+        break;
+      }
+      log.trace("Deleting segment: {}", segment);
+      iterator.remove();
+      segment.close();
+      segment.delete();
+    }
+  }
+
+  /**
+   * Returns a boolean indicating whether all the records in the given segment have been compacted.
+   */
+  private boolean isCompacted(SharedJournalSegment segment) {
+    for (Map.Entry<Integer, Long> entry : segment.maxIndexes().entrySet()) {
+      if (entry.getValue() >= compactIndexes.getOrDefault(entry.getKey(), 0L)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Closes the given partition.
+   *
+   * @param partitionId the partition identifier
+   */
+  synchronized void closePartition(int partitionId) {
+    openPartitions.remove(partitionId);
+  }
+
+  /**
+   * Returns whether {@code flushOnCommit} is enabled for the journal.
+   *
+   * @return Indicates whether {@code flushOnCommit} is enabled for the journal.
+   */
+  boolean isFlushOnCommit() {
+    return flushOnCommit;
+  }
+
+  /**
+   * Returns whether group commit is enabled for the journal.
+   *
+   * @return Indicates whether group commit is enabled for the journal.
+   */
+  boolean isGroupCommit() {
+    return groupCommit;
+  }
+
+  /**
+   * Returns the sequence number of the last record flushed to disk.
+   *
+   * @return the sequence number of the last record flushed to disk
+   */
+  long flushSequence() {
+    return flushSequence;
+  }
+
+  /**
+   * Returns a future to be completed once all records written so far have been flushed by a group commit.
+   * <p>
+   * The group commit is flushed immediately if the number of unflushed bytes exceeds the configured threshold.
+   * Otherwise, a flush is scheduled to occur once the group commit interval has elapsed.
+   *
+   * @return a future to be completed once the group commit has been flushed
+   */
+  CompletableFuture<Void> groupCommit() {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    boolean flushNow = false;
+    synchronized (this) {
+      assertOpen();
+      pendingFlushes.add(future);
+      if (unflushedBytes >= groupCommitBytes || groupCommitInterval.isZero()) {
+        flushNow = true;
+      } else if (flushFuture == null) {
+        flushFuture = JournalFlushScheduler.schedule(this::flushPending, groupCommitInterval);
+      }
+    }
+    if (flushNow) {
+      flush();
+    }
+    return future;
+  }
+
+  /**
+   * Flushes the journal if any group commits are pending.
+   */
+  private void flushPending() {
+    boolean pending;
+    synchronized (this) {
+      flushFuture = null;
+      pending = !pendingFlushes.isEmpty();
+    }
+    if (pending) {
+      flush();
+    }
+  }
+
+  /**
+   * Flushes all partitions to disk.
+   * <p>
+   * Segments are rolled over only after being flushed, so flushing the current segment makes all records written
+   * by all partitions durable. The flush itself is performed outside the journal's lock so partitions may continue
+   * writing while the journal is being flushed.
+   */
+  public void flush() {
+    SharedJournalSegment segment;
+    List<CompletableFuture<Void>> flushes;
+    long sequence;
+    synchronized (this) {
+      if (flushFuture != null) {
+        flushFuture.cancel(false);
+        flushFuture = null;
+      }
+      if (!open) {
+        return;
+      }
+      segment = currentSegment;
+      sequence = writeSequence;
+      unflushedBytes = 0;
+      flushes = new ArrayList<>(pendingFlushes);
+      pendingFlushes.clear();
+    }
+
+    try {
+      segment.flush();
+    } catch (RuntimeException e) {
+      flushes.forEach(future -> future.completeExceptionally(e));
+      throw e;
+    }
+
+    synchronized (this) {
+      flushSequence = Math.max(flushSequence, sequence);
+    }
+    flushes.forEach(future -> future.complete(null));
+  }
+
+  /**
+   * Returns a boolean indicating whether the journal is open.
+   *
+   * @return indicates whether the journal is open
+   */
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() {
+    if (!open) {
+      return;
+    }
+    flush();
+    synchronized (this) {
+      open = false;
+      segments.values().forEach(segment -> {
+        log.debug("Closing segment: {}", segment);
+        segment.close();
+      });
+      segments.clear();
+      currentSegment = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("name", name)
+        .add("directory", directory)
+        .toString();
+  }
+
+  /**
+   * Shared journal builder.
+   */
+  public static class Builder implements io.atomix.utils.Builder<SharedJournal> {
+    private static final String DEFAULT_NAME = "atomix";
+    private static final String DEFAULT_DIRECTORY = System.getProperty("user.dir");
+    private static final int DEFAULT_MAX_SEGMENT_SIZE = 1024 * 1024 * 32;
+    private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final boolean DEFAULT_FLUSH_ON_COMMIT = false;
+    private static final boolean DEFAULT_GROUP_COMMIT = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(5);
+    private static final int DEFAULT_GROUP_COMMIT_BYTES = 1024 * 1024;
+
+    private String name = DEFAULT_NAME;
+    private File directory = new File(DEFAULT_DIRECTORY);
+    private int maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
+    private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+    private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private boolean groupCommit = DEFAULT_GROUP_COMMIT;
+    private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+    private int groupCommitBytes = DEFAULT_GROUP_COMMIT_BYTES;
+
+    protected Builder() {
+    }
+
+    /**
+     * Sets the journal name.
+     *
+     * @param name The journal name.
+     * @return The journal builder.
+     */
+    public Builder withName(String name) {
+      this.name = checkNotNull(name, "name cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the journal directory.
+     *
+     * @param directory The journal directory.
+     * @return The journal builder.
+     * @throws NullPointerException If the {@code directory} is {@code null}
+     */
+    public Builder withDirectory(String directory) {
+      return withDirectory(new File(checkNotNull(directory, "directory cannot be null")));
+    }
+
+    /**
+     * Sets the journal directory.
+     *
+     * @param directory The journal directory.
+     * @return The journal builder.
+     * @throws NullPointerException If the {@code directory} is {@code null}
+     */
+    public Builder withDirectory(File directory) {
+      this.directory = checkNotNull(directory, "directory cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the maximum segment size in bytes.
+     * <p>
+     * By default, the maximum segment size is {@code 1024 * 1024 * 32}.
+     *
+     * @param maxSegmentSize The maximum segment size in bytes.
+     * @return The journal builder.
+     * @throws IllegalArgumentException If the {@code maxSegmentSize} is not positive
+     */
+    public Builder withMaxSegmentSize(int maxSegmentSize) {
+      checkArgument(maxSegmentSize > 0, "maxSegmentSize must be positive");
+      this.maxSegmentSize = maxSegmentSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum entry size in bytes.
+     *
+     * @param maxEntrySize the maximum entry size in bytes
+     * @return the journal builder
+     * @throws IllegalArgumentException if the {@code maxEntrySize} is not positive
+     */
+    public Builder withMaxEntrySize(int maxEntrySize) {
+      checkArgument(maxEntrySize > 0, "maxEntrySize must be positive");
+      this.maxEntrySize = maxEntrySize;
+      return this;
+    }
+
+    /**
+     * Sets the number of recently written entries cached by each partition.
+     *
+     * @param cacheSize the per-partition cache size
+     * @return the journal builder
+     * @throws IllegalArgumentException if the cache size is negative
+     */
+    public Builder withCacheSize(int cacheSize) {
+      checkArgument(cacheSize >= 0, "cacheSize must be positive");
+      this.cacheSize = cacheSize;
+      return this;
+    }
+
+    /**
+     * Sets whether to flush the journal to disk when entries are committed to a partition.
+     *
+     * @param flushOnCommit Whether to flush the journal to disk when entries are committed.
+     * @return The journal builder.
+     */
+    public Builder withFlushOnCommit(boolean flushOnCommit) {
+      this.flushOnCommit = flushOnCommit;
+      return this;
+    }
+
+    /**
+     * Sets whether to enable group commit.
+     * <p>
+     * When group commit is enabled, flushes for entries committed by all partitions are coalesced into a single
+     * flush which occurs once either the group commit interval has elapsed or the group commit byte threshold has
+     * been reached.
+     *
+     * @param groupCommit Whether to coalesce flushes for committed entries.
+     * @return The journal builder.
+     */
+    public Builder withGroupCommit(boolean groupCommit) {
+      this.groupCommit = groupCommit;
+      return this;
+    }
+
+    /**
+     * Sets the maximum amount of time for which a group commit may be delayed.
+     *
+     * @param groupCommitInterval The maximum amount of time for which to delay flushing committed entries.
+     * @return The journal builder.
+     */
+    public Builder withGroupCommitInterval(Duration groupCommitInterval) {
+      checkNotNull(groupCommitInterval, "groupCommitInterval cannot be null");
+      checkArgument(!groupCommitInterval.isNegative(), "groupCommitInterval must be positive");
+      this.groupCommitInterval = groupCommitInterval;
+      return this;
+    }
+
+    /**
+     * Sets the number of unflushed bytes after which a group commit is flushed immediately.
+     *
+     * @param groupCommitBytes The number of unflushed bytes after which to flush committed entries.
+     * @return The journal builder.
+     */
+    public Builder withGroupCommitBytes(int groupCommitBytes) {
+      checkArgument(groupCommitBytes > 0, "groupCommitBytes must be positive");
+      this.groupCommitBytes = groupCommitBytes;
+      return this;
+    }
+
+    @Override
+    public SharedJournal build() {
+      return new SharedJournal(
+          name,
+          directory,
+          maxSegmentSize,
+          maxEntrySize,
+          cacheSize,
+          flushOnCommit,
+          groupCommit,
+          groupCommitInterval,
+          groupCommitBytes);
+    }
+  }
+}
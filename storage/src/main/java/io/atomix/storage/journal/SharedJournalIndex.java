@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.util.Arrays;
+
+/**
+ * Index of the records written to a shared journal by a single partition.
+ * <p>
+ * Partition indexes are contiguous, so the index is stored as a sliding window of record positions starting at the
+ * partition's first index. Each position encodes the segment identifier in the high 32 bits and the offset of the
+ * record within the segment in the low 32 bits.
+ */
+final class SharedJournalIndex {
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private long firstIndex = 1;
+  private long[] positions = new long[INITIAL_CAPACITY];
+  private int head;
+  private int size;
+
+  /**
+   * Encodes a record position.
+   *
+   * @param segmentId the segment identifier
+   * @param offset    the offset of the record within the segment
+   * @return the encoded record position
+   */
+  static long position(long segmentId, int offset) {
+    return segmentId << 32 | (offset & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Returns the segment identifier for the given record position.
+   *
+   * @param position the record position
+   * @return the segment identifier
+   */
+  static long segmentId(long position) {
+    return position >>> 32;
+  }
+
+  /**
+   * Returns the segment offset for the given record position.
+   *
+   * @param position the record position
+   * @return the offset of the record within its segment
+   */
+  static int offset(long position) {
+    return (int) position;
+  }
+
+  /**
+   * Returns the first index in the partition.
+   *
+   * @return the first index in the partition
+   */
+  synchronized long firstIndex() {
+    return firstIndex;
+  }
+
+  /**
+   * Returns the last index in the partition.
+   *
+   * @return the last index in the partition, or {@code firstIndex - 1} if the partition is empty
+   */
+  synchronized long lastIndex() {
+    return firstIndex + size - 1;
+  }
+
+  /**
+   * Returns the next index to be written to the partition.
+   *
+   * @return the next index to be written to the partition
+   */
+  synchronized long nextIndex() {
+    return firstIndex + size;
+  }
+
+  /**
+   * Returns the position of the record for the given index.
+   *
+   * @param index the index for which to return the position
+   * @return the record position, or {@code -1} if the index is not present in the partition
+   */
+  synchronized long lookup(long index) {
+    if (index < firstIndex || index >= firstIndex + size) {
+      return -1;
+    }
+    return positions[head + (int) (index - firstIndex)];
+  }
+
+  /**
+   * Adds the position of the record for the given index.
+   * <p>
+   * If the index is not the next index in the partition, entries following the index are removed or the partition
+   * is reset to the given index.
+   *
+   * @param index    the record index
+   * @param position the record position
+   */
+  synchronized void add(long index, long position) {
+    if (size == 0 || index < firstIndex || index > firstIndex + size) {
+      reset(index);
+    } else if (index < firstIndex + size) {
+      truncate(index - 1);
+    }
+    if (head + size == positions.length) {
+      if (size < positions.length / 2) {
+        System.arraycopy(positions, head, positions, 0, size);
+      } else {
+        positions = Arrays.copyOfRange(positions, head, head + positions.length * 2);
+      }
+      head = 0;
+    }
+    positions[head + size++] = position;
+  }
+
+  /**
+   * Truncates the partition to the given index.
+   *
+   * @param index the index after which to remove entries
+   */
+  synchronized void truncate(long index) {
+    size = (int) Math.max(Math.min(index - firstIndex + 1, size), 0);
+  }
+
+  /**
+   * Removes all entries from the partition and resets the partition to the given index.
+   *
+   * @param index the next index to be written to the partition
+   */
+  synchronized void reset(long index) {
+    firstIndex = index;
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * Removes all entries prior to the given index from the partition.
+   *
+   * @param index the first index to retain
+   */
+  synchronized void compact(long index) {
+    int removed = (int) Math.min(Math.max(index - firstIndex, 0), size);
+    head += removed;
+    size -= removed;
+    firstIndex += removed;
+  }
+
+  /**
+   * Returns the first index written to the same segment as the given index.
+   *
+   * @param index the index for which to return the first index in its segment
+   * @return the first index written to the same segment as the given index, or {@code 0} if the index is not present
+   */
+  synchronized long segmentIndex(long index) {
+    long position = lookup(index);
+    if (position == -1) {
+      return 0;
+    }
+
+    long segmentId = segmentId(position);
+    int low = head;
+    int high = head + (int) (index - firstIndex);
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (segmentId(positions[mid]) < segmentId) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return firstIndex + (low - head);
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.utils.serializer.Namespace;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Partition of a {@link SharedJournal}.
+ * <p>
+ * A partition is a logical journal with its own contiguous indexes, commit index and compaction index, whose entries
+ * are stored in the segments of the shared journal alongside the entries of other partitions.
+ */
+public class SharedJournalPartition<E> implements CompactableJournal<E> {
+  private final SharedJournal journal;
+  private final int id;
+  private final String name;
+  private final Namespace namespace;
+  private final SharedJournalIndex index;
+  private final Indexed<E>[] cache;
+  private final SharedJournalWriter<E> writer;
+  private volatile long commitIndex;
+  private volatile boolean open = true;
+
+  @SuppressWarnings("unchecked")
+  SharedJournalPartition(
+      SharedJournal journal,
+      int id,
+      String name,
+      Namespace namespace,
+      SharedJournalIndex index,
+      int cacheSize) {
+    this.journal = journal;
+    this.id = id;
+    this.name = name;
+    this.namespace = namespace;
+    this.index = index;
+    this.cache = new Indexed[cacheSize];
+    this.writer = new SharedJournalWriter<>(this);
+  }
+
+  /**
+   * Returns the partition name.
+   *
+   * @return the partition name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns the shared journal to which the partition belongs.
+   *
+   * @return the shared journal
+   */
+  SharedJournal journal() {
+    return journal;
+  }
+
+  /**
+   * Returns the partition identifier.
+   *
+   * @return the partition identifier
+   */
+  int id() {
+    return id;
+  }
+
+  /**
+   * Returns the partition index.
+   *
+   * @return the partition index
+   */
+  SharedJournalIndex index() {
+    return index;
+  }
+
+  /**
+   * Returns the partition namespace.
+   *
+   * @return the partition namespace
+   */
+  Namespace namespace() {
+    return namespace;
+  }
+
+  @Override
+  public SharedJournalWriter<E> writer() {
+    return writer;
+  }
+
+  @Override
+  public SharedJournalReader<E> openReader(long index) {
+    return openReader(index, SharedJournalReader.Mode.ALL);
+  }
+
+  @Override
+  public SharedJournalReader<E> openReader(long index, JournalReader.Mode mode) {
+    assertOpen();
+    return new SharedJournalReader<>(this, index, mode);
+  }
+
+  /**
+   * Returns the partition commit index.
+   *
+   * @return the partition commit index
+   */
+  long getCommitIndex() {
+    return commitIndex;
+  }
+
+  /**
+   * Sets the partition commit index.
+   *
+   * @param index the partition commit index
+   */
+  void setCommitIndex(long index) {
+    this.commitIndex = index;
+  }
+
+  /**
+   * Caches a written entry.
+   *
+   * @param entry the entry to cache
+   */
+  void cache(Indexed<E> entry) {
+    if (cache.length > 0) {
+      synchronized (cache) {
+        cache[(int) (entry.index() % cache.length)] = entry;
+      }
+    }
+  }
+
+  /**
+   * Reads the entry at the given index.
+   *
+   * @param index the index of the entry to read
+   * @return the entry at the given index, or {@code null} if the index is not present in the partition
+   */
+  Indexed<E> read(long index) {
+    long position = this.index.lookup(index);
+    if (position == -1) {
+      return null;
+    }
+
+    if (cache.length > 0) {
+      synchronized (cache) {
+        Indexed<E> entry = cache[(int) (index % cache.length)];
+        if (entry != null && entry.index() == index) {
+          return entry;
+        }
+      }
+    }
+
+    byte[] bytes = journal.read(position);
+    return new Indexed<>(index, namespace.deserialize(bytes), bytes.length);
+  }
+
+  /**
+   * Asserts that the partition is open.
+   *
+   * @throws IllegalStateException if the partition is not open
+   */
+  void assertOpen() {
+    checkState(open, "partition not open");
+  }
+
+  @Override
+  public boolean isCompactable(long index) {
+    return getCompactableIndex(index) > this.index.firstIndex();
+  }
+
+  /**
+   * Returns the first index written to the same shared journal segment as the given index.
+   *
+   * @param index the compaction index
+   * @return the first index written to the segment containing the given index
+   */
+  @Override
+  public long getCompactableIndex(long index) {
+    return this.index.segmentIndex(Math.min(index, this.index.lastIndex()));
+  }
+
+  /**
+   * Compacts the partition up to the first index written to the shared journal segment containing the given index.
+   * <p>
+   * Segments of the shared journal are deleted once all partitions that wrote to them have been compacted.
+   *
+   * @param index The index up to which to compact the partition.
+   */
+  @Override
+  public void compact(long index) {
+    long compactIndex = getCompactableIndex(index);
+    if (compactIndex > this.index.firstIndex()) {
+      journal.compact(id, compactIndex);
+    }
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() {
+    if (open) {
+      open = false;
+      journal.closePartition(id);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("name", name)
+        .add("journal", journal)
+        .toString();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Shared journal partition reader.
+ * <p>
+ * Entries are looked up in the partition's index on each read, so the reader observes truncation and compaction
+ * of the partition without being reset by the writer.
+ */
+public class SharedJournalReader<E> implements JournalReader<E> {
+  private final SharedJournalPartition<E> partition;
+  private final SharedJournalIndex index;
+  private final Mode mode;
+  private long nextIndex;
+  private Indexed<E> currentEntry;
+
+  public SharedJournalReader(SharedJournalPartition<E> partition, long index, Mode mode) {
+    this.partition = partition;
+    this.index = partition.index();
+    this.mode = mode;
+    reset(index);
+  }
+
+  @Override
+  public long getFirstIndex() {
+    return index.firstIndex();
+  }
+
+  @Override
+  public long getCurrentIndex() {
+    return currentEntry != null ? currentEntry.index() : 0;
+  }
+
+  @Override
+  public Indexed<E> getCurrentEntry() {
+    return currentEntry;
+  }
+
+  @Override
+  public long getNextIndex() {
+    return nextIndex;
+  }
+
+  @Override
+  public void reset() {
+    reset(index.firstIndex());
+  }
+
+  @Override
+  public void reset(long index) {
+    nextIndex = Math.max(index, this.index.firstIndex());
+    currentEntry = partition.read(nextIndex - 1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextIndex < index.firstIndex()) {
+      reset(index.firstIndex());
+    } else if (nextIndex > index.nextIndex()) {
+      reset(index.nextIndex());
+    }
+
+    if (nextIndex > index.lastIndex()) {
+      return false;
+    }
+    return mode == Mode.ALL || nextIndex <= partition.getCommitIndex();
+  }
+
+  @Override
+  public Indexed<E> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Indexed<E> entry = partition.read(nextIndex);
+    if (entry == null) {
+      throw new NoSuchElementException();
+    }
+    currentEntry = entry;
+    nextIndex++;
+    return entry;
+  }
+
+  @Override
+  public void close() {
+  }
+}
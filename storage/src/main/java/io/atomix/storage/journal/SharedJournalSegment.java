@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.atomix.storage.StorageException;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Shared journal segment.
+ * <p>
+ * A segment is an append-only file of records written by any number of journal partitions. In addition to the file
+ * itself, the segment tracks the highest index recorded by each partition so the shared journal can determine when
+ * all the records in the segment have been compacted by their partitions.
+ */
+final class SharedJournalSegment {
+  private final long id;
+  private final File file;
+  private final FileChannel channel;
+  private final Map<Integer, Long> maxIndexes = new HashMap<>();
+  private long size;
+  private volatile boolean open = true;
+
+  SharedJournalSegment(long id, File file) {
+    this.id = id;
+    this.file = file;
+    try {
+      this.channel = FileChannel.open(file.toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      this.size = channel.size();
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Returns the segment identifier.
+   *
+   * @return the segment identifier
+   */
+  long id() {
+    return id;
+  }
+
+  /**
+   * Returns the segment file.
+   *
+   * @return the segment file
+   */
+  File file() {
+    return file;
+  }
+
+  /**
+   * Returns the segment channel.
+   *
+   * @return the segment channel
+   */
+  FileChannel channel() {
+    return channel;
+  }
+
+  /**
+   * Returns the size of the segment in bytes.
+   *
+   * @return the size of the segment in bytes
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Returns the highest index recorded in the segment by each partition.
+   *
+   * @return the highest index recorded in the segment by each partition
+   */
+  Map<Integer, Long> maxIndexes() {
+    return maxIndexes;
+  }
+
+  /**
+   * Records an index written to the segment by the given partition.
+   *
+   * @param partitionId the partition identifier
+   * @param index       the index recorded by the partition
+   */
+  void record(int partitionId, long index) {
+    maxIndexes.merge(partitionId, index, Math::max);
+  }
+
+  /**
+   * Appends a record to the segment.
+   *
+   * @param buffer the record buffer
+   * @return the offset at which the record was written
+   */
+  int append(ByteBuffer buffer) {
+    long offset = size;
+    try {
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        position += channel.write(buffer, position);
+      }
+      size = position;
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+    return (int) offset;
+  }
+
+  /**
+   * Reads bytes from the segment.
+   *
+   * @param offset the offset from which to read
+   * @param length the number of bytes to read
+   * @return a buffer containing the bytes read
+   */
+  ByteBuffer read(long offset, int length) {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    try {
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer, position);
+        if (read < 0) {
+          throw new StorageException("Unexpected end of segment " + file);
+        }
+        position += read;
+      }
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Truncates the segment to the given size.
+   *
+   * @param size the size to which to truncate the segment
+   */
+  void truncate(long size) {
+    try {
+      channel.truncate(size);
+      this.size = size;
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Flushes the segment to disk.
+   */
+  void flush() {
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Returns a boolean indicating whether the segment is open.
+   *
+   * @return indicates whether the segment is open
+   */
+  boolean isOpen() {
+    return open;
+  }
+
+  /**
+   * Closes the segment.
+   */
+  void close() {
+    open = false;
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Deletes the segment.
+   */
+  void delete() {
+    try {
+      Files.deleteIfExists(file.toPath());
+    } catch (IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("id", id)
+        .add("file", file)
+        .add("size", size)
+        .toString();
+  }
+}
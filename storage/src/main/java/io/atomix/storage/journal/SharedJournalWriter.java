@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shared journal partition writer.
+ */
+public class SharedJournalWriter<E> implements JournalWriter<E> {
+  private final SharedJournalPartition<E> partition;
+  private final SharedJournalIndex index;
+  private long writeSequence;
+
+  public SharedJournalWriter(SharedJournalPartition<E> partition) {
+    this.partition = partition;
+    this.index = partition.index();
+  }
+
+  @Override
+  public long getLastIndex() {
+    return index.lastIndex();
+  }
+
+  @Override
+  public Indexed<E> getLastEntry() {
+    return partition.read(index.lastIndex());
+  }
+
+  @Override
+  public long getNextIndex() {
+    return index.nextIndex();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized <T extends E> Indexed<T> append(T entry) {
+    partition.assertOpen();
+    byte[] bytes = partition.namespace().serialize(entry);
+    Indexed<T> indexed = new Indexed<>(index.nextIndex(), entry, bytes.length);
+    partition.cache((Indexed<E>) indexed);
+    writeSequence = partition.journal().append(partition.id(), indexed.index(), bytes);
+    return indexed;
+  }
+
+  @Override
+  public synchronized void append(Indexed<E> entry) {
+    partition.assertOpen();
+    if (entry.index() != index.nextIndex()) {
+      throw new IndexOutOfBoundsException("Entry index is not sequential");
+    }
+    byte[] bytes = partition.namespace().serialize(entry.entry());
+    partition.cache(new Indexed<>(entry.index(), entry.entry(), bytes.length));
+    writeSequence = partition.journal().append(partition.id(), entry.index(), bytes);
+  }
+
+  @Override
+  public void commit(long index) {
+    commitAsync(index);
+  }
+
+  /**
+   * Commits entries up to the given index, returning a future to be completed once the entries have been flushed.
+   * <p>
+   * If group commit is enabled, the returned future is completed once a flush of the shared journal including the
+   * partition's written entries has completed, so commits from many partitions share a single flush.
+   *
+   * @param index The index up to which to commit entries.
+   * @return a future to be completed once the committed entries have been flushed
+   */
+  @Override
+  public synchronized CompletableFuture<Long> commitAsync(long index) {
+    SharedJournal journal = partition.journal();
+    boolean committed = index > partition.getCommitIndex();
+    if (committed) {
+      partition.setCommitIndex(index);
+    }
+    if (journal.isGroupCommit()) {
+      if (writeSequence > journal.flushSequence()) {
+        return journal.groupCommit().thenApply(v -> index);
+      }
+    } else if (committed && journal.isFlushOnCommit()) {
+      journal.flush();
+    }
+    return CompletableFuture.completedFuture(index);
+  }
+
+  /**
+   * Resets the partition to the given index.
+   * <p>
+   * As with {@link SegmentedJournalWriter#reset(long)}, if the index is greater than the partition's first index all
+   * entries are discarded and the partition's head is reset to the given index. Otherwise, the partition is truncated
+   * to the entry preceding the given index.
+   *
+   * @param index the index to which to reset the partition
+   */
+  @Override
+  public synchronized void reset(long index) {
+    partition.assertOpen();
+    if (index > this.index.firstIndex()) {
+      partition.journal().reset(partition.id(), index);
+    } else if (index - 1 < this.index.lastIndex()) {
+      partition.journal().truncate(partition.id(), index - 1);
+    }
+  }
+
+  @Override
+  public synchronized void truncate(long index) {
+    partition.assertOpen();
+    if (index < partition.getCommitIndex()) {
+      throw new IndexOutOfBoundsException("Cannot truncate committed index: " + index);
+    }
+    if (index < this.index.lastIndex()) {
+      partition.journal().truncate(partition.id(), index);
+    }
+  }
+
+  @Override
+  public void flush() {
+    partition.journal().flush();
+  }
+
+  @Override
+  public void close() {
+  }
+}
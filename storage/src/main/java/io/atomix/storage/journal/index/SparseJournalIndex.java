@@ -15,16 +15,23 @@
  */
 package io.atomix.storage.journal.index;
 
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 /**
  * Sparse index.
+ * <p>
+ * Positions are stored in a primitive array in which each slot corresponds to an indexed entry. Because only every
+ * {@code density}th index is recorded and indexes within a segment are sequential, the slot for an index can be
+ * computed arithmetically, making lookups constant time and avoiding boxing of indexes and positions.
  */
 public class SparseJournalIndex implements JournalIndex {
   private static final int MIN_DENSITY = 1000;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int EMPTY = -1;
   private final int density;
-  private final TreeMap<Long, Integer> positions = new TreeMap<>();
+  private long firstIndex;
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
 
   public SparseJournalIndex(double density) {
     this.density = (int) Math.ceil(MIN_DENSITY / (density * MIN_DENSITY));
@@ -33,18 +40,66 @@ public class SparseJournalIndex implements JournalIndex {
   @Override
   public void index(long index, int position) {
     if (index % density == 0) {
-      positions.put(index, position);
+      if (size == 0) {
+        firstIndex = index;
+      } else if (index < firstIndex) {
+        shift((int) ((firstIndex - index) / density));
+        firstIndex = index;
+      }
+
+      int slot = (int) ((index - firstIndex) / density);
+      ensureCapacity(slot + 1);
+      if (slot > size) {
+        Arrays.fill(positions, size, slot, EMPTY);
+      }
+      positions[slot] = position;
+      if (slot >= size) {
+        size = slot + 1;
+      }
     }
   }
 
   @Override
   public Position lookup(long index) {
-    Map.Entry<Long, Integer> entry = positions.floorEntry(index);
-    return entry != null ? new Position(entry.getKey(), entry.getValue()) : null;
+    if (size == 0 || index < firstIndex) {
+      return null;
+    }
+
+    int slot = (int) Math.min((index - firstIndex) / density, size - 1);
+    while (slot >= 0 && positions[slot] == EMPTY) {
+      slot--;
+    }
+    return slot >= 0 ? new Position(firstIndex + (long) slot * density, positions[slot]) : null;
   }
 
   @Override
   public void truncate(long index) {
-    positions.tailMap(index, false).clear();
+    if (size == 0) {
+      return;
+    }
+    if (index < firstIndex) {
+      size = 0;
+    } else {
+      size = (int) Math.min(size, (index - firstIndex) / density + 1);
+    }
+  }
+
+  /**
+   * Shifts the stored positions to the right by the given number of slots.
+   */
+  private void shift(int slots) {
+    ensureCapacity(size + slots);
+    System.arraycopy(positions, 0, positions, slots, size);
+    Arrays.fill(positions, 0, slots, EMPTY);
+    size += slots;
+  }
+
+  /**
+   * Ensures the positions array can hold at least the given number of slots.
+   */
+  private void ensureCapacity(int capacity) {
+    if (capacity > positions.length) {
+      positions = Arrays.copyOf(positions, Math.max(capacity, positions.length * 2));
+    }
   }
 }
@@ -30,9 +30,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -80,6 +83,10 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() {
+    return journalBuilder().build();
+  }
+
+  protected SegmentedJournal.Builder<TestEntry> journalBuilder() {
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
         .withDirectory(PATH.toFile())
@@ -87,8 +94,7 @@ public abstract class AbstractJournalTest {
         .withStorageLevel(storageLevel())
         .withMaxSegmentSize(maxSegmentSize)
         .withIndexDensity(.2)
-        .withCacheSize(cacheSize)
-        .build();
+        .withCacheSize(cacheSize);
   }
 
   @Test
@@ -236,6 +242,49 @@ public abstract class AbstractJournalTest {
     }
   }
 
+  @Test
+  public void testGroupCommit() throws Exception {
+    try (SegmentedJournal<TestEntry> journal = journalBuilder()
+        .withGroupCommit()
+        .withGroupCommitInterval(Duration.ofMillis(10))
+        .withGroupCommitBytes(Integer.MAX_VALUE)
+        .build()) {
+      SegmentedJournalWriter<TestEntry> writer = journal.writer();
+
+      // Commits within the group commit interval are completed together once the interval elapses.
+      List<CompletableFuture<Long>> futures = new ArrayList<>();
+      for (int i = 1; i <= entriesPerSegment * 2; i++) {
+        writer.append(ENTRY);
+        futures.add(writer.commitAsync(i));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertEquals(i + 1, futures.get(i).get(10, TimeUnit.SECONDS).longValue());
+      }
+
+      // Commits for already flushed entries are completed immediately.
+      assertTrue(writer.commitAsync(1).isDone());
+
+      // Entries committed prior to being flushed are flushed when awaited.
+      writer.append(ENTRY);
+      writer.commit(entriesPerSegment * 2 + 1);
+      assertEquals(entriesPerSegment * 2 + 1, writer.commitAsync(entriesPerSegment * 2 + 1).get(10, TimeUnit.SECONDS).longValue());
+    }
+
+    cleanupStorage();
+
+    try (SegmentedJournal<TestEntry> journal = journalBuilder()
+        .withGroupCommit()
+        .withGroupCommitInterval(Duration.ofMinutes(1))
+        .withGroupCommitBytes(1)
+        .build()) {
+      SegmentedJournalWriter<TestEntry> writer = journal.writer();
+
+      // Commits are flushed immediately once the byte threshold is reached.
+      writer.append(ENTRY);
+      assertTrue(writer.commitAsync(1).isDone());
+    }
+  }
+
   @Test
   public void testTruncateRead() throws Exception {
     int i = 10;
@@ -34,6 +34,14 @@ public class JournalSegmentFileTest {
     assertTrue(JournalSegmentFile.isSegmentFile("foo", "foo-1-1.log"));
   }
 
+  @Test
+  public void testIsIndexFile() throws Exception {
+    assertTrue(JournalSegmentFile.isIndexFile("foo", "foo-1.index"));
+    assertFalse(JournalSegmentFile.isIndexFile("foo", "bar-1.index"));
+    assertFalse(JournalSegmentFile.isIndexFile("foo", "foo-1.log"));
+    assertFalse(JournalSegmentFile.isSegmentFile("foo", "foo-1.index"));
+  }
+
   @Test
   public void testCreateSegmentFile() throws Exception {
     File file = JournalSegmentFile.createSegmentFile("foo", new File(System.getProperty("user.dir")), 1);
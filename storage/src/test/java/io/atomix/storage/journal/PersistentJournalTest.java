@@ -15,9 +15,12 @@
  */
 package io.atomix.storage.journal;
 
+import java.io.RandomAccessFile;
+
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -64,4 +67,66 @@ public abstract class PersistentJournalTest extends AbstractJournalTest {
     assertEquals(reader.getFirstIndex(), reader.getNextIndex());
     assertEquals(entriesPerSegment + 1, reader.next().index());
   }
+
+  /**
+   * Tests recovering a journal from sealed segment indexes.
+   */
+  @Test
+  public void testRecoverSealedSegments() throws Exception {
+    SegmentedJournal<TestEntry> journal = createJournal();
+
+    // Write three segments to the journal.
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      writer.append(ENTRY);
+    }
+    journal.close();
+
+    // Verify the full segments were sealed and the last segment was not.
+    JournalSegmentFile firstSegment = new JournalSegmentFile(JournalSegmentFile.createSegmentFile("test", journal.directory(), 1));
+    JournalSegmentFile secondSegment = new JournalSegmentFile(JournalSegmentFile.createSegmentFile("test", journal.directory(), 2));
+    JournalSegmentFile lastSegment = new JournalSegmentFile(JournalSegmentFile.createSegmentFile("test", journal.directory(), 3));
+    assertTrue(firstSegment.indexFile().exists());
+    assertTrue(secondSegment.indexFile().exists());
+    assertFalse(lastSegment.indexFile().exists());
+
+    // Corrupt the second segment's index to force it to be scanned.
+    try (RandomAccessFile file = new RandomAccessFile(secondSegment.indexFile(), "rw")) {
+      file.seek(file.length() - 1);
+      int checksum = file.read();
+      file.seek(file.length() - 1);
+      file.write(checksum + 1);
+    }
+
+    // Reopen the journal and verify all entries can be read.
+    journal = createJournal();
+    writer = journal.writer();
+    assertEquals(entriesPerSegment * 3, writer.getLastIndex());
+    assertTrue(journal.getFirstSegment().isSealed());
+    assertTrue(secondSegment.indexFile().exists());
+
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (int i = 1; i <= entriesPerSegment * 3; i++) {
+      assertTrue(reader.hasNext());
+      assertEquals(i, reader.next().index());
+    }
+    assertFalse(reader.hasNext());
+
+    // Reset a reader into the middle of a sealed segment.
+    reader.reset(entriesPerSegment / 2 + 1);
+    assertEquals(entriesPerSegment / 2 + 1, reader.next().index());
+
+    // Truncate into the first segment and verify the segment is unsealed.
+    writer.truncate(entriesPerSegment - 1);
+    assertFalse(firstSegment.indexFile().exists());
+    assertEquals(entriesPerSegment - 1, writer.getLastIndex());
+    writer.append(ENTRY);
+    journal.close();
+
+    // Reopen the journal and verify the truncated entries were not recovered.
+    journal = createJournal();
+    writer = journal.writer();
+    assertEquals(entriesPerSegment, writer.getLastIndex());
+    journal.close();
+  }
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.atomix.utils.serializer.Namespace;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Shared journal test.
+ */
+public class SharedJournalTest {
+  private static final Namespace NAMESPACE = Namespace.builder()
+      .register(TestEntry.class)
+      .register(byte[].class)
+      .build();
+  private static final Path PATH = Paths.get("target/test-shared-logs/");
+
+  private SharedJournal createJournal() {
+    return journalBuilder().build();
+  }
+
+  private SharedJournal.Builder journalBuilder() {
+    return SharedJournal.builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withMaxSegmentSize(1024);
+  }
+
+  private static TestEntry entry(int value) {
+    return new TestEntry(new byte[]{(byte) value, 1, 2, 3, 4, 5, 6, 7});
+  }
+
+  private static void assertEntry(int value, Indexed<TestEntry> indexed) {
+    assertArrayEquals(entry(value).bytes(), indexed.entry().bytes());
+  }
+
+  @Test
+  public void testWriteReadPartitions() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+      JournalReader<TestEntry> reader1 = partition1.openReader(1);
+      JournalReader<TestEntry> reader2 = partition2.openReader(1);
+
+      // Interleave writes from both partitions across several segments.
+      for (int i = 1; i <= 100; i++) {
+        assertEquals(i, partition1.writer().append(entry(i)).index());
+        assertEquals(i, partition2.writer().append(entry(i + 100)).index());
+      }
+      assertEquals(100, partition1.writer().getLastIndex());
+      assertEntry(200, partition2.writer().getLastEntry());
+
+      for (int i = 1; i <= 100; i++) {
+        assertTrue(reader1.hasNext());
+        Indexed<TestEntry> indexed = reader1.next();
+        assertEquals(i, indexed.index());
+        assertEntry(i, indexed);
+        assertTrue(reader2.hasNext());
+        indexed = reader2.next();
+        assertEquals(i, indexed.index());
+        assertEntry(i + 100, indexed);
+      }
+      assertFalse(reader1.hasNext());
+      assertFalse(reader2.hasNext());
+
+      reader1.reset(50);
+      assertEquals(49, reader1.getCurrentIndex());
+      assertEquals(50, reader1.next().index());
+
+      try {
+        journal.openPartition("partition-1", NAMESPACE);
+        fail();
+      } catch (IllegalStateException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testCommittedReads() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition = journal.openPartition("partition", NAMESPACE);
+      JournalReader<TestEntry> reader = partition.openReader(1, JournalReader.Mode.COMMITS);
+      partition.writer().append(entry(1));
+      partition.writer().append(entry(2));
+      assertFalse(reader.hasNext());
+      partition.writer().commit(1);
+      assertTrue(reader.hasNext());
+      assertEquals(1, reader.next().index());
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test
+  public void testTruncateReset() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition = journal.openPartition("partition", NAMESPACE);
+      JournalWriter<TestEntry> writer = partition.writer();
+      JournalReader<TestEntry> reader = partition.openReader(1);
+      for (int i = 1; i <= 10; i++) {
+        writer.append(entry(i));
+      }
+      for (int i = 1; i <= 8; i++) {
+        assertEquals(i, reader.next().index());
+      }
+
+      writer.commit(5);
+      try {
+        writer.truncate(4);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      writer.truncate(7);
+      assertEquals(7, writer.getLastIndex());
+      assertFalse(reader.hasNext());
+      assertEquals(8, writer.append(entry(18)).index());
+      assertTrue(reader.hasNext());
+      assertEntry(18, reader.next());
+
+      try {
+        writer.append(new Indexed<>(10, entry(10), 0));
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+      }
+
+      writer.reset(100);
+      assertEquals(99, writer.getLastIndex());
+      assertNull(writer.getLastEntry());
+      assertFalse(reader.hasNext());
+      writer.append(new Indexed<>(100, entry(100), 0));
+      assertTrue(reader.hasNext());
+      assertEquals(100, reader.next().index());
+      assertEquals(100, reader.getFirstIndex());
+    }
+  }
+
+  @Test
+  public void testRecover() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+      for (int i = 1; i <= 100; i++) {
+        partition1.writer().append(entry(i));
+        partition2.writer().append(entry(i + 100));
+      }
+      partition1.writer().truncate(90);
+      partition1.writer().append(entry(191));
+      partition2.writer().reset(1000);
+      partition2.writer().append(entry(42));
+    }
+
+    // Simulate a torn write at the end of the last segment.
+    File lastSegment = new File(PATH.toFile(), "test-" + segmentCount() + ".log");
+    try (RandomAccessFile file = new RandomAccessFile(lastSegment, "rw")) {
+      file.seek(file.length());
+      file.writeInt(64);
+      file.writeInt(0);
+      file.write(new byte[10]);
+    }
+
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+
+      JournalReader<TestEntry> reader1 = partition1.openReader(1);
+      for (int i = 1; i <= 90; i++) {
+        Indexed<TestEntry> indexed = reader1.next();
+        assertEquals(i, indexed.index());
+        assertEntry(i, indexed);
+      }
+      assertEntry(191, reader1.next());
+      assertFalse(reader1.hasNext());
+
+      JournalReader<TestEntry> reader2 = partition2.openReader(1);
+      assertEquals(1000, reader2.getFirstIndex());
+      Indexed<TestEntry> indexed = reader2.next();
+      assertEquals(1000, indexed.index());
+      assertEntry(42, indexed);
+      assertFalse(reader2.hasNext());
+
+      assertEquals(92, partition1.writer().append(entry(92)).index());
+    }
+  }
+
+  @Test
+  public void testCompact() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+      for (int i = 1; i <= 200; i++) {
+        partition1.writer().append(entry(i));
+        partition2.writer().append(entry(i));
+      }
+      int segments = segmentCount();
+      assertTrue(segments > 2);
+
+      // Compacting a single partition retains segments still referenced by the other partition.
+      assertTrue(partition1.isCompactable(150));
+      long compactIndex = partition1.getCompactableIndex(150);
+      assertTrue(compactIndex > 1 && compactIndex <= 150);
+      partition1.compact(150);
+      assertEquals(compactIndex, partition1.openReader(1).getFirstIndex());
+      assertEquals(segments, segmentCount());
+
+      // Segments are deleted once compacted by all partitions.
+      partition2.compact(150);
+      assertTrue(segmentCount() < segments);
+
+      JournalReader<TestEntry> reader = partition2.openReader(1);
+      long firstIndex = reader.getFirstIndex();
+      assertTrue(firstIndex > 1);
+      for (long i = firstIndex; i <= 200; i++) {
+        assertEquals(i, reader.next().index());
+      }
+    }
+
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      JournalReader<TestEntry> reader = partition1.openReader(1);
+      long firstIndex = reader.getFirstIndex();
+      assertTrue(firstIndex > 1);
+      for (long i = firstIndex; i <= 200; i++) {
+        Indexed<TestEntry> indexed = reader.next();
+        assertEquals(i, indexed.index());
+        assertEntry((int) i, indexed);
+      }
+
+      // Deleting a partition releases the segments it references.
+      journal.deletePartition("partition-2");
+      partition1.compact(200);
+      assertEquals(1, segmentCount());
+    }
+  }
+
+  @Test
+  public void testCompactUnopenedPartitions() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition3 = journal.openPartition("partition-3", NAMESPACE);
+      for (int i = 1; i <= 200; i++) {
+        partition1.writer().append(entry(i));
+        partition2.writer().append(entry(i));
+        partition3.writer().append(entry(i));
+      }
+      partition2.compact(200);
+    }
+
+    // Compaction indexes of partitions that are not reopened are recovered from the partitions registry.
+    int segments = segmentCount();
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      journal.deletePartition("partition-3");
+      partition1.compact(200);
+      assertTrue(segmentCount() < segments);
+      assertEquals(partition1.getCompactableIndex(200), partition1.openReader(1).getFirstIndex());
+    }
+
+    // Deleted partitions are removed from the registry and reopened as new, empty partitions.
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition3 = journal.openPartition("partition-3", NAMESPACE);
+      assertEquals(0, partition3.writer().getLastIndex());
+      assertEquals(1, partition3.writer().append(entry(1)).index());
+    }
+  }
+
+  @Test
+  public void testResetDiscardsEntries() throws Exception {
+    try (SharedJournal journal = createJournal()) {
+      SharedJournalPartition<TestEntry> partition = journal.openPartition("partition", NAMESPACE);
+      JournalWriter<TestEntry> writer = partition.writer();
+      for (int i = 1; i <= 10; i++) {
+        writer.append(entry(i));
+      }
+
+      // Resetting to an index within the partition discards all entries, as with segmented journals.
+      writer.reset(5);
+      assertEquals(5, partition.openReader(1).getFirstIndex());
+      assertEquals(4, writer.getLastIndex());
+      assertNull(writer.getLastEntry());
+      assertEquals(5, writer.append(entry(5)).index());
+    }
+  }
+
+  @Test
+  public void testGroupCommit() throws Exception {
+    try (SharedJournal journal = journalBuilder()
+        .withGroupCommit(true)
+        .withGroupCommitInterval(Duration.ofMillis(10))
+        .withGroupCommitBytes(Integer.MAX_VALUE)
+        .build()) {
+      SharedJournalPartition<TestEntry> partition1 = journal.openPartition("partition-1", NAMESPACE);
+      SharedJournalPartition<TestEntry> partition2 = journal.openPartition("partition-2", NAMESPACE);
+
+      // Commits from all partitions within the group commit interval are completed by a single flush.
+      List<CompletableFuture<Long>> futures = new ArrayList<>();
+      for (int i = 1; i <= 10; i++) {
+        partition1.writer().append(entry(i));
+        futures.add(partition1.writer().commitAsync(i));
+        partition2.writer().append(entry(i));
+        futures.add(partition2.writer().commitAsync(i));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        assertEquals(i / 2 + 1, futures.get(i).get(10, TimeUnit.SECONDS).longValue());
+      }
+
+      // Commits for already flushed entries are completed immediately.
+      assertTrue(partition1.writer().commitAsync(1).isDone());
+      assertTrue(partition2.writer().commitAsync(10).isDone());
+    }
+  }
+
+  private int segmentCount() {
+    return PATH.toFile().listFiles(f -> f.getName().endsWith(".log")).length;
+  }
+
+  @Before
+  @After
+  public void cleanupStorage() throws IOException {
+    if (Files.exists(PATH)) {
+      Files.walkFileTree(PATH, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+          Files.delete(file);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+          Files.delete(dir);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+}
@@ -82,4 +82,34 @@ public class SparseJournalIndexTest {
     assertNull(index.lookup(104));
     assertNull(index.lookup(108));
   }
+
+  @Test
+  public void testDenseJournalIndex() throws Exception {
+    JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 1000; i++) {
+      index.index(i, i * 10);
+    }
+    assertEquals(1, index.lookup(1).index());
+    assertEquals(10, index.lookup(1).position());
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(5000, index.lookup(500).position());
+    assertEquals(1000, index.lookup(2000).index());
+    assertEquals(10000, index.lookup(2000).position());
+
+    // Re-indexing existing entries overwrites their positions.
+    index.index(500, 42);
+    assertEquals(42, index.lookup(500).position());
+    assertEquals(1000, index.lookup(1000).index());
+
+    index.truncate(750);
+    assertEquals(750, index.lookup(1000).index());
+    assertEquals(7500, index.lookup(1000).position());
+    index.index(751, 1);
+    assertEquals(751, index.lookup(1000).index());
+    assertEquals(1, index.lookup(1000).position());
+
+    index.truncate(0);
+    assertNull(index.lookup(1));
+    assertNull(index.lookup(1000));
+  }
 }
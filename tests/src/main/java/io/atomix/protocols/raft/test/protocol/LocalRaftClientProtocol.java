@@ -20,6 +20,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.session.SessionId;
 import io.atomix.protocols.raft.protocol.CloseSessionRequest;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.HeartbeatRequest;
@@ -92,6 +94,11 @@ public class LocalRaftClientProtocol extends LocalRaftProtocol implements RaftCl
     return getServer(memberId).thenCompose(protocol -> protocol.command(encode(request))).thenApply(this::decode);
   }
 
+  @Override
+  public CompletableFuture<CommandBatchResponse> commandBatch(MemberId memberId, CommandBatchRequest request) {
+    return getServer(memberId).thenCompose(protocol -> protocol.commandBatch(encode(request))).thenApply(this::decode);
+  }
+
   @Override
   public CompletableFuture<MetadataResponse> metadata(MemberId memberId, MetadataRequest request) {
     return getServer(memberId).thenCompose(protocol -> protocol.metadata(encode(request))).thenApply(this::decode);
@@ -18,6 +18,8 @@ package io.atomix.protocols.raft.test.protocol;
 import io.atomix.cluster.MemberId;
 import io.atomix.protocols.raft.protocol.CloseSessionRequest;
 import io.atomix.protocols.raft.protocol.CloseSessionResponse;
+import io.atomix.protocols.raft.protocol.CommandBatchRequest;
+import io.atomix.protocols.raft.protocol.CommandBatchResponse;
 import io.atomix.protocols.raft.protocol.CommandRequest;
 import io.atomix.protocols.raft.protocol.CommandResponse;
 import io.atomix.protocols.raft.protocol.HeartbeatRequest;
@@ -77,6 +79,11 @@ public class RaftClientMessagingProtocol extends RaftMessagingProtocol implement
     return sendAndReceive(memberId, "command", request);
   }
 
+  @Override
+  public CompletableFuture<CommandBatchResponse> commandBatch(MemberId memberId, CommandBatchRequest request) {
+    return sendAndReceive(memberId, "command-batch", request);
+  }
+
   @Override
   public CompletableFuture<MetadataResponse> metadata(MemberId memberId, MetadataRequest request) {
     return sendAndReceive(memberId, "metadata", request);
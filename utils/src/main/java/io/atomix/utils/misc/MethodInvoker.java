@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.misc;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a method with an array of arguments without reflection.
+ * <p>
+ * Invokers for instance methods with up to six parameters are generated with the {@link LambdaMetafactory}, producing
+ * a class that calls the method directly and casts and unboxes each argument.
+ * Other methods are invoked through a spreading {@link MethodHandle}. Methods that cannot be accessed through a
+ * method handle fall back to {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * Exceptions thrown by the method are rethrown as is rather than wrapped in an {@link InvocationTargetException}.
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+  /**
+   * Invokes the method on the given target.
+   *
+   * @param target the object on which to invoke the method
+   * @param args   the method arguments, or {@code null} if the method has no parameters
+   * @return the method's return value, or {@code null} if the method is {@code void}
+   * @throws Throwable if the method throws an exception
+   */
+  Object invoke(Object target, Object[] args) throws Throwable;
+
+  /**
+   * Returns an invoker for the given method.
+   * <p>
+   * Invokers are cached, so repeated calls for the same method return the same invoker.
+   *
+   * @param method the method for which to return an invoker
+   * @return the method invoker
+   */
+  static MethodInvoker of(Method method) {
+    return MethodInvokers.get(method);
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.misc;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory for {@link MethodInvoker}s.
+ * <p>
+ * Each arity has a functional interface taking the target and arguments as objects. Separate interfaces are
+ * required for {@code void} methods since the {@link LambdaMetafactory} cannot adapt a {@code void} method to
+ * return a value.
+ */
+final class MethodInvokers {
+  private static final int MAX_LAMBDA_ARITY = 6;
+  private static final Class<?>[] FUNCTIONS = {F0.class, F1.class, F2.class, F3.class, F4.class, F5.class, F6.class};
+  private static final Class<?>[] CONSUMERS = {V0.class, V1.class, V2.class, V3.class, V4.class, V5.class, V6.class};
+
+  private static final Map<Method, MethodInvoker> INVOKERS = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached invoker for the given method, creating it if necessary.
+   *
+   * @param method the method for which to return an invoker
+   * @return the method invoker
+   */
+  static MethodInvoker get(Method method) {
+    return INVOKERS.computeIfAbsent(method, MethodInvokers::create);
+  }
+
+  /**
+   * Creates an invoker for the given method.
+   */
+  private static MethodInvoker create(Method method) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodHandle handle;
+    try {
+      handle = lookup.unreflect(method);
+    } catch (IllegalAccessException e) {
+      return reflective(method);
+    }
+
+    int arity = method.getParameterCount();
+    if (!Modifier.isStatic(method.getModifiers()) && arity <= MAX_LAMBDA_ARITY && isVisible(method)) {
+      try {
+        return lambda(lookup, handle, method);
+      } catch (Throwable e) {
+        // Fall through to the method handle invoker
+      }
+    }
+
+    MethodHandle invoker = (Modifier.isStatic(method.getModifiers())
+        ? MethodHandles.dropArguments(handle.asSpreader(Object[].class, arity), 0, Object.class)
+        : handle.asSpreader(Object[].class, arity))
+        .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    return (target, args) -> invoker.invokeExact(target, args);
+  }
+
+  /**
+   * Returns whether all the types referenced by the given method are visible to this class' class loader, which
+   * defines the classes generated by the {@link LambdaMetafactory}.
+   */
+  private static boolean isVisible(Method method) {
+    if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+      return false;
+    }
+    for (Class<?> type : method.getParameterTypes()) {
+      if (!isVisible(type)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the given type is visible to this class' class loader.
+   */
+  private static boolean isVisible(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive() || type.getClassLoader() == null) {
+      return true;
+    }
+    try {
+      return Class.forName(type.getName(), false, MethodInvokers.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns an invoker that invokes the given method via reflection.
+   */
+  private static MethodInvoker reflective(Method method) {
+    return (target, args) -> {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    };
+  }
+
+  private interface F0 {
+    Object apply(Object t);
+  }
+
+  private interface F1 {
+    Object apply(Object t, Object a1);
+  }
+
+  private interface F2 {
+    Object apply(Object t, Object a1, Object a2);
+  }
+
+  private interface F3 {
+    Object apply(Object t, Object a1, Object a2, Object a3);
+  }
+
+  private interface F4 {
+    Object apply(Object t, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  private interface F5 {
+    Object apply(Object t, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+
+  private interface F6 {
+    Object apply(Object t, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6);
+  }
+
+  private interface V0 {
+    void apply(Object t);
+  }
+
+  private interface V1 {
+    void apply(Object t, Object a1);
+  }
+
+  private interface V2 {
+    void apply(Object t, Object a1, Object a2);
+  }
+
+  private interface V3 {
+    void apply(Object t, Object a1, Object a2, Object a3);
+  }
+
+  private interface V4 {
+    void apply(Object t, Object a1, Object a2, Object a3, Object a4);
+  }
+
+  private interface V5 {
+    void apply(Object t, Object a1, Object a2, Object a3, Object a4, Object a5);
+  }
+
+  private interface V6 {
+    void apply(Object t, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6);
+  }
+
+  /**
+   * Creates an invoker for the given instance method.
+   */
+  private static MethodInvoker lambda(MethodHandles.Lookup lookup, MethodHandle handle, Method method) throws Throwable {
+    int arity = method.getParameterCount();
+    boolean isVoid = method.getReturnType() == void.class;
+    Class<?> type = isVoid ? CONSUMERS[arity] : FUNCTIONS[arity];
+
+    // The erased signature of the functional interface and the boxed signature of the method.
+    MethodType erased = MethodType.genericMethodType(arity + 1);
+    MethodType instantiated = handle.type().wrap();
+    if (isVoid) {
+      erased = erased.changeReturnType(void.class);
+      instantiated = instantiated.changeReturnType(void.class);
+    }
+
+    CallSite site = LambdaMetafactory.metafactory(
+        lookup, "apply", MethodType.methodType(type), erased, handle, instantiated);
+    Object function = site.getTarget().invoke();
+    switch (arity) {
+      case 0:
+        return isVoid
+            ? (t, a) -> {
+              ((V0) function).apply(t);
+              return null;
+            }
+            : (t, a) -> ((F0) function).apply(t);
+      case 1:
+        return isVoid
+            ? (t, a) -> {
+              ((V1) function).apply(t, a[0]);
+              return null;
+            }
+            : (t, a) -> ((F1) function).apply(t, a[0]);
+      case 2:
+        return isVoid
+            ? (t, a) -> {
+              ((V2) function).apply(t, a[0], a[1]);
+              return null;
+            }
+            : (t, a) -> ((F2) function).apply(t, a[0], a[1]);
+      case 3:
+        return isVoid
+            ? (t, a) -> {
+              ((V3) function).apply(t, a[0], a[1], a[2]);
+              return null;
+            }
+            : (t, a) -> ((F3) function).apply(t, a[0], a[1], a[2]);
+      case 4:
+        return isVoid
+            ? (t, a) -> {
+              ((V4) function).apply(t, a[0], a[1], a[2], a[3]);
+              return null;
+            }
+            : (t, a) -> ((F4) function).apply(t, a[0], a[1], a[2], a[3]);
+      case 5:
+        return isVoid
+            ? (t, a) -> {
+              ((V5) function).apply(t, a[0], a[1], a[2], a[3], a[4]);
+              return null;
+            }
+            : (t, a) -> ((F5) function).apply(t, a[0], a[1], a[2], a[3], a[4]);
+      case 6:
+        return isVoid
+            ? (t, a) -> {
+              ((V6) function).apply(t, a[0], a[1], a[2], a[3], a[4], a[5]);
+              return null;
+            }
+            : (t, a) -> ((F6) function).apply(t, a[0], a[1], a[2], a[3], a[4], a[5]);
+      default:
+        throw new IllegalArgumentException("Unsupported arity " + arity);
+    }
+  }
+
+  private MethodInvokers() {
+  }
+}
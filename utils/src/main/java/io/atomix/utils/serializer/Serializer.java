@@ -16,6 +16,11 @@
 
 package io.atomix.utils.serializer;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
 /**
  * Interface for serialization of store artifacts.
  */
@@ -58,6 +63,34 @@ public interface Serializer {
    */
   <T> T decode(byte[] bytes);
 
+  /**
+   * Serialize the specified object to the given stream.
+   *
+   * @param object object to serialize.
+   * @param output the stream to which to write the serialized object.
+   * @param <T>    encoded type
+   */
+  default <T> void encode(T object, OutputStream output) {
+    try {
+      output.write(encode(object));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Deserialize the remaining bytes of the specified buffer.
+   *
+   * @param buffer buffer to deserialize.
+   * @param <T>    decoded type
+   * @return deserialized object.
+   */
+  default <T> T decode(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return decode(bytes);
+  }
+
   /**
    * Creates a new Serializer instance from a Namespace.
    *
@@ -75,6 +108,16 @@ public interface Serializer {
       public <T> T decode(byte[] bytes) {
         return namespace.deserialize(bytes);
       }
+
+      @Override
+      public <T> void encode(T object, OutputStream output) {
+        namespace.serialize(object, output);
+      }
+
+      @Override
+      public <T> T decode(ByteBuffer buffer) {
+        return namespace.deserialize(buffer);
+      }
     };
   }
 
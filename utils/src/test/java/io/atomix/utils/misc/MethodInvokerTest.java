@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.utils.misc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Method invoker test.
+ */
+public class MethodInvokerTest {
+
+  public interface TestService {
+    long get();
+
+    void set(long value);
+
+    String concat(String a, int b, boolean c);
+
+    int sum(int a, int b, int c, int d, int e, int f, int g);
+
+    void fail(String message);
+  }
+
+  public static class TestServiceImpl implements TestService {
+    private final List<String> calls = new ArrayList<>();
+    private long value;
+
+    @Override
+    public long get() {
+      return value;
+    }
+
+    @Override
+    public void set(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public String concat(String a, int b, boolean c) {
+      return a + b + c;
+    }
+
+    @Override
+    public int sum(int a, int b, int c, int d, int e, int f, int g) {
+      return a + b + c + d + e + f + g;
+    }
+
+    @Override
+    public void fail(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    private void record(String call) {
+      calls.add(call);
+    }
+  }
+
+  @Test
+  public void testInvoke() throws Throwable {
+    TestServiceImpl service = new TestServiceImpl();
+    assertNull(MethodInvoker.of(TestService.class.getMethod("set", long.class)).invoke(service, new Object[]{1L}));
+    assertEquals(1L, MethodInvoker.of(TestService.class.getMethod("get")).invoke(service, null));
+    assertEquals("a1true", MethodInvoker.of(TestService.class.getMethod("concat", String.class, int.class, boolean.class))
+        .invoke(service, new Object[]{"a", 1, true}));
+    assertEquals(28, MethodInvoker.of(TestService.class.getMethod("sum", int.class, int.class, int.class, int.class, int.class, int.class, int.class))
+        .invoke(service, new Object[]{1, 2, 3, 4, 5, 6, 7}));
+  }
+
+  @Test
+  public void testInvokeInaccessible() throws Throwable {
+    TestServiceImpl service = new TestServiceImpl();
+    try {
+      MethodInvoker.of(TestServiceImpl.class.getDeclaredMethod("record", String.class)).invoke(service, new Object[]{"a"});
+      fail();
+    } catch (IllegalAccessException e) {
+    }
+  }
+
+  @Test
+  public void testInvokeException() throws Throwable {
+    try {
+      MethodInvoker.of(TestService.class.getMethod("fail", String.class)).invoke(new TestServiceImpl(), new Object[]{"a"});
+      fail();
+    } catch (IllegalStateException e) {
+      assertEquals("a", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testCache() throws Throwable {
+    assertSame(MethodInvoker.of(TestService.class.getMethod("get")), MethodInvoker.of(TestService.class.getMethod("get")));
+  }
+}